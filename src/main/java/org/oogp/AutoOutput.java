@@ -0,0 +1,71 @@
+package org.oogp;
+
+import java.util.Map;
+
+import org.morphix.lang.Enums;
+
+/**
+ * Represents the way the Open API definitions of a project with both Spring controllers and JAX-RS resources are
+ * written when the project type is detected automatically.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum AutoOutput {
+
+	/**
+	 * The Spring and the Jakarta models are merged in a single Open API definition.
+	 */
+	MERGED("merged"),
+
+	/**
+	 * The Spring and the Jakarta models are written in separate Open API definitions.
+	 */
+	SEPARATE("separate");
+
+	/**
+	 * The name map for easy from string implementation.
+	 */
+	private static final Map<String, AutoOutput> NAME_MAP = Enums.buildNameMap(values());
+
+	/**
+	 * The {@link String} value.
+	 */
+	private final String value;
+
+	/**
+	 * Constructs a {@link AutoOutput} with the specified string value.
+	 *
+	 * @param value string value
+	 */
+	AutoOutput(final String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the string value.
+	 *
+	 * @return the string value
+	 */
+	public String value() {
+		return value;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value();
+	}
+
+	/**
+	 * Returns a {@link AutoOutput} enum from a {@link String}.
+	 *
+	 * @param output output as string
+	 * @return an output enum
+	 */
+	public static AutoOutput fromString(final String output) {
+		return Enums.fromString(output, NAME_MAP, values());
+	}
+
+}
@@ -0,0 +1,76 @@
+package org.oogp;
+
+import java.util.Map;
+
+import org.morphix.lang.Enums;
+
+/**
+ * Represents the way the content hashes of the path items, operations and component schemas of an Open API definition
+ * are published.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum ContentHashOutput {
+
+	/**
+	 * No content hashes are computed.
+	 */
+	OFF("off"),
+
+	/**
+	 * The content hashes are written in the definition as {@code x-hash} extensions.
+	 */
+	EXTENSIONS("extensions"),
+
+	/**
+	 * The content hashes are written in a JSON file next to the definition.
+	 */
+	SIDECAR("sidecar");
+
+	/**
+	 * The name map for easy from string implementation.
+	 */
+	private static final Map<String, ContentHashOutput> NAME_MAP = Enums.buildNameMap(values());
+
+	/**
+	 * The {@link String} value.
+	 */
+	private final String value;
+
+	/**
+	 * Constructs a {@link ContentHashOutput} with the specified string value.
+	 *
+	 * @param value string value
+	 */
+	ContentHashOutput(final String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the string value.
+	 *
+	 * @return the string value
+	 */
+	public String value() {
+		return value;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value();
+	}
+
+	/**
+	 * Returns a {@link ContentHashOutput} enum from a {@link String}.
+	 *
+	 * @param output output as string
+	 * @return an output enum
+	 */
+	public static ContentHashOutput fromString(final String output) {
+		return Enums.fromString(output, NAME_MAP, values());
+	}
+
+}
@@ -0,0 +1,100 @@
+package org.oogp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.morphix.reflection.Constructors;
+
+/**
+ * Utility methods for the SHA-256 hashes used by the caches, the input fingerprints and the written definitions.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class Digests {
+
+	/**
+	 * The hash algorithm.
+	 */
+	private static final String SHA_256 = "SHA-256";
+
+	/**
+	 * The buffer size used to hash files and streams.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Hide constructor.
+	 */
+	private Digests() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * Returns a new SHA-256 message digest.
+	 *
+	 * @return a new SHA-256 message digest
+	 */
+	public static MessageDigest messageDigest() {
+		try {
+			return MessageDigest.getInstance(SHA_256);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(SHA_256 + " is not available", e);
+		}
+	}
+
+	/**
+	 * Returns the SHA-256 of the given bytes as a hexadecimal string.
+	 *
+	 * @param bytes the bytes to hash
+	 * @return the hexadecimal SHA-256
+	 */
+	public static String sha256(final byte[] bytes) {
+		return HexFormat.of().formatHex(messageDigest().digest(bytes));
+	}
+
+	/**
+	 * Returns the SHA-256 of the given string as a hexadecimal string.
+	 *
+	 * @param value the value to hash
+	 * @return the hexadecimal SHA-256
+	 */
+	public static String sha256(final String value) {
+		return sha256(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns the SHA-256 of the given file content as a hexadecimal string.
+	 *
+	 * @param file the file to hash
+	 * @return the hexadecimal SHA-256
+	 * @throws IOException when the file cannot be read
+	 */
+	public static String sha256(final Path file) throws IOException {
+		try (InputStream inputStream = Files.newInputStream(file)) {
+			return sha256(inputStream);
+		}
+	}
+
+	/**
+	 * Returns the SHA-256 of the content of the given input stream as a hexadecimal string, the stream is not closed.
+	 *
+	 * @param inputStream the input stream to hash
+	 * @return the hexadecimal SHA-256
+	 * @throws IOException when the stream cannot be read
+	 */
+	public static String sha256(final InputStream inputStream) throws IOException {
+		MessageDigest messageDigest = messageDigest();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			messageDigest.update(buffer, 0, read);
+		}
+		return HexFormat.of().formatHex(messageDigest.digest());
+	}
+}
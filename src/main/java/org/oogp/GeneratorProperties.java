@@ -44,6 +44,66 @@ public class GeneratorProperties {
 		 */
 		public static final String SCHEMA_FOR_OBJECT_CLASS = "object";
 
+		/**
+		 * The default route analysis report file.
+		 */
+		public static final String ROUTE_ANALYSIS_REPORT_FILE_NAME = "openapi-route-analysis.txt";
+
+		/**
+		 * The default number of threads used to build the Open API paths.
+		 */
+		public static final int PARALLELISM = 1;
+
+		/**
+		 * The default schema cache directory relative to the user home directory.
+		 */
+		public static final String SCHEMA_CACHE_DIRECTORY = ".m2/openapi-offline-generator/schema-cache";
+
+		/**
+		 * The default maximum number of entries in the schema cache.
+		 */
+		public static final int SCHEMA_CACHE_MAX_ENTRIES = 10_000;
+
+		/**
+		 * The default path fragment cache directory name.
+		 */
+		public static final String FRAGMENT_CACHE_DIRECTORY_NAME = "openapi-fragment-cache";
+
+		/**
+		 * The default maximum number of entries in the path fragment cache.
+		 */
+		public static final int FRAGMENT_CACHE_MAX_ENTRIES = 10_000;
+
+		/**
+		 * The default javadoc index file name.
+		 */
+		public static final String JAVADOC_INDEX_FILE_NAME = "openapi-javadoc.idx";
+
+		/**
+		 * The default maximum depth of the model types in a schema resolution.
+		 */
+		public static final int SCHEMA_LIMITS_MAX_DEPTH = 10;
+
+		/**
+		 * The default maximum number of distinct model types in a schema resolution.
+		 */
+		public static final int SCHEMA_LIMITS_MAX_TYPES = 500;
+
+		/**
+		 * The default schema limits report file.
+		 */
+		public static final String SCHEMA_LIMITS_REPORT_FILE_NAME = "openapi-schema-limits.txt";
+
+		/**
+		 * The default locale of the generated Open API definition.
+		 */
+		public static final String LOCALE = "en";
+
+		/**
+		 * The default number of controllers processed in a batch.
+		 */
+		public static final int BATCH_SIZE = 100;
+
 		/**
 		 * Hide constructor.
 		 */
@@ -71,17 +131,72 @@ public class GeneratorProperties {
 	private String classesDir;
 
 	/**
-	 * The project type ("spring"/"jakarta"), default being "spring".
+	 * The project type ("spring"/"jakarta"/"auto"), default being "spring".
 	 */
 	@Parameter
 	private String projectType;
 
+	/**
+	 * The engine used to discover the endpoints of Spring projects ("mvc"/"direct"), default being "mvc".
+	 */
+	@Parameter
+	private String springEngine;
+
+	/**
+	 * The way the definitions of "auto" projects with both Spring and Jakarta endpoints are written ("merged"/"separate"),
+	 * default being "merged".
+	 */
+	@Parameter
+	private String autoOutput;
+
+	/**
+	 * The way the resources of Jakarta projects are discovered ("scan"/"application"), default being "scan".
+	 */
+	@Parameter
+	private String jakartaDiscovery;
+
+	/**
+	 * The writer of the YAML definitions ("jackson"/"direct"), default being "jackson".
+	 */
+	@Parameter
+	private String yamlWriter;
+
+	/**
+	 * The javadoc extraction mode ("runtime"/"off"/"cached"/"precomputed"), default being "runtime".
+	 */
+	@Parameter
+	private String javadocMode;
+
+	/**
+	 * The javadoc index file used by the "precomputed" javadoc mode.
+	 */
+	@Parameter
+	private String javadocIndexFile;
+
+	/**
+	 * The locale used to resolve the messages of the generated Open API definition, default being "en".
+	 */
+	@Parameter
+	private String locale;
+
+	/**
+	 * The resource bundle base names of the messages, multiple base names can be comma-separated.
+	 */
+	@Parameter
+	private String messages;
+
 	/**
 	 * The schema value for {@link Object} class.
 	 */
 	@Parameter
 	private String schemaForObjectClass;
 
+	/**
+	 * The number of threads used to build the Open API paths, default being 1.
+	 */
+	@Parameter
+	private Integer parallelism;
+
 	/**
 	 * Server properties.
 	 */
@@ -100,6 +215,66 @@ public class GeneratorProperties {
 	@Parameter
 	private Map<String, String> extensions;
 
+	/**
+	 * The class names of the path item customizers run after the built-in ones and the ones found by the service loader.
+	 */
+	@Parameter
+	private List<String> customizers;
+
+	/**
+	 * Route analysis properties.
+	 */
+	@Parameter
+	private RouteAnalysis routeAnalysis;
+
+	/**
+	 * Schema cache properties.
+	 */
+	@Parameter
+	private SchemaCache schemaCache;
+
+	/**
+	 * Path fragment cache properties.
+	 */
+	@Parameter
+	private FragmentCache fragmentCache;
+
+	/**
+	 * Schema resolution limits properties.
+	 */
+	@Parameter
+	private SchemaLimits schemaLimits;
+
+	/**
+	 * Batch mode properties.
+	 */
+	@Parameter
+	private Batch batch;
+
+	/**
+	 * Canonical ordering and content hashes properties.
+	 */
+	@Parameter
+	private Canonical canonical;
+
+	/**
+	 * API groups, each group is generated in its own output file.
+	 */
+	@Parameter
+	private List<Group> groups;
+
+	/**
+	 * Variants of the Open API definition built from the same model, each variant is generated in its own output file.
+	 */
+	@Parameter
+	private List<Variant> variants;
+
+	/**
+	 * Additional format and version targets, every written definition is also written to each target from the same model.
+	 */
+	@Parameter
+	private List<Output> outputs;
+
 	/**
 	 * Default constructor.
 	 */
@@ -124,11 +299,36 @@ public class GeneratorProperties {
 		if (Strings.isEmpty(projectType)) {
 			projectType = "spring";
 		}
+		if (Strings.isEmpty(springEngine)) {
+			springEngine = "mvc";
+		}
+		if (Strings.isEmpty(autoOutput)) {
+			autoOutput = "merged";
+		}
+		if (Strings.isEmpty(jakartaDiscovery)) {
+			jakartaDiscovery = "scan";
+		}
+		if (Strings.isEmpty(yamlWriter)) {
+			yamlWriter = "jackson";
+		}
+		if (Strings.isEmpty(javadocMode)) {
+			javadocMode = "runtime";
+		}
+		if (Strings.isEmpty(javadocIndexFile)) {
+			String buildDir = projectBuildDirectory != null ? projectBuildDirectory : Default.BUILD_DIRECTORY;
+			javadocIndexFile = buildDir + "/" + Default.JAVADOC_INDEX_FILE_NAME;
+		}
+		if (Strings.isEmpty(locale)) {
+			locale = Default.LOCALE;
+		}
 		if (Strings.isEmpty(schemaForObjectClass)) {
 			schemaForObjectClass = Default.SCHEMA_FOR_OBJECT_CLASS;
 		} else {
 			schemaForObjectClass = schemaForObjectClass.toLowerCase();
 		}
+		if (null == parallelism || parallelism < 1) {
+			parallelism = Default.PARALLELISM;
+		}
 		if (Lists.isEmpty(servers)) {
 			servers = new ArrayList<>();
 			Server defaultServer = new Server();
@@ -139,6 +339,33 @@ public class GeneratorProperties {
 			oauth2 = new OAuth2();
 		}
 		oauth2.applyDefaults();
+		if (null == routeAnalysis) {
+			routeAnalysis = new RouteAnalysis();
+		}
+		routeAnalysis.applyDefaults(projectBuildDirectory);
+		if (null == schemaCache) {
+			schemaCache = new SchemaCache();
+		}
+		schemaCache.applyDefaults();
+		if (null == fragmentCache) {
+			fragmentCache = new FragmentCache();
+		}
+		fragmentCache.applyDefaults(projectBuildDirectory);
+		if (null == schemaLimits) {
+			schemaLimits = new SchemaLimits();
+		}
+		schemaLimits.applyDefaults(projectBuildDirectory);
+		if (null == batch) {
+			batch = new Batch();
+		}
+		batch.applyDefaults();
+		if (null == canonical) {
+			canonical = new Canonical();
+		}
+		canonical.applyDefaults();
+		Lists.safe(groups).forEach(group -> group.applyDefaults(outputFile));
+		Lists.safe(variants).forEach(Variant::applyDefaults);
+		Lists.safe(outputs).forEach(Output::applyDefaults);
 	}
 
 	/**
@@ -221,6 +448,150 @@ public class GeneratorProperties {
 		this.projectType = projectType;
 	}
 
+	/**
+	 * Returns the Spring engine.
+	 *
+	 * @return the springEngine
+	 */
+	public String getSpringEngine() {
+		return springEngine;
+	}
+
+	/**
+	 * Sets the Spring engine.
+	 *
+	 * @param springEngine the springEngine to set
+	 */
+	public void setSpringEngine(final String springEngine) {
+		this.springEngine = springEngine;
+	}
+
+	/**
+	 * Returns the output of auto projects.
+	 *
+	 * @return the autoOutput
+	 */
+	public String getAutoOutput() {
+		return autoOutput;
+	}
+
+	/**
+	 * Sets the output of auto projects.
+	 *
+	 * @param autoOutput the autoOutput to set
+	 */
+	public void setAutoOutput(final String autoOutput) {
+		this.autoOutput = autoOutput;
+	}
+
+	/**
+	 * Returns the Jakarta resource discovery.
+	 *
+	 * @return the jakartaDiscovery
+	 */
+	public String getJakartaDiscovery() {
+		return jakartaDiscovery;
+	}
+
+	/**
+	 * Sets the Jakarta resource discovery.
+	 *
+	 * @param jakartaDiscovery the jakartaDiscovery to set
+	 */
+	public void setJakartaDiscovery(final String jakartaDiscovery) {
+		this.jakartaDiscovery = jakartaDiscovery;
+	}
+
+	/**
+	 * Returns the YAML writer.
+	 *
+	 * @return the yamlWriter
+	 */
+	public String getYamlWriter() {
+		return yamlWriter;
+	}
+
+	/**
+	 * Sets the YAML writer.
+	 *
+	 * @param yamlWriter the yamlWriter to set
+	 */
+	public void setYamlWriter(final String yamlWriter) {
+		this.yamlWriter = yamlWriter;
+	}
+
+	/**
+	 * Returns the javadoc extraction mode.
+	 *
+	 * @return the javadocMode
+	 */
+	public String getJavadocMode() {
+		return javadocMode;
+	}
+
+	/**
+	 * Sets the javadoc extraction mode.
+	 *
+	 * @param javadocMode the javadocMode to set
+	 */
+	public void setJavadocMode(final String javadocMode) {
+		this.javadocMode = javadocMode;
+	}
+
+	/**
+	 * Returns the javadoc index file.
+	 *
+	 * @return the javadocIndexFile
+	 */
+	public String getJavadocIndexFile() {
+		return javadocIndexFile;
+	}
+
+	/**
+	 * Sets the javadoc index file.
+	 *
+	 * @param javadocIndexFile the javadocIndexFile to set
+	 */
+	public void setJavadocIndexFile(final String javadocIndexFile) {
+		this.javadocIndexFile = javadocIndexFile;
+	}
+
+	/**
+	 * Returns the locale.
+	 *
+	 * @return the locale
+	 */
+	public String getLocale() {
+		return locale;
+	}
+
+	/**
+	 * Sets the locale.
+	 *
+	 * @param locale the locale to set
+	 */
+	public void setLocale(final String locale) {
+		this.locale = locale;
+	}
+
+	/**
+	 * Returns the messages resource bundle base names.
+	 *
+	 * @return the messages
+	 */
+	public String getMessages() {
+		return messages;
+	}
+
+	/**
+	 * Sets the messages resource bundle base names.
+	 *
+	 * @param messages the messages to set
+	 */
+	public void setMessages(final String messages) {
+		this.messages = messages;
+	}
+
 	/**
 	 * Returns the schema for Object class.
 	 *
@@ -239,6 +610,24 @@ public class GeneratorProperties {
 		this.schemaForObjectClass = schemaForObjectClass;
 	}
 
+	/**
+	 * Returns the number of threads used to build the Open API paths.
+	 *
+	 * @return the parallelism
+	 */
+	public Integer getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the number of threads used to build the Open API paths.
+	 *
+	 * @param parallelism the parallelism to set
+	 */
+	public void setParallelism(final Integer parallelism) {
+		this.parallelism = parallelism;
+	}
+
 	/**
 	 * Returns the servers configurations.
 	 *
@@ -304,38 +693,327 @@ public class GeneratorProperties {
 	}
 
 	/**
-	 * The OAuth2 configurations.
+	 * Returns the class names of the configured path item customizers.
 	 *
-	 * @author Radu Sebastian LAZIN
+	 * @return the customizers
 	 */
-	public static class OAuth2 {
+	public List<String> getCustomizers() {
+		return customizers;
+	}
 
-		/**
-		 * Flag to enable/disable OAuth2.
-		 */
-		@Parameter
-		private boolean enabled;
+	/**
+	 * Sets the class names of the configured path item customizers.
+	 *
+	 * @param customizers the customizers to set
+	 */
+	public void setCustomizers(final List<String> customizers) {
+		this.customizers = customizers;
+	}
 
-		/**
-		 * The authorization URL.
-		 */
-		@Parameter
-		private String authorizationUrl;
+	/**
+	 * Returns the route analysis configuration.
+	 *
+	 * @return the route analysis configuration
+	 */
+	public RouteAnalysis getRouteAnalysis() {
+		return routeAnalysis;
+	}
 
-		/**
-		 * Default constructor.
-		 */
-		public OAuth2() {
-			// empty
-		}
+	/**
+	 * Sets the route analysis configuration.
+	 *
+	 * @param routeAnalysis the route analysis configuration to set
+	 */
+	public void setRouteAnalysis(final RouteAnalysis routeAnalysis) {
+		this.routeAnalysis = routeAnalysis;
+	}
 
-		/**
-		 * Fills in default values for missing fields using MavenProject context.
-		 */
-		public void applyDefaults() {
-			if (Strings.isEmpty(authorizationUrl)) {
-				authorizationUrl = "http://automatically/replaced/on/runtime";
-			}
+	/**
+	 * Returns true if the route analysis is enabled, false otherwise.
+	 *
+	 * @return true if the route analysis is enabled, false otherwise
+	 */
+	@Ignored
+	public boolean isRouteAnalysisEnabled() {
+		return routeAnalysis != null && routeAnalysis.isEnabled();
+	}
+
+	/**
+	 * Returns the schema cache configuration.
+	 *
+	 * @return the schema cache configuration
+	 */
+	public SchemaCache getSchemaCache() {
+		return schemaCache;
+	}
+
+	/**
+	 * Sets the schema cache configuration.
+	 *
+	 * @param schemaCache the schema cache configuration to set
+	 */
+	public void setSchemaCache(final SchemaCache schemaCache) {
+		this.schemaCache = schemaCache;
+	}
+
+	/**
+	 * Returns true if the schema cache is enabled, false otherwise.
+	 *
+	 * @return true if the schema cache is enabled, false otherwise
+	 */
+	@Ignored
+	public boolean isSchemaCacheEnabled() {
+		return schemaCache != null && schemaCache.isEnabled();
+	}
+
+	/**
+	 * Returns the path fragment cache configuration.
+	 *
+	 * @return the path fragment cache configuration
+	 */
+	public FragmentCache getFragmentCache() {
+		return fragmentCache;
+	}
+
+	/**
+	 * Sets the path fragment cache configuration.
+	 *
+	 * @param fragmentCache the path fragment cache configuration to set
+	 */
+	public void setFragmentCache(final FragmentCache fragmentCache) {
+		this.fragmentCache = fragmentCache;
+	}
+
+	/**
+	 * Returns true if the path fragment cache is enabled, false otherwise.
+	 *
+	 * @return true if the path fragment cache is enabled, false otherwise
+	 */
+	@Ignored
+	public boolean isFragmentCacheEnabled() {
+		return fragmentCache != null && fragmentCache.isEnabled();
+	}
+
+	/**
+	 * Returns the schema resolution limits configuration.
+	 *
+	 * @return the schema resolution limits configuration
+	 */
+	public SchemaLimits getSchemaLimits() {
+		return schemaLimits;
+	}
+
+	/**
+	 * Sets the schema resolution limits configuration.
+	 *
+	 * @param schemaLimits the schema resolution limits configuration to set
+	 */
+	public void setSchemaLimits(final SchemaLimits schemaLimits) {
+		this.schemaLimits = schemaLimits;
+	}
+
+	/**
+	 * Returns true if the schema resolution limits are enabled, false otherwise.
+	 *
+	 * @return true if the schema resolution limits are enabled, false otherwise
+	 */
+	@Ignored
+	public boolean isSchemaLimitsEnabled() {
+		return schemaLimits != null && schemaLimits.isEnabled();
+	}
+
+	/**
+	 * Returns the batch mode configuration.
+	 *
+	 * @return the batch mode configuration
+	 */
+	public Batch getBatch() {
+		return batch;
+	}
+
+	/**
+	 * Sets the batch mode configuration.
+	 *
+	 * @param batch the batch mode configuration to set
+	 */
+	public void setBatch(final Batch batch) {
+		this.batch = batch;
+	}
+
+	/**
+	 * Returns true if the batch mode is enabled, false otherwise.
+	 *
+	 * @return true if the batch mode is enabled, false otherwise
+	 */
+	@Ignored
+	public boolean isBatchEnabled() {
+		return batch != null && batch.isEnabled();
+	}
+
+	/**
+	 * Returns the canonical ordering and content hashes configuration.
+	 *
+	 * @return the canonical ordering and content hashes configuration
+	 */
+	public Canonical getCanonical() {
+		return canonical;
+	}
+
+	/**
+	 * Sets the canonical ordering and content hashes configuration.
+	 *
+	 * @param canonical the canonical ordering and content hashes configuration to set
+	 */
+	public void setCanonical(final Canonical canonical) {
+		this.canonical = canonical;
+	}
+
+	/**
+	 * Returns true if the canonical ordering is enabled, false otherwise.
+	 *
+	 * @return true if the canonical ordering is enabled, false otherwise
+	 */
+	@Ignored
+	public boolean isCanonicalEnabled() {
+		return canonical != null && canonical.isEnabled();
+	}
+
+	/**
+	 * Returns the API groups.
+	 *
+	 * @return the groups
+	 */
+	public List<Group> getGroups() {
+		return groups;
+	}
+
+	/**
+	 * Sets the API groups.
+	 *
+	 * @param groups the groups to set
+	 */
+	public void setGroups(final List<Group> groups) {
+		this.groups = groups;
+	}
+
+	/**
+	 * Returns true if API groups are configured, false otherwise.
+	 *
+	 * @return true if API groups are configured, false otherwise
+	 */
+	@Ignored
+	public boolean isGroupsEnabled() {
+		return !Lists.isEmpty(groups);
+	}
+
+	/**
+	 * Returns the variants.
+	 *
+	 * @return the variants
+	 */
+	public List<Variant> getVariants() {
+		return variants;
+	}
+
+	/**
+	 * Sets the variants.
+	 *
+	 * @param variants the variants to set
+	 */
+	public void setVariants(final List<Variant> variants) {
+		this.variants = variants;
+	}
+
+	/**
+	 * Returns true if variants are configured, false otherwise.
+	 *
+	 * @return true if variants are configured, false otherwise
+	 */
+	@Ignored
+	public boolean isVariantsEnabled() {
+		return !Lists.isEmpty(variants);
+	}
+
+	/**
+	 * Returns the output targets.
+	 *
+	 * @return the output targets
+	 */
+	public List<Output> getOutputs() {
+		return outputs;
+	}
+
+	/**
+	 * Sets the output targets.
+	 *
+	 * @param outputs the output targets to set
+	 */
+	public void setOutputs(final List<Output> outputs) {
+		this.outputs = outputs;
+	}
+
+	/**
+	 * Returns the given output file with the given name added before the extension.
+	 *
+	 * @param outputFile the output file
+	 * @param name the name to add
+	 * @return the output file with the name added
+	 */
+	public static String outputFileWithName(final String outputFile, final String name) {
+		int extensionIndex = outputFile.lastIndexOf('.');
+		return extensionIndex > outputFile.lastIndexOf('/')
+				? outputFile.substring(0, extensionIndex) + "-" + name + outputFile.substring(extensionIndex)
+				: outputFile + "-" + name;
+	}
+
+	/**
+	 * Returns the given output file with the extension of the given format and the given version added before the
+	 * extension, for example {@code openapi.yaml} becomes {@code openapi-3.1.json}.
+	 *
+	 * @param outputFile the output file
+	 * @param format the output format
+	 * @param version the Open API version
+	 * @return the output file of the format and version
+	 */
+	public static String outputFileWithFormat(final String outputFile, final OutputFormat format, final OpenApiVersion version) {
+		int extensionIndex = outputFile.lastIndexOf('.');
+		String baseName = extensionIndex > outputFile.lastIndexOf('/') ? outputFile.substring(0, extensionIndex) : outputFile;
+		return baseName + "-" + version.value() + "." + format.value();
+	}
+
+	/**
+	 * The OAuth2 configurations.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class OAuth2 {
+
+		/**
+		 * Flag to enable/disable OAuth2.
+		 */
+		@Parameter
+		private boolean enabled;
+
+		/**
+		 * The authorization URL.
+		 */
+		@Parameter
+		private String authorizationUrl;
+
+		/**
+		 * Default constructor.
+		 */
+		public OAuth2() {
+			// empty
+		}
+
+		/**
+		 * Fills in default values for missing fields using MavenProject context.
+		 */
+		public void applyDefaults() {
+			if (Strings.isEmpty(authorizationUrl)) {
+				authorizationUrl = "http://automatically/replaced/on/runtime";
+			}
 		}
 
 		/**
@@ -422,4 +1100,1020 @@ public class GeneratorProperties {
 			this.url = url;
 		}
 	}
+
+	/**
+	 * The route analysis configurations.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class RouteAnalysis {
+
+		/**
+		 * Flag to enable/disable the route conflict analysis.
+		 */
+		@Parameter
+		private boolean enabled;
+
+		/**
+		 * The report file.
+		 */
+		@Parameter
+		private String reportFile;
+
+		/**
+		 * Flag to fail the generation when route conflicts are found.
+		 */
+		@Parameter
+		private boolean failOnConflict;
+
+		/**
+		 * Default constructor.
+		 */
+		public RouteAnalysis() {
+			// empty
+		}
+
+		/**
+		 * Fills in default values for missing fields.
+		 *
+		 * @param projectBuildDirectory the project build directory
+		 */
+		public void applyDefaults(final String projectBuildDirectory) {
+			if (Strings.isEmpty(reportFile)) {
+				String buildDir = projectBuildDirectory != null ? projectBuildDirectory : Default.BUILD_DIRECTORY;
+				reportFile = buildDir + "/" + Default.ROUTE_ANALYSIS_REPORT_FILE_NAME;
+			}
+		}
+
+		/**
+		 * Returns true if the route analysis is enabled, false otherwise.
+		 *
+		 * @return true if the route analysis is enabled, false otherwise
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Sets the enabled flag.
+		 *
+		 * @param enabled the enabled flag to set
+		 */
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Returns the report file.
+		 *
+		 * @return the report file
+		 */
+		public String getReportFile() {
+			return reportFile;
+		}
+
+		/**
+		 * Sets the report file.
+		 *
+		 * @param reportFile the report file to set
+		 */
+		public void setReportFile(final String reportFile) {
+			this.reportFile = reportFile;
+		}
+
+		/**
+		 * Returns true if the generation fails when route conflicts are found, false otherwise.
+		 *
+		 * @return true if the generation fails when route conflicts are found
+		 */
+		public boolean isFailOnConflict() {
+			return failOnConflict;
+		}
+
+		/**
+		 * Sets the fail on conflict flag.
+		 *
+		 * @param failOnConflict the fail on conflict flag to set
+		 */
+		public void setFailOnConflict(final boolean failOnConflict) {
+			this.failOnConflict = failOnConflict;
+		}
+	}
+
+	/**
+	 * The schema cache configurations.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class SchemaCache {
+
+		/**
+		 * Flag to enable/disable the schema cache.
+		 */
+		@Parameter
+		private boolean enabled;
+
+		/**
+		 * The cache directory.
+		 */
+		@Parameter
+		private String directory;
+
+		/**
+		 * The maximum number of cached schemas.
+		 */
+		@Parameter
+		private Integer maxEntries;
+
+		/**
+		 * Default constructor.
+		 */
+		public SchemaCache() {
+			// empty
+		}
+
+		/**
+		 * Fills in default values for missing fields.
+		 */
+		public void applyDefaults() {
+			if (Strings.isEmpty(directory)) {
+				directory = System.getProperty("user.home") + "/" + Default.SCHEMA_CACHE_DIRECTORY;
+			}
+			if (null == maxEntries || maxEntries < 1) {
+				maxEntries = Default.SCHEMA_CACHE_MAX_ENTRIES;
+			}
+		}
+
+		/**
+		 * Returns true if the schema cache is enabled, false otherwise.
+		 *
+		 * @return true if the schema cache is enabled, false otherwise
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Sets the enabled flag.
+		 *
+		 * @param enabled the enabled flag to set
+		 */
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Returns the cache directory.
+		 *
+		 * @return the cache directory
+		 */
+		public String getDirectory() {
+			return directory;
+		}
+
+		/**
+		 * Sets the cache directory.
+		 *
+		 * @param directory the cache directory to set
+		 */
+		public void setDirectory(final String directory) {
+			this.directory = directory;
+		}
+
+		/**
+		 * Returns the maximum number of cached schemas.
+		 *
+		 * @return the maximum number of cached schemas
+		 */
+		public Integer getMaxEntries() {
+			return maxEntries;
+		}
+
+		/**
+		 * Sets the maximum number of cached schemas.
+		 *
+		 * @param maxEntries the maximum number of cached schemas to set
+		 */
+		public void setMaxEntries(final Integer maxEntries) {
+			this.maxEntries = maxEntries;
+		}
+	}
+
+	/**
+	 * The path fragment cache configurations.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class FragmentCache {
+
+		/**
+		 * Flag to enable/disable the path fragment cache.
+		 */
+		@Parameter
+		private boolean enabled;
+
+		/**
+		 * The cache directory.
+		 */
+		@Parameter
+		private String directory;
+
+		/**
+		 * The maximum number of cached fragments.
+		 */
+		@Parameter
+		private Integer maxEntries;
+
+		/**
+		 * Default constructor.
+		 */
+		public FragmentCache() {
+			// empty
+		}
+
+		/**
+		 * Fills in default values for missing fields.
+		 *
+		 * @param projectBuildDirectory the project build directory
+		 */
+		public void applyDefaults(final String projectBuildDirectory) {
+			if (Strings.isEmpty(directory)) {
+				String buildDir = projectBuildDirectory != null ? projectBuildDirectory : Default.BUILD_DIRECTORY;
+				directory = buildDir + "/" + Default.FRAGMENT_CACHE_DIRECTORY_NAME;
+			}
+			if (null == maxEntries || maxEntries < 1) {
+				maxEntries = Default.FRAGMENT_CACHE_MAX_ENTRIES;
+			}
+		}
+
+		/**
+		 * Returns true if the path fragment cache is enabled, false otherwise.
+		 *
+		 * @return true if the path fragment cache is enabled, false otherwise
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Sets the enabled flag.
+		 *
+		 * @param enabled the enabled flag to set
+		 */
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Returns the cache directory.
+		 *
+		 * @return the cache directory
+		 */
+		public String getDirectory() {
+			return directory;
+		}
+
+		/**
+		 * Sets the cache directory.
+		 *
+		 * @param directory the cache directory to set
+		 */
+		public void setDirectory(final String directory) {
+			this.directory = directory;
+		}
+
+		/**
+		 * Returns the maximum number of cached fragments.
+		 *
+		 * @return the maximum number of cached fragments
+		 */
+		public Integer getMaxEntries() {
+			return maxEntries;
+		}
+
+		/**
+		 * Sets the maximum number of cached fragments.
+		 *
+		 * @param maxEntries the maximum number of cached fragments to set
+		 */
+		public void setMaxEntries(final Integer maxEntries) {
+			this.maxEntries = maxEntries;
+		}
+	}
+
+	/**
+	 * The schema resolution limits configurations.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class SchemaLimits {
+
+		/**
+		 * Flag to enable/disable the schema resolution limits.
+		 */
+		@Parameter
+		private boolean enabled;
+
+		/**
+		 * The maximum depth of the model types reached from an operation type.
+		 */
+		@Parameter
+		private Integer maxDepth;
+
+		/**
+		 * The maximum number of distinct model types reached from an operation type.
+		 */
+		@Parameter
+		private Integer maxTypes;
+
+		/**
+		 * The report file.
+		 */
+		@Parameter
+		private String reportFile;
+
+		/**
+		 * Default constructor.
+		 */
+		public SchemaLimits() {
+			// empty
+		}
+
+		/**
+		 * Fills in default values for missing fields.
+		 *
+		 * @param projectBuildDirectory the project build directory
+		 */
+		public void applyDefaults(final String projectBuildDirectory) {
+			if (null == maxDepth || maxDepth < 1) {
+				maxDepth = Default.SCHEMA_LIMITS_MAX_DEPTH;
+			}
+			if (null == maxTypes || maxTypes < 1) {
+				maxTypes = Default.SCHEMA_LIMITS_MAX_TYPES;
+			}
+			if (Strings.isEmpty(reportFile)) {
+				String buildDir = projectBuildDirectory != null ? projectBuildDirectory : Default.BUILD_DIRECTORY;
+				reportFile = buildDir + "/" + Default.SCHEMA_LIMITS_REPORT_FILE_NAME;
+			}
+		}
+
+		/**
+		 * Returns true if the schema resolution limits are enabled, false otherwise.
+		 *
+		 * @return true if the schema resolution limits are enabled, false otherwise
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Sets the enabled flag.
+		 *
+		 * @param enabled the enabled flag to set
+		 */
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Returns the maximum depth of the model types.
+		 *
+		 * @return the maximum depth of the model types
+		 */
+		public Integer getMaxDepth() {
+			return maxDepth;
+		}
+
+		/**
+		 * Sets the maximum depth of the model types.
+		 *
+		 * @param maxDepth the maximum depth of the model types to set
+		 */
+		public void setMaxDepth(final Integer maxDepth) {
+			this.maxDepth = maxDepth;
+		}
+
+		/**
+		 * Returns the maximum number of distinct model types.
+		 *
+		 * @return the maximum number of distinct model types
+		 */
+		public Integer getMaxTypes() {
+			return maxTypes;
+		}
+
+		/**
+		 * Sets the maximum number of distinct model types.
+		 *
+		 * @param maxTypes the maximum number of distinct model types to set
+		 */
+		public void setMaxTypes(final Integer maxTypes) {
+			this.maxTypes = maxTypes;
+		}
+
+		/**
+		 * Returns the report file.
+		 *
+		 * @return the report file
+		 */
+		public String getReportFile() {
+			return reportFile;
+		}
+
+		/**
+		 * Sets the report file.
+		 *
+		 * @param reportFile the report file to set
+		 */
+		public void setReportFile(final String reportFile) {
+			this.reportFile = reportFile;
+		}
+	}
+
+	/**
+	 * The batch mode configurations.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class Batch {
+
+		/**
+		 * Flag to enable/disable the batch mode.
+		 */
+		@Parameter
+		private boolean enabled;
+
+		/**
+		 * The number of controllers processed in a batch.
+		 */
+		@Parameter
+		private Integer size;
+
+		/**
+		 * Default constructor.
+		 */
+		public Batch() {
+			// empty
+		}
+
+		/**
+		 * Fills in default values for missing fields.
+		 */
+		public void applyDefaults() {
+			if (null == size || size < 1) {
+				size = Default.BATCH_SIZE;
+			}
+		}
+
+		/**
+		 * Returns true if the batch mode is enabled, false otherwise.
+		 *
+		 * @return true if the batch mode is enabled, false otherwise
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Sets the enabled flag.
+		 *
+		 * @param enabled the enabled flag to set
+		 */
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Returns the number of controllers processed in a batch.
+		 *
+		 * @return the number of controllers processed in a batch
+		 */
+		public Integer getSize() {
+			return size;
+		}
+
+		/**
+		 * Sets the number of controllers processed in a batch.
+		 *
+		 * @param size the number of controllers processed in a batch to set
+		 */
+		public void setSize(final Integer size) {
+			this.size = size;
+		}
+	}
+
+	/**
+	 * The canonical ordering and content hashes properties. The canonical ordering sorts the paths and all the name keyed
+	 * maps of the model (responses, media types, headers, component maps, schema properties and extensions) by their keys
+	 * before the definitions are written. The content hashes are Merkle style SHA-256 hashes of the path items, their
+	 * operations and the component schemas, written as {@code x-hash} extensions or in a sidecar JSON file.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class Canonical {
+
+		/**
+		 * Flag to enable/disable the canonical ordering.
+		 */
+		@Parameter
+		private boolean enabled;
+
+		/**
+		 * The way the content hashes are published ("off"/"extensions"/"sidecar"), default being "off".
+		 */
+		@Parameter
+		private String hashes;
+
+		/**
+		 * Default constructor.
+		 */
+		public Canonical() {
+			// empty
+		}
+
+		/**
+		 * Fills in default values for missing fields.
+		 */
+		public void applyDefaults() {
+			if (Strings.isEmpty(hashes)) {
+				hashes = "off";
+			}
+		}
+
+		/**
+		 * Returns true if the canonical ordering is enabled, false otherwise.
+		 *
+		 * @return true if the canonical ordering is enabled, false otherwise
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Sets the enabled flag.
+		 *
+		 * @param enabled the enabled flag to set
+		 */
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Returns the way the content hashes are published.
+		 *
+		 * @return the way the content hashes are published
+		 */
+		public String getHashes() {
+			return hashes;
+		}
+
+		/**
+		 * Sets the way the content hashes are published.
+		 *
+		 * @param hashes the way the content hashes are published to set
+		 */
+		public void setHashes(final String hashes) {
+			this.hashes = hashes;
+		}
+	}
+
+	/**
+	 * An API group, similar to the Spring Doc grouped Open API. An endpoint belongs to the group if it matches all the
+	 * configured conditions, the conditions that are not configured match all endpoints.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class Group {
+
+		/**
+		 * The group name.
+		 */
+		@Parameter(required = true)
+		private String name;
+
+		/**
+		 * The output file for the group Open API definition.
+		 */
+		@Parameter
+		private String outputFile;
+
+		/**
+		 * The path patterns to include.
+		 */
+		@Parameter
+		private List<String> pathsToMatch;
+
+		/**
+		 * The path patterns to exclude.
+		 */
+		@Parameter
+		private List<String> pathsToExclude;
+
+		/**
+		 * The packages to include.
+		 */
+		@Parameter
+		private List<String> packagesToScan;
+
+		/**
+		 * The packages to exclude.
+		 */
+		@Parameter
+		private List<String> packagesToExclude;
+
+		/**
+		 * The tags to include, an endpoint matches if it has at least one of the tags.
+		 */
+		@Parameter
+		private List<String> tagsToMatch;
+
+		/**
+		 * Default constructor.
+		 */
+		public Group() {
+			// empty
+		}
+
+		/**
+		 * Fills in default values for missing fields, the default output file is the main output file with the group
+		 * name added before the extension.
+		 *
+		 * @param mainOutputFile the main output file
+		 */
+		public void applyDefaults(final String mainOutputFile) {
+			if (Strings.isEmpty(name)) {
+				throw new IllegalArgumentException("Group name is required");
+			}
+			if (Strings.isEmpty(outputFile) && null != mainOutputFile) {
+				outputFile = outputFileWithName(mainOutputFile, name);
+			}
+		}
+
+		/**
+		 * Returns the group name.
+		 *
+		 * @return the name
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Sets the group name.
+		 *
+		 * @param name the name to set
+		 */
+		public void setName(final String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Returns the output file.
+		 *
+		 * @return the outputFile
+		 */
+		public String getOutputFile() {
+			return outputFile;
+		}
+
+		/**
+		 * Sets the output file.
+		 *
+		 * @param outputFile the outputFile to set
+		 */
+		public void setOutputFile(final String outputFile) {
+			this.outputFile = outputFile;
+		}
+
+		/**
+		 * Returns the path patterns to include.
+		 *
+		 * @return the pathsToMatch
+		 */
+		public List<String> getPathsToMatch() {
+			return pathsToMatch;
+		}
+
+		/**
+		 * Sets the path patterns to include.
+		 *
+		 * @param pathsToMatch the pathsToMatch to set
+		 */
+		public void setPathsToMatch(final List<String> pathsToMatch) {
+			this.pathsToMatch = pathsToMatch;
+		}
+
+		/**
+		 * Returns the path patterns to exclude.
+		 *
+		 * @return the pathsToExclude
+		 */
+		public List<String> getPathsToExclude() {
+			return pathsToExclude;
+		}
+
+		/**
+		 * Sets the path patterns to exclude.
+		 *
+		 * @param pathsToExclude the pathsToExclude to set
+		 */
+		public void setPathsToExclude(final List<String> pathsToExclude) {
+			this.pathsToExclude = pathsToExclude;
+		}
+
+		/**
+		 * Returns the packages to include.
+		 *
+		 * @return the packagesToScan
+		 */
+		public List<String> getPackagesToScan() {
+			return packagesToScan;
+		}
+
+		/**
+		 * Sets the packages to include.
+		 *
+		 * @param packagesToScan the packagesToScan to set
+		 */
+		public void setPackagesToScan(final List<String> packagesToScan) {
+			this.packagesToScan = packagesToScan;
+		}
+
+		/**
+		 * Returns the packages to exclude.
+		 *
+		 * @return the packagesToExclude
+		 */
+		public List<String> getPackagesToExclude() {
+			return packagesToExclude;
+		}
+
+		/**
+		 * Sets the packages to exclude.
+		 *
+		 * @param packagesToExclude the packagesToExclude to set
+		 */
+		public void setPackagesToExclude(final List<String> packagesToExclude) {
+			this.packagesToExclude = packagesToExclude;
+		}
+
+		/**
+		 * Returns the tags to include.
+		 *
+		 * @return the tagsToMatch
+		 */
+		public List<String> getTagsToMatch() {
+			return tagsToMatch;
+		}
+
+		/**
+		 * Sets the tags to include.
+		 *
+		 * @param tagsToMatch the tagsToMatch to set
+		 */
+		public void setTagsToMatch(final List<String> tagsToMatch) {
+			this.tagsToMatch = tagsToMatch;
+		}
+	}
+
+	/**
+	 * A variant of the Open API definition, the variants are copies of the same built model with their own servers,
+	 * OAuth2 configuration, extensions and locale. The variant output file is the main output file (or each group
+	 * output file) with the variant name added before the extension. The properties which are not configured are taken
+	 * from the main configuration.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class Variant {
+
+		/**
+		 * The variant name.
+		 */
+		@Parameter(required = true)
+		private String name;
+
+		/**
+		 * The locale used to resolve the messages.
+		 */
+		@Parameter
+		private String locale;
+
+		/**
+		 * Server properties.
+		 */
+		@Parameter
+		private List<Server> servers;
+
+		/**
+		 * OAuth2 properties.
+		 */
+		@Parameter
+		private OAuth2 oauth2;
+
+		/**
+		 * Open API extensions added to the main extensions.
+		 */
+		@Parameter
+		private Map<String, String> extensions;
+
+		/**
+		 * Default constructor.
+		 */
+		public Variant() {
+			// empty
+		}
+
+		/**
+		 * Fills in default values for missing fields.
+		 */
+		public void applyDefaults() {
+			if (Strings.isEmpty(name)) {
+				throw new IllegalArgumentException("Variant name is required");
+			}
+			Lists.safe(servers).forEach(Server::applyDefaults);
+			if (null != oauth2) {
+				oauth2.applyDefaults();
+			}
+		}
+
+		/**
+		 * Returns the variant name.
+		 *
+		 * @return the name
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Sets the variant name.
+		 *
+		 * @param name the name to set
+		 */
+		public void setName(final String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Returns the locale.
+		 *
+		 * @return the locale
+		 */
+		public String getLocale() {
+			return locale;
+		}
+
+		/**
+		 * Sets the locale.
+		 *
+		 * @param locale the locale to set
+		 */
+		public void setLocale(final String locale) {
+			this.locale = locale;
+		}
+
+		/**
+		 * Returns the servers.
+		 *
+		 * @return the servers
+		 */
+		public List<Server> getServers() {
+			return servers;
+		}
+
+		/**
+		 * Sets the servers.
+		 *
+		 * @param servers the servers to set
+		 */
+		public void setServers(final List<Server> servers) {
+			this.servers = servers;
+		}
+
+		/**
+		 * Returns the OAuth2 configuration.
+		 *
+		 * @return the OAuth2 configuration
+		 */
+		public OAuth2 getOauth2() {
+			return oauth2;
+		}
+
+		/**
+		 * Sets the OAuth2 configuration.
+		 *
+		 * @param oauth2 the OAuth2 configuration to set
+		 */
+		public void setOauth2(final OAuth2 oauth2) {
+			this.oauth2 = oauth2;
+		}
+
+		/**
+		 * Returns the extensions.
+		 *
+		 * @return the extensions
+		 */
+		public Map<String, String> getExtensions() {
+			return extensions;
+		}
+
+		/**
+		 * Sets the extensions.
+		 *
+		 * @param extensions the extensions to set
+		 */
+		public void setExtensions(final Map<String, String> extensions) {
+			this.extensions = extensions;
+		}
+	}
+
+	/**
+	 * An additional format and version target of the Open API definitions. Every written definition (the main one, the
+	 * groups and the variants) is also written to each target, the target output file is the definition output file with
+	 * the version added before the extension of the target format. The model is not built again for the targets, the
+	 * targets of another version than the built model get a converted copy of it.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class Output {
+
+		/**
+		 * The output format ("yaml"/"json").
+		 */
+		@Parameter(required = true)
+		private String format;
+
+		/**
+		 * The Open API version ("3.0"/"3.1").
+		 */
+		@Parameter(required = true)
+		private String version;
+
+		/**
+		 * Default constructor.
+		 */
+		public Output() {
+			// empty
+		}
+
+		/**
+		 * Validates the target.
+		 */
+		public void applyDefaults() {
+			if (Strings.isEmpty(format)) {
+				throw new IllegalArgumentException("Output format is required");
+			}
+			if (Strings.isEmpty(version)) {
+				throw new IllegalArgumentException("Output version is required");
+			}
+			OutputFormat.fromString(format);
+			OpenApiVersion.fromString(version);
+		}
+
+		/**
+		 * Returns the output format.
+		 *
+		 * @return the format
+		 */
+		public String getFormat() {
+			return format;
+		}
+
+		/**
+		 * Sets the output format.
+		 *
+		 * @param format the format to set
+		 */
+		public void setFormat(final String format) {
+			this.format = format;
+		}
+
+		/**
+		 * Returns the Open API version.
+		 *
+		 * @return the version
+		 */
+		public String getVersion() {
+			return version;
+		}
+
+		/**
+		 * Sets the Open API version.
+		 *
+		 * @param version the version to set
+		 */
+		public void setVersion(final String version) {
+			this.version = version;
+		}
+
+		/**
+		 * Returns the output file of this target for the given definition output file.
+		 *
+		 * @param outputFile the definition output file
+		 * @return the target output file
+		 */
+		public String outputFile(final String outputFile) {
+			return outputFileWithFormat(outputFile, OutputFormat.fromString(format), OpenApiVersion.fromString(version));
+		}
+	}
 }
@@ -0,0 +1,291 @@
+package org.oogp;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+
+/**
+ * Fingerprint of the generation inputs used to skip the generation when nothing changed since the last run.
+ * <p>
+ * The inputs are files (class files, jars, directories which are walked recursively) and values (the generator
+ * properties, the plugin version). The fingerprint is the SHA-256 of the sorted file hashes and of the values. The
+ * file hashes are saved in a state file next to the output file together with the file size and modification time, so
+ * on the next run only the files whose size or modification time changed are hashed again, the others reuse the saved
+ * hash. The files are hashed in parallel.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class InputFingerprint {
+
+	/**
+	 * The state file extension, the state file is the output file with this extension added.
+	 */
+	public static final String STATE_FILE_EXTENSION = ".fingerprint";
+
+	/**
+	 * The state format version, it must be changed when the state file format changes.
+	 */
+	private static final String FORMAT_VERSION = "1";
+
+	/**
+	 * The prefix of the state file line holding the fingerprint.
+	 */
+	private static final String FINGERPRINT_PREFIX = "fingerprint=";
+
+	/**
+	 * The separator of the state file line fields.
+	 */
+	private static final String SEPARATOR = "\t";
+
+	/**
+	 * The state file.
+	 */
+	private final Path stateFile;
+
+	/**
+	 * The saved file states by file path.
+	 */
+	private final Map<String, FileState> savedStates = new ConcurrentHashMap<>();
+
+	/**
+	 * The saved fingerprint, null if there is no saved state.
+	 */
+	private final String savedFingerprint;
+
+	/**
+	 * The current file states by file path.
+	 */
+	private final Map<String, FileState> states = new TreeMap<>();
+
+	/**
+	 * The current fingerprint.
+	 */
+	private String fingerprint;
+
+	/**
+	 * The number of files hashed again because they changed.
+	 */
+	private int hashedFiles;
+
+	/**
+	 * The hash, size and modification time of an input file.
+	 *
+	 * @param hash the file content hash
+	 * @param size the file size
+	 * @param lastModified the file modification time in milliseconds
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record FileState(String hash, long size, long lastModified) {
+
+		/**
+		 * Returns true if the file size and modification time are the same as the given ones.
+		 *
+		 * @param attributes the file attributes
+		 * @return true if the file didn't change
+		 */
+		boolean matches(final BasicFileAttributes attributes) {
+			return size == attributes.size() && lastModified == attributes.lastModifiedTime().toMillis();
+		}
+	}
+
+	/**
+	 * Constructs the fingerprint for the given output file, the saved state is loaded from the state file.
+	 *
+	 * @param outputFile the output file
+	 */
+	public InputFingerprint(final Path outputFile) {
+		this.stateFile = stateFile(outputFile);
+		this.savedFingerprint = load();
+	}
+
+	/**
+	 * Computes the fingerprint of the given input files and values.
+	 *
+	 * @param inputs the input files and directories, the directories are walked recursively and missing inputs are
+	 *     ignored
+	 * @param excludedFiles the files to ignore even if they are found in the input directories (the output files)
+	 * @param values the input values
+	 * @return the fingerprint
+	 * @throws IOException when an I/O error occurs
+	 */
+	public String compute(final Collection<Path> inputs, final Collection<Path> excludedFiles, final List<String> values) throws IOException {
+		Set<Path> excluded = new TreeSet<>();
+		excludedFiles.forEach(file -> excluded.add(file.toAbsolutePath().normalize()));
+		excluded.add(stateFile.toAbsolutePath().normalize());
+		Set<Path> files = new TreeSet<>();
+		for (Path input : inputs) {
+			addFiles(input.toAbsolutePath().normalize(), files);
+		}
+		files.removeAll(excluded);
+
+		Map<String, FileState> computed = new ConcurrentHashMap<>();
+		LongAdder hashed = new LongAdder();
+		try {
+			files.parallelStream().forEach(file -> computed.put(file.toString(), state(file, hashed)));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		states.clear();
+		states.putAll(computed);
+		hashedFiles = hashed.intValue();
+
+		StringBuilder sb = new StringBuilder(FORMAT_VERSION);
+		values.forEach(value -> sb.append('\n').append(value));
+		states.forEach((path, state) -> sb.append('\n').append(path).append('=').append(state.hash()));
+		fingerprint = Digests.sha256(sb.toString());
+		return fingerprint;
+	}
+
+	/**
+	 * Returns true if the computed fingerprint is the same as the saved one and all the given output files exist.
+	 *
+	 * @param outputFiles the output files
+	 * @return true if the outputs are up to date
+	 */
+	public boolean isUpToDate(final Collection<Path> outputFiles) {
+		return null != fingerprint
+				&& fingerprint.equals(savedFingerprint)
+				&& outputFiles.stream().allMatch(Files::isRegularFile);
+	}
+
+	/**
+	 * Saves the computed fingerprint and file states to the state file.
+	 *
+	 * @throws IOException when an I/O error occurs
+	 */
+	public void save() throws IOException {
+		List<String> lines = new ArrayList<>(states.size() + 1);
+		lines.add(FINGERPRINT_PREFIX + fingerprint);
+		states.forEach((path, state) -> lines.add(String.join(SEPARATOR,
+				state.hash(), String.valueOf(state.size()), String.valueOf(state.lastModified()), path)));
+		Files.createDirectories(stateFile.toAbsolutePath().getParent());
+		Files.write(stateFile, lines, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Deletes the state file so that the next run is not skipped.
+	 *
+	 * @throws IOException when an I/O error occurs
+	 */
+	public void invalidate() throws IOException {
+		Files.deleteIfExists(stateFile);
+	}
+
+	/**
+	 * Returns the number of files hashed in the last computation, the other files reused the saved hashes.
+	 *
+	 * @return the number of hashed files
+	 */
+	public int getHashedFiles() {
+		return hashedFiles;
+	}
+
+	/**
+	 * Returns the number of input files of the last computation.
+	 *
+	 * @return the number of input files
+	 */
+	public int getInputFiles() {
+		return states.size();
+	}
+
+	/**
+	 * Returns the state file.
+	 *
+	 * @return the state file
+	 */
+	public Path getStateFile() {
+		return stateFile;
+	}
+
+	/**
+	 * Returns the state file of the given output file.
+	 *
+	 * @param outputFile the output file
+	 * @return the state file
+	 */
+	public static Path stateFile(final Path outputFile) {
+		return outputFile.resolveSibling(outputFile.getFileName() + STATE_FILE_EXTENSION);
+	}
+
+	/**
+	 * Loads the saved state and returns the saved fingerprint, any unreadable state is treated as no saved state.
+	 *
+	 * @return the saved fingerprint or null
+	 */
+	private String load() {
+		if (!Files.isRegularFile(stateFile)) {
+			return null;
+		}
+		try {
+			List<String> lines = Files.readAllLines(stateFile, StandardCharsets.UTF_8);
+			if (lines.isEmpty() || !lines.getFirst().startsWith(FINGERPRINT_PREFIX)) {
+				return null;
+			}
+			for (String line : lines.subList(1, lines.size())) {
+				String[] fields = line.split(SEPARATOR, 4);
+				if (4 == fields.length) {
+					savedStates.put(fields[3], new FileState(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+				}
+			}
+			return lines.getFirst().substring(FINGERPRINT_PREFIX.length());
+		} catch (IOException | RuntimeException e) {
+			savedStates.clear();
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the state of the given file, the saved state is reused when the file size and modification time didn't
+	 * change.
+	 *
+	 * @param file the file
+	 * @param hashed the counter of the files hashed again, incremented when the saved state cannot be reused
+	 * @return the file state
+	 */
+	private FileState state(final Path file, final LongAdder hashed) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+			FileState saved = savedStates.get(file.toString());
+			if (null != saved && saved.matches(attributes)) {
+				return saved;
+			}
+			hashed.increment();
+			return new FileState(Digests.sha256(file), attributes.size(), attributes.lastModifiedTime().toMillis());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Adds the regular files of the given input to the given set.
+	 *
+	 * @param input the input file or directory
+	 * @param files the files
+	 * @throws IOException when an I/O error occurs
+	 */
+	private static void addFiles(final Path input, final Set<Path> files) throws IOException {
+		if (Files.isDirectory(input)) {
+			try (Stream<Path> paths = Files.walk(input)) {
+				paths.filter(Files::isRegularFile).forEach(files::add);
+			}
+		} else if (Files.isRegularFile(input)) {
+			files.add(input);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package org.oogp;
+
+import java.util.Map;
+
+import org.morphix.lang.Enums;
+
+/**
+ * Represents the way the JAX-RS resources of a Jakarta project are discovered.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum JakartaDiscovery {
+
+	/**
+	 * Resources are found by loading all the classes of the scanned packages.
+	 */
+	SCAN("scan"),
+
+	/**
+	 * Resources are taken from the {@code @ApplicationPath} applications found by bytecode inspection, or from the
+	 * {@code @Path} classes found by bytecode inspection when there is no application.
+	 */
+	APPLICATION("application");
+
+	/**
+	 * The name map for easy from string implementation.
+	 */
+	private static final Map<String, JakartaDiscovery> NAME_MAP = Enums.buildNameMap(values());
+
+	/**
+	 * The {@link String} value.
+	 */
+	private final String value;
+
+	/**
+	 * Constructs a {@link JakartaDiscovery} with the specified string value.
+	 *
+	 * @param value string value
+	 */
+	JakartaDiscovery(final String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the string value.
+	 *
+	 * @return the string value
+	 */
+	public String value() {
+		return value;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value();
+	}
+
+	/**
+	 * Returns a {@link JakartaDiscovery} enum from a {@link String}.
+	 *
+	 * @param discovery discovery as string
+	 * @return a discovery enum
+	 */
+	public static JakartaDiscovery fromString(final String discovery) {
+		return Enums.fromString(discovery, NAME_MAP, values());
+	}
+
+}
@@ -0,0 +1,80 @@
+package org.oogp;
+
+import java.util.Map;
+
+import org.morphix.lang.Enums;
+
+/**
+ * Represents the way the javadoc of the controllers and models is extracted for the generated descriptions.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum JavadocMode {
+
+	/**
+	 * The javadoc is looked up class by class through the class loader when it is needed.
+	 */
+	RUNTIME("runtime"),
+
+	/**
+	 * The javadoc is not extracted.
+	 */
+	OFF("off"),
+
+	/**
+	 * The javadoc of all the project classes is loaded once in an in-memory index.
+	 */
+	CACHED("cached"),
+
+	/**
+	 * The javadoc of all the project classes is read from a single index file built once after compilation.
+	 */
+	PRECOMPUTED("precomputed");
+
+	/**
+	 * The name map for easy from string implementation.
+	 */
+	private static final Map<String, JavadocMode> NAME_MAP = Enums.buildNameMap(values());
+
+	/**
+	 * The {@link String} value.
+	 */
+	private final String value;
+
+	/**
+	 * Constructs a {@link JavadocMode} with the specified string value.
+	 *
+	 * @param value string value
+	 */
+	JavadocMode(final String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the string value.
+	 *
+	 * @return the string value
+	 */
+	public String value() {
+		return value;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value();
+	}
+
+	/**
+	 * Returns a {@link JavadocMode} enum from a {@link String}.
+	 *
+	 * @param mode mode as string
+	 * @return a mode enum
+	 */
+	public static JavadocMode fromString(final String mode) {
+		return Enums.fromString(mode, NAME_MAP, values());
+	}
+
+}
@@ -0,0 +1,103 @@
+package org.oogp;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.morphix.reflection.Constructors;
+
+import io.swagger.v3.core.converter.ModelConverters;
+
+/**
+ * Process wide lock of the {@link ModelConverters} singleton.
+ * <p>
+ * Spring Doc and the swagger JAX-RS reader both resolve the schemas with the {@link ModelConverters} singleton, so a
+ * generator engine which adds its converter chain to the singleton changes the schemas resolved by every other
+ * generation running in the same JVM at the same time (in process Maven builds with parallel modules, auto projects).
+ * Every user of the singleton holds this lock while it resolves schemas, the users are serialized: a second user waits
+ * until the first one releases the lock. The lock is not reentrant, acquiring it again from the thread which holds it
+ * fails instead of blocking forever. The lock can be released from another thread than the one which acquired it.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class ModelConvertersLock {
+
+	/**
+	 * The permit held by the current user of the singleton.
+	 */
+	private static final Semaphore PERMIT = new Semaphore(1, true);
+
+	/**
+	 * The thread which acquired the lock, null when the lock is free.
+	 */
+	private static volatile Thread owner;
+
+	/**
+	 * Hide constructor.
+	 */
+	private ModelConvertersLock() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * A held lock, closing it releases the lock.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static final class Lease implements AutoCloseable {
+
+		/**
+		 * Flag that shows if the lock was released.
+		 */
+		private final AtomicBoolean released = new AtomicBoolean(false);
+
+		/**
+		 * Hide constructor.
+		 */
+		private Lease() {
+			// empty
+		}
+
+		/**
+		 * Releases the lock, only the first call releases it.
+		 *
+		 * @see #close()
+		 */
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				owner = null;
+				PERMIT.release();
+			}
+		}
+	}
+
+	/**
+	 * Acquires the lock waiting until it is released by its current holder.
+	 *
+	 * @return the held lock
+	 * @throws IllegalStateException when the current thread already holds the lock or when it is interrupted while waiting
+	 */
+	public static Lease acquire() {
+		if (Thread.currentThread() == owner) {
+			throw new IllegalStateException("The model converters are already locked by the current thread, "
+					+ "close the generator engine before creating another one");
+		}
+		try {
+			PERMIT.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the model converters", e);
+		}
+		owner = Thread.currentThread();
+		return new Lease();
+	}
+
+	/**
+	 * Returns true if the lock is held.
+	 *
+	 * @return true if the lock is held
+	 */
+	public static boolean isLocked() {
+		return 0 == PERMIT.availablePermits();
+	}
+}
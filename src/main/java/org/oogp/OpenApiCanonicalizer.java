@@ -0,0 +1,644 @@
+package org.oogp;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import org.apiphany.lang.Strings;
+import org.apiphany.lang.collections.Lists;
+import org.morphix.reflection.Constructors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+/**
+ * Puts Open API models in a canonical order and computes the content hashes of their parts.
+ * <p>
+ * The canonical ordering sorts, in place, the paths and all the name keyed maps of the model by their keys: the
+ * responses, the media types, the headers, the encodings, the component maps, the schema properties, the discriminator
+ * mappings, the 3.1 {@code $defs} and {@code dependentSchemas} and the extensions. The lists (tags, parameters, servers,
+ * security requirements, required properties) keep their order since their order has a meaning. The operations of a
+ * path item are always written in the same order by the serializer.
+ * <p>
+ * The content hashes are Merkle style SHA-256 hashes. Every operation and component is hashed from its JSON
+ * serialization with the object keys sorted, folded with the content hashes of all the components it references
+ * through {@code $ref}, directly or through other components, so a changed component changes the hashes of everything
+ * using it. A path item hash is the hash of its JSON serialization without the operations, folded with its references,
+ * followed by the hashes of its operations. The document hash is the hash of all the top level sections other than the
+ * paths and the components (info, servers, security, tags, external docs, webhooks and the extensions, also those of
+ * the paths and of the components) and the root hash is the hash of the document hash and of all the path item and
+ * component hashes. The {@code x-hash} extensions are never part of the hashed content so the hashes don't depend on
+ * the key order of the model nor on the hashes already written in it, a changed operation only changes its own hash,
+ * the hash of its path item and the root hash.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class OpenApiCanonicalizer {
+
+	/**
+	 * The name of the content hash extension.
+	 */
+	public static final String HASH_EXTENSION = "x-hash";
+
+	/**
+	 * The JSON field names of the path item operations.
+	 */
+	private static final Set<String> OPERATION_FIELDS = Set.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+
+	/**
+	 * The prefix of the references to components.
+	 */
+	private static final String COMPONENTS_REF_PREFIX = "#/components/";
+
+	/**
+	 * The prefix of the extension names.
+	 */
+	private static final String EXTENSION_PREFIX = "x-";
+
+	/**
+	 * The JSON field name of the component schemas.
+	 */
+	private static final String SCHEMAS = "schemas";
+
+	/**
+	 * The JSON Schema 2020-12 definitions keyword, kept in the schema extensions by the swagger models.
+	 */
+	private static final String DEFS = "$defs";
+
+	/**
+	 * Hide constructor.
+	 */
+	private OpenApiCanonicalizer() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * The content hashes of an Open API model.
+	 *
+	 * @param root the root hash of the document hash and of all the path item and component hashes
+	 * @param document the hash of the top level sections other than the paths and the components
+	 * @param paths the path item hashes by path in path order
+	 * @param operations the operation hashes by {@code METHOD path} in path and operation order
+	 * @param components the component hashes by {@code type/name} ({@code schemas/Pet}) in type and name order
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public record Hashes(String root, String document, Map<String, String> paths, Map<String, String> operations,
+			Map<String, String> components) {
+
+		/**
+		 * Adds the hashes to the given model, which must be the hashed model, as {@code x-hash} extensions of the path
+		 * items, operations and component schemas. The objects shared with other models are only changed with the same
+		 * hashes since the hashes depend only on their content.
+		 *
+		 * @param openAPI the hashed Open API model
+		 */
+		public void addExtensions(final OpenAPI openAPI) {
+			if (null != openAPI.getPaths()) {
+				openAPI.getPaths().forEach((path, pathItem) -> {
+					pathItem.addExtension(HASH_EXTENSION, paths.get(path));
+					pathItem.readOperationsMap().forEach((method, operation) -> operation.addExtension(HASH_EXTENSION,
+							operations.get(operationKey(method, path))));
+				});
+			}
+			if (null != openAPI.getComponents() && null != openAPI.getComponents().getSchemas()) {
+				openAPI.getComponents().getSchemas().forEach((name, schema) -> schema.addExtension(HASH_EXTENSION,
+						components.get(componentKey(SCHEMAS, name))));
+			}
+		}
+	}
+
+	/**
+	 * The components of a model with their content hashes and their direct references, used to fold the content hashes
+	 * of the referenced components into the hashes of the objects referencing them.
+	 *
+	 * @param contentHashes the content hashes of the components by reference
+	 * @param componentReferences the references of every component by reference
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record ComponentGraph(Map<String, String> contentHashes, Map<String, Set<String>> componentReferences) {
+
+		/**
+		 * Returns the hash of the given content hash folded with the content hashes of all the components reachable from
+		 * the given references, the content hash itself when no component is reachable.
+		 *
+		 * @param contentHash the content hash
+		 * @param directReferences the references of the hashed object
+		 * @return the folded hash
+		 */
+		String fold(final String contentHash, final Set<String> directReferences) {
+			Set<String> reachable = new TreeSet<>();
+			Deque<String> pending = new ArrayDeque<>(directReferences);
+			while (!pending.isEmpty()) {
+				String reference = pending.pop();
+				if (contentHashes.containsKey(reference) && reachable.add(reference)) {
+					pending.addAll(componentReferences.get(reference));
+				}
+			}
+			if (reachable.isEmpty()) {
+				return contentHash;
+			}
+			MessageDigest digest = Digests.messageDigest();
+			digest.update((contentHash + "\n").getBytes(StandardCharsets.UTF_8));
+			reachable.forEach(reference -> digest.update(("ref:" + reference + ":" + contentHashes.get(reference) + "\n")
+					.getBytes(StandardCharsets.UTF_8)));
+			return HexFormat.of().formatHex(digest.digest());
+		}
+
+		/**
+		 * Returns the content hash of the given node folded with the content hashes of the components it references.
+		 *
+		 * @param writer the writer sorting the object keys
+		 * @param node the JSON node
+		 * @return the folded hash
+		 */
+		String hash(final ObjectWriter writer, final ObjectNode node) {
+			return fold(sha256(bytes(writer, node)), references(node));
+		}
+	}
+
+	/**
+	 * Returns the content hash output from the given properties, the default being {@link ContentHashOutput#OFF}.
+	 *
+	 * @param properties the generator properties
+	 * @return the content hash output
+	 */
+	public static ContentHashOutput contentHashOutput(final GeneratorProperties properties) {
+		GeneratorProperties.Canonical canonical = properties.getCanonical();
+		return null == canonical || Strings.isEmpty(canonical.getHashes())
+				? ContentHashOutput.OFF
+				: ContentHashOutput.fromString(canonical.getHashes());
+	}
+
+	/**
+	 * Sorts the paths and the name keyed maps of the given model by their keys, the model is changed in place.
+	 *
+	 * @param openAPI the Open API model
+	 * @return the given Open API model
+	 */
+	public static OpenAPI canonicalize(final OpenAPI openAPI) {
+		Map<Object, Boolean> visited = new IdentityHashMap<>();
+		openAPI.setExtensions(sorted(openAPI.getExtensions()));
+		Paths paths = openAPI.getPaths();
+		if (null != paths) {
+			Paths sortedPaths = sorted(paths, Paths::new);
+			sortedPaths.setExtensions(sorted(paths.getExtensions()));
+			sortedPaths.values().forEach(pathItem -> canonicalize(pathItem, visited));
+			openAPI.setPaths(sortedPaths);
+		}
+		Components components = openAPI.getComponents();
+		if (null != components) {
+			components.setSchemas(sorted(components.getSchemas()));
+			components.setResponses(sorted(components.getResponses()));
+			components.setParameters(sorted(components.getParameters()));
+			components.setExamples(sorted(components.getExamples()));
+			components.setRequestBodies(sorted(components.getRequestBodies()));
+			components.setHeaders(sorted(components.getHeaders()));
+			components.setSecuritySchemes(sorted(components.getSecuritySchemes()));
+			components.setLinks(sorted(components.getLinks()));
+			components.setCallbacks(sorted(components.getCallbacks()));
+			components.setPathItems(sorted(components.getPathItems()));
+			components.setExtensions(sorted(components.getExtensions()));
+			values(components.getSchemas()).forEach(schema -> canonicalize(schema, visited));
+			values(components.getResponses()).forEach(response -> canonicalize(response, visited));
+			values(components.getParameters()).forEach(parameter -> canonicalize(parameter, visited));
+			values(components.getRequestBodies()).forEach(requestBody -> canonicalize(requestBody, visited));
+			values(components.getHeaders()).forEach(header -> canonicalize(header, visited));
+			values(components.getPathItems()).forEach(pathItem -> canonicalize(pathItem, visited));
+		}
+		return openAPI;
+	}
+
+	/**
+	 * Computes the content hashes of the given model.
+	 *
+	 * @param openAPI the Open API model
+	 * @param isOpenapi31 true if the model is built for Open API 3.1
+	 * @return the content hashes
+	 */
+	public static Hashes hash(final OpenAPI openAPI, final boolean isOpenapi31) {
+		ObjectMapper mapper = isOpenapi31 ? Json31.mapper() : Json.mapper();
+		ObjectWriter writer = mapper.writer().with(JsonNodeFeature.WRITE_PROPERTIES_SORTED);
+		ObjectNode document = mapper.valueToTree(openAPI);
+		JsonNode pathsNode = document.remove("paths");
+		JsonNode componentsNode = document.remove("components");
+		keepExtensions(document, "paths", pathsNode);
+		keepExtensions(document, "components", componentsNode);
+		String documentHash = sha256(bytes(writer, document));
+		MessageDigest rootDigest = Digests.messageDigest();
+		rootDigest.update(("document:" + documentHash + "\n").getBytes(StandardCharsets.UTF_8));
+
+		Map<String, ObjectNode> componentNodes = new TreeMap<>();
+		Map<String, String> componentRefs = new HashMap<>();
+		if (componentsNode instanceof ObjectNode) {
+			componentsNode.properties().forEach(type -> {
+				if (!type.getKey().startsWith(EXTENSION_PREFIX) && type.getValue() instanceof ObjectNode typeNode) {
+					typeNode.properties().forEach(component -> {
+						if (component.getValue() instanceof ObjectNode componentNode) {
+							String key = componentKey(type.getKey(), component.getKey());
+							componentNodes.put(key, componentNode);
+							componentRefs.put(key, COMPONENTS_REF_PREFIX + type.getKey() + "/" + escape(component.getKey()));
+						}
+					});
+				}
+			});
+		}
+		Map<String, String> contentHashes = new HashMap<>();
+		Map<String, Set<String>> references = new HashMap<>();
+		componentNodes.forEach((key, componentNode) -> {
+			String ref = componentRefs.get(key);
+			references.put(ref, references(componentNode));
+			contentHashes.put(ref, sha256(bytes(writer, componentNode)));
+		});
+		ComponentGraph componentGraph = new ComponentGraph(contentHashes, references);
+
+		Map<String, String> paths = new LinkedHashMap<>();
+		Map<String, String> operations = new LinkedHashMap<>();
+		if (null != openAPI.getPaths() && pathsNode instanceof ObjectNode) {
+			openAPI.getPaths().forEach((path, pathItem) -> {
+				if (!(pathsNode.get(path) instanceof ObjectNode pathItemNode)) {
+					return;
+				}
+				Map<PathItem.HttpMethod, ObjectNode> operationNodes = new LinkedHashMap<>();
+				pathItem.readOperationsMap().keySet().forEach(method -> operationNodes.put(method,
+						(ObjectNode) pathItemNode.get(method.name().toLowerCase(Locale.ROOT))));
+				pathItemNode.remove(OPERATION_FIELDS);
+				MessageDigest pathItemDigest = Digests.messageDigest();
+				pathItemDigest.update((componentGraph.hash(writer, pathItemNode) + "\n").getBytes(StandardCharsets.UTF_8));
+				operationNodes.forEach((method, operationNode) -> {
+					String operationHash = componentGraph.hash(writer, operationNode);
+					operations.put(operationKey(method, path), operationHash);
+					pathItemDigest.update((method + ":" + operationHash + "\n").getBytes(StandardCharsets.UTF_8));
+				});
+				String pathItemHash = HexFormat.of().formatHex(pathItemDigest.digest());
+				paths.put(path, pathItemHash);
+				rootDigest.update(("path:" + path + ":" + pathItemHash + "\n").getBytes(StandardCharsets.UTF_8));
+			});
+		}
+
+		Map<String, String> components = new LinkedHashMap<>();
+		componentNodes.keySet().forEach(key -> {
+			String ref = componentRefs.get(key);
+			String componentHash = componentGraph.fold(contentHashes.get(ref), references.get(ref));
+			components.put(key, componentHash);
+			rootDigest.update(("component:" + key + ":" + componentHash + "\n").getBytes(StandardCharsets.UTF_8));
+		});
+		return new Hashes(HexFormat.of().formatHex(rootDigest.digest()), documentHash, Collections.unmodifiableMap(paths),
+				Collections.unmodifiableMap(operations), Collections.unmodifiableMap(components));
+	}
+
+	/**
+	 * Sets the extensions of the given paths or components node, if any, as the given field of the document so they are
+	 * part of the document hash.
+	 *
+	 * @param document the document node without the paths and the components
+	 * @param field the field name of the node in the document
+	 * @param node the paths or components node
+	 */
+	private static void keepExtensions(final ObjectNode document, final String field, final JsonNode node) {
+		if (!(node instanceof ObjectNode objectNode)) {
+			return;
+		}
+		ObjectNode extensions = document.objectNode();
+		objectNode.properties().stream()
+				.filter(entry -> entry.getKey().startsWith(EXTENSION_PREFIX))
+				.forEach(entry -> extensions.set(entry.getKey(), entry.getValue()));
+		if (!extensions.isEmpty()) {
+			document.set(field, extensions);
+		}
+	}
+
+	/**
+	 * Returns the key of a component in the component hashes.
+	 *
+	 * @param type the JSON field name of the component type
+	 * @param name the component name
+	 * @return the component key
+	 */
+	private static String componentKey(final String type, final String name) {
+		return type + "/" + name;
+	}
+
+	/**
+	 * Returns the component references found in the given node and in all its children, the references to the parts of
+	 * a component are references to the component.
+	 *
+	 * @param node the JSON node
+	 * @return the component references
+	 */
+	private static Set<String> references(final JsonNode node) {
+		Set<String> references = new HashSet<>();
+		Deque<JsonNode> pending = new ArrayDeque<>();
+		pending.push(node);
+		while (!pending.isEmpty()) {
+			JsonNode current = pending.pop();
+			JsonNode ref = current.get("$ref");
+			if (current.isObject() && null != ref && ref.isTextual() && ref.textValue().startsWith(COMPONENTS_REF_PREFIX)) {
+				String[] parts = ref.textValue().substring(COMPONENTS_REF_PREFIX.length()).split("/", 3);
+				if (parts.length >= 2) {
+					references.add(COMPONENTS_REF_PREFIX + parts[0] + "/" + parts[1]);
+				}
+			}
+			current.forEach(pending::push);
+		}
+		return references;
+	}
+
+	/**
+	 * Returns the given name escaped as a JSON pointer token.
+	 *
+	 * @param name the name
+	 * @return the escaped name
+	 */
+	private static String escape(final String name) {
+		return name.replace("~", "~0").replace("/", "~1");
+	}
+
+	/**
+	 * Returns the key of an operation in the operation hashes.
+	 *
+	 * @param method the operation method
+	 * @param path the operation path
+	 * @return the operation key
+	 */
+	private static String operationKey(final PathItem.HttpMethod method, final String path) {
+		return method + " " + path;
+	}
+
+	/**
+	 * Returns the JSON bytes of the given node with the object keys sorted and without the {@code x-hash} extension of
+	 * the node.
+	 *
+	 * @param writer the writer sorting the object keys
+	 * @param node the JSON node
+	 * @return the JSON bytes
+	 */
+	private static byte[] bytes(final ObjectWriter writer, final ObjectNode node) {
+		node.remove(HASH_EXTENSION);
+		try {
+			return writer.writeValueAsBytes(node);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Cannot serialize the content to hash", e);
+		}
+	}
+
+	/**
+	 * Returns the hexadecimal SHA-256 of the given bytes.
+	 *
+	 * @param bytes the bytes
+	 * @return the hexadecimal SHA-256
+	 */
+	private static String sha256(final byte[] bytes) {
+		return HexFormat.of().formatHex(Digests.messageDigest().digest(bytes));
+	}
+
+	/**
+	 * Sorts the maps of the given path item and of its operations.
+	 *
+	 * @param pathItem the path item
+	 * @param visited the already sorted objects
+	 */
+	private static void canonicalize(final PathItem pathItem, final Map<Object, Boolean> visited) {
+		if (null == pathItem || null != visited.putIfAbsent(pathItem, Boolean.TRUE)) {
+			return;
+		}
+		pathItem.setExtensions(sorted(pathItem.getExtensions()));
+		Lists.safe(pathItem.getParameters()).forEach(parameter -> canonicalize(parameter, visited));
+		for (Operation operation : pathItem.readOperations()) {
+			operation.setExtensions(sorted(operation.getExtensions()));
+			Lists.safe(operation.getParameters()).forEach(parameter -> canonicalize(parameter, visited));
+			canonicalize(operation.getRequestBody(), visited);
+			ApiResponses responses = operation.getResponses();
+			if (null != responses) {
+				ApiResponses sortedResponses = sorted(responses, ApiResponses::new);
+				sortedResponses.setExtensions(sorted(responses.getExtensions()));
+				sortedResponses.values().forEach(response -> canonicalize(response, visited));
+				operation.setResponses(sortedResponses);
+			}
+			operation.setCallbacks(sorted(operation.getCallbacks()));
+			values(operation.getCallbacks()).forEach(callback -> callback.values().forEach(callbackPathItem -> canonicalize(callbackPathItem, visited)));
+		}
+	}
+
+	/**
+	 * Sorts the maps of the given response.
+	 *
+	 * @param response the response
+	 * @param visited the already sorted objects
+	 */
+	private static void canonicalize(final ApiResponse response, final Map<Object, Boolean> visited) {
+		if (null == response || null != visited.putIfAbsent(response, Boolean.TRUE)) {
+			return;
+		}
+		response.setContent(canonicalize(response.getContent(), visited));
+		response.setHeaders(sorted(response.getHeaders()));
+		values(response.getHeaders()).forEach(header -> canonicalize(header, visited));
+		response.setLinks(sorted(response.getLinks()));
+		response.setExtensions(sorted(response.getExtensions()));
+	}
+
+	/**
+	 * Sorts the maps of the given request body.
+	 *
+	 * @param requestBody the request body
+	 * @param visited the already sorted objects
+	 */
+	private static void canonicalize(final RequestBody requestBody, final Map<Object, Boolean> visited) {
+		if (null == requestBody || null != visited.putIfAbsent(requestBody, Boolean.TRUE)) {
+			return;
+		}
+		requestBody.setContent(canonicalize(requestBody.getContent(), visited));
+		requestBody.setExtensions(sorted(requestBody.getExtensions()));
+	}
+
+	/**
+	 * Sorts the maps of the given parameter.
+	 *
+	 * @param parameter the parameter
+	 * @param visited the already sorted objects
+	 */
+	private static void canonicalize(final Parameter parameter, final Map<Object, Boolean> visited) {
+		if (null == parameter || null != visited.putIfAbsent(parameter, Boolean.TRUE)) {
+			return;
+		}
+		canonicalize(parameter.getSchema(), visited);
+		parameter.setContent(canonicalize(parameter.getContent(), visited));
+		parameter.setExamples(sorted(parameter.getExamples()));
+		parameter.setExtensions(sorted(parameter.getExtensions()));
+	}
+
+	/**
+	 * Sorts the maps of the given header.
+	 *
+	 * @param header the header
+	 * @param visited the already sorted objects
+	 */
+	private static void canonicalize(final Header header, final Map<Object, Boolean> visited) {
+		if (null == header || null != visited.putIfAbsent(header, Boolean.TRUE)) {
+			return;
+		}
+		canonicalize(header.getSchema(), visited);
+		header.setContent(canonicalize(header.getContent(), visited));
+		header.setExamples(sorted(header.getExamples()));
+		header.setExtensions(sorted(header.getExtensions()));
+	}
+
+	/**
+	 * Returns the given content sorted by media type with the maps of its media types sorted.
+	 *
+	 * @param content the content
+	 * @param visited the already sorted objects
+	 * @return the sorted content
+	 */
+	private static Content canonicalize(final Content content, final Map<Object, Boolean> visited) {
+		if (null == content) {
+			return null;
+		}
+		Content sortedContent = sorted(content, Content::new);
+		for (MediaType mediaType : sortedContent.values()) {
+			if (null != mediaType && null == visited.putIfAbsent(mediaType, Boolean.TRUE)) {
+				canonicalize(mediaType.getSchema(), visited);
+				mediaType.setExamples(sorted(mediaType.getExamples()));
+				mediaType.setEncoding(sorted(mediaType.getEncoding()));
+				mediaType.setExtensions(sorted(mediaType.getExtensions()));
+			}
+		}
+		return sortedContent;
+	}
+
+	/**
+	 * Sorts the properties and the extensions of the given schema and of all its sub-schemas.
+	 *
+	 * @param schema the schema
+	 * @param visited the already sorted objects
+	 */
+	private static void canonicalize(final Schema<?> schema, final Map<Object, Boolean> visited) {
+		if (null == schema || null != visited.putIfAbsent(schema, Boolean.TRUE)) {
+			return;
+		}
+		schema.setProperties(sorted(schema.getProperties()));
+		schema.setPatternProperties(sorted(schema.getPatternProperties()));
+		schema.setDependentSchemas(sorted(schema.getDependentSchemas()));
+		schema.setDependentRequired(sorted(schema.getDependentRequired()));
+		schema.setExtensions(sorted(schema.getExtensions()));
+		if (null != schema.getExtensions() && schema.getExtensions().get(DEFS) instanceof Map<?, ?> defs) {
+			schema.getExtensions().put(DEFS, sortedByKey(defs));
+		}
+		Discriminator discriminator = schema.getDiscriminator();
+		if (null != discriminator) {
+			discriminator.setMapping(sorted(discriminator.getMapping()));
+			discriminator.setExtensions(sorted(discriminator.getExtensions()));
+		}
+		values(schema.getProperties()).forEach(property -> canonicalize(property, visited));
+		values(schema.getPatternProperties()).forEach(property -> canonicalize(property, visited));
+		values(schema.getDependentSchemas()).forEach(dependentSchema -> canonicalize(dependentSchema, visited));
+		canonicalize(schema.getItems(), visited);
+		canonicalize(schema.getNot(), visited);
+		canonicalize(schema.getIf(), visited);
+		canonicalize(schema.getThen(), visited);
+		canonicalize(schema.getElse(), visited);
+		canonicalize(schema.getContains(), visited);
+		canonicalize(schema.getPropertyNames(), visited);
+		canonicalize(schema.getContentSchema(), visited);
+		canonicalize(schema.getAdditionalItems(), visited);
+		canonicalize(schema.getUnevaluatedItems(), visited);
+		canonicalize(schema.getUnevaluatedProperties(), visited);
+		Lists.safe(schema.getAllOf()).forEach(subSchema -> canonicalize(subSchema, visited));
+		Lists.safe(schema.getAnyOf()).forEach(subSchema -> canonicalize(subSchema, visited));
+		Lists.safe(schema.getOneOf()).forEach(subSchema -> canonicalize(subSchema, visited));
+		Lists.safe(schema.getPrefixItems()).forEach(subSchema -> canonicalize(subSchema, visited));
+		if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+			canonicalize(additionalProperties, visited);
+		}
+	}
+
+	/**
+	 * Returns a copy of the given untyped map, read from JSON, sorted by key.
+	 *
+	 * @param map the map
+	 * @return the sorted map
+	 */
+	private static Map<String, Object> sortedByKey(final Map<?, ?> map) {
+		Map<String, Object> sortedMap = new TreeMap<>();
+		map.forEach((key, value) -> sortedMap.put(String.valueOf(key), value));
+		return new LinkedHashMap<>(sortedMap);
+	}
+
+	/**
+	 * Returns the values of the given map, empty when the map is null.
+	 *
+	 * @param <V> the value type
+	 *
+	 * @param map the map
+	 * @return the map values
+	 */
+	private static <V> Iterable<V> values(final Map<String, V> map) {
+		return null == map ? List.of() : map.values();
+	}
+
+	/**
+	 * Returns a copy of the given map sorted by key, or null when the map is null.
+	 *
+	 * @param <V> the value type
+	 *
+	 * @param map the map
+	 * @return the sorted map
+	 */
+	private static <V> Map<String, V> sorted(final Map<String, V> map) {
+		return null == map ? null : sorted(map, LinkedHashMap::new);
+	}
+
+	/**
+	 * Returns a copy of the given map sorted by key created by the given map factory.
+	 *
+	 * @param <V> the value type
+	 * @param <M> the map type
+	 *
+	 * @param map the map
+	 * @param mapFactory the factory of the sorted map
+	 * @return the sorted map
+	 */
+	private static <V, M extends Map<String, V>> M sorted(final Map<String, V> map, final Supplier<M> mapFactory) {
+		M sortedMap = mapFactory.get();
+		map.entrySet().stream()
+				.sorted(Map.Entry.comparingByKey())
+				.forEach(entry -> sortedMap.put(entry.getKey(), entry.getValue()));
+		return sortedMap;
+	}
+}
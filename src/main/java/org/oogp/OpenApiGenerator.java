@@ -46,6 +46,7 @@ public class OpenApiGenerator {
 		switch (ProjectType.fromString(properties.getProjectType())) {
 			case JAKARTA -> OpenApiSpecJakartaGenerator.generate(properties);
 			case SPRING -> OpenApiSpecSpringDocGenerator.generate(properties);
+			case AUTO -> OpenApiSpecAutoGenerator.generate(properties);
 			default -> throw new RuntimeException("Unknown project type: " + properties.getProjectType());
 		}
 	}
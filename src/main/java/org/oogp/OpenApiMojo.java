@@ -19,6 +19,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apiphany.json.JsonBuilder;
+import org.apiphany.lang.collections.Lists;
 
 /**
  * Mojo that generates an OpenAPI YAML file from the compiled Spring controllers.
@@ -55,6 +56,20 @@ public class OpenApiMojo extends AbstractMojo {
 	@Parameter(defaultValue = "true")
 	private Boolean fork;
 
+	/**
+	 * Whether to skip the generation when the inputs didn't change since the last generation and the outputs exist. The
+	 * inputs are the class files of the scanned packages, the runtime classpath, the plugin classpath, the properties and
+	 * the plugin version.
+	 */
+	@Parameter(defaultValue = "true")
+	private Boolean upToDateCheck;
+
+	/**
+	 * The plugin version.
+	 */
+	@Parameter(defaultValue = "${plugin.version}", readonly = true)
+	private String pluginVersion;
+
 	/**
 	 * Default constructor.
 	 */
@@ -62,6 +77,26 @@ public class OpenApiMojo extends AbstractMojo {
 		// empty
 	}
 
+	/**
+	 * Constructs the mojo with the given parameters instead of the injected ones.
+	 *
+	 * @param project the current maven project
+	 * @param pluginArtifacts the plugin artifacts
+	 * @param properties the properties
+	 * @param fork whether to fork a new JVM process to run the generation
+	 * @param upToDateCheck whether to skip the generation when the inputs didn't change
+	 * @param pluginVersion the plugin version
+	 */
+	OpenApiMojo(final MavenProject project, final List<Artifact> pluginArtifacts, final GeneratorProperties properties, final Boolean fork,
+			final Boolean upToDateCheck, final String pluginVersion) {
+		this.project = project;
+		this.pluginArtifacts = pluginArtifacts;
+		this.properties = properties;
+		this.fork = fork;
+		this.upToDateCheck = upToDateCheck;
+		this.pluginVersion = pluginVersion;
+	}
+
 	/**
 	 * @see #execute()
 	 */
@@ -86,11 +121,102 @@ public class OpenApiMojo extends AbstractMojo {
 			throw new MojoExecutionException("Failed to apply default properties", e);
 		}
 
+		InputFingerprint inputFingerprint = Boolean.TRUE.equals(upToDateCheck) ? checkInputs() : null;
+		if (null != inputFingerprint && inputFingerprint.isUpToDate(outputFiles())) {
+			getLog().info("OpenAPI spec is up to date, skipping generation (fingerprint: " + inputFingerprint.getStateFile() + ")");
+			return;
+		}
+
 		if (fork) {
 			runForked();
 		} else {
 			run();
 		}
+
+		if (null != inputFingerprint) {
+			try {
+				inputFingerprint.save();
+			} catch (IOException e) {
+				getLog().warn("Failed to save the inputs fingerprint: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of the generation inputs, the saved fingerprint is removed so that a failed generation is
+	 * not skipped on the next run.
+	 *
+	 * @return the inputs fingerprint or null if the fingerprint could not be computed
+	 */
+	private InputFingerprint checkInputs() {
+		long start = System.nanoTime();
+		InputFingerprint inputFingerprint = new InputFingerprint(Path.of(properties.getOutputFile()));
+		try {
+			List<Path> inputs = new ArrayList<>();
+			for (String packageToScan : properties.getPackagesToScan().split(",")) {
+				inputs.add(Path.of(properties.getClassesDir(), packageToScan.trim().replace('.', File.separatorChar)));
+			}
+			project.getRuntimeClasspathElements().forEach(element -> inputs.add(Path.of(element)));
+			inputs.add(Path.of(getClass().getProtectionDomain().getCodeSource().getLocation().toURI()));
+			pluginArtifacts.forEach(artifact -> inputs.add(artifact.getFile().toPath()));
+
+			List<Path> excludedFiles = new ArrayList<>();
+			for (Path outputFile : outputFiles()) {
+				excludedFiles.add(outputFile);
+				excludedFiles.add(OpenApiWriter.hashFile(outputFile));
+			}
+			excludedFiles.add(Path.of(properties.getOutputFile()));
+			List<String> values = List.of(String.valueOf(pluginVersion), JsonBuilder.toJson(properties));
+
+			inputFingerprint.compute(inputs, excludedFiles, values);
+			boolean upToDate = inputFingerprint.isUpToDate(outputFiles());
+			if (!upToDate) {
+				inputFingerprint.invalidate();
+			}
+			getLog().info("Checked " + inputFingerprint.getInputFiles() + " input files (" + inputFingerprint.getHashedFiles()
+					+ " hashed) in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+			return inputFingerprint;
+		} catch (Exception e) {
+			getLog().warn("Failed to check the inputs, the up to date check is skipped: " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the generated output files, the group files when groups are configured for a Spring project or the output
+	 * file otherwise, together with their variant files when variants are configured for a Spring project. The auto
+	 * projects also generate the Jakarta file when the definitions are written separately. Every generated file is also
+	 * written to the configured output targets and its content hashes file is written when configured.
+	 *
+	 * @return the output files
+	 */
+	private List<Path> outputFiles() {
+		ProjectType projectType = ProjectType.fromString(properties.getProjectType());
+		List<String> definitionFiles = new ArrayList<>();
+		if (ProjectType.JAKARTA == projectType) {
+			definitionFiles.add(properties.getOutputFile());
+		} else {
+			List<String> outputFiles = properties.isGroupsEnabled()
+					? properties.getGroups().stream().map(GeneratorProperties.Group::getOutputFile).toList()
+					: List.of(properties.getOutputFile());
+			for (String outputFile : outputFiles) {
+				definitionFiles.add(outputFile);
+				Lists.safe(properties.getVariants())
+						.forEach(variant -> definitionFiles.add(GeneratorProperties.outputFileWithName(outputFile, variant.getName())));
+			}
+			if (ProjectType.AUTO == projectType && AutoOutput.SEPARATE == OpenApiSpecAutoGenerator.autoOutput(properties)) {
+				definitionFiles.add(OpenApiSpecAutoGenerator.jakartaOutputFile(properties));
+			}
+		}
+		List<Path> files = new ArrayList<>();
+		for (String definitionFile : definitionFiles) {
+			files.add(Path.of(definitionFile));
+			Lists.safe(properties.getOutputs()).forEach(output -> files.add(Path.of(output.outputFile(definitionFile))));
+			if (ContentHashOutput.SIDECAR == OpenApiCanonicalizer.contentHashOutput(properties)) {
+				files.add(Path.of(OpenApiWriter.contentHashesFile(definitionFile)));
+			}
+		}
+		return files;
 	}
 
 	/**
@@ -170,8 +296,6 @@ public class OpenApiMojo extends AbstractMojo {
 	private List<String> getCmd(final String classpath, final Path tempPropertiesFile) {
 		List<String> cmd = new ArrayList<>();
 		cmd.add(JavaEnvironment.getJavaExecutablePath());
-		cmd.add("--add-opens=java.base/java.lang.reflect=ALL-UNNAMED");
-		cmd.add("--add-opens=java.base/sun.reflect.annotation=ALL-UNNAMED");
 		cmd.add("-cp");
 		cmd.add(classpath);
 		cmd.add("-Dproject.build.outputDirectory=" + project.getBuild().getOutputDirectory());
@@ -0,0 +1,270 @@
+package org.oogp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.apiphany.lang.Strings;
+import org.morphix.reflection.Constructors;
+import org.oogp.jakarta.OpenApiSpecJakartaGenerator;
+import org.oogp.jakarta.ResourceDiscovery;
+import org.oogp.spring.OpenApiAccumulator;
+import org.oogp.spring.OpenApiSpecSpringDocGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.SpecVersion;
+
+/**
+ * Generates the Open API definitions of projects with both Spring controllers and JAX-RS resources.
+ * <p>
+ * The class files of the scanned packages are read once as bytecode and classified: the classes annotated with the
+ * Spring controller or controller advice annotations are handed to the Spring generator and the JAX-RS resources,
+ * discovered from the {@code @ApplicationPath} applications or from the {@code @Path} classes, are handed to the
+ * Jakarta reader. Only the classified classes are loaded. The Jakarta resources are read before the Spring generation
+ * since both resolve their schemas with the {@link io.swagger.v3.core.converter.ModelConverters} singleton which the
+ * Spring generator engine changes while it holds the {@link ModelConvertersLock}. The two models are either merged in
+ * the main definition or written in separate definitions, the Jakarta one next to the main output file with the
+ * {@code -jakarta} suffix.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class OpenApiSpecAutoGenerator {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(OpenApiSpecAutoGenerator.class);
+
+	/**
+	 * The names of the annotations of the classes handed to the Spring generator.
+	 */
+	private static final Set<String> SPRING_ANNOTATIONS = Set.of(
+			RestController.class.getName(),
+			RequestMapping.class.getName(),
+			Controller.class.getName(),
+			RestControllerAdvice.class.getName(),
+			ControllerAdvice.class.getName());
+
+	/**
+	 * Hide constructor.
+	 */
+	private OpenApiSpecAutoGenerator() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * Generates the Open API definitions of the Spring controllers and the JAX-RS resources of the scanned packages.
+	 *
+	 * @param properties the generator properties
+	 * @throws IOException when an I/O error occurs
+	 */
+	public static void generate(final GeneratorProperties properties) throws IOException {
+		Set<String> packages = Arrays.stream(properties.getPackagesToScan().split(","))
+				.map(String::trim)
+				.filter(pkg -> !pkg.isEmpty())
+				.collect(Collectors.toSet());
+
+		Path projectClassesDir = JavaEnvironment.detectProjectOutputDirectory();
+		LOGGER.info("Using classes directory: {}", projectClassesDir.toAbsolutePath());
+
+		AutoOutput autoOutput = autoOutput(properties);
+		LOGGER.info("Using auto output: {}", autoOutput);
+		if (AutoOutput.MERGED == autoOutput && properties.isGroupsEnabled()) {
+			throw new IllegalArgumentException("Groups are not supported with the merged auto output, use the separate auto output");
+		}
+
+		ClassLoader projectClassLoader = Thread.currentThread().getContextClassLoader();
+		ProjectClasses classes = ProjectClasses.inspect(packages, projectClassesDir, projectClassLoader);
+		Set<Class<?>> springClasses = springClasses(classes, projectClassLoader);
+		Map<Class<?>, String> jakartaResources = new ResourceDiscovery(projectClassLoader).discover(classes);
+		LOGGER.info("Classified {} class files: {} Spring controllers and controller advices, {} Jakarta resources", classes.size(),
+				springClasses.size(), jakartaResources.size());
+
+		// the Jakarta reader resolves its schemas with the model converters singleton so the resources are read before the
+		// Spring generator engine changes the singleton, the read holds the model converters lock
+		OpenAPI jakartaOpenApi = OpenApiSpecJakartaGenerator.read(properties, jakartaResources);
+		if (AutoOutput.SEPARATE == autoOutput) {
+			OpenApiSpecJakartaGenerator.write(jakartaOpenApi, jakartaOutputFile(properties), properties);
+		}
+		UnaryOperator<OpenAPI> finisher = AutoOutput.MERGED == autoOutput
+				? springOpenApi -> merge(springOpenApi, jakartaOpenApi)
+				: UnaryOperator.identity();
+		OpenApiSpecSpringDocGenerator.generate(properties, springClasses, finisher);
+	}
+
+	/**
+	 * Returns the output file of the Jakarta definition when the definitions are written separately.
+	 *
+	 * @param properties the generator properties
+	 * @return the Jakarta output file
+	 */
+	public static String jakartaOutputFile(final GeneratorProperties properties) {
+		return GeneratorProperties.outputFileWithName(properties.getOutputFile(), ProjectType.JAKARTA.value());
+	}
+
+	/**
+	 * Returns the auto output from the given properties, the default being {@link AutoOutput#MERGED}.
+	 *
+	 * @param properties the generator properties
+	 * @return the auto output
+	 */
+	public static AutoOutput autoOutput(final GeneratorProperties properties) {
+		String autoOutput = properties.getAutoOutput();
+		return Strings.isEmpty(autoOutput) ? AutoOutput.MERGED : AutoOutput.fromString(autoOutput);
+	}
+
+	/**
+	 * Loads the classes annotated with the Spring controller or controller advice annotations.
+	 *
+	 * @param classes the inspected project classes
+	 * @param projectClassLoader the project class loader
+	 * @return the Spring classes
+	 */
+	private static Set<Class<?>> springClasses(final ProjectClasses classes, final ClassLoader projectClassLoader) {
+		Set<Class<?>> springClasses = new LinkedHashSet<>();
+		for (AnnotationMetadata metadata : classes.find(metadata -> SPRING_ANNOTATIONS.stream().anyMatch(metadata::hasAnnotation))) {
+			try {
+				springClasses.add(Class.forName(metadata.getClassName(), false, projectClassLoader));
+			} catch (ClassNotFoundException e) {
+				throw new IllegalStateException("Cannot load the class " + metadata.getClassName(), e);
+			}
+		}
+		return springClasses;
+	}
+
+	/**
+	 * Merges the Jakarta model in the Spring model, the parts which don't depend on the endpoints come from the Spring
+	 * model. The Jakarta model is read for Open API 3.0 so it is converted first when the Spring model is built for Open
+	 * API 3.1. The Jakarta operations declared with the same path and method as a Spring operation are reported and
+	 * dropped, the Spring operations are kept. The Jakarta operation ids already used by the Spring operations get the
+	 * first free {@code _<n>} suffix, the same way the readers make the ids unique.
+	 *
+	 * @param springOpenApi the Spring model
+	 * @param jakartaOpenApi the Jakarta model
+	 * @return the merged model
+	 */
+	static OpenAPI merge(final OpenAPI springOpenApi, final OpenAPI jakartaOpenApi) {
+		OpenAPI convertedOpenApi = SpecVersion.V31 == springOpenApi.getSpecVersion() ? toOpenApi31(jakartaOpenApi) : jakartaOpenApi;
+		List<String> collisions = removeCollisions(springOpenApi.getPaths(), convertedOpenApi.getPaths());
+		if (!collisions.isEmpty()) {
+			LOGGER.warn("Jakarta operations declared by Spring controllers too, keeping the Spring operations: {}", collisions);
+		}
+		int renamed = renameOperationIds(springOpenApi.getPaths(), convertedOpenApi.getPaths());
+		OpenApiAccumulator accumulator = new OpenApiAccumulator();
+		accumulator.fold(springOpenApi);
+		accumulator.fold(convertedOpenApi);
+		LOGGER.info("Merged the Spring and Jakarta models, {} colliding operations, {} renamed operation ids, {} conflicting components",
+				collisions.size(), renamed, accumulator.getConflicts());
+		return accumulator.getOpenApi();
+	}
+
+	/**
+	 * Returns the given Open API 3.0 model converted to Open API 3.1.
+	 *
+	 * @param openAPI the Open API 3.0 model
+	 * @return the Open API 3.1 model
+	 */
+	private static OpenAPI toOpenApi31(final OpenAPI openAPI) {
+		JsonNode tree = OpenApiVersions.convert(openAPI, OpenApiVersion.V30, OpenApiVersion.V31);
+		try {
+			OpenAPI converted = Json31.mapper().treeToValue(tree, OpenAPI.class);
+			converted.setSpecVersion(SpecVersion.V31);
+			return converted;
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Error converting the Jakarta model to Open API 3.1", e);
+		}
+	}
+
+	/**
+	 * Removes from the Jakarta paths the operations declared with the same path and method in the Spring paths.
+	 *
+	 * @param springPaths the Spring paths, can be null
+	 * @param jakartaPaths the Jakarta paths, can be null
+	 * @return the removed operations as {@code METHOD path}
+	 */
+	private static List<String> removeCollisions(final Paths springPaths, final Paths jakartaPaths) {
+		List<String> collisions = new ArrayList<>();
+		if (null == springPaths || null == jakartaPaths) {
+			return collisions;
+		}
+		for (Iterator<Map.Entry<String, PathItem>> iterator = jakartaPaths.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<String, PathItem> entry = iterator.next();
+			PathItem springPathItem = springPaths.get(entry.getKey());
+			if (null == springPathItem) {
+				continue;
+			}
+			PathItem jakartaPathItem = entry.getValue();
+			for (PathItem.HttpMethod method : springPathItem.readOperationsMap().keySet()) {
+				if (jakartaPathItem.readOperationsMap().containsKey(method)) {
+					jakartaPathItem.operation(method, null);
+					collisions.add(method + " " + entry.getKey());
+				}
+			}
+			if (jakartaPathItem.readOperations().isEmpty()) {
+				iterator.remove();
+			}
+		}
+		return collisions;
+	}
+
+	/**
+	 * Renames the Jakarta operation ids already used by a Spring operation or by a previous Jakarta operation.
+	 *
+	 * @param springPaths the Spring paths, can be null
+	 * @param jakartaPaths the Jakarta paths, can be null
+	 * @return the number of renamed operation ids
+	 */
+	private static int renameOperationIds(final Paths springPaths, final Paths jakartaPaths) {
+		if (null == jakartaPaths) {
+			return 0;
+		}
+		Set<String> operationIds = new HashSet<>();
+		if (null != springPaths) {
+			springPaths.values().forEach(pathItem -> pathItem.readOperations().forEach(operation -> operationIds.add(operation.getOperationId())));
+		}
+		int renamed = 0;
+		for (PathItem pathItem : jakartaPaths.values()) {
+			for (Operation operation : pathItem.readOperations()) {
+				String requested = operation.getOperationId();
+				if (null == requested) {
+					continue;
+				}
+				String id = requested;
+				for (int counter = 1; operationIds.contains(id); ++counter) {
+					id = String.format("%s_%d", requested, counter);
+				}
+				if (!id.equals(requested)) {
+					LOGGER.info("Renamed the Jakarta operation id {} to {}", requested, id);
+					operation.setOperationId(id);
+					++renamed;
+				}
+				operationIds.add(id);
+			}
+		}
+		return renamed;
+	}
+}
@@ -0,0 +1,96 @@
+package org.oogp;
+
+import java.util.Map;
+
+import org.morphix.lang.Enums;
+
+/**
+ * Represents the Open API specification version of a definition.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum OpenApiVersion {
+
+	/**
+	 * Open API 3.0.
+	 */
+	V30("3.0", "3.0.1"),
+
+	/**
+	 * Open API 3.1.
+	 */
+	V31("3.1", "3.1.0");
+
+	/**
+	 * The name map for easy from string implementation.
+	 */
+	private static final Map<String, OpenApiVersion> NAME_MAP = Enums.buildNameMap(values());
+
+	/**
+	 * The {@link String} value.
+	 */
+	private final String value;
+
+	/**
+	 * The value of the {@code openapi} field of the definitions.
+	 */
+	private final String openapi;
+
+	/**
+	 * Constructs a {@link OpenApiVersion} with the specified string value.
+	 *
+	 * @param value string value
+	 * @param openapi the value of the {@code openapi} field
+	 */
+	OpenApiVersion(final String value, final String openapi) {
+		this.value = value;
+		this.openapi = openapi;
+	}
+
+	/**
+	 * Returns the string value.
+	 *
+	 * @return the string value
+	 */
+	public String value() {
+		return value;
+	}
+
+	/**
+	 * Returns the value of the {@code openapi} field of the definitions written with this version.
+	 *
+	 * @return the {@code openapi} field value
+	 */
+	public String openapi() {
+		return openapi;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value();
+	}
+
+	/**
+	 * Returns a {@link OpenApiVersion} enum from a {@link String}.
+	 *
+	 * @param version version as string
+	 * @return a version enum
+	 */
+	public static OpenApiVersion fromString(final String version) {
+		return Enums.fromString(version, NAME_MAP, values());
+	}
+
+	/**
+	 * Returns the version of the models built for Open API 3.1 or not.
+	 *
+	 * @param isOpenapi31 true if the model is built for Open API 3.1
+	 * @return the version
+	 */
+	public static OpenApiVersion of(final boolean isOpenapi31) {
+		return isOpenapi31 ? V31 : V30;
+	}
+
+}
@@ -0,0 +1,366 @@
+package org.oogp;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.morphix.reflection.Constructors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+
+/**
+ * Converts Open API models between the 3.0 and the 3.1 versions.
+ * <p>
+ * The model is serialized once by the mapper of its own version into a JSON tree and the tree is converted, the model
+ * itself is never changed so it can be written to other targets at the same time. The conversion covers the schema
+ * keywords which changed between the versions:
+ * <ul>
+ * <li>{@code nullable: true} with a single type and the {@code "null"} type in a type array</li>
+ * <li>the boolean {@code exclusiveMinimum}/{@code exclusiveMaximum} next to {@code minimum}/{@code maximum} and the
+ * numeric {@code exclusiveMinimum}/{@code exclusiveMaximum}</li>
+ * <li>the {@code openapi} field, the 3.1 {@code jsonSchemaDialect} and {@code webhooks} fields are removed from the 3.0
+ * definitions</li>
+ * <li>a 3.1 type array with more than one type other than {@code "null"} becomes an {@code anyOf} of the single types
+ * in 3.0, the other keywords apply only to their types so they stay next to it</li>
+ * <li>a 3.1 {@code const} becomes a single value {@code enum} and the first value of the schema {@code examples} array
+ * becomes the {@code example} in 3.0</li>
+ * <li>a 3.1 {@code contentEncoding: base64} becomes {@code format: byte} and a 3.1
+ * {@code contentMediaType: application/octet-stream} becomes {@code format: binary} in 3.0</li>
+ * </ul>
+ * The 3.1 constructs which have no 3.0 equivalent ({@code $defs}, {@code if}/{@code then}/{@code else},
+ * {@code dependentSchemas}, {@code prefixItems} and the other JSON Schema keywords unknown to 3.0, the webhooks, the
+ * component path items and the examples of a schema after the first one) are removed from the 3.0 definitions and a
+ * warning lists where they were found, so the definition is valid but less strict. The literal values (examples,
+ * defaults, enums, constants and extensions) are copied as they are.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class OpenApiVersions {
+
+	/**
+	 * The logger.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(OpenApiVersions.class);
+
+	/**
+	 * The keys of the literal values which are not converted unless they are names in a map of named objects.
+	 */
+	private static final Set<String> LITERAL_KEYS = Set.of("example", "examples", "enum", "const");
+
+	/**
+	 * The keys of the maps of named objects, their keys are names and not keywords.
+	 */
+	private static final Set<String> NAME_MAP_KEYS = Set.of("properties", "patternProperties", "$defs", "schemas", "responses", "parameters",
+			"requestBodies", "headers", "securitySchemes", "links", "callbacks", "pathItems", "paths", "content", "encoding");
+
+	/**
+	 * The 3.1 schema keywords which have no 3.0 equivalent.
+	 */
+	private static final Set<String> UNSUPPORTED_30_KEYS = Set.of("$schema", "$id", "$anchor", "$dynamicAnchor", "$dynamicRef", "$defs",
+			"$comment", "if", "then", "else", "dependentSchemas", "dependentRequired", "prefixItems", "contains", "minContains", "maxContains",
+			"propertyNames", "patternProperties", "unevaluatedItems", "unevaluatedProperties", "contentSchema");
+
+	/**
+	 * The base64 content encoding.
+	 */
+	private static final String BASE64 = "base64";
+
+	/**
+	 * The binary content media type.
+	 */
+	private static final String OCTET_STREAM = "application/octet-stream";
+
+	/**
+	 * The key of the response map entry which is an object and not a literal default value.
+	 */
+	private static final String DEFAULT = "default";
+
+	/**
+	 * The {@code null} type.
+	 */
+	private static final String NULL_TYPE = "null";
+
+	/**
+	 * Hide constructor.
+	 */
+	private OpenApiVersions() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * Returns the given model, built for the given version, as a JSON tree converted to the given target version.
+	 *
+	 * @param openAPI the Open API model
+	 * @param version the version of the model
+	 * @param targetVersion the target version
+	 * @return the converted JSON tree
+	 */
+	public static JsonNode convert(final OpenAPI openAPI, final OpenApiVersion version, final OpenApiVersion targetVersion) {
+		ObjectMapper mapper = OpenApiVersion.V31 == version ? Json31.mapper() : Json.mapper();
+		ObjectNode tree;
+		try (TokenBuffer tokens = new TokenBuffer(mapper, false)) {
+			mapper.writeValue(tokens, openAPI);
+			// the big decimals are kept as they are, minimum: 100 must not become minimum: 1E+2
+			tree = mapper.reader().without(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES).readTree(tokens.asParserOnFirstToken());
+		} catch (IOException e) {
+			throw new UncheckedIOException("Error converting the Open API model to " + targetVersion, e);
+		}
+		if (version == targetVersion) {
+			return tree;
+		}
+		tree.put("openapi", targetVersion.openapi());
+		Map<String, List<String>> removed = new TreeMap<>();
+		if (OpenApiVersion.V30 == targetVersion) {
+			tree.remove("jsonSchemaDialect");
+			remove(tree, "webhooks", "", removed);
+			if (tree.get("components") instanceof ObjectNode components) {
+				remove(components, "pathItems", "/components", removed);
+			}
+		}
+		convert(tree, null, "", targetVersion, removed);
+		removed.forEach((key, pointers) -> LOGGER.warn("The Open API {} construct {} has no Open API {} equivalent and was removed from: {}",
+				version, key, targetVersion, pointers));
+		return tree;
+	}
+
+	/**
+	 * Converts the given node and all its children.
+	 *
+	 * @param node the node
+	 * @param parentKey the key of the node in its parent object, null for the array items and the root
+	 * @param pointer the JSON pointer of the node
+	 * @param targetVersion the target version
+	 * @param removed the JSON pointers of the removed constructs by their key
+	 */
+	private static void convert(final JsonNode node, final String parentKey, final String pointer, final OpenApiVersion targetVersion,
+			final Map<String, List<String>> removed) {
+		if (node instanceof ArrayNode arrayNode) {
+			for (int i = 0; i < arrayNode.size(); ++i) {
+				convert(arrayNode.get(i), null, pointer + "/" + i, targetVersion, removed);
+			}
+			return;
+		}
+		if (!(node instanceof ObjectNode objectNode)) {
+			return;
+		}
+		boolean isNameMap = null != parentKey && NAME_MAP_KEYS.contains(parentKey);
+		if (!isNameMap) {
+			if (OpenApiVersion.V31 == targetVersion) {
+				toOpenApi31(objectNode);
+			} else {
+				toOpenApi30(objectNode, pointer, removed);
+			}
+		}
+		for (Map.Entry<String, JsonNode> field : objectNode.properties()) {
+			String key = field.getKey();
+			boolean isLiteral = LITERAL_KEYS.contains(key) || key.startsWith("x-") || DEFAULT.equals(key) && !"responses".equals(parentKey);
+			if (isNameMap || !isLiteral) {
+				convert(field.getValue(), key, pointer(pointer, key), targetVersion, removed);
+			}
+		}
+	}
+
+	/**
+	 * Converts the 3.0 schema keywords of the given object to 3.1.
+	 *
+	 * @param node the object node
+	 */
+	private static void toOpenApi31(final ObjectNode node) {
+		JsonNode nullable = node.get("nullable");
+		if (null != nullable && nullable.isBoolean()) {
+			JsonNode type = node.get("type");
+			if (nullable.booleanValue() && null != type && type.isTextual()) {
+				node.putArray("type").add(type.textValue()).add(NULL_TYPE);
+			}
+			if (!nullable.booleanValue() || null != type) {
+				node.remove("nullable");
+			}
+		}
+		toExclusiveLimit(node, "exclusiveMinimum", "minimum");
+		toExclusiveLimit(node, "exclusiveMaximum", "maximum");
+	}
+
+	/**
+	 * Converts the 3.1 schema keywords of the given object to 3.0.
+	 *
+	 * @param node the object node
+	 * @param pointer the JSON pointer of the object
+	 * @param removed the JSON pointers of the removed constructs by their key
+	 */
+	private static void toOpenApi30(final ObjectNode node, final String pointer, final Map<String, List<String>> removed) {
+		toSingleType(node);
+		JsonNode constant = node.remove("const");
+		if (null != constant) {
+			node.set("enum", node.arrayNode().add(constant));
+		}
+		if (node.get("examples") instanceof ArrayNode examples) {
+			node.remove("examples");
+			if (!examples.isEmpty() && !node.has("example")) {
+				node.set("example", examples.get(0));
+			}
+			if (examples.size() > 1) {
+				removed(removed, "examples", pointer);
+			}
+		}
+		toFormat(node, pointer, removed);
+		toBooleanExclusiveLimit(node, "exclusiveMinimum", "minimum");
+		toBooleanExclusiveLimit(node, "exclusiveMaximum", "maximum");
+		for (String key : UNSUPPORTED_30_KEYS) {
+			remove(node, key, pointer, removed);
+		}
+	}
+
+	/**
+	 * Converts a 3.1 type array to a single 3.0 type with {@code nullable} or to an {@code anyOf} of the single types
+	 * when there is more than one type other than {@code "null"}.
+	 *
+	 * @param node the object node
+	 */
+	private static void toSingleType(final ObjectNode node) {
+		if (!(node.get("type") instanceof ArrayNode types)) {
+			return;
+		}
+		List<String> nonNullTypes = new ArrayList<>();
+		for (JsonNode item : types) {
+			if (!item.isTextual()) {
+				return;
+			}
+			if (!NULL_TYPE.equals(item.textValue())) {
+				nonNullTypes.add(item.textValue());
+			}
+		}
+		node.remove("type");
+		if (1 == nonNullTypes.size()) {
+			node.put("type", nonNullTypes.getFirst());
+		} else if (!nonNullTypes.isEmpty()) {
+			ArrayNode anyOf = node.arrayNode();
+			nonNullTypes.forEach(type -> anyOf.addObject().put("type", type));
+			if (!node.has("anyOf")) {
+				node.set("anyOf", anyOf);
+			} else if (node.get("allOf") instanceof ArrayNode allOf) {
+				allOf.addObject().set("anyOf", anyOf);
+			} else {
+				node.putArray("allOf").addObject().set("anyOf", anyOf);
+			}
+		}
+		if (nonNullTypes.size() < types.size()) {
+			node.put("nullable", true);
+		}
+	}
+
+	/**
+	 * Converts the 3.1 content encoding and media type of a string to the 3.0 {@code byte} and {@code binary} formats.
+	 *
+	 * @param node the object node
+	 * @param pointer the JSON pointer of the object
+	 * @param removed the JSON pointers of the removed constructs by their key
+	 */
+	private static void toFormat(final ObjectNode node, final String pointer, final Map<String, List<String>> removed) {
+		JsonNode contentEncoding = node.remove("contentEncoding");
+		JsonNode contentMediaType = node.remove("contentMediaType");
+		if (null == contentEncoding && null == contentMediaType) {
+			return;
+		}
+		String format = null;
+		if (null != contentEncoding) {
+			format = BASE64.equals(contentEncoding.asText()) ? "byte" : null;
+		} else if (OCTET_STREAM.equals(contentMediaType.asText())) {
+			format = "binary";
+		}
+		JsonNode type = node.get("type");
+		boolean isString = null != type && "string".equals(type.asText());
+		if (null != format && isString && !node.has("format")) {
+			node.put("format", format);
+			return;
+		}
+		removed(removed, null != contentEncoding ? "contentEncoding" : "contentMediaType", pointer);
+	}
+
+	/**
+	 * Removes the given key from the given object and records it as removed when it was present.
+	 *
+	 * @param node the object node
+	 * @param key the key to remove
+	 * @param pointer the JSON pointer of the object
+	 * @param removed the JSON pointers of the removed constructs by their key
+	 */
+	private static void remove(final ObjectNode node, final String key, final String pointer, final Map<String, List<String>> removed) {
+		if (null != node.remove(key)) {
+			removed(removed, key, pointer);
+		}
+	}
+
+	/**
+	 * Records the given key of the object at the given JSON pointer as removed.
+	 *
+	 * @param removed the JSON pointers of the removed constructs by their key
+	 * @param key the removed key
+	 * @param pointer the JSON pointer of the object
+	 */
+	private static void removed(final Map<String, List<String>> removed, final String key, final String pointer) {
+		removed.computeIfAbsent(key, k -> new ArrayList<>()).add(pointer(pointer, key));
+	}
+
+	/**
+	 * Returns the JSON pointer of the given key in the object at the given JSON pointer.
+	 *
+	 * @param pointer the JSON pointer of the object
+	 * @param key the key
+	 * @return the JSON pointer of the key
+	 */
+	private static String pointer(final String pointer, final String key) {
+		return pointer + "/" + key.replace("~", "~0").replace("/", "~1");
+	}
+
+	/**
+	 * Converts a 3.0 boolean exclusive limit to a 3.1 numeric exclusive limit.
+	 *
+	 * @param node the object node
+	 * @param exclusiveKey the exclusive limit key
+	 * @param limitKey the inclusive limit key
+	 */
+	private static void toExclusiveLimit(final ObjectNode node, final String exclusiveKey, final String limitKey) {
+		JsonNode exclusive = node.get(exclusiveKey);
+		if (null == exclusive || !exclusive.isBoolean()) {
+			return;
+		}
+		JsonNode limit = node.get(limitKey);
+		if (exclusive.booleanValue() && null != limit && limit.isNumber()) {
+			node.set(exclusiveKey, limit);
+			node.remove(limitKey);
+		} else {
+			node.remove(exclusiveKey);
+		}
+	}
+
+	/**
+	 * Converts a 3.1 numeric exclusive limit to a 3.0 boolean exclusive limit.
+	 *
+	 * @param node the object node
+	 * @param exclusiveKey the exclusive limit key
+	 * @param limitKey the inclusive limit key
+	 */
+	private static void toBooleanExclusiveLimit(final ObjectNode node, final String exclusiveKey, final String limitKey) {
+		JsonNode exclusive = node.get(exclusiveKey);
+		if (null == exclusive || !exclusive.isNumber()) {
+			return;
+		}
+		node.set(limitKey, exclusive);
+		node.put(exclusiveKey, true);
+	}
+}
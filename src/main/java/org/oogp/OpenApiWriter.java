@@ -0,0 +1,463 @@
+package org.oogp;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apiphany.lang.Strings;
+import org.apiphany.lang.collections.Lists;
+import org.morphix.reflection.Constructors;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.core.util.Yaml31;
+import io.swagger.v3.oas.models.OpenAPI;
+
+/**
+ * Writes Open API models to their output files.
+ * <p>
+ * The model is serialized with a Jackson streaming generator straight into a buffered file channel, the definition is
+ * never held in memory as a whole and the file is not read back after it is written. The written bytes are counted and
+ * hashed while they are written so the {@link Summary} of the written definition can be logged instead of its content.
+ * The definition is written to a temporary file in the output directory which is moved atomically in place of the
+ * output file only when its content differs from the existing output file, so an unchanged definition keeps its
+ * modification time and a failed run never leaves a partially written output file. The SHA-256 of every output file
+ * is written next to it in a {@code .sha256} file so consumers can skip their work without reading the definition. The
+ * content hashes of the parts of the definition computed by {@link OpenApiCanonicalizer} can be written next to it in
+ * a {@code .hashes.json} file.
+ * The output format is inferred from the output file extension, the YAML definitions are written by the Jackson YAML
+ * generator or by the {@link YamlEmitter}. The same model can also be written to several format and version targets at
+ * the same time, the targets of the other Open API version are written from a converted copy of the model made by
+ * {@link OpenApiVersions}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class OpenApiWriter {
+
+	/**
+	 * The size of the output buffer.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The extension of the hash files written next to the output files.
+	 */
+	private static final String HASH_FILE_EXTENSION = ".sha256";
+
+	/**
+	 * The extension of the content hashes files written next to the output files.
+	 */
+	private static final String CONTENT_HASHES_FILE_EXTENSION = ".hashes.json";
+
+	/**
+	 * Hide constructor.
+	 */
+	private OpenApiWriter() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * The summary of a written Open API definition.
+	 *
+	 * @param file the output file
+	 * @param bytes the size of the definition in bytes
+	 * @param paths the number of paths
+	 * @param sha256 the hexadecimal SHA-256 of the definition
+	 * @param changed true if the output file was replaced, false if it already had the same content and was kept
+	 * @param millis the time spent writing the definition in milliseconds
+	 * @param allocatedBytes the bytes allocated by the writing thread while writing the definition, -1 when the writing
+	 *     thread is a virtual thread or when the JVM doesn't measure the thread allocations
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public record Summary(Path file, long bytes, int paths, String sha256, boolean changed, long millis, long allocatedBytes) {
+
+		/**
+		 * @see #toString()
+		 */
+		@Override
+		public String toString() {
+			return file.toAbsolutePath() + " (" + bytes + " bytes, " + paths + " paths, sha256: " + sha256 + (changed ? "" : ", unchanged") + ") in "
+					+ millis + " ms"
+					+ (allocatedBytes < 0 ? "" : ", " + allocatedBytes / 1024 + " KB allocated");
+		}
+	}
+
+	/**
+	 * Output stream which counts the bytes written through it.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static final class CountingOutputStream extends FilterOutputStream {
+
+		/**
+		 * The number of written bytes.
+		 */
+		private long count;
+
+		/**
+		 * Constructs the counting stream.
+		 *
+		 * @param out the underlying stream
+		 */
+		CountingOutputStream(final OutputStream out) {
+			super(out);
+		}
+
+		/**
+		 * @see #write(int)
+		 */
+		@Override
+		public void write(final int b) throws IOException {
+			out.write(b);
+			++count;
+		}
+
+		/**
+		 * @see #write(byte[], int, int)
+		 */
+		@Override
+		public void write(final byte[] b, final int off, final int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+
+	/**
+	 * Writes the given Open API model to the given output file.
+	 *
+	 * @param openAPI the Open API model
+	 * @param outputFile the output file
+	 * @param isOpenapi31 true if the model is written as Open API 3.1
+	 * @param yamlWriter the writer of the YAML definitions
+	 * @return the summary of the written definition
+	 * @throws IOException when an I/O error occurs
+	 */
+	public static Summary write(final OpenAPI openAPI, final String outputFile, final boolean isOpenapi31, final YamlWriter yamlWriter)
+			throws IOException {
+		return write(openAPI, paths(openAPI), outputFile, OutputFormat.of(outputFile), OpenApiVersion.of(isOpenapi31), yamlWriter);
+	}
+
+	/**
+	 * Writes the given Open API model to the given output file and to the configured output targets. The model is put in
+	 * the canonical order first when the canonical ordering is enabled and its content hashes are added to it as
+	 * extensions or written in the content hashes file next to the output file when they are configured.
+	 *
+	 * @param openAPI the Open API model
+	 * @param outputFile the output file
+	 * @param isOpenapi31 true if the model is built for Open API 3.1
+	 * @param properties the generator properties
+	 * @return the summaries of the written files, the output file summary first, then the target summaries in the order
+	 *     of the targets and then the content hashes file summary
+	 * @throws IOException when an I/O error occurs
+	 */
+	public static List<Summary> write(final OpenAPI openAPI, final String outputFile, final boolean isOpenapi31,
+			final GeneratorProperties properties) throws IOException {
+		if (properties.isCanonicalEnabled()) {
+			OpenApiCanonicalizer.canonicalize(openAPI);
+		}
+		ContentHashOutput contentHashOutput = OpenApiCanonicalizer.contentHashOutput(properties);
+		OpenApiCanonicalizer.Hashes hashes = ContentHashOutput.OFF == contentHashOutput ? null : OpenApiCanonicalizer.hash(openAPI, isOpenapi31);
+		if (ContentHashOutput.EXTENSIONS == contentHashOutput) {
+			hashes.addExtensions(openAPI);
+		}
+		List<Summary> summaries = new ArrayList<>(write(openAPI, outputFile, isOpenapi31, properties.getOutputs(), yamlWriter(properties)));
+		if (ContentHashOutput.SIDECAR == contentHashOutput) {
+			summaries.add(write(hashes, hashes.paths().size(), contentHashesFile(outputFile), OutputFormat.JSON, OpenApiVersion.V30,
+					YamlWriter.JACKSON));
+		}
+		return summaries;
+	}
+
+	/**
+	 * Writes the given Open API model to the given output file and to the given output targets concurrently, each target
+	 * with the mapper of its format and version. The model is serialized for every target, the targets of another version
+	 * than the model share one converted copy of the model. Every file is written on its own platform thread so that the
+	 * bytes allocated while writing it can be measured.
+	 *
+	 * @param openAPI the Open API model
+	 * @param outputFile the output file
+	 * @param isOpenapi31 true if the model is built for Open API 3.1
+	 * @param outputs the output targets
+	 * @param yamlWriter the writer of the YAML definitions
+	 * @return the summaries of the written definitions, the output file summary first and then the target summaries in
+	 *     the order of the targets
+	 * @throws IOException when an I/O error occurs
+	 */
+	public static List<Summary> write(final OpenAPI openAPI, final String outputFile, final boolean isOpenapi31,
+			final List<GeneratorProperties.Output> outputs, final YamlWriter yamlWriter) throws IOException {
+		if (Lists.isEmpty(outputs)) {
+			return List.of(write(openAPI, outputFile, isOpenapi31, yamlWriter));
+		}
+		OpenApiVersion version = OpenApiVersion.of(isOpenapi31);
+		int paths = paths(openAPI);
+		Map<OpenApiVersion, Object> values = new ConcurrentHashMap<>();
+		values.put(version, openAPI);
+		List<Future<Summary>> summaries = new ArrayList<>();
+		try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofPlatform().factory())) {
+			summaries.add(executor.submit(() -> write(openAPI, outputFile, isOpenapi31, yamlWriter)));
+			for (GeneratorProperties.Output output : outputs) {
+				OpenApiVersion targetVersion = OpenApiVersion.fromString(output.getVersion());
+				summaries.add(executor.submit(() -> write(values.computeIfAbsent(targetVersion, v -> OpenApiVersions.convert(openAPI, version, v)),
+						paths, output.outputFile(outputFile), OutputFormat.fromString(output.getFormat()), targetVersion, yamlWriter)));
+			}
+		}
+		List<Summary> result = new ArrayList<>(summaries.size());
+		for (Future<Summary> summary : summaries) {
+			result.add(get(summary));
+		}
+		return result;
+	}
+
+	/**
+	 * Writes the given value to the given output file with the mapper of the given format and version.
+	 *
+	 * @param value the Open API model or its JSON tree
+	 * @param paths the number of paths of the model
+	 * @param outputFile the output file
+	 * @param format the output format
+	 * @param version the Open API version
+	 * @param yamlWriter the writer of the YAML definitions
+	 * @return the summary of the written definition
+	 * @throws IOException when an I/O error occurs
+	 */
+	private static Summary write(final Object value, final int paths, final String outputFile, final OutputFormat format,
+			final OpenApiVersion version, final YamlWriter yamlWriter) throws IOException {
+		boolean isOpenapi31 = OpenApiVersion.V31 == version;
+		ObjectMapper mapper = switch (format) {
+			case JSON -> isOpenapi31 ? Json31.mapper() : Json.mapper();
+			case YAML -> isOpenapi31 ? Yaml31.mapper() : Yaml.mapper();
+		};
+		Path out = Path.of(outputFile);
+		Path directory = out.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+
+		long start = System.nanoTime();
+		long startAllocatedBytes = allocatedBytes();
+		MessageDigest messageDigest = Digests.messageDigest();
+		Path temporary = temporaryFile(out);
+		try {
+			CountingOutputStream countingStream;
+			try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+					OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+				countingStream = new CountingOutputStream(new DigestOutputStream(outputStream, messageDigest));
+				if (OutputFormat.YAML == format && YamlWriter.DIRECT == yamlWriter) {
+					YamlEmitter.write(mapper, value, countingStream);
+				} else {
+					try (JsonGenerator generator = mapper.getFactory().createGenerator(countingStream, JsonEncoding.UTF8)) {
+						mapper.writerWithDefaultPrettyPrinter().writeValue(generator, value);
+					}
+				}
+			}
+			String sha256 = HexFormat.of().formatHex(messageDigest.digest());
+			boolean changed = !hasContent(out, countingStream.count, sha256);
+			if (changed) {
+				move(temporary, out);
+			}
+			writeHashFile(out, sha256);
+			long allocatedBytes = startAllocatedBytes < 0 ? -1 : allocatedBytes() - startAllocatedBytes;
+			return new Summary(out, countingStream.count, paths, sha256, changed, (System.nanoTime() - start) / 1_000_000, allocatedBytes);
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	/**
+	 * Returns the hash file of the given output file, the output file name with the {@code .sha256} extension added.
+	 *
+	 * @param outputFile the output file
+	 * @return the hash file
+	 */
+	public static Path hashFile(final Path outputFile) {
+		return outputFile.resolveSibling(outputFile.getFileName() + HASH_FILE_EXTENSION);
+	}
+
+	/**
+	 * Returns the content hashes file of the given output file, the output file name with the {@code .hashes.json}
+	 * extension added.
+	 *
+	 * @param outputFile the output file
+	 * @return the content hashes file
+	 */
+	public static String contentHashesFile(final String outputFile) {
+		return outputFile + CONTENT_HASHES_FILE_EXTENSION;
+	}
+
+	/**
+	 * Returns the YAML writer from the given properties, the default being {@link YamlWriter#JACKSON}.
+	 *
+	 * @param properties the generator properties
+	 * @return the YAML writer
+	 */
+	public static YamlWriter yamlWriter(final GeneratorProperties properties) {
+		String yamlWriter = properties.getYamlWriter();
+		return Strings.isEmpty(yamlWriter) ? YamlWriter.JACKSON : YamlWriter.fromString(yamlWriter);
+	}
+
+	/**
+	 * Returns the bytes allocated so far by the current thread, or -1 when the current thread is a virtual thread (the JVM
+	 * doesn't measure the allocations of a virtual thread on its own) or when the JVM doesn't measure the thread
+	 * allocations.
+	 *
+	 * @return the allocated bytes
+	 */
+	private static long allocatedBytes() {
+		if (!Thread.currentThread().isVirtual()
+				&& ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+				&& threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+			return threadMXBean.getCurrentThreadAllocatedBytes();
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the number of paths of the given model.
+	 *
+	 * @param openAPI the Open API model
+	 * @return the number of paths
+	 */
+	private static int paths(final OpenAPI openAPI) {
+		return null == openAPI.getPaths() ? 0 : openAPI.getPaths().size();
+	}
+
+	/**
+	 * Waits for the summary of a written definition.
+	 *
+	 * @param summary the summary future
+	 * @return the summary
+	 * @throws IOException when the definition could not be written
+	 */
+	private static Summary get(final Future<Summary> summary) throws IOException {
+		try {
+			return summary.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while writing the Open API definitions", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Error writing the Open API definitions", e.getCause());
+		}
+	}
+
+	/**
+	 * Returns true if the given file exists and has the given size and SHA-256, the file is only hashed when it has the
+	 * given size.
+	 *
+	 * @param file the file
+	 * @param bytes the expected size in bytes
+	 * @param sha256 the expected hexadecimal SHA-256
+	 * @return true if the file has the given content
+	 * @throws IOException when an I/O error occurs
+	 */
+	private static boolean hasContent(final Path file, final long bytes, final String sha256) throws IOException {
+		if (!Files.isRegularFile(file) || Files.size(file) != bytes) {
+			return false;
+		}
+		MessageDigest messageDigest = Digests.messageDigest();
+		try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), messageDigest)) {
+			inputStream.transferTo(OutputStream.nullOutputStream());
+		}
+		return sha256.equals(HexFormat.of().formatHex(messageDigest.digest()));
+	}
+
+	/**
+	 * Writes the hash file of the given output file in the {@code sha256sum} format when its content changed.
+	 *
+	 * @param outputFile the output file
+	 * @param sha256 the hexadecimal SHA-256 of the output file
+	 * @throws IOException when an I/O error occurs
+	 */
+	private static void writeHashFile(final Path outputFile, final String sha256) throws IOException {
+		Path hashFile = hashFile(outputFile);
+		String content = sha256 + "  " + outputFile.getFileName() + "\n";
+		if (Files.isRegularFile(hashFile) && content.equals(Files.readString(hashFile, StandardCharsets.UTF_8))) {
+			return;
+		}
+		Path temporary = temporaryFile(hashFile);
+		try {
+			Files.writeString(temporary, content, StandardCharsets.UTF_8);
+			move(temporary, hashFile);
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	/**
+	 * Creates an empty temporary file next to the given file. Unlike {@link Files#createTempFile} the temporary file is
+	 * created with the default permissions of the file system (the ones of any other new file), so the file moved in place
+	 * of the output file is not readable only by its owner.
+	 *
+	 * @param file the file to be replaced by the temporary file
+	 * @return the temporary file
+	 * @throws IOException when an I/O error occurs
+	 */
+	private static Path temporaryFile(final Path file) throws IOException {
+		Path directory = file.toAbsolutePath().getParent();
+		while (true) {
+			Path temporary = directory.resolve(file.getFileName() + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+			try {
+				return Files.createFile(temporary);
+			} catch (FileAlreadyExistsException e) {
+				// another temporary file has the same name, try again with another name
+			}
+		}
+	}
+
+	/**
+	 * Moves the given temporary file in place of the given file atomically when the file system supports it. When the file
+	 * already exists its POSIX permissions are kept.
+	 *
+	 * @param temporary the temporary file
+	 * @param file the file to replace
+	 * @throws IOException when an I/O error occurs
+	 */
+	private static void move(final Path temporary, final Path file) throws IOException {
+		if (Files.isRegularFile(file) && Files.getFileStore(temporary).supportsFileAttributeView(PosixFileAttributeView.class)) {
+			Files.setPosixFilePermissions(temporary, Files.getPosixFilePermissions(file));
+		}
+		try {
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package org.oogp;
+
+import java.util.Map;
+
+import org.morphix.lang.Enums;
+
+/**
+ * Represents the format of an Open API definition, the value is also the output file extension.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum OutputFormat {
+
+	/**
+	 * JSON definition.
+	 */
+	JSON("json"),
+
+	/**
+	 * YAML definition.
+	 */
+	YAML("yaml");
+
+	/**
+	 * The name map for easy from string implementation.
+	 */
+	private static final Map<String, OutputFormat> NAME_MAP = Enums.buildNameMap(values());
+
+	/**
+	 * The {@link String} value.
+	 */
+	private final String value;
+
+	/**
+	 * Constructs a {@link OutputFormat} with the specified string value.
+	 *
+	 * @param value string value
+	 */
+	OutputFormat(final String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the string value.
+	 *
+	 * @return the string value
+	 */
+	public String value() {
+		return value;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value();
+	}
+
+	/**
+	 * Returns a {@link OutputFormat} enum from a {@link String}.
+	 *
+	 * @param format format as string
+	 * @return a format enum
+	 */
+	public static OutputFormat fromString(final String format) {
+		return Enums.fromString(format, NAME_MAP, values());
+	}
+
+	/**
+	 * Returns the format of the given output file inferred from its extension.
+	 *
+	 * @param outputFile the output file
+	 * @return the output format
+	 * @throws UnsupportedOperationException when the extension is not a supported one
+	 */
+	public static OutputFormat of(final String outputFile) {
+		return switch (outputFile) {
+			case String s when s.endsWith(".json") -> JSON;
+			case String s when (s.endsWith(".yaml") || s.endsWith(".yml")) -> YAML;
+			default -> throw new UnsupportedOperationException("Unsupported output type: " + outputFile);
+		};
+	}
+
+}
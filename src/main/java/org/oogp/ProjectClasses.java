@@ -0,0 +1,126 @@
+package org.oogp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+
+/**
+ * The annotation metadata of the classes of the scanned project packages, read from the class files as bytecode
+ * without loading the classes.
+ * <p>
+ * The class files are read once and the metadata can then be queried by any number of discoveries, the classes are
+ * only loaded by the discoveries that need them.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class ProjectClasses {
+
+	/**
+	 * The class file extension.
+	 */
+	private static final String CLASS_FILE_EXTENSION = ".class";
+
+	/**
+	 * The class files which don't hold classes.
+	 */
+	private static final Set<String> SKIPPED_CLASS_FILES = Set.of("module-info.class", "package-info.class");
+
+	/**
+	 * The annotation metadata by class name, in class name order.
+	 */
+	private final Map<String, AnnotationMetadata> classes;
+
+	/**
+	 * Constructs the project classes.
+	 *
+	 * @param classes the annotation metadata by class name
+	 */
+	private ProjectClasses(final Map<String, AnnotationMetadata> classes) {
+		this.classes = Collections.unmodifiableMap(classes);
+	}
+
+	/**
+	 * Reads the annotation metadata of all the class files of the given packages.
+	 *
+	 * @param packages the packages to scan
+	 * @param classesDir the project classes directory
+	 * @param classLoader the project class loader used to resolve the meta-annotations
+	 * @return the project classes
+	 * @throws IOException when a class file cannot be read
+	 */
+	public static ProjectClasses inspect(final Collection<String> packages, final Path classesDir, final ClassLoader classLoader)
+			throws IOException {
+		MetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory(classLoader);
+		Map<String, AnnotationMetadata> classes = new TreeMap<>();
+		for (String pkg : packages) {
+			Path packageDir = classesDir.resolve(pkg.replace('.', '/'));
+			if (!Files.isDirectory(packageDir)) {
+				continue;
+			}
+			List<Path> classFiles;
+			try (Stream<Path> files = Files.walk(packageDir)) {
+				classFiles = files.filter(ProjectClasses::isClassFile).toList();
+			}
+			for (Path classFile : classFiles) {
+				AnnotationMetadata metadata = metadataReaderFactory.getMetadataReader(new FileSystemResource(classFile)).getAnnotationMetadata();
+				classes.put(metadata.getClassName(), metadata);
+			}
+		}
+		return new ProjectClasses(classes);
+	}
+
+	/**
+	 * Returns the annotation metadata of the classes matching the given filter in class name order.
+	 *
+	 * @param filter the class filter
+	 * @return the matching class metadata
+	 */
+	public List<AnnotationMetadata> find(final Predicate<AnnotationMetadata> filter) {
+		return classes.values().stream()
+				.filter(filter)
+				.toList();
+	}
+
+	/**
+	 * Returns the annotation metadata of the given class or null when the class is not in the scanned packages.
+	 *
+	 * @param className the class name
+	 * @return the class metadata, can be null
+	 */
+	public AnnotationMetadata get(final String className) {
+		return classes.get(className);
+	}
+
+	/**
+	 * Returns the number of inspected class files.
+	 *
+	 * @return the number of inspected class files
+	 */
+	public int size() {
+		return classes.size();
+	}
+
+	/**
+	 * Returns true if the given file is a class file holding a class.
+	 *
+	 * @param file the file
+	 * @return true if the file is a class file
+	 */
+	private static boolean isClassFile(final Path file) {
+		String fileName = file.getFileName().toString();
+		return fileName.endsWith(CLASS_FILE_EXTENSION) && !SKIPPED_CLASS_FILES.contains(fileName);
+	}
+}
@@ -19,7 +19,13 @@ public enum ProjectType {
 	/**
 	 * The Jakarta project type.
 	 */
-	JAKARTA("jakarta");
+	JAKARTA("jakarta"),
+
+	/**
+	 * The project type detected from the scanned classes, the Spring controllers and the JAX-RS resources of the same
+	 * project are both generated.
+	 */
+	AUTO("auto");
 
 	/**
 	 * The name map for easy from string implementation.
@@ -0,0 +1,70 @@
+package org.oogp;
+
+import java.util.Map;
+
+import org.morphix.lang.Enums;
+
+/**
+ * Represents the engine used to discover the endpoints of a Spring project.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum SpringEngine {
+
+	/**
+	 * Endpoints are discovered by Spring MVC request mapping handler mappings.
+	 */
+	MVC("mvc"),
+
+	/**
+	 * Endpoints are extracted directly from the controller annotations without any Spring MVC infrastructure.
+	 */
+	DIRECT("direct");
+
+	/**
+	 * The name map for easy from string implementation.
+	 */
+	private static final Map<String, SpringEngine> NAME_MAP = Enums.buildNameMap(values());
+
+	/**
+	 * The {@link String} value.
+	 */
+	private final String value;
+
+	/**
+	 * Constructs an {@link SpringEngine} with the specified string value.
+	 *
+	 * @param value string value
+	 */
+	SpringEngine(final String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the string value.
+	 *
+	 * @return the string value
+	 */
+	public String value() {
+		return value;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value();
+	}
+
+	/**
+	 * Returns a {@link SpringEngine} enum from a {@link String}.
+	 *
+	 * @param engine engine as string
+	 * @return an engine enum
+	 */
+	public static SpringEngine fromString(final String engine) {
+		return Enums.fromString(engine, NAME_MAP, values());
+	}
+
+}
@@ -0,0 +1,699 @@
+package org.oogp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.base.GeneratorBase;
+import com.fasterxml.jackson.core.json.JsonWriteContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson generator which writes block style YAML directly to bytes.
+ * <p>
+ * The value is serialized by the given mapper straight into this generator, so all the Open API serializers, mix-ins
+ * and inclusion rules of the mapper are applied, the keys are in the order the mapper writes them and the model is
+ * never buffered: every token is written as YAML when the serializers generate it into an internal byte buffer flushed
+ * in large chunks to the output stream, without the generic event and emitter layers of SnakeYAML. The only look ahead
+ * is the token after the start of a collection, which decides if the collection is written empty. The layout is the one
+ * of the Jackson YAML generator: mappings indented by two spaces, sequences at the indentation of their key with the
+ * first entry of a mapping item on the dash line, empty collections as {@code {}} and {@code []}.
+ * <p>
+ * The scalars are written plain when they are read back as the same string and in double quotes otherwise: the empty
+ * strings, the strings starting with a YAML indicator, a digit, a sign or a dot (which covers the numbers written as
+ * strings), the YAML 1.1 boolean and null words, the strings with leading or trailing spaces, {@code ": "},
+ * {@code " #"} or non printable characters. The double quoted strings escape the backslash, the double quote and the
+ * non printable characters. Long strings are not split on multiple lines.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class YamlEmitter extends GeneratorBase {
+
+	/**
+	 * The size of the byte buffer.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The number of spaces of an indentation level.
+	 */
+	private static final int INDENT = 2;
+
+	/**
+	 * The characters which can't start a plain scalar.
+	 */
+	private static final String INDICATORS = "-?:,[]{}#&*!|>'\"%@`+.0123456789 ";
+
+	/**
+	 * The words read as booleans, nulls or merge keys when they are plain, compared in lower case.
+	 */
+	private static final Set<String> RESERVED_WORDS = Set.of("true", "false", "yes", "no", "on", "off", "y", "n", "null", "~", "<<", "=");
+
+	/**
+	 * The hexadecimal digits.
+	 */
+	private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes();
+
+	/**
+	 * A mapping or a sequence being written.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static final class Collection {
+
+		/**
+		 * True for a mapping, false for a sequence.
+		 */
+		private final boolean mapping;
+
+		/**
+		 * The indentation of the keys of a mapping or of the dashes of a sequence.
+		 */
+		private final int indent;
+
+		/**
+		 * True if the next key or dash is written on the current line.
+		 */
+		private boolean inline;
+
+		/**
+		 * Constructs the collection.
+		 *
+		 * @param mapping true for a mapping, false for a sequence
+		 * @param indent the indentation of the keys or of the dashes
+		 * @param inline true if the first key or dash is written on the current line
+		 */
+		private Collection(final boolean mapping, final int indent, final boolean inline) {
+			this.mapping = mapping;
+			this.indent = indent;
+			this.inline = inline;
+		}
+	}
+
+	/**
+	 * The output stream.
+	 */
+	private final OutputStream out;
+
+	/**
+	 * The byte buffer.
+	 */
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+
+	/**
+	 * The number of bytes in the buffer.
+	 */
+	private int position;
+
+	/**
+	 * The non empty collections being written, the innermost first.
+	 */
+	private final Deque<Collection> collections = new ArrayDeque<>();
+
+	/**
+	 * True if a collection was started and it is not yet known if it is empty.
+	 */
+	private boolean started;
+
+	/**
+	 * True if the started collection is a mapping.
+	 */
+	private boolean startedMapping;
+
+	/**
+	 * Constructs the emitter.
+	 *
+	 * @param mapper the mapper used to serialize the values
+	 * @param out the output stream, it is not closed by the emitter
+	 */
+	private YamlEmitter(final ObjectMapper mapper, final OutputStream out) {
+		super(mapper.getFactory().getGeneratorFeatures(), mapper);
+		this.out = out;
+	}
+
+	/**
+	 * Serializes the given value with the given mapper and writes it as YAML to the given output stream, the stream is
+	 * flushed but not closed.
+	 *
+	 * @param mapper the mapper used to serialize the value
+	 * @param value the value to write
+	 * @param out the output stream
+	 * @throws IOException when an I/O error occurs
+	 */
+	public static void write(final ObjectMapper mapper, final Object value, final OutputStream out) throws IOException {
+		try (YamlEmitter emitter = new YamlEmitter(mapper, out)) {
+			mapper.writeValue(emitter, value);
+		}
+	}
+
+	/**
+	 * @see #writeStartObject()
+	 */
+	@Override
+	public void writeStartObject() throws IOException {
+		_verifyValueWrite("start an object");
+		_writeContext = _writeContext.createChildObjectContext();
+		start(true);
+	}
+
+	/**
+	 * @see #writeEndObject()
+	 */
+	@Override
+	public void writeEndObject() throws IOException {
+		if (!_writeContext.inObject()) {
+			_reportError("Current context not Object but " + _writeContext.typeDesc());
+		}
+		_writeContext = _writeContext.clearAndGetParent();
+		end(true);
+	}
+
+	/**
+	 * @see #writeStartArray()
+	 */
+	@Override
+	public void writeStartArray() throws IOException {
+		_verifyValueWrite("start an array");
+		_writeContext = _writeContext.createChildArrayContext();
+		start(false);
+	}
+
+	/**
+	 * @see #writeEndArray()
+	 */
+	@Override
+	public void writeEndArray() throws IOException {
+		if (!_writeContext.inArray()) {
+			_reportError("Current context not Array but " + _writeContext.typeDesc());
+		}
+		_writeContext = _writeContext.clearAndGetParent();
+		end(false);
+	}
+
+	/**
+	 * @see #writeFieldName(String)
+	 */
+	@Override
+	public void writeFieldName(final String name) throws IOException {
+		if (JsonWriteContext.STATUS_EXPECT_VALUE == _writeContext.writeFieldName(name)) {
+			_reportError("Can not write a field name, expecting a value");
+		}
+		open();
+		Collection mapping = collections.peek();
+		if (!mapping.inline) {
+			indent(mapping.indent);
+		}
+		mapping.inline = false;
+		string(name);
+		write(':');
+	}
+
+	/**
+	 * @see #writeString(String)
+	 */
+	@Override
+	public void writeString(final String text) throws IOException {
+		if (null == text) {
+			writeNull();
+			return;
+		}
+		scalarStart();
+		string(text);
+		write('\n');
+	}
+
+	/**
+	 * @see #writeString(char[], int, int)
+	 */
+	@Override
+	public void writeString(final char[] text, final int offset, final int len) throws IOException {
+		writeString(new String(text, offset, len));
+	}
+
+	/**
+	 * @see #writeRawUTF8String(byte[], int, int)
+	 */
+	@Override
+	public void writeRawUTF8String(final byte[] text, final int offset, final int length) throws IOException {
+		writeString(new String(text, offset, length, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @see #writeUTF8String(byte[], int, int)
+	 */
+	@Override
+	public void writeUTF8String(final byte[] text, final int offset, final int length) throws IOException {
+		writeString(new String(text, offset, length, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @see #writeRaw(String)
+	 */
+	@Override
+	public void writeRaw(final String text) throws IOException {
+		writeUtf8(text);
+	}
+
+	/**
+	 * @see #writeRaw(String, int, int)
+	 */
+	@Override
+	public void writeRaw(final String text, final int offset, final int len) throws IOException {
+		writeUtf8(text.substring(offset, offset + len));
+	}
+
+	/**
+	 * @see #writeRaw(char[], int, int)
+	 */
+	@Override
+	public void writeRaw(final char[] text, final int offset, final int len) throws IOException {
+		writeUtf8(new String(text, offset, len));
+	}
+
+	/**
+	 * @see #writeRaw(char)
+	 */
+	@Override
+	public void writeRaw(final char c) throws IOException {
+		writeUtf8(String.valueOf(c));
+	}
+
+	/**
+	 * @see #writeRawValue(String)
+	 */
+	@Override
+	public void writeRawValue(final String text) throws IOException {
+		scalarStart();
+		writeUtf8(text);
+		write('\n');
+	}
+
+	/**
+	 * @see #writeRawValue(String, int, int)
+	 */
+	@Override
+	public void writeRawValue(final String text, final int offset, final int len) throws IOException {
+		writeRawValue(text.substring(offset, offset + len));
+	}
+
+	/**
+	 * @see #writeRawValue(char[], int, int)
+	 */
+	@Override
+	public void writeRawValue(final char[] text, final int offset, final int len) throws IOException {
+		writeRawValue(new String(text, offset, len));
+	}
+
+	/**
+	 * @see #writeRawValue(SerializableString)
+	 */
+	@Override
+	public void writeRawValue(final SerializableString text) throws IOException {
+		writeRawValue(text.getValue());
+	}
+
+	/**
+	 * @see #writeBinary(Base64Variant, byte[], int, int)
+	 */
+	@Override
+	public void writeBinary(final Base64Variant variant, final byte[] data, final int offset, final int len) throws IOException {
+		writeString(variant.encode(Arrays.copyOfRange(data, offset, offset + len)));
+	}
+
+	/**
+	 * @see #writeNumber(int)
+	 */
+	@Override
+	public void writeNumber(final int value) throws IOException {
+		writeRawValue(String.valueOf(value));
+	}
+
+	/**
+	 * @see #writeNumber(long)
+	 */
+	@Override
+	public void writeNumber(final long value) throws IOException {
+		writeRawValue(String.valueOf(value));
+	}
+
+	/**
+	 * @see #writeNumber(BigInteger)
+	 */
+	@Override
+	public void writeNumber(final BigInteger value) throws IOException {
+		if (null == value) {
+			writeNull();
+			return;
+		}
+		writeRawValue(value.toString());
+	}
+
+	/**
+	 * @see #writeNumber(double)
+	 */
+	@Override
+	public void writeNumber(final double value) throws IOException {
+		writeRawValue(String.valueOf(value));
+	}
+
+	/**
+	 * @see #writeNumber(float)
+	 */
+	@Override
+	public void writeNumber(final float value) throws IOException {
+		writeRawValue(String.valueOf(value));
+	}
+
+	/**
+	 * @see #writeNumber(BigDecimal)
+	 */
+	@Override
+	public void writeNumber(final BigDecimal value) throws IOException {
+		if (null == value) {
+			writeNull();
+			return;
+		}
+		writeRawValue(_asString(value));
+	}
+
+	/**
+	 * @see #writeNumber(String)
+	 */
+	@Override
+	public void writeNumber(final String encodedValue) throws IOException {
+		if (null == encodedValue) {
+			writeNull();
+			return;
+		}
+		writeRawValue(encodedValue);
+	}
+
+	/**
+	 * @see #writeBoolean(boolean)
+	 */
+	@Override
+	public void writeBoolean(final boolean state) throws IOException {
+		writeRawValue(state ? "true" : "false");
+	}
+
+	/**
+	 * @see #writeNull()
+	 */
+	@Override
+	public void writeNull() throws IOException {
+		writeRawValue("null");
+	}
+
+	/**
+	 * Writes the buffered bytes and flushes the output stream.
+	 *
+	 * @see #flush()
+	 */
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+		out.flush();
+	}
+
+	/**
+	 * Writes the buffered bytes and flushes the output stream, the output stream is not closed.
+	 *
+	 * @see #close()
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!isClosed()) {
+			flush();
+		}
+		super.close();
+	}
+
+	/**
+	 * @see #_releaseBuffers()
+	 */
+	@Override
+	protected void _releaseBuffers() {
+		// empty
+	}
+
+	/**
+	 * Checks that a value can be written in the current context and writes the dash when the value is a sequence item.
+	 *
+	 * @see #_verifyValueWrite(String)
+	 */
+	@Override
+	protected void _verifyValueWrite(final String typeMsg) throws IOException {
+		if (JsonWriteContext.STATUS_EXPECT_NAME == _writeContext.writeValue()) {
+			_reportError("Can not " + typeMsg + ", expecting field name");
+		}
+		open();
+		Collection sequence = collections.peek();
+		if (null != sequence && !sequence.mapping) {
+			if (!sequence.inline) {
+				indent(sequence.indent);
+			}
+			sequence.inline = false;
+			writeAscii("- ");
+		}
+	}
+
+	/**
+	 * Starts writing a scalar, the scalar of a mapping entry is separated from the key by a space.
+	 *
+	 * @throws IOException when an I/O error occurs
+	 */
+	private void scalarStart() throws IOException {
+		_verifyValueWrite("write a value");
+		Collection collection = collections.peek();
+		if (null != collection && collection.mapping) {
+			write(' ');
+		}
+	}
+
+	/**
+	 * Starts a collection, the collection is opened by the next key or item and it is written empty when it ends first.
+	 *
+	 * @param mapping true for a mapping, false for a sequence
+	 */
+	private void start(final boolean mapping) {
+		started = true;
+		startedMapping = mapping;
+	}
+
+	/**
+	 * Opens the started collection, if any, because it has a key or an item: the mappings are indented one level deeper
+	 * than their parent, the sequences of a mapping are at the indentation of their key and the collections in a sequence
+	 * start on the dash line.
+	 *
+	 * @throws IOException when an I/O error occurs
+	 */
+	private void open() throws IOException {
+		if (!started) {
+			return;
+		}
+		started = false;
+		Collection parent = collections.peek();
+		if (null == parent) {
+			collections.push(new Collection(startedMapping, 0, false));
+		} else if (parent.mapping) {
+			write('\n');
+			collections.push(new Collection(startedMapping, startedMapping ? parent.indent + INDENT : parent.indent, false));
+		} else {
+			collections.push(new Collection(startedMapping, parent.indent + INDENT, true));
+		}
+	}
+
+	/**
+	 * Ends a collection, a collection which was started but not opened is written empty.
+	 *
+	 * @param mapping true for a mapping, false for a sequence
+	 * @throws IOException when an I/O error occurs
+	 */
+	private void end(final boolean mapping) throws IOException {
+		if (!started) {
+			collections.pop();
+			return;
+		}
+		started = false;
+		Collection parent = collections.peek();
+		if (null != parent && parent.mapping) {
+			write(' ');
+		}
+		writeAscii(mapping ? "{}\n" : "[]\n");
+	}
+
+	/**
+	 * Writes a string plain when it is read back as the same string and in double quotes otherwise.
+	 *
+	 * @param value the string
+	 * @throws IOException when an I/O error occurs
+	 */
+	private void string(final String value) throws IOException {
+		if (isPlain(value)) {
+			writeUtf8(value);
+			return;
+		}
+		write('"');
+		int length = value.length();
+		for (int i = 0; i < length; ++i) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> writeAscii("\\\"");
+				case '\\' -> writeAscii("\\\\");
+				case '\n' -> writeAscii("\\n");
+				case '\r' -> writeAscii("\\r");
+				case '\t' -> writeAscii("\\t");
+				default -> {
+					if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+						writeChar(value, i++);
+					} else if (isPrintable(c)) {
+						writeChar(value, i);
+					} else {
+						writeAscii("\\u");
+						write(HEX_DIGITS[(c >> 12) & 0xF]);
+						write(HEX_DIGITS[(c >> 8) & 0xF]);
+						write(HEX_DIGITS[(c >> 4) & 0xF]);
+						write(HEX_DIGITS[c & 0xF]);
+					}
+				}
+			}
+		}
+		write('"');
+	}
+
+	/**
+	 * Returns true if the given string can be written as a plain scalar and is read back as the same string.
+	 *
+	 * @param value the string
+	 * @return true if the string can be written plain
+	 */
+	private static boolean isPlain(final String value) {
+		int length = value.length();
+		if (0 == length || INDICATORS.indexOf(value.charAt(0)) >= 0) {
+			return false;
+		}
+		char last = value.charAt(length - 1);
+		if (' ' == last || ':' == last) {
+			return false;
+		}
+		for (int i = 0; i < length; ++i) {
+			char c = value.charAt(i);
+			if (!isPrintable(c)
+					|| ':' == c && ' ' == value.charAt(i + 1)
+					|| '#' == c && ' ' == value.charAt(i - 1)) {
+				return false;
+			}
+		}
+		return length > 5 || !RESERVED_WORDS.contains(value.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * Returns true if the given character can be written as it is in a YAML scalar, the surrogates are not printable on
+	 * their own.
+	 *
+	 * @param c the character
+	 * @return true if the character is printable
+	 */
+	private static boolean isPrintable(final char c) {
+		return c >= 0x20 && c < 0x7F
+				|| c >= 0xA0 && c != 0x2028 && c != 0x2029 && c != 0xFEFF && c < 0xFFFE && !Character.isSurrogate(c);
+	}
+
+	/**
+	 * Writes a new line indentation.
+	 *
+	 * @param indent the number of spaces
+	 * @throws IOException when an I/O error occurs
+	 */
+	private void indent(final int indent) throws IOException {
+		for (int i = 0; i < indent; ++i) {
+			write(' ');
+		}
+	}
+
+	/**
+	 * Writes the given string without surrogates in UTF-8.
+	 *
+	 * @param value the string
+	 * @throws IOException when an I/O error occurs
+	 */
+	private void writeUtf8(final String value) throws IOException {
+		int length = value.length();
+		for (int i = 0; i < length; ++i) {
+			writeChar(value, i);
+		}
+	}
+
+	/**
+	 * Writes the character at the given index in UTF-8, a high surrogate is written together with the low surrogate
+	 * which must follow it.
+	 *
+	 * @param value the string
+	 * @param index the character index
+	 * @throws IOException when an I/O error occurs
+	 */
+	private void writeChar(final String value, final int index) throws IOException {
+		char c = value.charAt(index);
+		if (c < 0x80) {
+			write(c);
+		} else if (c < 0x800) {
+			write(0xC0 | (c >> 6));
+			write(0x80 | (c & 0x3F));
+		} else if (Character.isHighSurrogate(c)) {
+			int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+			write(0xF0 | (codePoint >> 18));
+			write(0x80 | ((codePoint >> 12) & 0x3F));
+			write(0x80 | ((codePoint >> 6) & 0x3F));
+			write(0x80 | (codePoint & 0x3F));
+		} else {
+			write(0xE0 | (c >> 12));
+			write(0x80 | ((c >> 6) & 0x3F));
+			write(0x80 | (c & 0x3F));
+		}
+	}
+
+	/**
+	 * Writes the given ASCII string.
+	 *
+	 * @param value the ASCII string
+	 * @throws IOException when an I/O error occurs
+	 */
+	private void writeAscii(final String value) throws IOException {
+		int length = value.length();
+		for (int i = 0; i < length; ++i) {
+			write(value.charAt(i));
+		}
+	}
+
+	/**
+	 * Writes a byte.
+	 *
+	 * @param b the byte
+	 * @throws IOException when an I/O error occurs
+	 */
+	private void write(final int b) throws IOException {
+		if (position == buffer.length) {
+			flushBuffer();
+		}
+		buffer[position++] = (byte) b;
+	}
+
+	/**
+	 * Writes the buffered bytes to the output stream.
+	 *
+	 * @throws IOException when an I/O error occurs
+	 */
+	private void flushBuffer() throws IOException {
+		out.write(buffer, 0, position);
+		position = 0;
+	}
+}
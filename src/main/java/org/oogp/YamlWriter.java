@@ -0,0 +1,70 @@
+package org.oogp;
+
+import java.util.Map;
+
+import org.morphix.lang.Enums;
+
+/**
+ * Represents the writer of the YAML Open API definitions.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum YamlWriter {
+
+	/**
+	 * The definitions are written by the Jackson YAML generator.
+	 */
+	JACKSON("jackson"),
+
+	/**
+	 * The definitions are written by the {@link YamlEmitter} which writes block style YAML directly to bytes.
+	 */
+	DIRECT("direct");
+
+	/**
+	 * The name map for easy from string implementation.
+	 */
+	private static final Map<String, YamlWriter> NAME_MAP = Enums.buildNameMap(values());
+
+	/**
+	 * The {@link String} value.
+	 */
+	private final String value;
+
+	/**
+	 * Constructs a {@link YamlWriter} with the specified string value.
+	 *
+	 * @param value string value
+	 */
+	YamlWriter(final String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the string value.
+	 *
+	 * @return the string value
+	 */
+	public String value() {
+		return value;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value();
+	}
+
+	/**
+	 * Returns a {@link YamlWriter} enum from a {@link String}.
+	 *
+	 * @param writer writer as string
+	 * @return a writer enum
+	 */
+	public static YamlWriter fromString(final String writer) {
+		return Enums.fromString(writer, NAME_MAP, values());
+	}
+
+}
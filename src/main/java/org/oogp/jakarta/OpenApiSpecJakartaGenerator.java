@@ -1,29 +1,26 @@
 package org.oogp.jakarta;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apiphany.lang.Strings;
 import org.morphix.reflection.Classes;
 import org.oogp.Conversions;
 import org.oogp.GeneratorProperties;
+import org.oogp.JakartaDiscovery;
 import org.oogp.JavaEnvironment;
+import org.oogp.ModelConvertersLock;
+import org.oogp.OpenApiWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import io.swagger.v3.core.util.Json;
-import io.swagger.v3.core.util.Yaml;
-import io.swagger.v3.jaxrs2.Reader;
 import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -117,35 +114,78 @@ public class OpenApiSpecJakartaGenerator {
 		Path projectClassesDir = JavaEnvironment.detectProjectOutputDirectory();
 		LOGGER.info("Using classes directory: {}", projectClassesDir.toAbsolutePath());
 
-		Set<Class<?>> controllers = new HashSet<>();
+		JakartaDiscovery discovery = jakartaDiscovery(properties);
+		LOGGER.info("Using Jakarta discovery: {}", discovery);
+		Map<Class<?>, String> resources = switch (discovery) {
+			case SCAN -> scan(packages, projectClassesDir);
+			case APPLICATION -> new ResourceDiscovery(Thread.currentThread().getContextClassLoader()).discover(packages, projectClassesDir);
+		};
+
+		write(read(properties, resources), properties.getOutputFile(), properties);
+	}
+
+	/**
+	 * Reads the Open API model of the given resources. The reader resolves the schemas with the model converters singleton
+	 * so the {@link ModelConvertersLock} is held while reading, the current thread must not hold it already (for example
+	 * through an open Spring generator engine).
+	 *
+	 * @param properties the generator properties
+	 * @param resources the resource classes with the path of their application
+	 * @return the Open API model
+	 */
+	public static OpenAPI read(final GeneratorProperties properties, final Map<Class<?>, String> resources) {
+		Integer parallelism = properties.getParallelism();
+		PartitionedReader reader = new PartitionedReader(null == parallelism ? GeneratorProperties.Default.PARALLELISM : parallelism);
+		try (ModelConvertersLock.Lease _ = ModelConvertersLock.acquire()) {
+			return reader.read(resources);
+		}
+	}
+
+	/**
+	 * Writes the given Open API model, the output format is inferred from the output file extension, and the model is
+	 * also written to the configured output targets.
+	 *
+	 * @param openAPI the Open API model
+	 * @param outputFile the output file
+	 * @param properties the generator properties
+	 * @throws IOException when an I/O error occurs
+	 */
+	public static void write(final OpenAPI openAPI, final String outputFile, final GeneratorProperties properties) throws IOException {
+		for (OpenApiWriter.Summary summary : OpenApiWriter.write(openAPI, outputFile, false, properties)) {
+			LOGGER.info("Generated OpenAPI spec at {}", summary);
+		}
+	}
+
+	/**
+	 * Returns the Jakarta resource discovery from the given properties, the default being {@link JakartaDiscovery#SCAN}.
+	 *
+	 * @param properties the generator properties
+	 * @return the Jakarta resource discovery
+	 */
+	private static JakartaDiscovery jakartaDiscovery(final GeneratorProperties properties) {
+		String jakartaDiscovery = properties.getJakartaDiscovery();
+		return Strings.isEmpty(jakartaDiscovery) ? JakartaDiscovery.SCAN : JakartaDiscovery.fromString(jakartaDiscovery);
+	}
+
+	/**
+	 * Scans the given packages by loading all their classes and returns the annotated controllers, the controllers are
+	 * read without an application path.
+	 *
+	 * @param packages the packages to scan
+	 * @param projectClassesDir the project classes directory
+	 * @return the controllers with an empty application path
+	 */
+	private static Map<Class<?>, String> scan(final Set<String> packages, final Path projectClassesDir) {
+		Map<Class<?>, String> controllers = new HashMap<>();
 		for (String pkg : packages) {
 			LOGGER.info("Scanning package: {}", pkg);
 			Set<Class<?>> classes = Classes.Scan.findInPackage(pkg, projectClassesDir);
 			for (Class<?> cls : classes) {
 				if (null != cls.getAnnotation(RestController.class) || null != cls.getAnnotation(RequestMapping.class)) {
-					controllers.add(cls);
+					controllers.put(cls, "");
 				}
 			}
 		}
-
-		OpenAPI openAPI = new OpenAPI();
-		Reader reader = new Reader(openAPI);
-		openAPI = reader.read(controllers);
-
-		String outputFile = properties.getOutputFile();
-		File out = new File(outputFile);
-		out.getParentFile().mkdirs();
-
-		ObjectMapper mapper = switch (outputFile) {
-			case String s when s.endsWith(".json") -> Json.mapper();
-			case String s when (s.endsWith(".yaml") || s.endsWith(".yml")) -> Yaml.mapper();
-			default -> throw new UnsupportedOperationException("Unsupported output type: " + outputFile);
-		};
-
-		try (FileWriter writer = new FileWriter(out, StandardCharsets.UTF_8)) {
-			mapper.writerWithDefaultPrettyPrinter().writeValue(writer, openAPI);
-		}
-
-		LOGGER.info("Generated OpenAPI spec at {}", out.getAbsolutePath());
+		return controllers;
 	}
 }
@@ -0,0 +1,487 @@
+package org.oogp.jakarta;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.swagger.v3.jaxrs2.Reader;
+import io.swagger.v3.jaxrs2.ReaderListener;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.tags.Tag;
+import jakarta.ws.rs.core.Application;
+
+/**
+ * Reads the Open API model of JAX-RS resources with one swagger {@link Reader} per partition of resources, the
+ * partitions being read on multiple threads.
+ * <p>
+ * The resources are sorted in the order in which a single reader processes them and split in contiguous partitions,
+ * every resource is read under the path of its application.
+ * Every partition is read by its own reader in its own model and the partial models are merged in partition order
+ * with the same rules the single reader applies when it adds a resource to its model: the operations of a path read by
+ * more than one partition are set on the same path item, the components are put in the component maps so the last
+ * one wins while the first one keeps its position, the tags are collected by name and the definition parts (info,
+ * servers, security, external docs, extensions, webhooks) are replaced by the last partition declaring them. The
+ * operation ids are the only state a reader shares between resources: a reader suffixes an operation id already used
+ * by a previous operation so the ids requested by every partition are recorded and assigned again while merging, the
+ * same way the single reader assigns them. The merged model is the same as the one read by a single reader.
+ * <p>
+ * Components with the same name read differently by two partitions are counted as conflicts. The resources are read
+ * by a single reader when the parallelism is 1, when they contain reader listeners or applications, whose hooks see
+ * the whole model, or when an operation is declared by more than one resource, since the single reader replaces such
+ * operations while their ids are still taken.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class PartitionedReader {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedReader.class);
+
+	/**
+	 * The order in which a single reader processes the resources, the super classes come before their sub classes.
+	 */
+	private static final Comparator<Class<?>> READER_ORDER = (class1, class2) -> {
+		if (class1.equals(class2)) {
+			return 0;
+		}
+		if (class1.isAssignableFrom(class2)) {
+			return -1;
+		}
+		if (class2.isAssignableFrom(class1)) {
+			return 1;
+		}
+		return class1.getName().compareTo(class2.getName());
+	};
+
+	/**
+	 * The maximum number of threads used to read the resources.
+	 */
+	private final int parallelism;
+
+	/**
+	 * The number of components with the same name read differently by two partitions.
+	 */
+	private int conflicts;
+
+	/**
+	 * An operation id requested by a reader and the id the reader assigned to the operation.
+	 *
+	 * @param requested the requested operation id
+	 * @param assigned the assigned operation id
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record OperationId(String requested, String assigned) {
+		// empty
+	}
+
+	/**
+	 * The model read by a partition and the operation ids of its operations.
+	 *
+	 * @param openAPI the partition model
+	 * @param operationIds the operation ids in the order in which the operations were added to the paths
+	 * @param recorded true if the requested id of every operation was recorded
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record Partition(OpenAPI openAPI, List<OperationId> operationIds, boolean recorded) {
+		// empty
+	}
+
+	/**
+	 * Reader which records the operation id requested for every operation id it assigns. The reader asks for an id
+	 * derived from the method name and then for the id declared by the operation annotation and an assigned id is never
+	 * assigned again once its operation is in the paths, so the id requested for an operation of the read model is the
+	 * one requested by the last assignment of its id and the operations were added to the paths in the order of their
+	 * last assignments. No other reader hook is used.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static class OperationIdRecordingReader extends Reader {
+
+		/**
+		 * The requested operation ids by assigned operation id in the order of the last assignment of every id.
+		 */
+		private final Map<String, String> requestedIds = new LinkedHashMap<>();
+
+		/**
+		 * Constructs the reader.
+		 *
+		 * @param openAPI the model the resources are read in
+		 */
+		OperationIdRecordingReader(final OpenAPI openAPI) {
+			super(openAPI);
+		}
+
+		/**
+		 * @see #getOperationId(String)
+		 */
+		@Override
+		protected String getOperationId(final String operationId) {
+			String assigned = super.getOperationId(operationId);
+			requestedIds.remove(assigned);
+			requestedIds.put(assigned, operationId);
+			return assigned;
+		}
+
+		/**
+		 * Returns the read partition with the operation ids of the operations in the given model, the ids are not
+		 * recorded when an operation has an id which was not assigned by this reader.
+		 *
+		 * @param openAPI the partition model
+		 * @return the read partition
+		 */
+		Partition partition(final OpenAPI openAPI) {
+			Set<String> assignedIds = operations(openAPI.getPaths()).keySet();
+			List<OperationId> operationIds = new ArrayList<>(assignedIds.size());
+			requestedIds.forEach((assigned, requested) -> {
+				if (assignedIds.contains(assigned)) {
+					operationIds.add(new OperationId(requested, assigned));
+				}
+			});
+			boolean recorded = operationIds.size() == assignedIds.size() && !assignedIds.contains(null);
+			return new Partition(openAPI, operationIds, recorded);
+		}
+	}
+
+	/**
+	 * Constructs the reader.
+	 *
+	 * @param parallelism the maximum number of threads used to read the resources
+	 */
+	public PartitionedReader(final int parallelism) {
+		this.parallelism = Math.max(parallelism, 1);
+	}
+
+	/**
+	 * Reads the Open API model of the given resources.
+	 *
+	 * @param resources the resource classes with the path of their application, empty for no application
+	 * @return the Open API model
+	 */
+	public OpenAPI read(final Map<Class<?>, String> resources) {
+		conflicts = 0;
+		Map<Class<?>, String> sortedResources = new TreeMap<>(READER_ORDER);
+		sortedResources.putAll(resources);
+		List<Map.Entry<Class<?>, String>> resourceEntries = List.copyOf(sortedResources.entrySet());
+		if (sortedResources.keySet().stream().anyMatch(PartitionedReader::hasHooks)) {
+			return new Reader(new OpenAPI()).read(sortedResources.keySet());
+		}
+		if (parallelism == 1 || sortedResources.size() < 2) {
+			return read(new Reader(new OpenAPI()), resourceEntries);
+		}
+		Instant start = Instant.now();
+		List<List<Map.Entry<Class<?>, String>>> partitions = partition(resourceEntries);
+		List<Partition> readPartitions = readPartitions(partitions);
+		OpenAPI openAPI = new OpenAPI();
+		Set<String> operationIds = new HashSet<>();
+		for (Partition partition : readPartitions) {
+			if (!isMergeable(openAPI, partition)) {
+				LOGGER.warn("Operations declared by more than one resource, callbacks or webhooks found, reading the resources with a single reader");
+				conflicts = 0;
+				return read(new Reader(new OpenAPI()), resourceEntries);
+			}
+			merge(openAPI, partition, operationIds);
+		}
+		LOGGER.info("Read {} resources in {} partitions with parallelism {} in {} ms, {} conflicting components", sortedResources.size(),
+				partitions.size(), parallelism, Duration.between(start, Instant.now()).toMillis(), conflicts);
+		return openAPI;
+	}
+
+	/**
+	 * Returns the number of components with the same name read differently by two partitions in the last read.
+	 *
+	 * @return the number of conflicting components
+	 */
+	public int getConflicts() {
+		return conflicts;
+	}
+
+	/**
+	 * Reads the given resources in order with the given reader, every resource is read the way the reader reads a set
+	 * of resources but under the path of its own application.
+	 *
+	 * @param reader the reader
+	 * @param resources the resources in reader order with the path of their application
+	 * @return the reader model
+	 */
+	private static OpenAPI read(final Reader reader, final List<Map.Entry<Class<?>, String>> resources) {
+		for (Map.Entry<Class<?>, String> resource : resources) {
+			reader.read(resource.getKey(), resource.getValue(), null, false, null, null, new LinkedHashSet<>(), new ArrayList<>(), new HashSet<>());
+		}
+		return reader.getOpenAPI();
+	}
+
+	/**
+	 * Splits the sorted resources in at most {@link #parallelism} contiguous partitions of the same size.
+	 *
+	 * @param sortedResources the resources in reader order
+	 * @return the partitions
+	 */
+	private List<List<Map.Entry<Class<?>, String>>> partition(final List<Map.Entry<Class<?>, String>> sortedResources) {
+		int partitionCount = Math.min(parallelism, sortedResources.size());
+		int partitionSize = (sortedResources.size() + partitionCount - 1) / partitionCount;
+		List<List<Map.Entry<Class<?>, String>>> partitions = new ArrayList<>(partitionCount);
+		for (int from = 0; from < sortedResources.size(); from += partitionSize) {
+			partitions.add(sortedResources.subList(from, Math.min(from + partitionSize, sortedResources.size())));
+		}
+		return partitions;
+	}
+
+	/**
+	 * Reads all the partitions on a thread pool.
+	 *
+	 * @param partitions the partitions to read
+	 * @return the read partitions in partition order
+	 */
+	private static List<Partition> readPartitions(final List<List<Map.Entry<Class<?>, String>>> partitions) {
+		try (ExecutorService executor = Executors.newFixedThreadPool(partitions.size())) {
+			List<Future<Partition>> futures = new ArrayList<>(partitions.size());
+			for (List<Map.Entry<Class<?>, String>> partition : partitions) {
+				futures.add(executor.submit(() -> {
+					OperationIdRecordingReader reader = new OperationIdRecordingReader(new OpenAPI());
+					return reader.partition(read(reader, partition));
+				}));
+			}
+			List<Partition> readPartitions = new ArrayList<>(partitions.size());
+			for (Future<Partition> future : futures) {
+				readPartitions.add(future.get());
+			}
+			return readPartitions;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while reading the JAX-RS resources", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Error reading the JAX-RS resources", e.getCause());
+		}
+	}
+
+	/**
+	 * Merges a partition model in the given model.
+	 *
+	 * @param openAPI the merged model
+	 * @param partition the read partition
+	 * @param operationIds the operation ids of the merged model
+	 */
+	private void merge(final OpenAPI openAPI, final Partition partition, final Set<String> operationIds) {
+		OpenAPI partitionOpenAPI = partition.openAPI();
+		reassignOperationIds(partition, operationIds);
+		mergePaths(openAPI, partitionOpenAPI.getPaths());
+		mergeComponents(openAPI, partitionOpenAPI.getComponents());
+		mergeTags(openAPI, partitionOpenAPI.getTags());
+		if (null != partitionOpenAPI.getInfo()) {
+			openAPI.setInfo(partitionOpenAPI.getInfo());
+		}
+		if (null != partitionOpenAPI.getServers()) {
+			openAPI.setServers(partitionOpenAPI.getServers());
+		}
+		if (null != partitionOpenAPI.getSecurity()) {
+			openAPI.setSecurity(partitionOpenAPI.getSecurity());
+		}
+		if (null != partitionOpenAPI.getExternalDocs()) {
+			openAPI.setExternalDocs(partitionOpenAPI.getExternalDocs());
+		}
+		if (null != partitionOpenAPI.getExtensions()) {
+			openAPI.setExtensions(partitionOpenAPI.getExtensions());
+		}
+		if (null != partitionOpenAPI.getWebhooks()) {
+			openAPI.setWebhooks(partitionOpenAPI.getWebhooks());
+		}
+	}
+
+	/**
+	 * Returns true if the given partition can be merged in the given model with the same result as a single reader. A
+	 * reader assigns the operation id of an operation while the operation it replaces (declared by a previous resource
+	 * with the same path and method) is still in the model, so no operation may be replaced: every operation added to
+	 * the paths of the partition must still be there and the partition operations must not replace merged operations.
+	 * The ids of the callback and webhook operations are assigned against the paths too but they are not recorded, so
+	 * they must not exist either.
+	 *
+	 * @param openAPI the merged model
+	 * @param partition the read partition
+	 * @return true if the partition can be merged
+	 */
+	private static boolean isMergeable(final OpenAPI openAPI, final Partition partition) {
+		Paths partitionPaths = partition.openAPI().getPaths();
+		List<Operation> partitionOperations = null == partitionPaths
+				? List.of()
+				: partitionPaths.values().stream().flatMap(pathItem -> pathItem.readOperations().stream()).toList();
+		if (!partition.recorded() || partitionOperations.size() != partition.operationIds().size() || null != partition.openAPI().getWebhooks()
+				|| partitionOperations.stream().anyMatch(operation -> null != operation.getCallbacks())) {
+			return false;
+		}
+		Paths paths = openAPI.getPaths();
+		if (null == paths || null == partitionPaths) {
+			return true;
+		}
+		return partitionPaths.entrySet().stream()
+				.filter(entry -> paths.containsKey(entry.getKey()))
+				.noneMatch(entry -> entry.getValue().readOperationsMap().keySet().stream()
+						.anyMatch(paths.get(entry.getKey()).readOperationsMap()::containsKey));
+	}
+
+	/**
+	 * Assigns again the operation ids requested by a partition reader as if the operations were read after the
+	 * operations already merged: an id already used gets the first free {@code _<n>} suffix.
+	 *
+	 * @param partition the read partition
+	 * @param operationIds the operation ids of the merged model, the partition ids are added
+	 */
+	private static void reassignOperationIds(final Partition partition, final Set<String> operationIds) {
+		Map<String, Operation> operations = operations(partition.openAPI().getPaths());
+		List<Map.Entry<Operation, String>> reassigned = new ArrayList<>(operations.size());
+		for (OperationId operationId : partition.operationIds()) {
+			String id = operationId.requested();
+			for (int counter = 1; operationIds.contains(id); ++counter) {
+				id = String.format("%s_%d", operationId.requested(), counter);
+			}
+			operationIds.add(id);
+			reassigned.add(Map.entry(operations.get(operationId.assigned()), id));
+		}
+		reassigned.forEach(entry -> entry.getKey().setOperationId(entry.getValue()));
+	}
+
+	/**
+	 * Returns the operations of the given paths by operation id.
+	 *
+	 * @param paths the paths, can be null
+	 * @return the operations by operation id
+	 */
+	private static Map<String, Operation> operations(final Paths paths) {
+		Map<String, Operation> operations = new HashMap<>();
+		if (null != paths) {
+			paths.values().forEach(pathItem -> pathItem.readOperations().forEach(operation -> operations.put(operation.getOperationId(), operation)));
+		}
+		return operations;
+	}
+
+	/**
+	 * Merges the paths of a partition, the operations of the paths already merged are set on the existing path item.
+	 *
+	 * @param openAPI the merged model
+	 * @param partitionPaths the partition paths, can be null
+	 */
+	private static void mergePaths(final OpenAPI openAPI, final Paths partitionPaths) {
+		if (null == partitionPaths) {
+			return;
+		}
+		if (null == openAPI.getPaths()) {
+			openAPI.setPaths(new Paths());
+		}
+		Paths paths = openAPI.getPaths();
+		partitionPaths.forEach((name, partitionPathItem) -> {
+			PathItem pathItem = paths.get(name);
+			if (null == pathItem) {
+				paths.addPathItem(name, partitionPathItem);
+				return;
+			}
+			partitionPathItem.readOperationsMap().forEach(pathItem::operation);
+		});
+	}
+
+	/**
+	 * Merges the components of a partition.
+	 *
+	 * @param openAPI the merged model
+	 * @param partitionComponents the partition components, can be null
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void mergeComponents(final OpenAPI openAPI, final Components partitionComponents) {
+		if (null == partitionComponents) {
+			return;
+		}
+		if (null == openAPI.getComponents()) {
+			openAPI.setComponents(new Components());
+		}
+		Components components = openAPI.getComponents();
+		components.setSchemas((Map) merge("schemas", (Map) components.getSchemas(), (Map) partitionComponents.getSchemas()));
+		components.setResponses(merge("responses", components.getResponses(), partitionComponents.getResponses()));
+		components.setParameters(merge("parameters", components.getParameters(), partitionComponents.getParameters()));
+		components.setExamples(merge("examples", components.getExamples(), partitionComponents.getExamples()));
+		components.setRequestBodies(merge("requestBodies", components.getRequestBodies(), partitionComponents.getRequestBodies()));
+		components.setHeaders(merge("headers", components.getHeaders(), partitionComponents.getHeaders()));
+		components.setSecuritySchemes(merge("securitySchemes", components.getSecuritySchemes(), partitionComponents.getSecuritySchemes()));
+		components.setLinks(merge("links", components.getLinks(), partitionComponents.getLinks()));
+		components.setCallbacks(merge("callbacks", components.getCallbacks(), partitionComponents.getCallbacks()));
+		components.setPathItems(merge("pathItems", components.getPathItems(), partitionComponents.getPathItems()));
+		if (null != partitionComponents.getExtensions()) {
+			components.setExtensions(partitionComponents.getExtensions());
+		}
+	}
+
+	/**
+	 * Merges a component map of a partition in the merged component map.
+	 *
+	 * @param <T> the component type
+	 *
+	 * @param mapName the component map name
+	 * @param map the merged component map, can be null
+	 * @param partitionMap the partition component map, can be null
+	 * @return the merged component map
+	 */
+	private <T> Map<String, T> merge(final String mapName, final Map<String, T> map, final Map<String, T> partitionMap) {
+		if (null == partitionMap || partitionMap.isEmpty()) {
+			return map;
+		}
+		Map<String, T> merged = null != map ? map : new LinkedHashMap<>();
+		partitionMap.forEach((name, component) -> {
+			T previous = merged.put(name, component);
+			if (null != previous && !Objects.equals(previous, component)) {
+				++conflicts;
+				LOGGER.warn("Component {}/{} read differently by more than one partition, keeping the last one", mapName, name);
+			}
+		});
+		return merged;
+	}
+
+	/**
+	 * Merges the tags of a partition, the tags are collected by name and the first tag with a name is kept.
+	 *
+	 * @param openAPI the merged model
+	 * @param partitionTags the partition tags, can be null
+	 */
+	private static void mergeTags(final OpenAPI openAPI, final List<Tag> partitionTags) {
+		if (null == partitionTags) {
+			return;
+		}
+		Map<String, Tag> tags = new LinkedHashMap<>();
+		if (null != openAPI.getTags()) {
+			openAPI.getTags().forEach(tag -> tags.putIfAbsent(tag.getName(), tag));
+		}
+		partitionTags.forEach(tag -> tags.putIfAbsent(tag.getName(), tag));
+		openAPI.setTags(new ArrayList<>(tags.values()));
+	}
+
+	/**
+	 * Returns true if the given class has hooks which must see the model of all the resources.
+	 *
+	 * @param resource the resource class
+	 * @return true if the class is a reader listener or an application
+	 */
+	private static boolean hasHooks(final Class<?> resource) {
+		return ReaderListener.class.isAssignableFrom(resource) || Application.class.isAssignableFrom(resource);
+	}
+}
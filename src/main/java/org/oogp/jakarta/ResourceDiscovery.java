@@ -0,0 +1,210 @@
+package org.oogp.jakarta;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.oogp.ProjectClasses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.type.AnnotationMetadata;
+
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.core.Application;
+
+/**
+ * Discovers the JAX-RS resources of a Jakarta project from its applications without loading every class of the scanned
+ * packages.
+ * <p>
+ * The class files of the scanned packages are inspected as bytecode, only their annotation metadata is read. The
+ * concrete classes annotated with {@link ApplicationPath} are the applications: every application is loaded and
+ * created and its resources are the classes returned by {@link Application#getClasses()} and the classes of the
+ * objects returned by {@link Application#getSingletons()} which are annotated with {@code @Path}. An application which
+ * declares no classes and no singletons serves all the resources of the project, as a JAX-RS container would scan
+ * them. When no application is found the resources are the concrete classes annotated with {@code @Path} or
+ * implementing an interface of the scanned packages annotated with {@code @Path}, and only these classes are loaded.
+ * <p>
+ * Every resource is returned with the path of its application so that its operations are read under that path.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class ResourceDiscovery {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(ResourceDiscovery.class);
+
+	/**
+	 * The name of the {@code @Path} annotation.
+	 */
+	private static final String PATH_ANNOTATION = jakarta.ws.rs.Path.class.getName();
+
+	/**
+	 * The name of the {@code @ApplicationPath} annotation.
+	 */
+	private static final String APPLICATION_PATH_ANNOTATION = ApplicationPath.class.getName();
+
+	/**
+	 * The project class loader.
+	 */
+	private final ClassLoader classLoader;
+
+	/**
+	 * Constructs the discovery.
+	 *
+	 * @param classLoader the project class loader
+	 */
+	public ResourceDiscovery(final ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Discovers the resources of the given packages.
+	 *
+	 * @param packages the packages to scan
+	 * @param classesDir the project classes directory
+	 * @return the resource classes with the path of their application, empty when there is no application
+	 * @throws IOException when a class file cannot be read
+	 */
+	public Map<Class<?>, String> discover(final Collection<String> packages, final Path classesDir) throws IOException {
+		return discover(ProjectClasses.inspect(packages, classesDir, classLoader));
+	}
+
+	/**
+	 * Discovers the resources of the given inspected project classes.
+	 *
+	 * @param classes the inspected project classes
+	 * @return the resource classes with the path of their application, empty when there is no application
+	 */
+	public Map<Class<?>, String> discover(final ProjectClasses classes) {
+		List<AnnotationMetadata> applications = classes.find(ResourceDiscovery::isApplication);
+		Map<Class<?>, String> resources = new LinkedHashMap<>();
+		if (applications.isEmpty()) {
+			pathResources(classes).forEach(resource -> resources.put(resource, ""));
+		}
+		for (AnnotationMetadata metadata : applications) {
+			Application application = application(metadata.getClassName());
+			String applicationPath = application.getClass().getAnnotation(ApplicationPath.class).value();
+			Set<Class<?>> applicationResources = applicationResources(application);
+			if (applicationResources.isEmpty()) {
+				applicationResources.addAll(pathResources(classes));
+			}
+			LOGGER.info("Found application {} with path '{}' and {} resources", metadata.getClassName(), applicationPath,
+					applicationResources.size());
+			applicationResources.forEach(resource -> resources.putIfAbsent(resource, applicationPath));
+		}
+		LOGGER.info("Inspected {} class files, found {} applications and {} resources", classes.size(), applications.size(), resources.size());
+		return resources;
+	}
+
+	/**
+	 * Returns the concrete classes annotated with {@code @Path} or implementing an interface annotated with
+	 * {@code @Path}, only these classes are loaded.
+	 *
+	 * @param classes the annotation metadata of the scanned classes by class name
+	 * @return the resource classes
+	 */
+	private Set<Class<?>> pathResources(final ProjectClasses classes) {
+		Set<Class<?>> resources = new LinkedHashSet<>();
+		for (AnnotationMetadata metadata : classes.find(metadata -> isPathResource(metadata, classes))) {
+			resources.add(loadClass(metadata.getClassName()));
+		}
+		return resources;
+	}
+
+	/**
+	 * Returns true if the given class is concrete and annotated with {@code @Path} or implements an interface of the
+	 * scanned packages annotated with {@code @Path}.
+	 *
+	 * @param metadata the class annotation metadata
+	 * @param classes the inspected project classes
+	 * @return true if the class is a resource
+	 */
+	public static boolean isPathResource(final AnnotationMetadata metadata, final ProjectClasses classes) {
+		return metadata.isConcrete() && (metadata.hasAnnotation(PATH_ANNOTATION) || Arrays.stream(metadata.getInterfaceNames())
+				.map(classes::get)
+				.anyMatch(interfaceMetadata -> null != interfaceMetadata && interfaceMetadata.hasAnnotation(PATH_ANNOTATION)));
+	}
+
+	/**
+	 * Returns true if the given class is a concrete class annotated with {@code @ApplicationPath}.
+	 *
+	 * @param metadata the class annotation metadata
+	 * @return true if the class is an application
+	 */
+	public static boolean isApplication(final AnnotationMetadata metadata) {
+		return metadata.isConcrete() && metadata.hasAnnotation(APPLICATION_PATH_ANNOTATION);
+	}
+
+	/**
+	 * Returns the resources declared by the given application.
+	 *
+	 * @param application the application
+	 * @return the resource classes
+	 */
+	private static Set<Class<?>> applicationResources(final Application application) {
+		List<Class<?>> declared = new ArrayList<>(application.getClasses());
+		application.getSingletons().forEach(singleton -> declared.add(singleton.getClass()));
+		Set<Class<?>> resources = new LinkedHashSet<>();
+		for (Class<?> cls : declared) {
+			if (isResource(cls)) {
+				resources.add(cls);
+			}
+		}
+		return resources;
+	}
+
+	/**
+	 * Loads and creates the given application.
+	 *
+	 * @param className the application class name
+	 * @return the application
+	 */
+	private Application application(final String className) {
+		Class<?> applicationClass = loadClass(className);
+		if (!Application.class.isAssignableFrom(applicationClass)) {
+			throw new IllegalStateException("Class " + className + " is annotated with @ApplicationPath but is not an Application");
+		}
+		try {
+			return (Application) applicationClass.getDeclaredConstructor().newInstance();
+		} catch (InvocationTargetException e) {
+			throw new IllegalStateException("Error creating the application " + className, e.getCause());
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Cannot create the application " + className, e);
+		}
+	}
+
+	/**
+	 * Loads the given class with the project class loader.
+	 *
+	 * @param className the class name
+	 * @return the class
+	 */
+	private Class<?> loadClass(final String className) {
+		try {
+			return Class.forName(className, false, classLoader);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Cannot load the class " + className, e);
+		}
+	}
+
+	/**
+	 * Returns true if the given class or one of its interfaces is annotated with {@code @Path}.
+	 *
+	 * @param cls the class
+	 * @return true if the class is a resource
+	 */
+	private static boolean isResource(final Class<?> cls) {
+		return cls.isAnnotationPresent(jakarta.ws.rs.Path.class)
+				|| Arrays.stream(cls.getInterfaces()).anyMatch(type -> type.isAnnotationPresent(jakarta.ws.rs.Path.class));
+	}
+}
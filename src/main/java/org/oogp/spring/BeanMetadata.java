@@ -1,12 +1,13 @@
 package org.oogp.spring;
 
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Metadata record for beans registered with a {@link CustomApplicationContext}.
  *
  * @param beanName the bean name
- * @param beanInstance the bean instance
+ * @param beanSupplier the supplier of the bean instance
  * @param beanType the bean type
  * @param aliases the bean aliases
  * @param scope the scope of the bean in the context
@@ -15,7 +16,7 @@ import java.util.Set;
  */
 public record BeanMetadata(
 		String beanName,
-		Object beanInstance,
+		BeanSupplier<?> beanSupplier,
 		Class<?> beanType,
 		Set<String> aliases,
 		String scope) {
@@ -27,6 +28,24 @@ public record BeanMetadata(
 		aliases = aliases != null ? aliases : Set.of();
 	}
 
+	/**
+	 * Returns the bean instance, creating it if the bean was registered lazily and was not yet requested.
+	 *
+	 * @return the bean instance
+	 */
+	public Object beanInstance() {
+		return beanSupplier.get();
+	}
+
+	/**
+	 * Returns true if the bean instance was created, false otherwise.
+	 *
+	 * @return true if the bean instance was created, false otherwise
+	 */
+	public boolean isInstantiated() {
+		return beanSupplier.isInstantiated();
+	}
+
 	/**
 	 * Factory method to create a BeanMetadata instance without aliases and scope.
 	 *
@@ -36,7 +55,7 @@ public record BeanMetadata(
 	 * @return a new BeanMetadata instance
 	 */
 	public static BeanMetadata of(final String beanName, final Object beanInstance, final Class<?> beanType) {
-		return new BeanMetadata(beanName, beanInstance, beanType, null, null);
+		return new BeanMetadata(beanName, BeanSupplier.of(beanInstance), beanType, null, null);
 	}
 
 	/**
@@ -49,4 +68,18 @@ public record BeanMetadata(
 	public static BeanMetadata of(final String beanName, final Object beanInstance) {
 		return of(beanName, beanInstance, beanInstance.getClass());
 	}
+
+	/**
+	 * Factory method to create a BeanMetadata instance for a bean that is created on first use.
+	 *
+	 * @param <T> the bean type
+	 *
+	 * @param beanName the bean name
+	 * @param beanType the bean type
+	 * @param beanFactory the factory creating the bean instance
+	 * @return a new BeanMetadata instance
+	 */
+	public static <T> BeanMetadata lazy(final String beanName, final Class<T> beanType, final Supplier<? extends T> beanFactory) {
+		return new BeanMetadata(beanName, BeanSupplier.lazy(beanFactory), beanType, null, null);
+	}
 }
@@ -0,0 +1,129 @@
+package org.oogp.spring;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.morphix.lang.JavaObjects;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+/**
+ * {@link ObjectProvider} implementation backed by a {@link CustomApplicationContext}.
+ * <p>
+ * The candidate beans are resolved by type on every call without creating them, only the returned beans are
+ * instantiated, so lazily registered beans are created on first use.
+ *
+ * @param <T> the bean type
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class BeanObjectProvider<T> implements ObjectProvider<T> {
+
+	/**
+	 * The context providing the beans.
+	 */
+	private final CustomApplicationContext context;
+
+	/**
+	 * The required type.
+	 */
+	private final ResolvableType requiredType;
+
+	/**
+	 * Constructs a new bean object provider.
+	 *
+	 * @param context the context providing the beans
+	 * @param requiredType the required bean type
+	 */
+	public BeanObjectProvider(final CustomApplicationContext context, final ResolvableType requiredType) {
+		this.context = context;
+		this.requiredType = requiredType;
+	}
+
+	/**
+	 * @see #getObject()
+	 */
+	@Override
+	public T getObject() throws BeansException {
+		List<BeanMetadata> candidates = context.getBeanMetadataForType(requiredType);
+		if (candidates.isEmpty()) {
+			throw new NoSuchBeanDefinitionException(requiredType);
+		}
+		return getUnique(candidates);
+	}
+
+	/**
+	 * @see #getObject(Object...)
+	 */
+	@Override
+	public T getObject(final Object... args) throws BeansException {
+		return getObject();
+	}
+
+	/**
+	 * @see #getIfAvailable()
+	 */
+	@Override
+	public T getIfAvailable() throws BeansException {
+		List<BeanMetadata> candidates = context.getBeanMetadataForType(requiredType);
+		if (candidates.isEmpty()) {
+			return null;
+		}
+		return getUnique(candidates);
+	}
+
+	/**
+	 * @see #getIfUnique()
+	 */
+	@Override
+	public T getIfUnique() throws BeansException {
+		List<BeanMetadata> candidates = context.getBeanMetadataForType(requiredType);
+		if (candidates.size() != 1) {
+			return null;
+		}
+		return JavaObjects.cast(candidates.getFirst().beanInstance());
+	}
+
+	/**
+	 * @see #stream()
+	 */
+	@Override
+	public Stream<T> stream() {
+		return context.getBeanMetadataForType(requiredType).stream()
+				.map(beanMetadata -> JavaObjects.cast(beanMetadata.beanInstance()));
+	}
+
+	/**
+	 * Returns the beans ordered by {@link org.springframework.core.Ordered}, {@code @Order} and {@code @Priority}, the
+	 * beans with the same order are ordered by bean name.
+	 *
+	 * @see #orderedStream()
+	 */
+	@Override
+	public Stream<T> orderedStream() {
+		return context.getBeanMetadataForType(requiredType).stream()
+				.sorted(Comparator.comparing(BeanMetadata::beanName))
+				.map(BeanMetadata::beanInstance)
+				.sorted(AnnotationAwareOrderComparator.INSTANCE)
+				.map(JavaObjects::cast);
+	}
+
+	/**
+	 * Returns the only bean from the candidates list.
+	 *
+	 * @param candidates the candidate beans
+	 * @return the bean instance
+	 * @throws NoUniqueBeanDefinitionException when there is more than one candidate
+	 */
+	private T getUnique(final List<BeanMetadata> candidates) {
+		if (candidates.size() > 1) {
+			throw new NoUniqueBeanDefinitionException(requiredType, candidates.stream().map(BeanMetadata::beanName).toList());
+		}
+		return JavaObjects.cast(candidates.getFirst().beanInstance());
+	}
+}
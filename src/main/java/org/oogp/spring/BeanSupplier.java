@@ -0,0 +1,93 @@
+package org.oogp.spring;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A memoizing bean supplier used by the {@link CustomApplicationContext} to hold bean instances.
+ * <p>
+ * A bean supplier is either created from an already existing instance, or from a factory {@link Supplier} that is
+ * invoked only once, the first time the bean is requested. This makes it possible to register optional collaborators
+ * in the context without paying for their construction when a generation run never needs them.
+ *
+ * @param <T> the bean type
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public final class BeanSupplier<T> implements Supplier<T> {
+
+	/**
+	 * The factory used to create the bean, {@code null} after the bean was created.
+	 */
+	private Supplier<? extends T> factory;
+
+	/**
+	 * The bean instance.
+	 */
+	private volatile T instance;
+
+	/**
+	 * Hide constructor.
+	 *
+	 * @param factory the bean factory
+	 * @param instance the bean instance
+	 */
+	private BeanSupplier(final Supplier<? extends T> factory, final T instance) {
+		this.factory = factory;
+		this.instance = instance;
+	}
+
+	/**
+	 * Creates a bean supplier for an already created bean instance.
+	 *
+	 * @param <T> the bean type
+	 *
+	 * @param instance the bean instance
+	 * @return a new bean supplier
+	 */
+	public static <T> BeanSupplier<T> of(final T instance) {
+		return new BeanSupplier<>(null, Objects.requireNonNull(instance, "instance"));
+	}
+
+	/**
+	 * Creates a bean supplier that creates the bean on first use.
+	 *
+	 * @param <T> the bean type
+	 *
+	 * @param factory the bean factory
+	 * @return a new bean supplier
+	 */
+	public static <T> BeanSupplier<T> lazy(final Supplier<? extends T> factory) {
+		return new BeanSupplier<>(Objects.requireNonNull(factory, "factory"), null);
+	}
+
+	/**
+	 * Returns the bean instance creating it if needed.
+	 *
+	 * @see #get()
+	 */
+	@Override
+	public T get() {
+		T result = instance;
+		if (null == result) {
+			synchronized (this) {
+				result = instance;
+				if (null == result) {
+					result = Objects.requireNonNull(factory.get(), "Bean factory returned null");
+					instance = result;
+					factory = null;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns true if the bean instance was already created, false otherwise.
+	 *
+	 * @return true if the bean instance was already created, false otherwise
+	 */
+	public boolean isInstantiated() {
+		return null != instance;
+	}
+}
@@ -0,0 +1,421 @@
+package org.oogp.spring;
+
+import java.lang.reflect.Type;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverterContext;
+import io.swagger.v3.core.jackson.TypeNameResolver;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.JsonSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+
+/**
+ * Model converter that bounds the schema resolution of huge object graphs (JPA entities, deeply connected models).
+ * <p>
+ * Every schema resolution started by Spring Doc for an operation parameter or response type is a root resolution, all
+ * the nested property types are resolved recursively on the same thread through this converter. The converter counts
+ * the depth of the model types on the resolution stack and the distinct model types reached from the root, and when the
+ * maximum depth or the maximum number of types is reached it defines a named stub component instead of expanding the
+ * type further. The stubbed types are recorded by root so that a report can show which models must be fixed. Cycles
+ * are already cut by the converter context which never resolves a type twice, Spring Doc uses the same context for all
+ * the operations so only the types not resolved by the previous operations count for a root and a stubbed type stays
+ * stubbed for the following operations.
+ * <p>
+ * Since the stubs depend on the operations resolved before, the generator builds the operations of every group in order
+ * with a single context when the converter is used: the paths are not partitioned, the groups are built one after the
+ * other, the controllers are not split in batches and the path fragments are not cached.
+ * <p>
+ * Only the model types are counted, the JDK types, containers, arrays and enums don't add depth and are never stubbed.
+ * The converter must be the first converter of the chain.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class BoundedModelConverter implements ModelConverter {
+
+	/**
+	 * The suffix of the stub component names.
+	 */
+	public static final String STUB_SUFFIX = "Stub";
+
+	/**
+	 * The extension holding the name of the stubbed type.
+	 */
+	public static final String STUB_EXTENSION = "x-stub-of";
+
+	/**
+	 * The packages of the framework types which are not counted as model types.
+	 */
+	private static final List<String> FRAMEWORK_PACKAGES = List.of(
+			"java.",
+			"javax.",
+			"jakarta.",
+			"org.springframework.");
+
+	/**
+	 * The current resolution of every thread, null when no resolution is in progress.
+	 */
+	private final ThreadLocal<Resolution> resolutions = new ThreadLocal<>();
+
+	/**
+	 * The stubs defined since the last {@link #drainStubs()} call.
+	 */
+	private final Set<Stub> stubs = new ConcurrentSkipListSet<>();
+
+	/**
+	 * The maximum depth of the model types, 0 for no limit.
+	 */
+	private final int maxDepth;
+
+	/**
+	 * The maximum number of distinct model types per root resolution, 0 for no limit.
+	 */
+	private final int maxTypes;
+
+	/**
+	 * The Open API 3.1 flag.
+	 */
+	private final boolean openapi31;
+
+	/**
+	 * The limit that made the converter define a stub.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public enum Limit {
+
+		/**
+		 * The maximum depth was reached.
+		 */
+		MAX_DEPTH,
+
+		/**
+		 * The maximum number of types was reached.
+		 */
+		MAX_TYPES
+	}
+
+	/**
+	 * A stub defined instead of a type schema.
+	 *
+	 * @param root the root type of the resolution
+	 * @param type the stubbed type
+	 * @param limit the reached limit
+	 * @param depth the depth of the stubbed type
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public record Stub(String root, String type, Limit limit, int depth) implements Comparable<Stub> {
+
+		/**
+		 * The stub order used in the report.
+		 */
+		private static final Comparator<Stub> ORDER = Comparator.comparing(Stub::root)
+				.thenComparing(Stub::type)
+				.thenComparing(Stub::limit)
+				.thenComparingInt(Stub::depth);
+
+		/**
+		 * @see #compareTo(Stub)
+		 */
+		@Override
+		public int compareTo(final Stub other) {
+			return ORDER.compare(this, other);
+		}
+
+		/**
+		 * @see #toString()
+		 */
+		@Override
+		public String toString() {
+			return limit + " " + root + " stubbed " + type + " at depth " + depth;
+		}
+	}
+
+	/**
+	 * The state of a root resolution.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static class Resolution {
+
+		/**
+		 * The root type.
+		 */
+		private final String root;
+
+		/**
+		 * The distinct model types reached from the root.
+		 */
+		private final Set<Class<?>> types = new HashSet<>();
+
+		/**
+		 * The number of model types on the resolution stack.
+		 */
+		private int depth;
+
+		/**
+		 * Constructs a root resolution.
+		 *
+		 * @param root the root type
+		 */
+		Resolution(final String root) {
+			this.root = root;
+		}
+	}
+
+	/**
+	 * Constructs a bounded model converter, the limits lower than 1 mean no limit.
+	 *
+	 * @param maxDepth the maximum depth of the model types
+	 * @param maxTypes the maximum number of distinct model types per root resolution
+	 * @param openapi31 the Open API 3.1 flag
+	 */
+	public BoundedModelConverter(final int maxDepth, final int maxTypes, final boolean openapi31) {
+		this.maxDepth = Math.max(maxDepth, 0);
+		this.maxTypes = Math.max(maxTypes, 0);
+		this.openapi31 = openapi31;
+	}
+
+	/**
+	 * @see #resolve(AnnotatedType, ModelConverterContext, Iterator)
+	 */
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Schema resolve(final AnnotatedType type, final ModelConverterContext context, final Iterator<ModelConverter> chain) {
+		if (!chain.hasNext()) {
+			return null;
+		}
+		JavaType javaType = javaType(type.getType());
+		Class<?> modelClass = null != javaType && isModelType(javaType) ? javaType.getRawClass() : null;
+		Resolution resolution = resolutions.get();
+		if (null == resolution) {
+			resolution = new Resolution(null != javaType ? javaType.toCanonical() : String.valueOf(type.getType()));
+			resolutions.set(resolution);
+			try {
+				return resolve(type, modelClass, resolution, context, chain);
+			} finally {
+				resolutions.remove();
+			}
+		}
+		if (null != modelClass) {
+			Limit limit = reachedLimit(modelClass, resolution);
+			if (null != limit) {
+				return stub(type, javaType, limit, resolution, context);
+			}
+		}
+		return resolve(type, modelClass, resolution, context, chain);
+	}
+
+	/**
+	 * Returns the configuration of the converter which changes the resolved schemas.
+	 *
+	 * @return the converter configuration
+	 */
+	public String configuration() {
+		return "maxDepth=" + maxDepth + "|maxTypes=" + maxTypes;
+	}
+
+	/**
+	 * Returns the stubs defined since the last call and forgets them.
+	 *
+	 * @return the stubs ordered by root and stubbed type
+	 */
+	public List<Stub> drainStubs() {
+		List<Stub> drained = List.copyOf(stubs);
+		stubs.removeAll(drained);
+		return drained;
+	}
+
+	/**
+	 * Returns the maximum depth of the model types, 0 for no limit.
+	 *
+	 * @return the maximum depth
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * Returns the maximum number of distinct model types per root resolution, 0 for no limit.
+	 *
+	 * @return the maximum number of types
+	 */
+	public int getMaxTypes() {
+		return maxTypes;
+	}
+
+	/**
+	 * Resolves the given type with the rest of the chain, the model types are counted while they are on the resolution
+	 * stack.
+	 *
+	 * @param type the annotated type
+	 * @param modelClass the model class of the type or null if the type is not a model type
+	 * @param resolution the current root resolution
+	 * @param context the converter context
+	 * @param chain the converter chain
+	 * @return the resolved schema
+	 */
+	@SuppressWarnings("rawtypes")
+	private static Schema resolve(final AnnotatedType type, final Class<?> modelClass, final Resolution resolution,
+			final ModelConverterContext context, final Iterator<ModelConverter> chain) {
+		if (null == modelClass) {
+			return chain.next().resolve(type, context, chain);
+		}
+		resolution.types.add(modelClass);
+		++resolution.depth;
+		try {
+			return chain.next().resolve(type, context, chain);
+		} finally {
+			--resolution.depth;
+		}
+	}
+
+	/**
+	 * Returns the limit reached by resolving the given model class or null if no limit is reached, the root type is
+	 * always resolved.
+	 *
+	 * @param modelClass the model class
+	 * @param resolution the current root resolution
+	 * @return the reached limit or null
+	 */
+	private Limit reachedLimit(final Class<?> modelClass, final Resolution resolution) {
+		if (0 == resolution.depth) {
+			return null;
+		}
+		if (0 != maxDepth && resolution.depth > maxDepth) {
+			return Limit.MAX_DEPTH;
+		}
+		if (0 != maxTypes && resolution.types.size() >= maxTypes && !resolution.types.contains(modelClass)) {
+			return Limit.MAX_TYPES;
+		}
+		return null;
+	}
+
+	/**
+	 * Defines the stub component of the given model type in the context and returns it, the stub is an object schema
+	 * named after the component name the type would have had so that the parent schemas reference it. When the name is
+	 * already used by another component or by the stub of another type a numeric suffix is added.
+	 *
+	 * @param type the annotated type
+	 * @param javaType the Jackson type of the model type
+	 * @param limit the reached limit
+	 * @param resolution the current root resolution
+	 * @param context the converter context
+	 * @return the stub schema
+	 */
+	@SuppressWarnings("rawtypes")
+	private Schema stub(final AnnotatedType type, final JavaType javaType, final Limit limit, final Resolution resolution,
+			final ModelConverterContext context) {
+		String stubbedType = javaType.toCanonical();
+		String name = stubName(componentName(type, javaType), stubbedType, context);
+		Schema stub = openapi31 ? new JsonSchema().typesItem("object") : new ObjectSchema();
+		stub.name(name);
+		stub.description("Stub of " + stubbedType + " which was not expanded because the schema resolution limits were reached");
+		stub.addExtension(STUB_EXTENSION, stubbedType);
+		context.defineModel(name, stub);
+		stubs.add(new Stub(resolution.root, stubbedType, limit, resolution.depth));
+		return stub;
+	}
+
+	/**
+	 * Returns the name of the stub component of the given type, the component name with the {@link #STUB_SUFFIX} when it
+	 * is free or already names the stub of the same type, followed by the first free numeric suffix otherwise.
+	 *
+	 * @param componentName the component name of the stubbed type
+	 * @param stubbedType the canonical name of the stubbed type
+	 * @param context the converter context
+	 * @return the stub component name
+	 */
+	@SuppressWarnings("rawtypes")
+	private static String stubName(final String componentName, final String stubbedType, final ModelConverterContext context) {
+		Map<String, Schema> definedModels = context.getDefinedModels();
+		String name = componentName + STUB_SUFFIX;
+		for (int i = 2; isUsedByOther(definedModels.get(name), stubbedType); ++i) {
+			name = componentName + STUB_SUFFIX + i;
+		}
+		return name;
+	}
+
+	/**
+	 * Returns true if the given defined component is not the stub of the given type.
+	 *
+	 * @param definedModel the defined component or null if the name is free
+	 * @param stubbedType the canonical name of the stubbed type
+	 * @return true if the component name is used by another schema
+	 */
+	@SuppressWarnings("rawtypes")
+	private static boolean isUsedByOther(final Schema definedModel, final String stubbedType) {
+		if (null == definedModel) {
+			return false;
+		}
+		Map<String, Object> extensions = definedModel.getExtensions();
+		return null == extensions || !stubbedType.equals(extensions.get(STUB_EXTENSION));
+	}
+
+	/**
+	 * Returns the component name the model resolver gives to the given type: the name of the annotated type, the Jackson
+	 * root name or the name computed by the swagger {@link TypeNameResolver} which handles {@code @Schema(name)}, the
+	 * generic type arguments and the fully qualified names configuration.
+	 *
+	 * @param type the annotated type
+	 * @param javaType the Jackson type
+	 * @return the component name
+	 */
+	private static String componentName(final AnnotatedType type, final JavaType javaType) {
+		if (null != type.getName() && !type.getName().isBlank()) {
+			return type.getName();
+		}
+		BeanDescription beanDescription = Json.mapper().getSerializationConfig().introspectClassAnnotations(javaType);
+		PropertyName rootName = Json.mapper().getSerializationConfig().getAnnotationIntrospector().findRootName(beanDescription.getClassInfo());
+		if (null != rootName && rootName.hasSimpleName()) {
+			return rootName.getSimpleName();
+		}
+		return TypeNameResolver.std.nameForType(javaType);
+	}
+
+	/**
+	 * Returns the Jackson type of the given type or null if the type cannot be constructed.
+	 *
+	 * @param type the type
+	 * @return the Jackson type or null
+	 */
+	private static JavaType javaType(final Type type) {
+		if (type instanceof JavaType javaType) {
+			return javaType;
+		}
+		try {
+			return null != type ? TypeFactory.defaultInstance().constructType(type) : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns true if the given type is a model type, the framework types, containers, arrays, enums and primitives are
+	 * not model types.
+	 *
+	 * @param javaType the Jackson type
+	 * @return true if the type is a model type
+	 */
+	private static boolean isModelType(final JavaType javaType) {
+		if (javaType.isContainerType() || javaType.isArrayType() || javaType.isEnumType() || javaType.isPrimitive()) {
+			return false;
+		}
+		String name = javaType.getRawClass().getName();
+		return FRAMEWORK_PACKAGES.stream().noneMatch(name::startsWith);
+	}
+}
@@ -0,0 +1,703 @@
+package org.oogp.spring;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apiphany.lang.collections.Lists;
+import org.apiphany.lang.collections.Maps;
+import org.oogp.Digests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springdoc.core.converters.AdditionalModelsConverter;
+import org.springdoc.core.converters.ConverterUtils;
+import org.springdoc.core.converters.PolymorphicModelConverter;
+import org.springdoc.core.converters.SchemaPropertyDeprecatingConverter;
+import org.springdoc.core.utils.SpringDocAnnotationsUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverterContext;
+import io.swagger.v3.oas.models.media.Schema;
+
+/**
+ * Model converter that serves the schemas of types loaded from dependency jars from a persistent {@link FileCacheStore}.
+ * <p>
+ * The cache key is made of the SHA-256 of the jar containing the type, the type name, the flags of the annotated type,
+ * the converter configuration and the Spring Doc configuration. The converter configuration holds the hashes of the
+ * classes of all the converters resolving the schemas, including the ones loaded by the swagger service loader from the
+ * project, and the configuration of the object mappers. The Spring Doc configuration is the static state changed with
+ * {@code SpringDocUtils} (replaced classes and schemas, ignored wrappers and types, deprecating annotations), since the
+ * project classes can change it when they are instantiated its digest is computed once per generation after the
+ * controllers are instantiated and set with {@link #setSpringDocConfiguration(String)}, no type is cached until then.
+ * <p>
+ * Every entry holds the resolved schema together with all the component schemas it references, which are defined in
+ * the converter context on a cache hit exactly as the converter chain would have defined them. Since the referenced
+ * schemas can come from other jars or from the project classes, every entry also holds the hashes of the jars and class
+ * files of all the classes reached while the schema was resolved and of all the classes they reference. An entry is
+ * only used while all these hashes are unchanged, otherwise it is resolved again and replaced. Only plain types without
+ * context annotations or JSON views are cached, the project classes and the JDK classes are always resolved by the
+ * converter chain.
+ * <p>
+ * The converter must be the first converter of the chain.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class CachingModelConverter implements ModelConverter {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(CachingModelConverter.class);
+
+	/**
+	 * The cache entry format version, it must be changed when the entry format changes.
+	 */
+	private static final String FORMAT_VERSION = "2";
+
+	/**
+	 * The prefix of the component schema references.
+	 */
+	private static final String COMPONENTS_SCHEMAS_PREFIX = "#/components/schemas/";
+
+	/**
+	 * The jar file extension.
+	 */
+	private static final String JAR_EXTENSION = ".jar";
+
+	/**
+	 * The cache entry field holding the resolved schema.
+	 */
+	private static final String SCHEMA_FIELD = "schema";
+
+	/**
+	 * The cache entry field holding the schema name which is not serialized with the schema.
+	 */
+	private static final String NAME_FIELD = "name";
+
+	/**
+	 * The cache entry field holding the referenced component schemas.
+	 */
+	private static final String MODELS_FIELD = "models";
+
+	/**
+	 * The cache entry field holding the hashes of the jars and class files the schema depends on.
+	 */
+	private static final String DEPENDENCIES_FIELD = "dependencies";
+
+	/**
+	 * The prefix of the jar dependencies.
+	 */
+	private static final String JAR_DEPENDENCY = "jar:";
+
+	/**
+	 * The prefix of the class file dependencies.
+	 */
+	private static final String CLASS_DEPENDENCY = "class:";
+
+	/**
+	 * The class file extension.
+	 */
+	private static final String CLASS_EXTENSION = ".class";
+
+	/**
+	 * Marks the code sources that are not jars.
+	 */
+	private static final String NO_JAR = "";
+
+	/**
+	 * The classes holding the static Spring Doc configuration which changes the resolved schemas.
+	 */
+	private static final List<Class<?>> SPRING_DOC_CONFIGURATION_CLASSES = List.of(
+			AdditionalModelsConverter.class,
+			ConverterUtils.class,
+			SchemaPropertyDeprecatingConverter.class,
+			PolymorphicModelConverter.class,
+			SpringDocAnnotationsUtils.class);
+
+	/**
+	 * The jar hashes by jar path, size and last modified time.
+	 */
+	private static final Map<String, String> JAR_HASHES = new ConcurrentHashMap<>();
+
+	/**
+	 * The cache store.
+	 */
+	private final FileCacheStore store;
+
+	/**
+	 * The object mapper used to serialize the schemas.
+	 */
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * The converter configuration part of the cache keys.
+	 */
+	private final String configuration;
+
+	/**
+	 * The Spring Doc configuration part of the cache keys, null until the Spring Doc configuration is settled.
+	 */
+	private volatile String springDocConfiguration;
+
+	/**
+	 * The dependencies of the classes, the platform classes have no dependency.
+	 */
+	private final Map<Class<?>, Optional<Dependency>> dependencies = new ConcurrentHashMap<>();
+
+	/**
+	 * The classes reached by the schemas being resolved on the current thread, one set for every schema being resolved.
+	 */
+	private final ThreadLocal<Deque<Set<Class<?>>>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * The number of cache entries used.
+	 */
+	private final AtomicInteger hits = new AtomicInteger();
+
+	/**
+	 * The number of cache entries that were found but not used since their dependencies changed.
+	 */
+	private final AtomicInteger invalidations = new AtomicInteger();
+
+	/**
+	 * A jar or a class file a cached schema depends on.
+	 *
+	 * @param name the dependency name
+	 * @param hash the SHA-256 of the jar or class file
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record Dependency(String name, String hash) {
+		// empty
+	}
+
+	/**
+	 * Constructs a caching model converter.
+	 *
+	 * @param store the cache store
+	 * @param objectMapper the object mapper used to serialize the schemas
+	 * @param configuration the converter configuration, any change in the configuration invalidates the cache
+	 */
+	public CachingModelConverter(final FileCacheStore store, final ObjectMapper objectMapper, final String configuration) {
+		this.store = store;
+		this.objectMapper = objectMapper;
+		this.configuration = configuration;
+	}
+
+	/**
+	 * @see #resolve(AnnotatedType, ModelConverterContext, Iterator)
+	 */
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Schema resolve(final AnnotatedType type, final ModelConverterContext context, final Iterator<ModelConverter> chain) {
+		if (!chain.hasNext()) {
+			return null;
+		}
+		Deque<Set<Class<?>>> resolving = frames.get();
+		Set<Class<?>> typeClasses = typeClasses(type.getType());
+		resolving.forEach(frame -> frame.addAll(typeClasses));
+		String key = cacheKey(type);
+		if (null == key) {
+			return chain.next().resolve(type, context, chain);
+		}
+		String cached = store.get(key);
+		if (null != cached) {
+			Schema schema = read(cached, context, rawClass(type.getType()).getClassLoader());
+			if (null != schema) {
+				return schema;
+			}
+		}
+		Set<Class<?>> frame = new HashSet<>(typeClasses);
+		resolving.push(frame);
+		Schema resolved;
+		try {
+			resolved = chain.next().resolve(type, context, chain);
+		} finally {
+			resolving.pop();
+		}
+		resolving.forEach(enclosing -> enclosing.addAll(frame));
+		if (null != resolved) {
+			write(key, resolved, context, frame);
+		}
+		return resolved;
+	}
+
+	/**
+	 * Returns the number of cache entries used.
+	 *
+	 * @return the number of cache entries used
+	 */
+	public int getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of cache entries that were found but not used since a jar or class file they depend on changed.
+	 *
+	 * @return the number of invalidated cache entries
+	 */
+	public int getInvalidations() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Returns the configuration part of the cache keys for the given converters and object mappers, the configuration
+	 * changes when the converter classes, the jars containing them or the object mapper configurations change.
+	 *
+	 * @param openapi31 the Open API 3.1 flag
+	 * @param converters all the converters resolving the schemas
+	 * @param objectMappers the object mappers used by the converters
+	 * @return the converter configuration
+	 */
+	public static String configuration(final boolean openapi31, final Collection<? extends ModelConverter> converters,
+			final Collection<ObjectMapper> objectMappers) {
+		StringBuilder sb = new StringBuilder("openapi31=").append(openapi31);
+		for (ModelConverter converter : converters) {
+			Class<?> converterClass = converter.getClass();
+			sb.append('|').append(converterClass.getName()).append('@')
+					.append(dependency(converterClass).map(Dependency::hash).orElse(NO_JAR));
+		}
+		objectMappers.forEach(objectMapper -> sb.append('|').append(objectMapperConfiguration(objectMapper)));
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the configuration of the given object mapper which changes the resolved schemas: the registered modules, the
+	 * enabled features, the property naming strategy, the default inclusion and the number of mix-ins.
+	 *
+	 * @param objectMapper the object mapper
+	 * @return the object mapper configuration
+	 */
+	static String objectMapperConfiguration(final ObjectMapper objectMapper) {
+		SerializationConfig config = objectMapper.getSerializationConfig();
+		Set<String> mapperFeatures = new TreeSet<>();
+		for (MapperFeature feature : MapperFeature.values()) {
+			if (config.isEnabled(feature)) {
+				mapperFeatures.add(feature.name());
+			}
+		}
+		Set<String> modules = objectMapper.getRegisteredModuleIds().stream()
+				.map(String::valueOf)
+				.collect(Collectors.toCollection(TreeSet::new));
+		return String.join(";",
+				"modules=" + modules,
+				"mapperFeatures=" + mapperFeatures,
+				"serializationFeatures=" + config.getSerializationFeatures(),
+				"deserializationFeatures=" + objectMapper.getDeserializationConfig().getDeserializationFeatures(),
+				"naming=" + Optional.ofNullable(config.getPropertyNamingStrategy()).map(naming -> naming.getClass().getName()).orElse(""),
+				"inclusion=" + config.getDefaultPropertyInclusion(),
+				"mixIns=" + objectMapper.mixInCount());
+	}
+
+	/**
+	 * Sets the digest of the Spring Doc configuration, it must be called once the static Spring Doc configuration is
+	 * settled, that is after the project controllers are instantiated.
+	 *
+	 * @param springDocConfiguration the Spring Doc configuration digest
+	 * @see #springDocConfiguration()
+	 */
+	public void setSpringDocConfiguration(final String springDocConfiguration) {
+		this.springDocConfiguration = springDocConfiguration;
+	}
+
+	/**
+	 * Returns the Spring Doc configuration which changes the resolved schemas.
+	 *
+	 * @return the Spring Doc configuration
+	 */
+	public static String springDocConfiguration() {
+		return staticConfiguration(SPRING_DOC_CONFIGURATION_CLASSES);
+	}
+
+	/**
+	 * Returns the SHA-256 of the static configuration held by the given classes: the values of all their static
+	 * collection, map and class fields, the collections and maps are sorted so that only their content matters.
+	 *
+	 * @param classes the classes holding the static configuration
+	 * @return the static configuration hash
+	 */
+	static String staticConfiguration(final Collection<Class<?>> classes) {
+		StringBuilder sb = new StringBuilder();
+		for (Class<?> cls : classes) {
+			for (Field field : cls.getDeclaredFields()) {
+				Class<?> fieldType = field.getType();
+				boolean configuration = Collection.class.isAssignableFrom(fieldType)
+						|| Map.class.isAssignableFrom(fieldType)
+						|| Class.class.equals(fieldType);
+				if (!Modifier.isStatic(field.getModifiers()) || !configuration) {
+					continue;
+				}
+				sb.append(cls.getName()).append('.').append(field.getName()).append('=');
+				try {
+					field.setAccessible(true);
+					sb.append(render(field.get(null)));
+				} catch (ReflectiveOperationException | RuntimeException e) {
+					LOGGER.debug("Could not read {}.{}: {}", cls.getName(), field.getName(), e.getMessage());
+				}
+				sb.append('\n');
+			}
+		}
+		return Digests.sha256(sb.toString());
+	}
+
+	/**
+	 * Renders a static configuration value, the collection and map elements are sorted.
+	 *
+	 * @param value the value
+	 * @return the rendered value
+	 */
+	private static String render(final Object value) {
+		return switch (value) {
+			case Class<?> cls -> cls.getName();
+			case Collection<?> collection -> collection.stream()
+					.map(CachingModelConverter::render)
+					.sorted()
+					.collect(Collectors.joining(",", "[", "]"));
+			case Map<?, ?> map -> map.entrySet().stream()
+					.map(entry -> render(entry.getKey()) + "=" + render(entry.getValue()))
+					.sorted()
+					.collect(Collectors.joining(",", "{", "}"));
+			case null, default -> String.valueOf(value);
+		};
+	}
+
+	/**
+	 * Returns the cache key for the given type or null if the type cannot be cached.
+	 *
+	 * @param type the annotated type
+	 * @return the cache key or null
+	 */
+	private String cacheKey(final AnnotatedType type) {
+		boolean plain = (null == type.getCtxAnnotations() || 0 == type.getCtxAnnotations().length)
+				&& null == type.getJsonViewAnnotation()
+				&& null == type.getParent()
+				&& null == type.getPropertyName()
+				&& !type.isSchemaProperty();
+		String springDocConfig = springDocConfiguration;
+		Class<?> rawClass = plain && null != springDocConfig ? rawClass(type.getType()) : null;
+		if (null == rawClass || rawClass.isPrimitive() || rawClass.isArray()) {
+			return null;
+		}
+		Path jarPath = jarPath(rawClass);
+		String jarHash = null == jarPath ? NO_JAR : jarHash(jarPath);
+		if (NO_JAR.equals(jarHash)) {
+			return null;
+		}
+		return String.join("|",
+				FORMAT_VERSION,
+				configuration,
+				springDocConfig,
+				jarHash,
+				rawClass.getName(),
+				String.valueOf(type.isResolveAsRef()),
+				String.valueOf(type.isSkipSchemaName()),
+				String.valueOf(type.isSkipOverride()),
+				String.valueOf(type.isIncludePropertiesWithoutJSONView()));
+	}
+
+	/**
+	 * Reads a cache entry, defines the cached component schemas in the context and returns the cached schema. Returns
+	 * null if the entry cannot be read or if any of the jars or class files it depends on changed.
+	 *
+	 * @param cached the cache entry content
+	 * @param context the converter context
+	 * @param classLoader the class loader of the cached type, used to read the class files it depends on
+	 * @return the cached schema or null
+	 */
+	@SuppressWarnings("rawtypes")
+	private Schema read(final String cached, final ModelConverterContext context, final ClassLoader classLoader) {
+		try {
+			JsonNode entry = objectMapper.readTree(cached);
+			for (Map.Entry<String, JsonNode> dependency : entry.get(DEPENDENCIES_FIELD).properties()) {
+				if (!dependency.getValue().asText().equals(currentHash(dependency.getKey(), classLoader))) {
+					LOGGER.debug("Schema cache entry invalidated by {}", dependency.getKey());
+					invalidations.incrementAndGet();
+					return null;
+				}
+			}
+			Map<String, Schema> models = new TreeMap<>();
+			for (Map.Entry<String, JsonNode> model : entry.get(MODELS_FIELD).properties()) {
+				models.put(model.getKey(), toSchema(model.getValue()));
+			}
+			Schema schema = toSchema(entry);
+			models.forEach(context::defineModel);
+			hits.incrementAndGet();
+			return schema;
+		} catch (JsonProcessingException | RuntimeException e) {
+			LOGGER.warn("Could not read schema cache entry: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the cache entry for the resolved schema. Nothing is written if the schema references component schemas that
+	 * are not defined in the context.
+	 *
+	 * @param key the cache key
+	 * @param resolved the resolved schema
+	 * @param context the converter context
+	 * @param reached the classes reached while the schema was resolved
+	 */
+	@SuppressWarnings("rawtypes")
+	private void write(final String key, final Schema resolved, final ModelConverterContext context, final Set<Class<?>> reached) {
+		Map<String, Schema> definedModels = context.getDefinedModels();
+		Map<String, Schema> models = new TreeMap<>();
+		Deque<Schema> schemas = new ArrayDeque<>();
+		schemas.push(resolved);
+		while (!schemas.isEmpty()) {
+			for (String name : referencedModels(schemas.pop())) {
+				if (models.containsKey(name)) {
+					continue;
+				}
+				Schema model = definedModels.get(name);
+				if (null == model) {
+					return;
+				}
+				models.put(name, model);
+				schemas.push(model);
+			}
+		}
+		// the referenced classes cover the types the context resolved earlier without calling the converter chain
+		Map<String, String> dependencyHashes = new TreeMap<>();
+		ClassFingerprinter.referencedClasses(reached).forEach(cls -> dependencies.computeIfAbsent(cls, CachingModelConverter::dependency)
+				.ifPresent(dependency -> dependencyHashes.put(dependency.name(), dependency.hash())));
+		try {
+			ObjectNode entry = toNode(resolved);
+			ObjectNode modelsNode = entry.putObject(MODELS_FIELD);
+			models.forEach((name, model) -> modelsNode.set(name, toNode(model)));
+			ObjectNode dependenciesNode = entry.putObject(DEPENDENCIES_FIELD);
+			dependencyHashes.forEach(dependenciesNode::put);
+			store.put(key, objectMapper.writeValueAsString(entry));
+		} catch (JsonProcessingException | RuntimeException e) {
+			LOGGER.warn("Could not write schema cache entry: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Converts the schema to a JSON node that also holds the schema name.
+	 *
+	 * @param schema the schema
+	 * @return the JSON node
+	 */
+	@SuppressWarnings("rawtypes")
+	private ObjectNode toNode(final Schema schema) {
+		ObjectNode node = objectMapper.createObjectNode();
+		node.put(NAME_FIELD, schema.getName());
+		node.set(SCHEMA_FIELD, objectMapper.valueToTree(schema));
+		return node;
+	}
+
+	/**
+	 * Converts a JSON node created with {@link #toNode(Schema)} back to the schema.
+	 *
+	 * @param node the JSON node
+	 * @return the schema
+	 * @throws JsonProcessingException when the schema cannot be read
+	 */
+	@SuppressWarnings("rawtypes")
+	private Schema toSchema(final JsonNode node) throws JsonProcessingException {
+		Schema schema = objectMapper.treeToValue(node.get(SCHEMA_FIELD), Schema.class);
+		JsonNode name = node.get(NAME_FIELD);
+		if (null != name && !name.isNull()) {
+			schema.setName(name.asText());
+		}
+		return schema;
+	}
+
+	/**
+	 * Returns the names of the component schemas directly referenced by the given schema and its inline schemas.
+	 *
+	 * @param root the schema
+	 * @return the referenced component schema names
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static Set<String> referencedModels(final Schema root) {
+		Set<String> names = new TreeSet<>();
+		Deque<Schema> schemas = new ArrayDeque<>();
+		schemas.push(root);
+		while (!schemas.isEmpty()) {
+			Schema schema = schemas.pop();
+			String ref = schema.get$ref();
+			if (null != ref && ref.startsWith(COMPONENTS_SCHEMAS_PREFIX)) {
+				names.add(ref.substring(COMPONENTS_SCHEMAS_PREFIX.length()));
+			}
+			if (null != schema.getDiscriminator()) {
+				Maps.safe(schema.getDiscriminator().getMapping()).values().stream()
+						.filter(mapping -> mapping.startsWith(COMPONENTS_SCHEMAS_PREFIX))
+						.forEach(mapping -> names.add(mapping.substring(COMPONENTS_SCHEMAS_PREFIX.length())));
+			}
+			Maps.safe((Map<String, Schema>) schema.getProperties()).values().forEach(schemas::push);
+			Maps.safe((Map<String, Schema>) schema.getPatternProperties()).values().forEach(schemas::push);
+			Lists.safe((List<Schema>) schema.getAllOf()).forEach(schemas::push);
+			Lists.safe((List<Schema>) schema.getAnyOf()).forEach(schemas::push);
+			Lists.safe((List<Schema>) schema.getOneOf()).forEach(schemas::push);
+			Lists.safe((List<Schema>) schema.getPrefixItems()).forEach(schemas::push);
+			Optional.ofNullable(schema.getItems()).ifPresent(schemas::push);
+			Optional.ofNullable(schema.getNot()).ifPresent(schemas::push);
+			if (schema.getAdditionalProperties() instanceof Schema additionalProperties) {
+				schemas.push(additionalProperties);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Returns the dependency of the given class: the jar containing it or its class file. The platform classes have no
+	 * dependency since they only change together with the JDK.
+	 *
+	 * @param cls the class
+	 * @return the dependency, empty for the platform classes
+	 */
+	private static Optional<Dependency> dependency(final Class<?> cls) {
+		ClassLoader classLoader = cls.getClassLoader();
+		if (cls.isPrimitive() || cls.isArray() || null == classLoader || ClassLoader.getPlatformClassLoader() == classLoader) {
+			return Optional.empty();
+		}
+		Path jarPath = jarPath(cls);
+		if (null != jarPath) {
+			return Optional.of(new Dependency(JAR_DEPENDENCY + jarPath, jarHash(jarPath)));
+		}
+		return Optional.of(new Dependency(CLASS_DEPENDENCY + cls.getName(), ClassFingerprinter.classFileHash(cls)));
+	}
+
+	/**
+	 * Returns the current hash of the given dependency.
+	 *
+	 * @param dependency the dependency name
+	 * @param classLoader the class loader used to read the class files
+	 * @return the current hash or {@link #NO_JAR} if the dependency cannot be read
+	 */
+	private static String currentHash(final String dependency, final ClassLoader classLoader) {
+		if (dependency.startsWith(JAR_DEPENDENCY)) {
+			Path jarPath = Path.of(dependency.substring(JAR_DEPENDENCY.length()));
+			return Files.isRegularFile(jarPath) ? jarHash(jarPath) : NO_JAR;
+		}
+		String resource = dependency.substring(CLASS_DEPENDENCY.length()).replace('.', '/') + CLASS_EXTENSION;
+		try (InputStream inputStream = null == classLoader ? null : classLoader.getResourceAsStream(resource)) {
+			return null == inputStream ? NO_JAR : Digests.sha256(inputStream);
+		} catch (IOException e) {
+			return NO_JAR;
+		}
+	}
+
+	/**
+	 * Returns the hash of the given jar or {@link #NO_JAR} if the jar cannot be read. The hashes are kept by jar path,
+	 * size and last modified time so a jar is only hashed again when it changes.
+	 *
+	 * @param jarPath the jar path
+	 * @return the jar hash
+	 */
+	private static String jarHash(final Path jarPath) {
+		String version;
+		try {
+			version = jarPath + "|" + Files.size(jarPath) + "|" + Files.getLastModifiedTime(jarPath).toMillis();
+		} catch (IOException e) {
+			LOGGER.warn("Could not read {}: {}", jarPath, e.getMessage());
+			return NO_JAR;
+		}
+		return JAR_HASHES.computeIfAbsent(version, _ -> {
+			try {
+				return Digests.sha256(jarPath);
+			} catch (IOException e) {
+				LOGGER.warn("Could not hash {}: {}", jarPath, e.getMessage());
+				return NO_JAR;
+			}
+		});
+	}
+
+	/**
+	 * Returns the path of the jar containing the given class or null if the class is not loaded from a jar.
+	 *
+	 * @param cls the class
+	 * @return the jar path or null
+	 */
+	static Path jarPath(final Class<?> cls) {
+		CodeSource codeSource = cls.getProtectionDomain().getCodeSource();
+		if (null == codeSource || null == codeSource.getLocation()) {
+			return null;
+		}
+		try {
+			Path path = Path.of(codeSource.getLocation().toURI());
+			return path.toString().endsWith(JAR_EXTENSION) && Files.isRegularFile(path) ? path : null;
+		} catch (URISyntaxException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the raw class of a type that has no type arguments or null otherwise.
+	 *
+	 * @param type the type
+	 * @return the raw class or null
+	 */
+	private static Class<?> rawClass(final Type type) {
+		return switch (type) {
+			case Class<?> cls -> cls;
+			case JavaType javaType when !javaType.isContainerType() && !javaType.hasGenericTypes() -> javaType.getRawClass();
+			case null, default -> null;
+		};
+	}
+
+	/**
+	 * Returns the classes of the given type and of its type arguments and content types.
+	 *
+	 * @param type the type
+	 * @return the classes of the type
+	 */
+	private static Set<Class<?>> typeClasses(final Type type) {
+		Set<Class<?>> classes = new HashSet<>();
+		if (null == type) {
+			return classes;
+		}
+		Deque<JavaType> javaTypes = new ArrayDeque<>();
+		try {
+			javaTypes.push(type instanceof JavaType javaType ? javaType : TypeFactory.defaultInstance().constructType(type));
+		} catch (RuntimeException e) {
+			return classes;
+		}
+		Set<JavaType> visited = new HashSet<>();
+		while (!javaTypes.isEmpty()) {
+			JavaType javaType = javaTypes.pop();
+			if (!visited.add(javaType)) {
+				continue;
+			}
+			if (!javaType.isArrayType()) {
+				classes.add(javaType.getRawClass());
+			}
+			for (int i = 0; i < javaType.containedTypeCount(); ++i) {
+				Optional.ofNullable(javaType.containedType(i)).ifPresent(javaTypes::push);
+			}
+			Optional.ofNullable(javaType.getContentType()).ifPresent(javaTypes::push);
+		}
+		return classes;
+	}
+}
@@ -0,0 +1,301 @@
+package org.oogp.spring;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.oogp.Digests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes fingerprints of classes together with the transitive closure of the classes they reference.
+ * <p>
+ * The referenced classes are found with reflection: the super classes and interfaces, the generic types of the fields,
+ * method parameters and return types, and the classes used as annotation values (for example
+ * {@code @Schema(implementation = ...)} or {@code @JsonSubTypes}). The fingerprint is the SHA-256 of the names, of the
+ * class file contents and of the therapi {@code __Javadoc.json} resource contents of all the classes in the closure, so
+ * it changes whenever any of the class files or of their javadoc changes. The platform and framework classes are not
+ * followed since they only change together with the generator dependencies.
+ * <p>
+ * The hashes are kept for the lifetime of the fingerprinter, so one instance should be used for a single generation.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class ClassFingerprinter {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(ClassFingerprinter.class);
+
+	/**
+	 * The packages of the classes which are not followed.
+	 */
+	private static final List<String> SKIPPED_PACKAGES = List.of(
+			"java.",
+			"javax.",
+			"jakarta.",
+			"jdk.",
+			"sun.",
+			"com.sun.",
+			"kotlin.",
+			"org.springframework.",
+			"org.springdoc.",
+			"io.swagger.",
+			"com.fasterxml.jackson.");
+
+	/**
+	 * Marks the classes without a readable class file.
+	 */
+	static final String NO_CLASS_FILE = "";
+
+	/**
+	 * The class file extension.
+	 */
+	private static final String CLASS_FILE_EXTENSION = ".class";
+
+	/**
+	 * The class file hashes by class.
+	 */
+	private final Map<Class<?>, String> classFileHashes = new ConcurrentHashMap<>();
+
+	/**
+	 * The javadoc resource hashes by class.
+	 */
+	private final Map<Class<?>, String> javadocHashes = new ConcurrentHashMap<>();
+
+	/**
+	 * Default constructor.
+	 */
+	public ClassFingerprinter() {
+		// empty
+	}
+
+	/**
+	 * Returns the fingerprint of the given classes and of all the classes they reference.
+	 *
+	 * @param roots the classes to fingerprint
+	 * @return the fingerprint
+	 */
+	public String fingerprint(final Collection<Class<?>> roots) {
+		Map<String, String> hashes = new TreeMap<>();
+		Set<Class<?>> visited = new HashSet<>();
+		Deque<Class<?>> classes = new ArrayDeque<>(roots);
+		while (!classes.isEmpty()) {
+			Class<?> cls = classes.pop();
+			if (!visited.add(cls)) {
+				continue;
+			}
+			hashes.put(cls.getName(), classFileHashes.computeIfAbsent(cls, ClassFingerprinter::classFileHash));
+			String javadocHash = javadocHashes.computeIfAbsent(cls, type -> resourceHash(type, JavadocIndex.JAVADOC_RESOURCE_SUFFIX));
+			if (!NO_CLASS_FILE.equals(javadocHash)) {
+				hashes.put(cls.getName() + JavadocIndex.JAVADOC_RESOURCE_SUFFIX, javadocHash);
+			}
+			Set<Class<?>> referenced = new HashSet<>();
+			addReferencedClasses(cls, referenced);
+			referenced.stream()
+					.filter(ClassFingerprinter::isFollowed)
+					.filter(referencedClass -> !visited.contains(referencedClass))
+					.forEach(classes::push);
+		}
+		StringBuilder sb = new StringBuilder();
+		hashes.forEach((name, hash) -> sb.append(name).append('=').append(hash).append('\n'));
+		return Digests.sha256(sb.toString());
+	}
+
+	/**
+	 * Returns the given classes together with all the classes they reference transitively. The platform and framework
+	 * classes are returned when they are referenced but the classes they reference are not followed.
+	 *
+	 * @param roots the root classes
+	 * @return the root classes and the classes they reference
+	 */
+	public static Set<Class<?>> referencedClasses(final Collection<Class<?>> roots) {
+		Set<Class<?>> visited = new HashSet<>();
+		Deque<Class<?>> classes = new ArrayDeque<>(roots);
+		while (!classes.isEmpty()) {
+			Class<?> cls = classes.pop();
+			if (!visited.add(cls) || !isFollowed(cls)) {
+				continue;
+			}
+			Set<Class<?>> referenced = new HashSet<>();
+			addReferencedClasses(cls, referenced);
+			referenced.stream()
+					.filter(referencedClass -> !referencedClass.isPrimitive())
+					.filter(referencedClass -> !visited.contains(referencedClass))
+					.forEach(classes::push);
+		}
+		return visited;
+	}
+
+	/**
+	 * Adds all the classes directly referenced by the given class.
+	 *
+	 * @param cls the class
+	 * @param referenced the referenced classes
+	 */
+	private static void addReferencedClasses(final Class<?> cls, final Set<Class<?>> referenced) {
+		addTypeClasses(cls.getGenericSuperclass(), referenced);
+		for (Type type : cls.getGenericInterfaces()) {
+			addTypeClasses(type, referenced);
+		}
+		addAnnotationClasses(cls, referenced);
+		for (Field field : cls.getDeclaredFields()) {
+			addTypeClasses(field.getGenericType(), referenced);
+			addAnnotationClasses(field, referenced);
+		}
+		for (Method method : cls.getDeclaredMethods()) {
+			addTypeClasses(method.getGenericReturnType(), referenced);
+			addAnnotationClasses(method, referenced);
+			for (Parameter parameter : method.getParameters()) {
+				addTypeClasses(parameter.getParameterizedType(), referenced);
+				addAnnotationClasses(parameter, referenced);
+			}
+		}
+	}
+
+	/**
+	 * Adds the classes of the given generic type.
+	 *
+	 * @param type the generic type
+	 * @param referenced the referenced classes
+	 */
+	private static void addTypeClasses(final Type type, final Set<Class<?>> referenced) {
+		switch (type) {
+			case Class<?> cls when cls.isArray() -> addTypeClasses(cls.getComponentType(), referenced);
+			case Class<?> cls -> referenced.add(cls);
+			case ParameterizedType parameterizedType -> {
+				addTypeClasses(parameterizedType.getRawType(), referenced);
+				for (Type argument : parameterizedType.getActualTypeArguments()) {
+					addTypeClasses(argument, referenced);
+				}
+			}
+			case GenericArrayType genericArrayType -> addTypeClasses(genericArrayType.getGenericComponentType(), referenced);
+			case WildcardType wildcardType -> {
+				for (Type bound : wildcardType.getUpperBounds()) {
+					addTypeClasses(bound, referenced);
+				}
+				for (Type bound : wildcardType.getLowerBounds()) {
+					addTypeClasses(bound, referenced);
+				}
+			}
+			case TypeVariable<?> typeVariable -> {
+				for (Type bound : typeVariable.getBounds()) {
+					addTypeClasses(bound, referenced);
+				}
+			}
+			case null, default -> {
+				// nothing to add
+			}
+		}
+	}
+
+	/**
+	 * Adds the classes used as values in the annotations of the given element.
+	 *
+	 * @param element the annotated element
+	 * @param referenced the referenced classes
+	 */
+	private static void addAnnotationClasses(final AnnotatedElement element, final Set<Class<?>> referenced) {
+		for (Annotation annotation : element.getDeclaredAnnotations()) {
+			addAnnotationClasses(annotation, referenced);
+		}
+	}
+
+	/**
+	 * Adds the classes used as values in the given annotation and in its nested annotations.
+	 *
+	 * @param annotation the annotation
+	 * @param referenced the referenced classes
+	 */
+	private static void addAnnotationClasses(final Annotation annotation, final Set<Class<?>> referenced) {
+		for (Method attribute : annotation.annotationType().getDeclaredMethods()) {
+			if (0 != attribute.getParameterCount()) {
+				continue;
+			}
+			Object value;
+			try {
+				value = attribute.invoke(annotation);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				continue;
+			}
+			if (value instanceof Class<?> cls) {
+				addTypeClasses(cls, referenced);
+			} else if (value instanceof Class<?>[] classes) {
+				List.of(classes).forEach(cls -> addTypeClasses(cls, referenced));
+			} else if (value instanceof Annotation nested) {
+				addAnnotationClasses(nested, referenced);
+			} else if (value instanceof Annotation[] nestedAnnotations) {
+				List.of(nestedAnnotations).forEach(nested -> addAnnotationClasses(nested, referenced));
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the referenced classes of the given class must be followed.
+	 *
+	 * @param cls the class
+	 * @return true if the class must be followed
+	 */
+	private static boolean isFollowed(final Class<?> cls) {
+		if (cls.isPrimitive() || null == cls.getClassLoader()) {
+			return false;
+		}
+		String name = cls.getName();
+		return SKIPPED_PACKAGES.stream().noneMatch(name::startsWith);
+	}
+
+	/**
+	 * Returns the SHA-256 of the class file of the given class or {@link #NO_CLASS_FILE} if the class file cannot be read.
+	 *
+	 * @param cls the class
+	 * @return the class file hash
+	 */
+	static String classFileHash(final Class<?> cls) {
+		return resourceHash(cls, CLASS_FILE_EXTENSION);
+	}
+
+	/**
+	 * Returns the SHA-256 of the resource named after the given class with the given suffix or {@link #NO_CLASS_FILE} if
+	 * the resource doesn't exist or cannot be read.
+	 *
+	 * @param cls the class
+	 * @param suffix the resource name suffix
+	 * @return the resource hash
+	 */
+	private static String resourceHash(final Class<?> cls, final String suffix) {
+		ClassLoader classLoader = cls.getClassLoader();
+		if (null == classLoader) {
+			return NO_CLASS_FILE;
+		}
+		String resource = cls.getName().replace('.', '/') + suffix;
+		try (InputStream inputStream = classLoader.getResourceAsStream(resource)) {
+			if (null == inputStream) {
+				return NO_CLASS_FILE;
+			}
+			return Digests.sha256(inputStream);
+		} catch (IOException e) {
+			LOGGER.warn("Could not read {}: {}", resource, e.getMessage());
+			return NO_CLASS_FILE;
+		}
+	}
+}
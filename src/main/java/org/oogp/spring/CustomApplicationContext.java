@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.morphix.lang.JavaObjects;
 import org.oogp.Errors;
@@ -18,10 +20,12 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.NoSuchMessageException;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.lang.Nullable;
@@ -40,8 +44,9 @@ import org.springframework.lang.Nullable;
  * </p>
  * <ul>
  * <li>Bean registration by instance, name, or metadata</li>
+ * <li>Lazy bean registration with suppliers, beans being created on first use</li>
  * <li>Bean retrieval by name or type with type safety</li>
- * <li>Support for annotation-based bean queries</li>
+ * <li>Support for annotation-based bean queries, backed by an index built once per annotation type</li>
  * <li>Integration with a custom bean factory for dependency injection</li>
  * <li>Partial implementation of Spring's ApplicationContext interface</li>
  * </ul>
@@ -67,6 +72,7 @@ public class CustomApplicationContext implements ApplicationContext {
 
 	private final Map<Class<?>, List<BeanMetadata>> classMap = new HashMap<>();
 	private final Map<String, BeanMetadata> nameMap = new HashMap<>();
+	private final Map<Class<? extends Annotation>, List<BeanMetadata>> annotationIndex = new ConcurrentHashMap<>();
 
 	private final Instant startupDate = Instant.now();
 
@@ -97,6 +103,7 @@ public class CustomApplicationContext implements ApplicationContext {
 		}
 		nameMap.put(beanMetadata.beanName(), beanMetadata);
 		classMap.computeIfAbsent(beanMetadata.beanType(), _ -> new ArrayList<>()).add(beanMetadata);
+		annotationIndex.clear();
 	}
 
 	/**
@@ -120,6 +127,64 @@ public class CustomApplicationContext implements ApplicationContext {
 		addBean(beanMetadata);
 	}
 
+	/**
+	 * Registers a bean with the context that is created by the given factory only when it is first requested.
+	 *
+	 * @param <T> the bean type
+	 *
+	 * @param beanName the name of the bean to register
+	 * @param beanType the type of the bean to register
+	 * @param beanFactory the factory creating the bean instance
+	 */
+	public <T> void addBean(final String beanName, final Class<T> beanType, final Supplier<? extends T> beanFactory) {
+		BeanMetadata beanMetadata = BeanMetadata.lazy(beanName, beanType, beanFactory);
+		addBean(beanMetadata);
+	}
+
+	/**
+	 * Returns the metadata of all the beans matching the given type without creating the beans.
+	 *
+	 * @param type the required type
+	 * @return the matching beans metadata
+	 */
+	public List<BeanMetadata> getBeanMetadataForType(final ResolvableType type) {
+		List<BeanMetadata> result = new ArrayList<>();
+		for (Map.Entry<Class<?>, List<BeanMetadata>> entry : classMap.entrySet()) {
+			if (type.isAssignableFrom(entry.getKey())) {
+				result.addAll(entry.getValue());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the metadata of all the beans whose type is annotated (directly or as meta-annotation) with the given
+	 * annotation without creating the beans. The result is computed only once for each annotation type, registering a
+	 * new bean resets the index.
+	 *
+	 * @param annotationType the annotation type
+	 * @return the matching beans metadata
+	 */
+	public List<BeanMetadata> getBeanMetadataWithAnnotation(final Class<? extends Annotation> annotationType) {
+		return annotationIndex.computeIfAbsent(annotationType, type -> nameMap.values().stream()
+				.filter(beanMetadata -> AnnotatedElementUtils.hasAnnotation(beanMetadata.beanType(), type))
+				.toList());
+	}
+
+	/**
+	 * Returns the names of the beans whose instances were created, sorted by name. Lazily registered beans that were
+	 * never requested are not included.
+	 *
+	 * @return the names of the instantiated beans
+	 */
+	public List<String> getInstantiatedBeanNames() {
+		return nameMap.values().stream()
+				.filter(BeanMetadata::isInstantiated)
+				.map(BeanMetadata::beanName)
+				.sorted()
+				.toList();
+	}
+
 	/**
 	 * Returns the custom bean factory associated with this application context.
 	 *
@@ -151,12 +216,12 @@ public class CustomApplicationContext implements ApplicationContext {
 
 	@Override
 	public <T> ObjectProvider<T> getBeanProvider(final Class<T> requiredType, final boolean allowEagerInit) {
-		return Errors.unsupportedOperation();
+		return getBeanProvider(requiredType);
 	}
 
 	@Override
 	public <T> ObjectProvider<T> getBeanProvider(final ResolvableType requiredType, final boolean allowEagerInit) {
-		return Errors.unsupportedOperation();
+		return getBeanProvider(requiredType);
 	}
 
 	@Override
@@ -184,7 +249,7 @@ public class CustomApplicationContext implements ApplicationContext {
 
 	@Override
 	public String[] getBeanNamesForType(final Class<?> type, final boolean includeNonSingletons, final boolean allowEagerInit) {
-		return Errors.unsupportedOperation();
+		return getBeanNamesForType(type);
 	}
 
 	@Override
@@ -208,30 +273,29 @@ public class CustomApplicationContext implements ApplicationContext {
 
 	@Override
 	public String[] getBeanNamesForAnnotation(final Class<? extends Annotation> annotationType) {
-		return Errors.unsupportedOperation();
+		return getBeanMetadataWithAnnotation(annotationType).stream()
+				.map(BeanMetadata::beanName)
+				.toArray(String[]::new);
 	}
 
 	@Override
 	public Map<String, Object> getBeansWithAnnotation(final Class<? extends Annotation> annotationType) throws BeansException {
 		Map<String, Object> result = new HashMap<>();
-		for (Map.Entry<String, BeanMetadata> entry : nameMap.entrySet()) {
-			BeanMetadata beanMetadata = entry.getValue();
-			if (beanMetadata.beanType().getAnnotation(annotationType) != null) {
-				result.put(entry.getKey(), beanMetadata.beanInstance());
-			}
+		for (BeanMetadata beanMetadata : getBeanMetadataWithAnnotation(annotationType)) {
+			result.put(beanMetadata.beanName(), beanMetadata.beanInstance());
 		}
 		return result;
 	}
 
 	@Override
 	public <A extends Annotation> A findAnnotationOnBean(final String beanName, final Class<A> annotationType) throws NoSuchBeanDefinitionException {
-		return Errors.unsupportedOperation();
+		return AnnotatedElementUtils.findMergedAnnotation(getType(beanName), annotationType);
 	}
 
 	@Override
 	public <A extends Annotation> A findAnnotationOnBean(final String beanName, final Class<A> annotationType, final boolean allowFactoryBeanInit)
 			throws NoSuchBeanDefinitionException {
-		return Errors.unsupportedOperation();
+		return findAnnotationOnBean(beanName, annotationType);
 	}
 
 	@Override
@@ -243,7 +307,7 @@ public class CustomApplicationContext implements ApplicationContext {
 
 	@Override
 	public Object getBean(final String name) throws BeansException {
-		return Errors.unsupportedOperation();
+		return getBean(name, Object.class);
 	}
 
 	@Override
@@ -266,7 +330,7 @@ public class CustomApplicationContext implements ApplicationContext {
 
 	@Override
 	public <T> T getBean(final Class<T> requiredType) throws BeansException {
-		return Errors.unsupportedOperation();
+		return getBeanProvider(requiredType).getObject();
 	}
 
 	@Override
@@ -276,12 +340,12 @@ public class CustomApplicationContext implements ApplicationContext {
 
 	@Override
 	public <T> ObjectProvider<T> getBeanProvider(final Class<T> requiredType) {
-		return Errors.unsupportedOperation();
+		return getBeanProvider(ResolvableType.forRawClass(requiredType));
 	}
 
 	@Override
 	public <T> ObjectProvider<T> getBeanProvider(final ResolvableType requiredType) {
-		return Errors.unsupportedOperation();
+		return new BeanObjectProvider<>(this, requiredType);
 	}
 
 	@Override
@@ -291,12 +355,16 @@ public class CustomApplicationContext implements ApplicationContext {
 
 	@Override
 	public boolean isSingleton(final String name) throws NoSuchBeanDefinitionException {
-		return Errors.unsupportedOperation();
+		return !isPrototype(name);
 	}
 
 	@Override
 	public boolean isPrototype(final String name) throws NoSuchBeanDefinitionException {
-		return Errors.unsupportedOperation();
+		BeanMetadata beanMetadata = nameMap.get(name);
+		if (null == beanMetadata) {
+			throw new NoSuchBeanDefinitionException("No bean available for name: " + name);
+		}
+		return ConfigurableBeanFactory.SCOPE_PROTOTYPE.equals(beanMetadata.scope());
 	}
 
 	@Override
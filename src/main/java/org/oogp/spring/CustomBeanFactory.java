@@ -49,6 +49,7 @@ import org.springframework.util.StringValueResolver;
  * <b>Supported Operations:</b>
  * <ul>
  * <li>Bean retrieval by name and/or type</li>
+ * <li>Bean providers (delegated to the underlying context)</li>
  * <li>Bean existence checks</li>
  * <li>Bean scope queries (singleton/prototype)</li>
  * <li>Type matching operations</li>
@@ -115,12 +116,12 @@ public class CustomBeanFactory implements AutowireCapableBeanFactory, Configurab
 
 	@Override
 	public <T> ObjectProvider<T> getBeanProvider(final Class<T> requiredType) {
-		return Errors.unsupportedOperation();
+		return context.getBeanProvider(requiredType);
 	}
 
 	@Override
 	public <T> ObjectProvider<T> getBeanProvider(final ResolvableType requiredType) {
-		return Errors.unsupportedOperation();
+		return context.getBeanProvider(requiredType);
 	}
 
 	@Override
@@ -0,0 +1,115 @@
+package org.oogp.spring;
+
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Describes a single request handler endpoint, the information Spring MVC would keep in a {@code RequestMappingInfo}
+ * but without any of the Spring MVC infrastructure.
+ *
+ * @param handlerMethod the handler method
+ * @param patterns the path patterns
+ * @param methods the HTTP methods, empty when the endpoint accepts all methods
+ * @param params the parameter expressions
+ * @param headers the header expressions
+ * @param consumes the consumable media type expressions
+ * @param produces the producible media type expressions
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public record Endpoint(
+		HandlerMethod handlerMethod,
+		Set<String> patterns,
+		Set<RequestMethod> methods,
+		Set<String> params,
+		Set<String> headers,
+		List<String> consumes,
+		List<String> produces) {
+
+	/**
+	 * The prefix used for negated expressions.
+	 */
+	private static final String NEGATION = "!";
+
+	/**
+	 * Returns the consumable media types (negated expressions excluded).
+	 *
+	 * @return the consumable media types
+	 */
+	public String[] consumableMediaTypes() {
+		return consumes.stream().filter(consume -> !consume.startsWith(NEGATION)).toArray(String[]::new);
+	}
+
+	/**
+	 * Returns the producible media types (negated expressions excluded).
+	 *
+	 * @return the producible media types
+	 */
+	public String[] producibleMediaTypes() {
+		return produces.stream().filter(produce -> !produce.startsWith(NEGATION)).toArray(String[]::new);
+	}
+
+	/**
+	 * Returns the header expressions as array.
+	 *
+	 * @return the header expressions
+	 */
+	public String[] headerExpressions() {
+		return headers.toArray(String[]::new);
+	}
+
+	/**
+	 * Returns the parameter expressions as array.
+	 *
+	 * @return the parameter expressions
+	 */
+	public String[] paramExpressions() {
+		return params.toArray(String[]::new);
+	}
+
+	/**
+	 * Returns the mapping key of this endpoint which is identical to the {@code toString()} of the equivalent Spring MVC
+	 * {@code RequestMappingInfo}. Spring Doc orders the handler methods by this value so using the same key keeps the
+	 * generated specification identical regardless of how the endpoints were discovered.
+	 *
+	 * @return the mapping key
+	 */
+	public String mappingKey() {
+		StringBuilder builder = new StringBuilder("{");
+		if (!methods.isEmpty()) {
+			builder.append(methods.size() == 1 ? methods.iterator().next() : methods);
+		}
+		builder.append(' ').append(join(patterns, " || "));
+		if (!params.isEmpty()) {
+			builder.append(", params ").append(join(params, " && "));
+		}
+		if (!headers.isEmpty()) {
+			builder.append(", headers ").append(join(headers, " && "));
+		}
+		if (!consumes.isEmpty()) {
+			builder.append(", consumes ").append(join(consumes, " || "));
+		}
+		if (!produces.isEmpty()) {
+			builder.append(", produces ").append(join(produces, " || "));
+		}
+		builder.append('}');
+		return builder.toString();
+	}
+
+	/**
+	 * Joins the given values the same way Spring request conditions are printed.
+	 *
+	 * @param values the values to join
+	 * @param infix the infix
+	 * @return the joined values
+	 */
+	private static String join(final Iterable<String> values, final String infix) {
+		StringJoiner joiner = new StringJoiner(infix, "[", "]");
+		values.forEach(joiner::add);
+		return joiner.toString();
+	}
+}
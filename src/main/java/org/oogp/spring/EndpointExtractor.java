@@ -0,0 +1,284 @@
+package org.oogp.spring;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.morphix.reflection.Constructors;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Extracts {@link Endpoint} objects directly from the request mapping annotations of a controller class.
+ * <p>
+ * The extraction follows the same rules Spring MVC uses when it builds the {@code RequestMappingInfo} objects for a
+ * controller (merged annotations, type and method level mapping combination, header derived media types) but it
+ * doesn't need any handler mapping, servlet or web application context infrastructure.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class EndpointExtractor {
+
+	/**
+	 * The negation prefix for request condition expressions.
+	 */
+	private static final String NEGATION = "!";
+
+	/**
+	 * The parser used for path patterns, the same defaults as the Spring MVC handler mappings.
+	 */
+	private static final PathPatternParser PATH_PATTERN_PARSER = PathPatternParser.defaultInstance;
+
+	/**
+	 * Hide constructor.
+	 */
+	private EndpointExtractor() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * Returns true if the given type is a request handler, the same check Spring MVC does when it detects handler methods.
+	 *
+	 * @param type the type to check
+	 * @return true if the given type is a request handler
+	 */
+	public static boolean isHandler(final Class<?> type) {
+		return AnnotatedElementUtils.hasAnnotation(type, Controller.class);
+	}
+
+	/**
+	 * Extracts all the endpoints declared by the given request handler.
+	 *
+	 * @param beanName the bean name of the request handler
+	 * @param handlerType the request handler type
+	 * @param beanFactory the bean factory holding the request handler bean
+	 * @return the endpoints declared by the request handler
+	 */
+	public static List<Endpoint> extract(final String beanName, final Class<?> handlerType, final BeanFactory beanFactory) {
+		Class<?> userType = ClassUtils.getUserClass(handlerType);
+		RequestMapping typeMapping = AnnotatedElementUtils.findMergedAnnotation(userType, RequestMapping.class);
+		Map<Method, RequestMapping> methodMappings = MethodIntrospector.selectMethods(userType,
+				(MethodIntrospector.MetadataLookup<RequestMapping>) method -> AnnotatedElementUtils.findMergedAnnotation(method,
+						RequestMapping.class));
+
+		List<Endpoint> endpoints = new ArrayList<>(methodMappings.size());
+		methodMappings.forEach((method, methodMapping) -> {
+			Method invocableMethod = AopUtils.selectInvocableMethod(method, userType);
+			HandlerMethod handlerMethod = new HandlerMethod(beanName, beanFactory, invocableMethod);
+			endpoints.add(toEndpoint(handlerMethod, typeMapping, methodMapping));
+		});
+		return endpoints;
+	}
+
+	/**
+	 * Builds an endpoint by combining the type level mapping with the method level mapping.
+	 *
+	 * @param handlerMethod the handler method
+	 * @param typeMapping the type level mapping, can be null
+	 * @param methodMapping the method level mapping
+	 * @return a new endpoint
+	 */
+	private static Endpoint toEndpoint(final HandlerMethod handlerMethod, final RequestMapping typeMapping, final RequestMapping methodMapping) {
+		Set<RequestMethod> methods = new LinkedHashSet<>();
+		Set<String> params = new LinkedHashSet<>();
+		Set<String> headers = new LinkedHashSet<>();
+		List<String> consumes = List.of();
+		List<String> produces = List.of();
+		String[] typePaths = new String[0];
+		if (null != typeMapping) {
+			typePaths = typeMapping.path();
+			methods.addAll(Arrays.asList(typeMapping.method()));
+			params.addAll(Arrays.asList(typeMapping.params()));
+			headers.addAll(headerExpressions(typeMapping.headers()));
+			consumes = mediaTypeExpressions(typeMapping.consumes(), typeMapping.headers(), HttpHeaders.CONTENT_TYPE);
+			produces = mediaTypeExpressions(typeMapping.produces(), typeMapping.headers(), HttpHeaders.ACCEPT);
+		}
+		methods.addAll(Arrays.asList(methodMapping.method()));
+		params.addAll(Arrays.asList(methodMapping.params()));
+		headers.addAll(headerExpressions(methodMapping.headers()));
+		List<String> methodConsumes = mediaTypeExpressions(methodMapping.consumes(), methodMapping.headers(), HttpHeaders.CONTENT_TYPE);
+		List<String> methodProduces = mediaTypeExpressions(methodMapping.produces(), methodMapping.headers(), HttpHeaders.ACCEPT);
+
+		return new Endpoint(
+				handlerMethod,
+				combinePatterns(typePaths, methodMapping.path()),
+				methods,
+				params,
+				headers,
+				methodConsumes.isEmpty() ? consumes : methodConsumes,
+				methodProduces.isEmpty() ? produces : methodProduces);
+	}
+
+	/**
+	 * Combines the type level paths with the method level paths.
+	 *
+	 * @param typePaths the type level paths
+	 * @param methodPaths the method level paths
+	 * @return the combined path patterns in the Spring MVC order
+	 */
+	private static Set<String> combinePatterns(final String[] typePaths, final String[] methodPaths) {
+		SortedSet<PathPattern> typePatterns = parsePatterns(typePaths);
+		SortedSet<PathPattern> methodPatterns = parsePatterns(methodPaths);
+		SortedSet<PathPattern> patterns;
+		if (typePatterns.isEmpty() && methodPatterns.isEmpty()) {
+			patterns = new TreeSet<>(List.of(PATH_PATTERN_PARSER.parse(""), PATH_PATTERN_PARSER.parse("/")));
+		} else if (typePatterns.isEmpty()) {
+			patterns = methodPatterns;
+		} else if (methodPatterns.isEmpty()) {
+			patterns = typePatterns;
+		} else {
+			patterns = new TreeSet<>();
+			for (PathPattern typePattern : typePatterns) {
+				for (PathPattern methodPattern : methodPatterns) {
+					patterns.add(typePattern.combine(methodPattern));
+				}
+			}
+		}
+		return patterns.stream()
+				.map(PathPattern::getPatternString)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * Parses the given paths, an array with a single blank path is considered empty.
+	 *
+	 * @param paths the paths to parse
+	 * @return the path patterns
+	 */
+	private static SortedSet<PathPattern> parsePatterns(final String[] paths) {
+		if (paths.length == 0 || (paths.length == 1 && !StringUtils.hasText(paths[0]))) {
+			return Collections.emptySortedSet();
+		}
+		SortedSet<PathPattern> patterns = new TreeSet<>();
+		for (String path : paths) {
+			patterns.add(PATH_PATTERN_PARSER.parse(PATH_PATTERN_PARSER.initFullPathPattern(path)));
+		}
+		return patterns;
+	}
+
+	/**
+	 * Returns the header expressions, excluding the {@code Accept} and {@code Content-Type} headers which are handled as
+	 * produces and consumes media types.
+	 *
+	 * @param headers the header expressions
+	 * @return the header expressions
+	 */
+	private static List<String> headerExpressions(final String[] headers) {
+		return Arrays.stream(headers)
+				.filter(header -> {
+					String name = headerName(header);
+					return !HttpHeaders.ACCEPT.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name);
+				})
+				.toList();
+	}
+
+	/**
+	 * Returns the media type expressions from the given media types and the media types defined by the header with the
+	 * given name, ordered by specificity.
+	 *
+	 * @param mediaTypes the media type expressions
+	 * @param headers the header expressions
+	 * @param headerName the header name defining media types
+	 * @return the media type expressions
+	 */
+	private static List<String> mediaTypeExpressions(final String[] mediaTypes, final String[] headers, final String headerName) {
+		Set<MediaTypeExpression> expressions = new LinkedHashSet<>();
+		for (String header : headers) {
+			int separator = header.indexOf('=');
+			if (separator == -1 || !headerName.equalsIgnoreCase(headerName(header))) {
+				continue;
+			}
+			boolean negated = separator > 0 && header.charAt(separator - 1) == '!';
+			for (MediaType mediaType : MediaType.parseMediaTypes(header.substring(separator + 1))) {
+				expressions.add(new MediaTypeExpression(mediaType, negated));
+			}
+		}
+		for (String mediaType : mediaTypes) {
+			expressions.add(MediaTypeExpression.parse(mediaType));
+		}
+		List<MediaTypeExpression> sorted = new ArrayList<>(expressions);
+		sorted.sort(MediaTypeExpression::compareTo);
+		return sorted.stream().map(MediaTypeExpression::toString).toList();
+	}
+
+	/**
+	 * Returns the header name from a header expression.
+	 *
+	 * @param header the header expression
+	 * @return the header name
+	 */
+	private static String headerName(final String header) {
+		int separator = header.indexOf('=');
+		if (separator == -1) {
+			return header.startsWith(NEGATION) ? header.substring(1) : header;
+		}
+		boolean negated = separator > 0 && header.charAt(separator - 1) == '!';
+		return negated ? header.substring(0, separator - 1) : header.substring(0, separator);
+	}
+
+	/**
+	 * A possibly negated media type expression.
+	 *
+	 * @param mediaType the media type
+	 * @param negated true if the expression is negated
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record MediaTypeExpression(MediaType mediaType, boolean negated) implements Comparable<MediaTypeExpression> {
+
+		/**
+		 * Parses a media type expression.
+		 *
+		 * @param expression the expression to parse
+		 * @return a new media type expression
+		 */
+		static MediaTypeExpression parse(final String expression) {
+			boolean negated = expression.startsWith(NEGATION);
+			return new MediaTypeExpression(MediaType.parseMediaType(negated ? expression.substring(1) : expression), negated);
+		}
+
+		/**
+		 * More specific media types come first.
+		 *
+		 * @see #compareTo(MediaTypeExpression)
+		 */
+		@Override
+		public int compareTo(final MediaTypeExpression other) {
+			if (mediaType.isMoreSpecific(other.mediaType)) {
+				return -1;
+			}
+			if (mediaType.isLessSpecific(other.mediaType)) {
+				return 1;
+			}
+			return 0;
+		}
+
+		/**
+		 * @see #toString()
+		 */
+		@Override
+		public String toString() {
+			return negated ? NEGATION + mediaType : mediaType.toString();
+		}
+	}
+}
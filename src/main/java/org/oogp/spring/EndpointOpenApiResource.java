@@ -0,0 +1,191 @@
+package org.oogp.spring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.oogp.spring.PartitionedPathsBuilder.PathOperation;
+import org.springdoc.api.AbstractOpenApiResource;
+import org.springdoc.core.customizers.SpringDocCustomizers;
+import org.springdoc.core.fn.RouterOperation;
+import org.springdoc.core.properties.SpringDocConfigProperties;
+import org.springdoc.core.providers.SpringDocProviders;
+import org.springdoc.core.service.AbstractRequestService;
+import org.springdoc.core.service.GenericResponseService;
+import org.springdoc.core.service.OpenAPIService;
+import org.springdoc.core.service.OperationService;
+import org.springdoc.core.utils.PropertyResolverUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+
+import io.swagger.v3.core.util.PathUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+
+/**
+ * Spring Doc resource that builds the Open API paths from already extracted {@link Endpoint} objects instead of the
+ * handler mappings of a Spring MVC application.
+ * <p>
+ * The endpoints are processed in the same order and with the same filters as the Spring Doc Web MVC resource so the
+ * generated specification is the same as the one generated by {@link SpringDocOpenApiResource}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class EndpointOpenApiResource extends AbstractOpenApiResource implements SpringDocResource {
+
+	/**
+	 * The endpoints to document.
+	 */
+	private final List<Endpoint> endpoints;
+
+	/**
+	 * The builder used to build the paths on multiple threads.
+	 */
+	private final PartitionedPathsBuilder pathsBuilder;
+
+	/**
+	 * The recorded path operations, not null only while the paths are being recorded for the partitioned build.
+	 */
+	private List<PathOperation> pathOperations;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param groupName the group name
+	 * @param endpoints the endpoints to document
+	 * @param propertyResolverUtils the property resolver utils
+	 * @param openAPIService the OpenAPI service
+	 * @param requestBuilder the request builder
+	 * @param responseBuilder the response builder
+	 * @param operationService the operation service
+	 * @param springDocCustomizers the SpringDoc customizers
+	 * @param springDocProviders the SpringDoc providers
+	 * @param pathsBuilder the builder used to build the paths in partitions
+	 */
+	public EndpointOpenApiResource( // NOSONAR we need to pass all these dependencies
+			final String groupName,
+			final List<Endpoint> endpoints,
+			final PropertyResolverUtils propertyResolverUtils,
+			final OpenAPIService openAPIService,
+			final AbstractRequestService requestBuilder,
+			final GenericResponseService responseBuilder,
+			final OperationService operationService,
+			final SpringDocCustomizers springDocCustomizers,
+			final SpringDocProviders springDocProviders,
+			final PartitionedPathsBuilder pathsBuilder) {
+		super(groupName,
+				() -> openAPIService,
+				requestBuilder,
+				responseBuilder,
+				operationService,
+				propertyResolverUtils.getSpringDocConfigProperties(),
+				springDocProviders,
+				springDocCustomizers);
+		this.endpoints = List.copyOf(endpoints);
+		this.pathsBuilder = pathsBuilder;
+	}
+
+	/**
+	 * @see #getOpenApi(String, Locale)
+	 */
+	@Override
+	public OpenAPI getOpenApi(final String serverBaseUrl, final Locale locale) {
+		return super.getOpenApi(serverBaseUrl, locale);
+	}
+
+	/**
+	 * @see #getSpringDocConfigProperties()
+	 */
+	@Override
+	public SpringDocConfigProperties getSpringDocConfigProperties() {
+		return springDocConfigProperties;
+	}
+
+	/**
+	 * Builds the paths in partitions when the paths builder is partitioned, the path operations are first recorded
+	 * in the sequential order and then built by the paths builder.
+	 *
+	 * @see #getPaths(Map, Locale, OpenAPI)
+	 */
+	@Override
+	protected void getPaths(final Map<String, Object> restControllers, final Locale locale, final OpenAPI openAPI) {
+		if (!pathsBuilder.isPartitioned()) {
+			calculatePaths(restControllers, locale, openAPI);
+			return;
+		}
+		List<PathOperation> recordedPathOperations = new ArrayList<>();
+		pathOperations = recordedPathOperations;
+		try {
+			calculatePaths(restControllers, locale, openAPI);
+		} finally {
+			pathOperations = null;
+		}
+		pathsBuilder.build(recordedPathOperations, openAPI,
+				(pathOperation, partialOpenAPI) -> super.calculatePath(pathOperation.handlerMethod(), pathOperation.routerOperation(), locale,
+						partialOpenAPI));
+	}
+
+	/**
+	 * Records the path operation while the paths are being recorded for the partitioned build, otherwise calculates the
+	 * path.
+	 *
+	 * @see #calculatePath(HandlerMethod, RouterOperation, Locale, OpenAPI)
+	 */
+	@Override
+	protected void calculatePath(final HandlerMethod handlerMethod, final RouterOperation routerOperation, final Locale locale,
+			final OpenAPI openAPI) {
+		if (null != pathOperations) {
+			pathOperations.add(new PathOperation(handlerMethod, routerOperation));
+			return;
+		}
+		super.calculatePath(handlerMethod, routerOperation, locale, openAPI);
+	}
+
+	/**
+	 * Calculates the paths for all endpoints in the reversed order of their mapping keys which is the order used by
+	 * Spring Doc for the Web MVC handler methods.
+	 *
+	 * @param restControllers the rest controllers
+	 * @param locale the locale
+	 * @param openAPI the Open API object
+	 */
+	private void calculatePaths(final Map<String, Object> restControllers, final Locale locale, final OpenAPI openAPI) {
+		Map<String, Endpoint> sortedEndpoints = new TreeMap<>(Comparator.reverseOrder());
+		for (Endpoint endpoint : endpoints) {
+			sortedEndpoints.put(endpoint.mappingKey(), endpoint);
+		}
+		for (Endpoint endpoint : sortedEndpoints.values()) {
+			calculatePath(restControllers, endpoint, locale, openAPI);
+		}
+	}
+
+	/**
+	 * Calculates the paths for a single endpoint.
+	 *
+	 * @param restControllers the rest controllers
+	 * @param endpoint the endpoint
+	 * @param locale the locale
+	 * @param openAPI the Open API object
+	 */
+	private void calculatePath(final Map<String, Object> restControllers, final Endpoint endpoint, final Locale locale,
+			final OpenAPI openAPI) {
+		HandlerMethod handlerMethod = endpoint.handlerMethod();
+		String[] produces = endpoint.producibleMediaTypes();
+		String[] consumes = endpoint.consumableMediaTypes();
+		String[] headers = endpoint.headerExpressions();
+		String[] params = endpoint.paramExpressions();
+		Map<String, String> regexMap = new LinkedHashMap<>();
+		for (String pattern : endpoint.patterns()) {
+			String operationPath = PathUtils.parsePath(pattern, regexMap);
+			if (isRestController(restControllers, handlerMethod, operationPath)
+					&& isFilterCondition(handlerMethod, operationPath, produces, consumes, headers)) {
+				Set<RequestMethod> requestMethods = endpoint.methods().isEmpty() ? getDefaultAllowedHttpMethods() : endpoint.methods();
+				calculatePath(handlerMethod, operationPath, requestMethods, consumes, produces, headers, params, locale, openAPI);
+			}
+		}
+	}
+}
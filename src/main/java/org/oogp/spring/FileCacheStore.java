@@ -0,0 +1,200 @@
+package org.oogp.spring;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.oogp.Digests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Content addressed file store used by the generator caches. Every entry is a file named with the SHA-256 of its key, the
+ * file modification time is updated on every read so that {@link #evict()} removes the least recently used entries when
+ * the store has more than the maximum number of entries.
+ * <p>
+ * The store never fails the generation, any I/O error is logged and treated as a cache miss.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class FileCacheStore {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(FileCacheStore.class);
+
+	/**
+	 * The cache entry file extension.
+	 */
+	private static final String ENTRY_EXTENSION = ".json";
+
+	/**
+	 * The cache directory.
+	 */
+	private final Path directory;
+
+	/**
+	 * The maximum number of entries.
+	 */
+	private final int maxEntries;
+
+	/**
+	 * The number of cache hits.
+	 */
+	private final AtomicInteger hits = new AtomicInteger();
+
+	/**
+	 * The number of cache misses.
+	 */
+	private final AtomicInteger misses = new AtomicInteger();
+
+	/**
+	 * Constructs a file cache store.
+	 *
+	 * @param directory the cache directory
+	 * @param maxEntries the maximum number of entries
+	 */
+	public FileCacheStore(final Path directory, final int maxEntries) {
+		this.directory = directory;
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Returns the cached content for the given key or null if the key is not cached.
+	 *
+	 * @param key the cache key
+	 * @return the cached content or null
+	 */
+	public String get(final String key) {
+		Path entry = entry(key);
+		try {
+			String content = Files.readString(entry, StandardCharsets.UTF_8);
+			Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+			hits.incrementAndGet();
+			return content;
+		} catch (NoSuchFileException e) {
+			misses.incrementAndGet();
+			return null;
+		} catch (IOException e) {
+			LOGGER.warn("Could not read cache entry {}: {}", entry, e.getMessage());
+			misses.incrementAndGet();
+			return null;
+		}
+	}
+
+	/**
+	 * Caches the content for the given key. The content is written in a temporary file which is then moved in place so
+	 * that concurrent builds never read partial entries.
+	 *
+	 * @param key the cache key
+	 * @param content the content to cache
+	 */
+	public void put(final String key, final String content) {
+		Path entry = entry(key);
+		try {
+			Files.createDirectories(directory);
+			Path temporary = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+			Files.writeString(temporary, content, StandardCharsets.UTF_8);
+			try {
+				Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Could not write cache entry {}: {}", entry, e.getMessage());
+		}
+	}
+
+	/**
+	 * Removes the least recently used entries until the store has at most the maximum number of entries.
+	 *
+	 * @return the number of removed entries
+	 */
+	public int evict() {
+		if (!Files.isDirectory(directory)) {
+			return 0;
+		}
+		List<Path> entries;
+		try (Stream<Path> files = Files.list(directory)) {
+			entries = files.filter(file -> file.getFileName().toString().endsWith(ENTRY_EXTENSION))
+					.sorted(Comparator.comparing(FileCacheStore::lastModifiedTime))
+					.toList();
+		} catch (IOException e) {
+			LOGGER.warn("Could not list cache directory {}: {}", directory, e.getMessage());
+			return 0;
+		}
+		int evicted = 0;
+		for (int i = 0; i < entries.size() - maxEntries; ++i) {
+			try {
+				if (Files.deleteIfExists(entries.get(i))) {
+					++evicted;
+				}
+			} catch (IOException e) {
+				LOGGER.warn("Could not delete cache entry {}: {}", entries.get(i), e.getMessage());
+			}
+		}
+		return evicted;
+	}
+
+	/**
+	 * Returns the cache directory.
+	 *
+	 * @return the cache directory
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Returns the number of cache hits.
+	 *
+	 * @return the number of cache hits
+	 */
+	public int getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of cache misses.
+	 *
+	 * @return the number of cache misses
+	 */
+	public int getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the entry file for the given key.
+	 *
+	 * @param key the cache key
+	 * @return the entry file
+	 */
+	private Path entry(final String key) {
+		return directory.resolve(Digests.sha256(key) + ENTRY_EXTENSION);
+	}
+
+	/**
+	 * Returns the last modified time of the file or the epoch if it cannot be read.
+	 *
+	 * @param file the file
+	 * @return the last modified time
+	 */
+	private static FileTime lastModifiedTime(final Path file) {
+		try {
+			return Files.getLastModifiedTime(file);
+		} catch (IOException e) {
+			return FileTime.from(Instant.EPOCH);
+		}
+	}
+}
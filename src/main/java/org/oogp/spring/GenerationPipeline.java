@@ -0,0 +1,435 @@
+package org.oogp.spring;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A linear pipeline of generation stages connected by bounded queues, every stage runs on its own virtual thread.
+ * <p>
+ * The first stage is a source which emits the items, every following stage processes the items emitted by the previous
+ * stage as soon as they are emitted and can emit items for the next stage, when its input ends a stage can emit the
+ * items it aggregated. A stage emitting into a full queue waits for the next stage, so the items in flight are bounded
+ * by the queue capacities.
+ * <p>
+ * The pipeline owns its stages: {@link #run()} returns only after all the stages ended. The first failing stage cancels
+ * all the other stages by interrupting them, the stages blocked on a queue end at once and the stages busy with an item
+ * end as soon as they reach the queue again. The failure of the first failing stage is thrown by {@link #run()}.
+ * <p>
+ * For every stage the number of processed items, the maximum depth of its input queue, the time spent waiting for
+ * input and the time stalled on a full output queue are measured.
+ *
+ * @param <T> the type of the items emitted by the last stage
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class GenerationPipeline<T> {
+
+	/**
+	 * Marks the end of the items in a queue.
+	 */
+	private static final Object END = new Object();
+
+	/**
+	 * The capacity of the queues between the stages.
+	 */
+	private final int queueCapacity;
+
+	/**
+	 * The stages in pipeline order.
+	 */
+	private final List<Stage> stages;
+
+	/**
+	 * Emits items to the next stage.
+	 *
+	 * @param <T> the item type
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	@FunctionalInterface
+	public interface Emitter<T> {
+
+		/**
+		 * Emits the given item to the next stage, waits while the queue of the next stage is full.
+		 *
+		 * @param item the item to emit
+		 * @throws InterruptedException when the pipeline is cancelled
+		 */
+		void emit(T item) throws InterruptedException;
+	}
+
+	/**
+	 * The first stage of a pipeline which emits the items.
+	 *
+	 * @param <O> the emitted item type
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	@FunctionalInterface
+	public interface Source<O> {
+
+		/**
+		 * Emits all the items.
+		 *
+		 * @param emitter the emitter to the next stage
+		 * @throws Exception when the items cannot be produced
+		 */
+		void produce(Emitter<O> emitter) throws Exception; // NOSONAR any stage failure must fail the pipeline
+	}
+
+	/**
+	 * A stage processing the items emitted by the previous stage.
+	 *
+	 * @param <I> the input item type
+	 * @param <O> the emitted item type
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	@FunctionalInterface
+	public interface Step<I, O> {
+
+		/**
+		 * Processes one input item.
+		 *
+		 * @param item the input item
+		 * @param emitter the emitter to the next stage
+		 * @throws Exception when the item cannot be processed
+		 */
+		void process(I item, Emitter<O> emitter) throws Exception; // NOSONAR any stage failure must fail the pipeline
+
+		/**
+		 * Called after the last input item was processed, the stages aggregating their input emit their items here.
+		 *
+		 * @param emitter the emitter to the next stage
+		 * @throws Exception when the aggregated items cannot be emitted
+		 */
+		default void complete(final Emitter<O> emitter) throws Exception { // NOSONAR any stage failure must fail the pipeline
+			// empty
+		}
+	}
+
+	/**
+	 * The statistics of a stage.
+	 *
+	 * @param name the stage name
+	 * @param items the number of processed input items, for the source the number of emitted items
+	 * @param maxQueueDepth the maximum depth of the stage input queue
+	 * @param queueCapacity the capacity of the stage input queue
+	 * @param waitMillis the time spent waiting for input in milliseconds
+	 * @param stallMillis the time stalled on a full output queue in milliseconds
+	 * @param elapsedMillis the stage running time in milliseconds
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public record StageStatistics(String name, long items, int maxQueueDepth, int queueCapacity, long waitMillis, long stallMillis,
+			long elapsedMillis) {
+
+		/**
+		 * @see #toString()
+		 */
+		@Override
+		public String toString() {
+			return name + ": " + items + " items in " + elapsedMillis + " ms, max queue depth " + maxQueueDepth + "/" + queueCapacity
+					+ ", waited " + waitMillis + " ms for input, stalled " + stallMillis + " ms on output";
+		}
+	}
+
+	/**
+	 * Constructs a pipeline with the given stages.
+	 *
+	 * @param queueCapacity the capacity of the queues between the stages
+	 * @param stages the stages in pipeline order
+	 */
+	private GenerationPipeline(final int queueCapacity, final List<Stage> stages) {
+		this.queueCapacity = queueCapacity;
+		this.stages = stages;
+	}
+
+	/**
+	 * Returns a pipeline starting with the given source.
+	 *
+	 * @param <O> the type of the items emitted by the source
+	 *
+	 * @param queueCapacity the capacity of the queues between the stages
+	 * @param name the source stage name
+	 * @param source the source
+	 * @return a new pipeline
+	 */
+	public static <O> GenerationPipeline<O> from(final int queueCapacity, final String name, final Source<O> source) {
+		if (queueCapacity < 1) {
+			throw new IllegalArgumentException("The queue capacity must be positive, got: " + queueCapacity);
+		}
+		GenerationPipeline<O> pipeline = new GenerationPipeline<>(queueCapacity, new ArrayList<>());
+		pipeline.stages.add(new Stage(name, source, null, queueCapacity));
+		return pipeline;
+	}
+
+	/**
+	 * Adds a stage processing the items emitted by the last stage.
+	 *
+	 * @param <O> the type of the items emitted by the added stage
+	 *
+	 * @param name the stage name
+	 * @param step the stage step
+	 * @return the pipeline ending with the added stage
+	 */
+	public <O> GenerationPipeline<O> then(final String name, final Step<? super T, O> step) {
+		return then(name, queueCapacity, step);
+	}
+
+	/**
+	 * Adds a stage processing the items emitted by the last stage with its own input queue capacity, used by the
+	 * stages whose input items are large.
+	 *
+	 * @param <O> the type of the items emitted by the added stage
+	 *
+	 * @param name the stage name
+	 * @param stageQueueCapacity the capacity of the stage input queue
+	 * @param step the stage step
+	 * @return the pipeline ending with the added stage
+	 */
+	public <O> GenerationPipeline<O> then(final String name, final int stageQueueCapacity, final Step<? super T, O> step) {
+		if (stageQueueCapacity < 1) {
+			throw new IllegalArgumentException("The queue capacity must be positive, got: " + stageQueueCapacity);
+		}
+		GenerationPipeline<O> pipeline = new GenerationPipeline<>(queueCapacity, stages);
+		Stage stage = new Stage(name, null, step, stageQueueCapacity);
+		stages.getLast().next = stage;
+		stages.add(stage);
+		return pipeline;
+	}
+
+	/**
+	 * Runs all the stages and waits for them to end. The first failing stage cancels the other stages.
+	 *
+	 * @throws IOException when a stage fails with an I/O error
+	 * @throws IllegalStateException when a stage fails with a checked exception or the pipeline is interrupted
+	 */
+	public void run() throws IOException {
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			CompletionService<Stage> completionService = new ExecutorCompletionService<>(executor);
+			List<Future<Stage>> futures = new ArrayList<>(stages.size());
+			for (Stage stage : stages) {
+				futures.add(completionService.submit(() -> {
+					stage.run();
+					return stage;
+				}));
+			}
+			for (int i = 0; i < stages.size(); ++i) {
+				awaitNext(completionService, futures);
+			}
+		}
+	}
+
+	/**
+	 * Returns the statistics of all the stages in pipeline order.
+	 *
+	 * @return the stage statistics
+	 */
+	public List<StageStatistics> getStatistics() {
+		return stages.stream()
+				.map(Stage::statistics)
+				.toList();
+	}
+
+	/**
+	 * Waits for the next stage to end, when the stage failed all the other stages are cancelled and the failure is
+	 * thrown.
+	 *
+	 * @param completionService the completion service running the stages
+	 * @param futures the stage futures
+	 * @throws IOException when the stage failed with an I/O error
+	 */
+	private static void awaitNext(final CompletionService<Stage> completionService, final List<Future<Stage>> futures) throws IOException {
+		try {
+			completionService.take().get();
+		} catch (InterruptedException e) {
+			futures.forEach(future -> future.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while running the generation pipeline", e);
+		} catch (ExecutionException e) {
+			futures.forEach(future -> future.cancel(true));
+			switch (e.getCause()) {
+				case IOException ioException -> throw ioException;
+				case RuntimeException runtimeException -> throw runtimeException;
+				case Error error -> throw error;
+				default -> throw new IllegalStateException("Error running the generation pipeline", e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * A pipeline stage with its input queue and its statistics.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static final class Stage {
+
+		/**
+		 * The stage name.
+		 */
+		private final String name;
+
+		/**
+		 * The source, null if the stage is not the first stage.
+		 */
+		private final Source<?> source;
+
+		/**
+		 * The step, null if the stage is the first stage.
+		 */
+		private final Step<?, ?> step;
+
+		/**
+		 * The input queue, null for the first stage.
+		 */
+		private final BlockingQueue<Object> input;
+
+		/**
+		 * The capacity of the input queue, 0 for the first stage.
+		 */
+		private final int queueCapacity;
+
+		/**
+		 * The next stage, null for the last stage.
+		 */
+		private Stage next;
+
+		/**
+		 * The number of processed items, the counters are only changed by the stage thread.
+		 */
+		private volatile long items;
+
+		/**
+		 * The maximum depth of the input queue, updated by the previous stage.
+		 */
+		private volatile int maxQueueDepth;
+
+		/**
+		 * The time spent waiting for input in nanoseconds.
+		 */
+		private volatile long waitNanos;
+
+		/**
+		 * The time stalled on a full output queue in nanoseconds.
+		 */
+		private volatile long stallNanos;
+
+		/**
+		 * The stage running time in nanoseconds.
+		 */
+		private volatile long elapsedNanos;
+
+		/**
+		 * Constructs a stage.
+		 *
+		 * @param name the stage name
+		 * @param source the source, null if the stage is not the first stage
+		 * @param step the step, null if the stage is the first stage
+		 * @param queueCapacity the capacity of the stage input queue
+		 */
+		Stage(final String name, final Source<?> source, final Step<?, ?> step, final int queueCapacity) {
+			this.name = name;
+			this.source = source;
+			this.step = step;
+			this.input = null != step ? new ArrayBlockingQueue<>(queueCapacity) : null;
+			this.queueCapacity = null != step ? queueCapacity : 0;
+		}
+
+		/**
+		 * Runs the stage until its input ends and marks the end of its output.
+		 *
+		 * @throws Exception when the stage fails
+		 */
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		void run() throws Exception { // NOSONAR any stage failure must fail the pipeline
+			long start = System.nanoTime();
+			try {
+				if (null != source) {
+					((Source) source).produce(this::emit);
+				} else {
+					Object item;
+					while (END != (item = take())) {
+						((Step) step).process(item, this::emit);
+						++items;
+					}
+					((Step) step).complete(this::emit);
+				}
+				if (null != next) {
+					put(END);
+				}
+			} finally {
+				elapsedNanos = System.nanoTime() - start;
+			}
+		}
+
+		/**
+		 * Takes the next input item.
+		 *
+		 * @return the next input item
+		 * @throws InterruptedException when the pipeline is cancelled
+		 */
+		private Object take() throws InterruptedException {
+			long start = System.nanoTime();
+			try {
+				return input.take();
+			} finally {
+				waitNanos += System.nanoTime() - start;
+			}
+		}
+
+		/**
+		 * Emits an item to the next stage, the items emitted by the last stage are dropped.
+		 *
+		 * @param item the item to emit
+		 * @throws InterruptedException when the pipeline is cancelled
+		 */
+		private void emit(final Object item) throws InterruptedException {
+			if (null == next) {
+				return;
+			}
+			put(item);
+			if (null != source) {
+				++items;
+			}
+		}
+
+		/**
+		 * Puts an item in the input queue of the next stage.
+		 *
+		 * @param item the item
+		 * @throws InterruptedException when the pipeline is cancelled
+		 */
+		private void put(final Object item) throws InterruptedException {
+			long start = System.nanoTime();
+			try {
+				next.input.put(item);
+			} finally {
+				stallNanos += System.nanoTime() - start;
+			}
+			if (END != item) {
+				next.maxQueueDepth = Math.max(next.maxQueueDepth, next.input.size());
+			}
+		}
+
+		/**
+		 * Returns the stage statistics.
+		 *
+		 * @return the stage statistics
+		 */
+		StageStatistics statistics() {
+			return new StageStatistics(name, items, maxQueueDepth, queueCapacity, TimeUnit.NANOSECONDS.toMillis(waitNanos),
+					TimeUnit.NANOSECONDS.toMillis(stallNanos), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package org.oogp.spring;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.oogp.spring.JavadocIndex.ClassDoc;
+import org.oogp.spring.JavadocIndex.MethodDoc;
+import org.springdoc.core.providers.JavadocProvider;
+import org.springdoc.core.providers.SpringDocJavadocProvider;
+
+import com.github.therapi.runtimejavadoc.Comment;
+import com.github.therapi.runtimejavadoc.CommentFormatter;
+import com.github.therapi.runtimejavadoc.RuntimeJavadoc;
+
+/**
+ * {@link JavadocProvider} that reads the javadoc from a {@link JavadocIndex} instead of looking up the javadoc resources
+ * class by class, it returns the same values as the {@link SpringDocJavadocProvider}.
+ * <p>
+ * The classes which are not in the index (for example the dependency classes with javadoc resources or the project
+ * classes inheriting javadoc without having their own) are looked up at runtime once and kept in memory.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class IndexedJavadocProvider implements JavadocProvider {
+
+	/**
+	 * The javadoc index.
+	 */
+	private final JavadocIndex index;
+
+	/**
+	 * The comment formatter.
+	 */
+	private final CommentFormatter formatter = new CommentFormatter();
+
+	/**
+	 * The formatted empty comment.
+	 */
+	private final String emptyComment = formatter.format(Comment.createEmpty());
+
+	/**
+	 * The Spring Doc javadoc provider used for the text utilities.
+	 */
+	private final JavadocProvider springDocJavadocProvider = new SpringDocJavadocProvider();
+
+	/**
+	 * The javadoc of the classes which are not in the index.
+	 */
+	private final Map<Class<?>, ClassDoc> runtimeClassDocs = new ConcurrentHashMap<>();
+
+	/**
+	 * The classes read from the index.
+	 */
+	private final Set<Class<?>> indexedClasses = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * The number of runtime class lookups.
+	 */
+	private final AtomicInteger runtimeLookups = new AtomicInteger();
+
+	/**
+	 * Constructs an indexed javadoc provider.
+	 *
+	 * @param index the javadoc index
+	 */
+	public IndexedJavadocProvider(final JavadocIndex index) {
+		this.index = index;
+	}
+
+	/**
+	 * @see #getClassJavadoc(Class)
+	 */
+	@Override
+	public String getClassJavadoc(final Class<?> cl) {
+		return getJavadoc(cl).comment();
+	}
+
+	/**
+	 * @see #getRecordClassParamJavadoc(Class)
+	 */
+	@Override
+	public Map<String, String> getRecordClassParamJavadoc(final Class<?> cl) {
+		return toMap(getJavadoc(cl).recordParams());
+	}
+
+	/**
+	 * @see #getMethodJavadocDescription(Method)
+	 */
+	@Override
+	public String getMethodJavadocDescription(final Method method) {
+		MethodDoc methodDoc = getJavadoc(method);
+		return null != methodDoc ? methodDoc.description() : emptyComment;
+	}
+
+	/**
+	 * @see #getMethodJavadocReturn(Method)
+	 */
+	@Override
+	public String getMethodJavadocReturn(final Method method) {
+		MethodDoc methodDoc = getJavadoc(method);
+		return null != methodDoc ? methodDoc.returns() : emptyComment;
+	}
+
+	/**
+	 * @see #getMethodJavadocThrows(Method)
+	 */
+	@Override
+	public Map<String, String> getMethodJavadocThrows(final Method method) {
+		MethodDoc methodDoc = getJavadoc(method);
+		return null != methodDoc ? toMap(methodDoc.exceptions()) : toMap(Map.of());
+	}
+
+	/**
+	 * @see #getParamJavadoc(Method, String)
+	 */
+	@Override
+	public String getParamJavadoc(final Method method, final String name) {
+		MethodDoc methodDoc = getJavadoc(method);
+		return null != methodDoc ? methodDoc.params().get(name) : null;
+	}
+
+	/**
+	 * @see #getFieldJavadoc(Field)
+	 */
+	@Override
+	public String getFieldJavadoc(final Field field) {
+		return getJavadoc(field.getDeclaringClass()).fields().getOrDefault(field.getName(), emptyComment);
+	}
+
+	/**
+	 * @see #getFirstSentence(String)
+	 */
+	@Override
+	public String getFirstSentence(final String text) {
+		return springDocJavadocProvider.getFirstSentence(text);
+	}
+
+	/**
+	 * Clears only the javadoc looked up at runtime, the index is kept.
+	 *
+	 * @see #clearCache()
+	 */
+	@Override
+	public void clearCache() {
+		runtimeClassDocs.clear();
+	}
+
+	/**
+	 * Returns the number of distinct classes read from the index.
+	 *
+	 * @return the number of indexed classes
+	 */
+	public int getIndexedClasses() {
+		return indexedClasses.size();
+	}
+
+	/**
+	 * Returns the number of classes looked up at runtime because they were not in the index.
+	 *
+	 * @return the number of runtime lookups
+	 */
+	public int getRuntimeLookups() {
+		return runtimeLookups.get();
+	}
+
+	/**
+	 * Returns the javadoc of the given class, from the index or from the runtime lookups.
+	 *
+	 * @param cl the class
+	 * @return the class javadoc
+	 */
+	private ClassDoc getJavadoc(final Class<?> cl) {
+		ClassDoc classDoc = index.get(cl.getName());
+		if (null != classDoc) {
+			indexedClasses.add(cl);
+			return classDoc;
+		}
+		return runtimeClassDocs.computeIfAbsent(cl, cls -> {
+			runtimeLookups.incrementAndGet();
+			return ClassDoc.of(RuntimeJavadoc.getJavadoc(cls), formatter);
+		});
+	}
+
+	/**
+	 * Returns the javadoc of the given method or null if the method has no javadoc.
+	 *
+	 * @param method the method
+	 * @return the method javadoc or null
+	 */
+	private MethodDoc getJavadoc(final Method method) {
+		return getJavadoc(method.getDeclaringClass()).methods().get(JavadocIndex.methodKey(method));
+	}
+
+	/**
+	 * Returns a copy of the given map built the same way as the Spring Doc javadoc provider builds it so that the
+	 * iteration order is the same.
+	 *
+	 * @param map the map
+	 * @return the map copy
+	 */
+	private static Map<String, String> toMap(final Map<String, String> map) {
+		return map.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+	}
+}
@@ -0,0 +1,399 @@
+package org.oogp.spring;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.therapi.runtimejavadoc.ClassJavadoc;
+import com.github.therapi.runtimejavadoc.CommentFormatter;
+import com.github.therapi.runtimejavadoc.FieldJavadoc;
+import com.github.therapi.runtimejavadoc.MethodJavadoc;
+import com.github.therapi.runtimejavadoc.ParamJavadoc;
+import com.github.therapi.runtimejavadoc.RuntimeJavadoc;
+import com.github.therapi.runtimejavadoc.ThrowsJavadoc;
+
+/**
+ * Index of the formatted javadoc of the project classes, used by the {@link IndexedJavadocProvider}.
+ * <p>
+ * The javadoc is written at compile time by the therapi annotation processor in one {@code __Javadoc.json} resource for
+ * each class. Instead of looking up and parsing these resources class by class while the model is built, the index
+ * holds the already formatted comments of all the classes which have a javadoc resource in the classes directory.
+ * <p>
+ * The index can be {@link #load(Path, ClassLoader) loaded} in memory with one bulk load or {@link #write(Path) written}
+ * to a single index file which is {@link #map(Path) memory mapped} by later generations. The entries of a mapped index
+ * are decoded only when they are first requested.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class JavadocIndex {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(JavadocIndex.class);
+
+	/**
+	 * The suffix of the javadoc resources.
+	 */
+	public static final String JAVADOC_RESOURCE_SUFFIX = "__Javadoc.json";
+
+	/**
+	 * The index file header, it must be changed when the index file format changes.
+	 */
+	private static final String HEADER = "OOGP-JAVADOC-INDEX-1";
+
+	/**
+	 * The object mapper used to encode the index entries.
+	 */
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	/**
+	 * The formatted javadoc of a class.
+	 *
+	 * @param comment the class comment
+	 * @param recordParams the record component comments by name
+	 * @param methods the method javadoc by method {@link #methodKey(String, List) key}
+	 * @param fields the field comments by name
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public record ClassDoc(String comment, Map<String, String> recordParams, Map<String, MethodDoc> methods, Map<String, String> fields) {
+
+		/**
+		 * Builds the formatted class javadoc from the therapi class javadoc, the first javadoc of a method or field wins
+		 * just like in the Spring Doc javadoc provider.
+		 *
+		 * @param classJavadoc the class javadoc
+		 * @param formatter the comment formatter
+		 * @return the formatted class javadoc
+		 */
+		public static ClassDoc of(final ClassJavadoc classJavadoc, final CommentFormatter formatter) {
+			Map<String, String> recordParams = new LinkedHashMap<>();
+			for (ParamJavadoc paramJavadoc : classJavadoc.getRecordComponents()) {
+				recordParams.put(paramJavadoc.getName(), formatter.format(paramJavadoc.getComment()));
+			}
+			Map<String, MethodDoc> methods = new LinkedHashMap<>();
+			for (MethodJavadoc methodJavadoc : classJavadoc.getMethods()) {
+				methods.computeIfAbsent(methodKey(methodJavadoc.getName(), methodJavadoc.getParamTypes()),
+						key -> MethodDoc.of(methodJavadoc, formatter));
+			}
+			Map<String, String> fields = new LinkedHashMap<>();
+			for (FieldJavadoc fieldJavadoc : classJavadoc.getFields()) {
+				fields.putIfAbsent(fieldJavadoc.getName(), formatter.format(fieldJavadoc.getComment()));
+			}
+			return new ClassDoc(formatter.format(classJavadoc.getComment()), recordParams, methods, fields);
+		}
+	}
+
+	/**
+	 * The formatted javadoc of a method.
+	 *
+	 * @param description the method description
+	 * @param returns the return description
+	 * @param exceptions the thrown exception descriptions by exception name
+	 * @param params the parameter descriptions by parameter name
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public record MethodDoc(String description, String returns, Map<String, String> exceptions, Map<String, String> params) {
+
+		/**
+		 * Builds the formatted method javadoc from the therapi method javadoc.
+		 *
+		 * @param methodJavadoc the method javadoc
+		 * @param formatter the comment formatter
+		 * @return the formatted method javadoc
+		 */
+		public static MethodDoc of(final MethodJavadoc methodJavadoc, final CommentFormatter formatter) {
+			Map<String, String> exceptions = new LinkedHashMap<>();
+			for (ThrowsJavadoc throwsJavadoc : methodJavadoc.getThrows()) {
+				exceptions.put(throwsJavadoc.getName(), formatter.format(throwsJavadoc.getComment()));
+			}
+			Map<String, String> params = new LinkedHashMap<>();
+			for (ParamJavadoc paramJavadoc : methodJavadoc.getParams()) {
+				params.putIfAbsent(paramJavadoc.getName(), formatter.format(paramJavadoc.getComment()));
+			}
+			return new MethodDoc(formatter.format(methodJavadoc.getComment()), formatter.format(methodJavadoc.getReturns()), exceptions, params);
+		}
+	}
+
+	/**
+	 * The position of an encoded entry in the mapped index file.
+	 *
+	 * @param offset the entry offset
+	 * @param length the entry length
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record Position(int offset, int length) {
+		// empty
+	}
+
+	/**
+	 * The class javadoc by class name, for mapped indexes it holds only the decoded entries.
+	 */
+	private final Map<String, ClassDoc> classDocs;
+
+	/**
+	 * The entry positions by class name, null for in-memory indexes.
+	 */
+	private final Map<String, Position> positions;
+
+	/**
+	 * The mapped index file entries, null for in-memory indexes.
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Constructs an in-memory index.
+	 *
+	 * @param classDocs the class javadoc by class name
+	 */
+	private JavadocIndex(final Map<String, ClassDoc> classDocs) {
+		this.classDocs = classDocs;
+		this.positions = null;
+		this.buffer = null;
+	}
+
+	/**
+	 * Constructs a mapped index.
+	 *
+	 * @param positions the entry positions by class name
+	 * @param buffer the mapped index file entries
+	 */
+	private JavadocIndex(final Map<String, Position> positions, final ByteBuffer buffer) {
+		this.classDocs = new ConcurrentHashMap<>();
+		this.positions = positions;
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Returns the javadoc of the given class or null if the class is not in the index.
+	 *
+	 * @param className the class name
+	 * @return the class javadoc or null
+	 */
+	public ClassDoc get(final String className) {
+		if (null == positions) {
+			return classDocs.get(className);
+		}
+		Position position = positions.get(className);
+		if (null == position) {
+			return null;
+		}
+		return classDocs.computeIfAbsent(className, name -> decode(position));
+	}
+
+	/**
+	 * Returns the number of classes in the index.
+	 *
+	 * @return the number of classes
+	 */
+	public int size() {
+		return null == positions ? classDocs.size() : positions.size();
+	}
+
+	/**
+	 * Loads the javadoc of all the classes which have a javadoc resource in the given classes directory, the classes are
+	 * loaded with the given class loader so the javadoc inherited from the super types is included.
+	 *
+	 * @param classesDir the classes directory
+	 * @param classLoader the project class loader
+	 * @return the in-memory index
+	 * @throws IOException when the classes directory cannot be read
+	 */
+	public static JavadocIndex load(final Path classesDir, final ClassLoader classLoader) throws IOException {
+		CommentFormatter formatter = new CommentFormatter();
+		Map<String, ClassDoc> classDocs = new ConcurrentHashMap<>();
+		javadocClassNames(classesDir).parallelStream().forEach(className -> {
+			try {
+				Class<?> cls = Class.forName(className, false, classLoader);
+				classDocs.put(className, ClassDoc.of(RuntimeJavadoc.getJavadoc(cls), formatter));
+			} catch (ClassNotFoundException | LinkageError e) {
+				LOGGER.warn("Could not load the javadoc of {}: {}", className, e.getMessage());
+			}
+		});
+		return new JavadocIndex(classDocs);
+	}
+
+	/**
+	 * Writes the in-memory index to the given index file. The file starts with a header, the number of entries and the table of
+	 * contents (class name, entry offset and entry length) followed by the JSON encoded entries, the entry offsets are
+	 * relative to the end of the table of contents.
+	 *
+	 * @param indexFile the index file
+	 * @throws IOException when an I/O error occurs
+	 */
+	public void write(final Path indexFile) throws IOException {
+		if (null != positions) {
+			throw new IllegalStateException("Only in-memory javadoc indexes can be written");
+		}
+		Map<String, byte[]> entries = new TreeMap<>();
+		for (Map.Entry<String, ClassDoc> entry : classDocs.entrySet()) {
+			entries.put(entry.getKey(), OBJECT_MAPPER.writeValueAsBytes(entry.getValue()));
+		}
+		ByteArrayOutputStream index = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(index)) {
+			out.writeUTF(HEADER);
+			out.writeInt(entries.size());
+			int offset = 0;
+			for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeInt(offset);
+				out.writeInt(entry.getValue().length);
+				offset += entry.getValue().length;
+			}
+			for (byte[] bytes : entries.values()) {
+				out.write(bytes);
+			}
+		}
+		Path indexDir = indexFile.toAbsolutePath().getParent();
+		Files.createDirectories(indexDir);
+		Path tempFile = Files.createTempFile(indexDir, indexFile.getFileName().toString(), ".tmp");
+		Files.write(tempFile, index.toByteArray());
+		Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Memory maps the given index file, only the table of contents is read.
+	 *
+	 * @param indexFile the index file
+	 * @return the mapped index
+	 * @throws IOException when the index file cannot be read or is not a javadoc index file
+	 */
+	public static JavadocIndex map(final Path indexFile) throws IOException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (!HEADER.equals(readUTF(buffer))) {
+			throw new IOException("Not a javadoc index file: " + indexFile);
+		}
+		int size = buffer.getInt();
+		Map<String, Position> positions = new ConcurrentHashMap<>(size);
+		for (int i = 0; i < size; ++i) {
+			String className = readUTF(buffer);
+			positions.put(className, new Position(buffer.getInt(), buffer.getInt()));
+		}
+		return new JavadocIndex(positions, buffer.slice());
+	}
+
+	/**
+	 * Returns true if the given index file exists and it is newer than all the javadoc resources of the given classes
+	 * directory and it has an entry for each of them.
+	 *
+	 * @param indexFile the index file
+	 * @param classesDir the classes directory
+	 * @return true if the index file is up to date
+	 * @throws IOException when an I/O error occurs
+	 */
+	public static boolean isUpToDate(final Path indexFile, final Path classesDir) throws IOException {
+		if (!Files.isRegularFile(indexFile)) {
+			return false;
+		}
+		long indexLastModified = Files.getLastModifiedTime(indexFile).toMillis();
+		Set<String> classNames = javadocClassNames(classesDir);
+		for (String className : classNames) {
+			Path resource = classesDir.resolve(className.replace('.', '/') + JAVADOC_RESOURCE_SUFFIX);
+			if (Files.getLastModifiedTime(resource).toMillis() > indexLastModified) {
+				return false;
+			}
+		}
+		try {
+			return map(indexFile).positions.keySet().equals(classNames);
+		} catch (IOException | RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the key of a method in the {@link ClassDoc#methods()} map.
+	 *
+	 * @param name the method name
+	 * @param paramTypes the canonical names of the parameter types
+	 * @return the method key
+	 */
+	public static String methodKey(final String name, final List<String> paramTypes) {
+		return name + "(" + String.join(",", paramTypes) + ")";
+	}
+
+	/**
+	 * Returns the key of the given method in the {@link ClassDoc#methods()} map.
+	 *
+	 * @param method the method
+	 * @return the method key
+	 */
+	public static String methodKey(final Method method) {
+		return methodKey(method.getName(), Arrays.stream(method.getParameterTypes()).map(Class::getCanonicalName).toList());
+	}
+
+	/**
+	 * Returns the names of the classes which have a javadoc resource in the given classes directory.
+	 *
+	 * @param classesDir the classes directory
+	 * @return the class names
+	 * @throws IOException when the classes directory cannot be read
+	 */
+	private static Set<String> javadocClassNames(final Path classesDir) throws IOException {
+		if (!Files.isDirectory(classesDir)) {
+			return Set.of();
+		}
+		try (Stream<Path> paths = Files.walk(classesDir)) {
+			return paths
+					.filter(path -> path.getFileName().toString().endsWith(JAVADOC_RESOURCE_SUFFIX))
+					.map(path -> classesDir.relativize(path).toString().replace('\\', '/'))
+					.map(name -> name.substring(0, name.length() - JAVADOC_RESOURCE_SUFFIX.length()).replace('/', '.'))
+					.collect(Collectors.toSet());
+		}
+	}
+
+	/**
+	 * Decodes the entry at the given position.
+	 *
+	 * @param position the entry position
+	 * @return the class javadoc
+	 */
+	private ClassDoc decode(final Position position) {
+		byte[] bytes = new byte[position.length()];
+		buffer.slice(position.offset(), position.length()).get(bytes);
+		try {
+			return OBJECT_MAPPER.readValue(bytes, ClassDoc.class);
+		} catch (IOException e) {
+			throw new IllegalStateException("Corrupted javadoc index entry", e);
+		}
+	}
+
+	/**
+	 * Reads a string written with {@link DataOutputStream#writeUTF(String)} from the given buffer.
+	 *
+	 * @param buffer the buffer
+	 * @return the string
+	 */
+	private static String readUTF(final ByteBuffer buffer) {
+		int length = Short.toUnsignedInt(buffer.getShort());
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,145 @@
+package org.oogp.spring;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springdoc.core.providers.JavadocProvider;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * {@link JavadocProvider} that resolves the actual provider from an {@link ObjectProvider} the first time javadoc is
+ * requested.
+ * <p>
+ * Spring Doc services receive the javadoc provider as an {@link java.util.Optional} when they are constructed, this
+ * class makes it possible to wire them without creating the actual provider until it is needed.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class LazyJavadocProvider implements JavadocProvider {
+
+	/**
+	 * The actual javadoc provider supplier.
+	 */
+	private final BeanSupplier<JavadocProvider> delegate;
+
+	/**
+	 * The number of javadoc lookups.
+	 */
+	private final LongAdder lookups = new LongAdder();
+
+	/**
+	 * The time spent in javadoc lookups in nanoseconds, the creation of the actual provider included.
+	 */
+	private final LongAdder lookupNanos = new LongAdder();
+
+	/**
+	 * Constructs a new lazy javadoc provider.
+	 *
+	 * @param javadocProvider the actual javadoc provider object provider
+	 */
+	public LazyJavadocProvider(final ObjectProvider<JavadocProvider> javadocProvider) {
+		this.delegate = BeanSupplier.lazy(javadocProvider::getObject);
+	}
+
+	@Override
+	public String getClassJavadoc(final Class<?> cl) {
+		return timed(() -> delegate.get().getClassJavadoc(cl));
+	}
+
+	@Override
+	public Map<String, String> getRecordClassParamJavadoc(final Class<?> cl) {
+		return timed(() -> delegate.get().getRecordClassParamJavadoc(cl));
+	}
+
+	@Override
+	public String getMethodJavadocDescription(final Method method) {
+		return timed(() -> delegate.get().getMethodJavadocDescription(method));
+	}
+
+	@Override
+	public String getMethodJavadocReturn(final Method method) {
+		return timed(() -> delegate.get().getMethodJavadocReturn(method));
+	}
+
+	@Override
+	public Map<String, String> getMethodJavadocThrows(final Method method) {
+		return timed(() -> delegate.get().getMethodJavadocThrows(method));
+	}
+
+	@Override
+	public String getParamJavadoc(final Method method, final String name) {
+		return timed(() -> delegate.get().getParamJavadoc(method, name));
+	}
+
+	@Override
+	public String getFieldJavadoc(final Field field) {
+		return timed(() -> delegate.get().getFieldJavadoc(field));
+	}
+
+	@Override
+	public String getFirstSentence(final String text) {
+		return timed(() -> delegate.get().getFirstSentence(text));
+	}
+
+	/**
+	 * Clears the cache of the actual provider only if it was already created.
+	 *
+	 * @see #clearCache()
+	 */
+	@Override
+	public void clearCache() {
+		if (delegate.isInstantiated()) {
+			delegate.get().clearCache();
+		}
+	}
+
+	/**
+	 * Returns the actual provider if it was already created.
+	 *
+	 * @return the actual provider
+	 */
+	public Optional<JavadocProvider> getInstantiated() {
+		return delegate.isInstantiated() ? Optional.of(delegate.get()) : Optional.empty();
+	}
+
+	/**
+	 * Returns the number of javadoc lookups.
+	 *
+	 * @return the number of lookups
+	 */
+	public long getLookups() {
+		return lookups.sum();
+	}
+
+	/**
+	 * Returns the time spent in javadoc lookups in milliseconds, the creation of the actual provider included.
+	 *
+	 * @return the lookup time in milliseconds
+	 */
+	public long getLookupMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(lookupNanos.sum());
+	}
+
+	/**
+	 * Calls the given javadoc lookup and records its duration.
+	 *
+	 * @param <T> the result type
+	 *
+	 * @param lookup the javadoc lookup
+	 * @return the lookup result
+	 */
+	private <T> T timed(final Supplier<T> lookup) {
+		long start = System.nanoTime();
+		try {
+			return lookup.get();
+		} finally {
+			lookupNanos.add(System.nanoTime() - start);
+			lookups.increment();
+		}
+	}
+}
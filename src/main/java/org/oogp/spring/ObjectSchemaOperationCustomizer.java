@@ -0,0 +1,89 @@
+package org.oogp.spring;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+import org.apiphany.lang.Strings;
+import org.oogp.SwaggerAnnotations;
+import org.springdoc.core.customizers.OperationCustomizer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+
+/**
+ * {@link OperationCustomizer} that sets the configured schema type on the response schemas declared with
+ * {@code @Schema(implementation = Object.class)} and no explicit type.
+ * <p>
+ * The annotations are only read, the change is done on the built operation model so the annotation instances are never
+ * modified and repeated generations in the same JVM are not affected.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class ObjectSchemaOperationCustomizer implements OperationCustomizer {
+
+	/**
+	 * The schema type for {@link Object} class.
+	 */
+	private final String schemaForObjectClass;
+
+	/**
+	 * Constructs a new object schema operation customizer.
+	 *
+	 * @param schemaForObjectClass the schema type for {@link Object} class
+	 */
+	public ObjectSchemaOperationCustomizer(final String schemaForObjectClass) {
+		this.schemaForObjectClass = Objects.requireNonNull(schemaForObjectClass, "schemaForObjectClass");
+	}
+
+	/**
+	 * @see #customize(Operation, HandlerMethod)
+	 */
+	@Override
+	public Operation customize(final Operation operation, final HandlerMethod handlerMethod) {
+		io.swagger.v3.oas.annotations.Operation operationAnnotation =
+				AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), io.swagger.v3.oas.annotations.Operation.class);
+		if (null == operationAnnotation || null == operation.getResponses()) {
+			return operation;
+		}
+		for (ApiResponse apiResponse : operationAnnotation.responses()) {
+			io.swagger.v3.oas.models.responses.ApiResponse response = operation.getResponses().get(apiResponse.responseCode());
+			if (null == response || null == response.getContent()) {
+				continue;
+			}
+			for (Content content : apiResponse.content()) {
+				if (!SwaggerAnnotations.isUntypedObjectSchema(content.schema())) {
+					continue;
+				}
+				if (Strings.isEmpty(content.mediaType())) {
+					response.getContent().values().forEach(this::overrideType);
+				} else {
+					overrideType(response.getContent().get(content.mediaType()));
+				}
+			}
+		}
+		return operation;
+	}
+
+	/**
+	 * Sets the schema type for {@link Object} class on the schema of the given media type.
+	 *
+	 * @param mediaType the media type
+	 */
+	private void overrideType(final MediaType mediaType) {
+		if (null == mediaType || null == mediaType.getSchema()) {
+			return;
+		}
+		Schema<?> schema = mediaType.getSchema();
+		schema.setType(schemaForObjectClass);
+		if (SpecVersion.V31 == schema.getSpecVersion()) {
+			schema.setTypes(new LinkedHashSet<>(List.of(schemaForObjectClass)));
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package org.oogp.spring;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.tags.Tag;
+
+/**
+ * Accumulates the Open API models built for batches of controllers in a single Open API model.
+ * <p>
+ * The first batch model is kept as the accumulated model, so the parts which don't depend on the controllers (info,
+ * servers, security) come from it. The paths, components and tags of the following batches are folded in the
+ * accumulated model: the paths are added in batch order and the operations of a path built by more than one batch are
+ * merged in the same path item, the components are added the first time they are built and the tags are collected in
+ * a hash set as Spring Doc does. Only the accumulated model is kept, the batch models can be released as soon as they
+ * are folded.
+ * <p>
+ * Spring Doc keeps the first component built with a name, components with the same name built differently by two
+ * batches keep the first one and are counted as conflicts.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class OpenApiAccumulator {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(OpenApiAccumulator.class);
+
+	/**
+	 * The accumulated Open API model, null until the first batch is folded.
+	 */
+	private OpenAPI openAPI;
+
+	/**
+	 * The number of folded batches.
+	 */
+	private int batches;
+
+	/**
+	 * The number of components with the same name built differently by two batches.
+	 */
+	private int conflicts;
+
+	/**
+	 * Default constructor.
+	 */
+	public OpenApiAccumulator() {
+		// empty
+	}
+
+	/**
+	 * Folds the given batch model in the accumulated model.
+	 *
+	 * @param batch the Open API model built for a batch of controllers
+	 */
+	public void fold(final OpenAPI batch) {
+		++batches;
+		if (null == openAPI) {
+			openAPI = batch;
+			return;
+		}
+		foldPaths(batch.getPaths());
+		foldComponents(batch.getComponents());
+		foldTags(batch.getTags());
+	}
+
+	/**
+	 * Returns the accumulated Open API model.
+	 *
+	 * @return the accumulated Open API model
+	 * @throws IllegalStateException when no batch was folded
+	 */
+	public OpenAPI getOpenApi() {
+		if (null == openAPI) {
+			throw new IllegalStateException("No batch was folded in the Open API model");
+		}
+		return openAPI;
+	}
+
+	/**
+	 * Returns the number of folded batches.
+	 *
+	 * @return the number of folded batches
+	 */
+	public int getBatches() {
+		return batches;
+	}
+
+	/**
+	 * Returns the number of components with the same name built differently by two batches.
+	 *
+	 * @return the number of conflicting components
+	 */
+	public int getConflicts() {
+		return conflicts;
+	}
+
+	/**
+	 * Folds the paths of a batch, the operations of the paths already built by a previous batch are added to the
+	 * existing path item.
+	 *
+	 * @param batchPaths the batch paths, can be null
+	 * @throws IllegalStateException when the same operation was built by more than one batch
+	 */
+	private void foldPaths(final Paths batchPaths) {
+		if (null == batchPaths) {
+			return;
+		}
+		if (null == openAPI.getPaths()) {
+			openAPI.setPaths(new Paths());
+		}
+		Paths paths = openAPI.getPaths();
+		batchPaths.forEach((name, batchPathItem) -> {
+			PathItem pathItem = paths.get(name);
+			if (null == pathItem) {
+				paths.addPathItem(name, batchPathItem);
+				return;
+			}
+			for (Map.Entry<PathItem.HttpMethod, Operation> entry : batchPathItem.readOperationsMap().entrySet()) {
+				if (pathItem.readOperationsMap().containsKey(entry.getKey())) {
+					throw new IllegalStateException("Operation " + entry.getKey() + " " + name + " was built by more than one batch");
+				}
+				pathItem.operation(entry.getKey(), entry.getValue());
+			}
+		});
+	}
+
+	/**
+	 * Folds the components of a batch.
+	 *
+	 * @param batchComponents the batch components, can be null
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void foldComponents(final Components batchComponents) {
+		if (null == batchComponents) {
+			return;
+		}
+		if (null == openAPI.getComponents()) {
+			openAPI.setComponents(new Components());
+		}
+		Components components = openAPI.getComponents();
+		components.setSchemas((Map) fold("schemas", (Map) components.getSchemas(), (Map) batchComponents.getSchemas()));
+		components.setResponses(fold("responses", components.getResponses(), batchComponents.getResponses()));
+		components.setParameters(fold("parameters", components.getParameters(), batchComponents.getParameters()));
+		components.setExamples(fold("examples", components.getExamples(), batchComponents.getExamples()));
+		components.setRequestBodies(fold("requestBodies", components.getRequestBodies(), batchComponents.getRequestBodies()));
+		components.setHeaders(fold("headers", components.getHeaders(), batchComponents.getHeaders()));
+		components.setSecuritySchemes(fold("securitySchemes", components.getSecuritySchemes(), batchComponents.getSecuritySchemes()));
+		components.setLinks(fold("links", components.getLinks(), batchComponents.getLinks()));
+		components.setCallbacks(fold("callbacks", components.getCallbacks(), batchComponents.getCallbacks()));
+		components.setPathItems(fold("pathItems", components.getPathItems(), batchComponents.getPathItems()));
+	}
+
+	/**
+	 * Folds a component map of a batch in the accumulated component map.
+	 *
+	 * @param <T> the component type
+	 *
+	 * @param mapName the component map name
+	 * @param map the accumulated component map, can be null
+	 * @param batchMap the batch component map, can be null
+	 * @return the accumulated component map
+	 */
+	private <T> Map<String, T> fold(final String mapName, final Map<String, T> map, final Map<String, T> batchMap) {
+		if (null == batchMap || batchMap.isEmpty()) {
+			return map;
+		}
+		Map<String, T> folded = null != map ? map : new LinkedHashMap<>();
+		batchMap.forEach((name, component) -> {
+			T previous = folded.putIfAbsent(name, component);
+			if (null != previous && !Objects.equals(previous, component)) {
+				++conflicts;
+				LOGGER.warn("Component {}/{} built differently by more than one batch, keeping the first one", mapName, name);
+			}
+		});
+		return folded;
+	}
+
+	/**
+	 * Folds the tags of a batch. Spring Doc keeps the tags in a hash set while building the paths so the folded tags
+	 * are collected in the same way.
+	 *
+	 * @param batchTags the batch tags, can be null
+	 */
+	private void foldTags(final List<Tag> batchTags) {
+		if (null == batchTags || batchTags.equals(openAPI.getTags())) {
+			return;
+		}
+		Set<Tag> tags = new HashSet<>(batchTags);
+		if (null != openAPI.getTags()) {
+			tags.addAll(openAPI.getTags());
+		}
+		openAPI.setTags(new ArrayList<>(tags));
+	}
+}
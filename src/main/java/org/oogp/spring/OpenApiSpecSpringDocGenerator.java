@@ -1,22 +1,39 @@
 package org.oogp.spring;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apiphany.json.JsonBuilder;
+import org.apiphany.lang.Strings;
 import org.apiphany.lang.collections.Lists;
 import org.apiphany.lang.collections.Maps;
 import org.morphix.reflection.Classes;
@@ -25,23 +42,23 @@ import org.morphix.reflection.Methods;
 import org.oogp.Conversions;
 import org.oogp.GeneratorProperties;
 import org.oogp.JavaEnvironment;
-import org.oogp.SwaggerAnnotations;
+import org.oogp.JavadocMode;
+import org.oogp.OpenApiWriter;
+import org.oogp.SpringEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springdoc.core.converters.AdditionalModelsConverter;
-import org.springdoc.core.converters.FileSupportConverter;
-import org.springdoc.core.converters.PolymorphicModelConverter;
-import org.springdoc.core.converters.PropertyCustomizingConverter;
-import org.springdoc.core.converters.ResponseSupportConverter;
-import org.springdoc.core.converters.SchemaPropertyDeprecatingConverter;
 import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springdoc.core.customizers.OperationCustomizer;
 import org.springdoc.core.customizers.SpringDocCustomizers;
 import org.springdoc.core.discoverer.SpringDocParameterNameDiscoverer;
 import org.springdoc.core.extractor.MethodParameterPojoExtractor;
+import org.springdoc.core.filters.OpenApiMethodFilter;
 import org.springdoc.core.properties.SpringDocConfigProperties;
+import org.springdoc.core.providers.JavadocProvider;
 import org.springdoc.core.providers.ObjectMapperProvider;
 import org.springdoc.core.providers.SpringDocJavadocProvider;
 import org.springdoc.core.providers.SpringDocProviders;
+import org.springdoc.core.providers.SpringWebProvider;
 import org.springdoc.core.service.GenericParameterService;
 import org.springdoc.core.service.GenericResponseService;
 import org.springdoc.core.service.OpenAPIService;
@@ -50,29 +67,30 @@ import org.springdoc.core.service.RequestBodyService;
 import org.springdoc.core.service.SecurityService;
 import org.springdoc.core.utils.PropertyResolverUtils;
 import org.springdoc.core.utils.SchemaUtils;
-import org.springdoc.core.utils.SpringDocUtils;
 import org.springdoc.webmvc.core.providers.SpringWebMvcProvider;
 import org.springdoc.webmvc.core.service.RequestService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.MessageSource;
 import org.springframework.context.support.DelegatingMessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Json31;
-import io.swagger.v3.core.util.Yaml;
-import io.swagger.v3.core.util.Yaml31;
 import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.security.OAuthFlow;
 import io.swagger.v3.oas.models.security.OAuthFlows;
 import io.swagger.v3.oas.models.security.Scopes;
@@ -126,6 +144,394 @@ public class OpenApiSpecSpringDocGenerator {
 			RequestMapping.class,
 			Controller.class);
 
+	/**
+	 * Annotations that define controller advice classes which provide the generic responses of the Open API operations.
+	 */
+	private static final Set<Class<? extends Annotation>> CONTROLLER_ADVICE_ANNOTATIONS = Set.of(
+			RestControllerAdvice.class,
+			ControllerAdvice.class);
+
+	/**
+	 * The capacity of the queues between the generation pipeline stages.
+	 */
+	private static final int PIPELINE_QUEUE_CAPACITY = 64;
+
+	/**
+	 * The capacity of the queue of registered batches, at most one batch waits while a batch is built and the next one
+	 * is registered so the batch mode stays memory bounded.
+	 */
+	private static final int BATCH_QUEUE_CAPACITY = 1;
+
+	/**
+	 * A batch of registered controllers ready to be built.
+	 *
+	 * @param context the application context holding the controllers, the controller advices and the handler mappings
+	 * @param endpoints the endpoints extracted from the controllers
+	 * @param adviceClasses the controller advice classes
+	 * @param controllers the number of controllers
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record Batch(CustomApplicationContext context, List<Endpoint> endpoints, List<Class<?>> adviceClasses, int controllers) {
+		// empty
+	}
+
+	/**
+	 * The pipeline step registering the controller advices and the controllers. The controllers are registered in the
+	 * generation context which is emitted as a single batch when the input ends or, in batch mode, in a new context for
+	 * every batch which is emitted as soon as it is full. The controller advices come first and are registered in every
+	 * batch context.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static final class ControllerRegistrar implements GenerationPipeline.Step<Object, Batch> {
+
+		/**
+		 * The generator properties.
+		 */
+		private final GeneratorProperties properties;
+
+		/**
+		 * The Spring engine.
+		 */
+		private final SpringEngine springEngine;
+
+		/**
+		 * The generation context, used when the controllers are not registered in batches.
+		 */
+		private final CustomApplicationContext context;
+
+		/**
+		 * The number of controllers in a batch, 0 when all the controllers are registered in a single batch.
+		 */
+		private final int batchSize;
+
+		/**
+		 * The controller advices.
+		 */
+		private final List<Object> advices = new ArrayList<>();
+
+		/**
+		 * The controller advice classes.
+		 */
+		private final List<Class<?>> adviceClasses = new ArrayList<>();
+
+		/**
+		 * The endpoints of all the controllers, collected only for the route analysis.
+		 */
+		private final List<Endpoint> routes = new ArrayList<>();
+
+		/**
+		 * The context of the current batch, null when no batch is started.
+		 */
+		private CustomApplicationContext batchContext;
+
+		/**
+		 * The endpoints of the current batch.
+		 */
+		private List<Endpoint> endpoints = new ArrayList<>();
+
+		/**
+		 * The number of controllers in the current batch.
+		 */
+		private int controllers;
+
+		/**
+		 * The number of emitted batches.
+		 */
+		private int batches;
+
+		/**
+		 * Constructs the registrar.
+		 *
+		 * @param properties the generator properties
+		 * @param springEngine the Spring engine
+		 * @param context the generation context
+		 * @param batchSize the number of controllers in a batch, 0 for a single batch
+		 */
+		ControllerRegistrar(final GeneratorProperties properties, final SpringEngine springEngine, final CustomApplicationContext context,
+				final int batchSize) {
+			this.properties = properties;
+			this.springEngine = springEngine;
+			this.context = context;
+			this.batchSize = batchSize;
+		}
+
+		/**
+		 * @see #process(Object, GenerationPipeline.Emitter)
+		 */
+		@Override
+		public void process(final Object bean, final GenerationPipeline.Emitter<Batch> emitter) throws InterruptedException {
+			Class<?> beanClass = bean.getClass();
+			if (isControllerAdvice(beanClass)) {
+				LOGGER.info("Found controller advice: {}", beanClass.getName());
+				advices.add(bean);
+				adviceClasses.add(beanClass);
+				return;
+			}
+			CustomApplicationContext currentContext = batchContext();
+			String beanName = beanClass.getSimpleName();
+			currentContext.addBean(bean);
+			if (SpringEngine.MVC == springEngine) {
+				RequestMappingHandlerMapping handlerMapping = createHandlerMapping(bean, currentContext);
+				currentContext.addBean(beanName + "HandlerMapping", handlerMapping);
+			}
+			if (SpringEngine.DIRECT == springEngine || properties.isRouteAnalysisEnabled()) {
+				List<Endpoint> controllerEndpoints = extractEndpoints(beanName, bean, currentContext);
+				endpoints.addAll(controllerEndpoints);
+				if (properties.isRouteAnalysisEnabled()) {
+					routes.addAll(controllerEndpoints);
+				}
+			}
+			++controllers;
+			if (controllers == batchSize) {
+				emitBatch(emitter);
+			}
+		}
+
+		/**
+		 * Analyzes the routes of all the controllers before the last batch is emitted.
+		 *
+		 * @see #complete(GenerationPipeline.Emitter)
+		 */
+		@Override
+		public void complete(final GenerationPipeline.Emitter<Batch> emitter) throws IOException, InterruptedException {
+			if (properties.isRouteAnalysisEnabled()) {
+				analyzeRoutes(routes, properties.getRouteAnalysis());
+			}
+			if (controllers > 0 || 0 == batches) {
+				emitBatch(emitter);
+			}
+		}
+
+		/**
+		 * Returns the context of the current batch, a new batch is started if needed.
+		 *
+		 * @return the context of the current batch
+		 */
+		private CustomApplicationContext batchContext() {
+			if (null == batchContext) {
+				// every batch has its own context so the controllers, their handler mappings and the Spring Doc services
+				// building the batch model are released as soon as the batch model is folded
+				batchContext = 0 == batchSize ? context : new CustomApplicationContext(context.getClassLoader());
+				advices.forEach(batchContext::addBean);
+			}
+			return batchContext;
+		}
+
+		/**
+		 * Emits the current batch and starts a new one.
+		 *
+		 * @param emitter the emitter to the build step
+		 * @throws InterruptedException when the pipeline is cancelled
+		 */
+		private void emitBatch(final GenerationPipeline.Emitter<Batch> emitter) throws InterruptedException {
+			emitter.emit(new Batch(batchContext(), endpoints, List.copyOf(adviceClasses), controllers));
+			++batches;
+			batchContext = null;
+			endpoints = new ArrayList<>();
+			controllers = 0;
+		}
+	}
+
+	/**
+	 * The pipeline step building the Open API model of every group for each batch and folding it in the accumulated
+	 * model of the group. The groups of a batch are built in parallel, unless the build is sequential, and the accumulated
+	 * models are emitted when the input ends.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static final class OpenApiAssembler
+			implements GenerationPipeline.Step<Batch, Map.Entry<GeneratorProperties.Group, OpenAPI>> {
+
+		/**
+		 * The generator properties.
+		 */
+		private final GeneratorProperties properties;
+
+		/**
+		 * The generator engine.
+		 */
+		private final SpringDocGeneratorEngine engine;
+
+		/**
+		 * The Spring engine.
+		 */
+		private final SpringEngine springEngine;
+
+		/**
+		 * The API groups.
+		 */
+		private final List<GeneratorProperties.Group> groups;
+
+		/**
+		 * The javadoc provider.
+		 */
+		private final Optional<LazyJavadocProvider> javadocProvider;
+
+		/**
+		 * The path item customizers run on the built paths.
+		 */
+		private final PathItemCustomizers pathItemCustomizers;
+
+		/**
+		 * The batch mode flag.
+		 */
+		private final boolean batchMode;
+
+		/**
+		 * The sequential build flag, the paths and the groups are built one after the other on the build thread.
+		 */
+		private final boolean sequential;
+
+		/**
+		 * The accumulated model of every group.
+		 */
+		private final Map<GeneratorProperties.Group, OpenApiAccumulator> accumulators = new LinkedHashMap<>();
+
+		/**
+		 * The path fragment cache, null when the fragments are not cached.
+		 */
+		private PathFragmentCache fragmentCache;
+
+		/**
+		 * The paths builder, created with the first batch.
+		 */
+		private PartitionedPathsBuilder pathsBuilder;
+
+		/**
+		 * The number of built controllers.
+		 */
+		private int controllers;
+
+		/**
+		 * Constructs the assembler.
+		 *
+		 * @param properties the generator properties
+		 * @param engine the generator engine
+		 * @param springEngine the Spring engine
+		 * @param groups the API groups
+		 * @param javadocProvider the javadoc provider
+		 * @param pathItemCustomizers the path item customizers
+		 * @param batchMode the batch mode flag
+		 * @param sequential the sequential build flag
+		 */
+		OpenApiAssembler(final GeneratorProperties properties, final SpringDocGeneratorEngine engine, final SpringEngine springEngine,
+				final List<GeneratorProperties.Group> groups, final Optional<LazyJavadocProvider> javadocProvider,
+				final PathItemCustomizers pathItemCustomizers, final boolean batchMode, final boolean sequential) {
+			this.properties = properties;
+			this.engine = engine;
+			this.springEngine = springEngine;
+			this.groups = groups;
+			this.javadocProvider = javadocProvider;
+			this.pathItemCustomizers = pathItemCustomizers;
+			this.batchMode = batchMode;
+			this.sequential = sequential;
+			groups.forEach(group -> accumulators.put(group, new OpenApiAccumulator()));
+		}
+
+		/**
+		 * @see #process(Batch, GenerationPipeline.Emitter)
+		 */
+		@Override
+		public void process(final Batch batch, final GenerationPipeline.Emitter<Map.Entry<GeneratorProperties.Group, OpenAPI>> emitter)
+				throws IOException, InterruptedException {
+			if (null == pathsBuilder) {
+				// the controllers of the first batch are instantiated so the static Spring Doc configuration is settled
+				String springDocConfiguration = engine.settleSpringDocConfiguration();
+				fragmentCache = properties.isFragmentCacheEnabled() && !sequential
+						? fragmentCache(properties, engine, springDocConfiguration, batch, pathItemCustomizers)
+						: null;
+				pathsBuilder = new PartitionedPathsBuilder(sequential ? 1 : parallelism(properties), fragmentCache);
+			}
+			Map<GeneratorProperties.Group, SpringDocResource> openApiResources = buildSpringDocOpenApiResources(properties, engine,
+					batch.context(), springEngine, batch.endpoints(), groups, pathsBuilder, javadocProvider, pathItemCustomizers);
+			Locale locale = locale(properties.getLocale());
+			if (sequential || openApiResources.size() == 1) {
+				for (Map.Entry<GeneratorProperties.Group, SpringDocResource> entry : openApiResources.entrySet()) {
+					accumulators.get(entry.getKey()).fold(entry.getValue().getOpenApi(null, locale));
+				}
+			} else {
+				buildGroups(openApiResources, locale);
+			}
+			controllers += batch.controllers();
+			if (batchMode) {
+				LOGGER.info("Built batch {} with {} controllers, used heap: {} MB", getBatches(), batch.controllers(),
+						megabytes(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed()));
+			}
+		}
+
+		/**
+		 * @see #complete(GenerationPipeline.Emitter)
+		 */
+		@Override
+		public void complete(final GenerationPipeline.Emitter<Map.Entry<GeneratorProperties.Group, OpenAPI>> emitter) throws InterruptedException {
+			for (Map.Entry<GeneratorProperties.Group, OpenApiAccumulator> entry : accumulators.entrySet()) {
+				emitter.emit(Map.entry(entry.getKey(), entry.getValue().getOpenApi()));
+			}
+		}
+
+		/**
+		 * Builds the models of all the groups of a batch in parallel and folds them in the accumulated models.
+		 *
+		 * @param openApiResources the Spring Doc resource of every group
+		 * @param locale the locale
+		 * @throws IOException when a group cannot be built because of an I/O error
+		 * @throws InterruptedException when the pipeline is cancelled
+		 */
+		private void buildGroups(final Map<GeneratorProperties.Group, SpringDocResource> openApiResources, final Locale locale)
+				throws IOException, InterruptedException {
+			try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				Map<GeneratorProperties.Group, Future<OpenAPI>> futures = new LinkedHashMap<>();
+				openApiResources.forEach((group, openApiResource) -> futures.put(group, executor.submit(() -> openApiResource.getOpenApi(null, locale))));
+				for (Map.Entry<GeneratorProperties.Group, Future<OpenAPI>> entry : futures.entrySet()) {
+					accumulators.get(entry.getKey()).fold(entry.getValue().get());
+				}
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof IOException ioException) {
+					throw ioException;
+				}
+				throw new IllegalStateException("Error generating the Open API groups", e.getCause());
+			}
+		}
+
+		/**
+		 * Returns the path fragment cache.
+		 *
+		 * @return the path fragment cache, empty when the fragments are not cached
+		 */
+		Optional<PathFragmentCache> getFragmentCache() {
+			return Optional.ofNullable(fragmentCache);
+		}
+
+		/**
+		 * Returns the number of built batches.
+		 *
+		 * @return the number of built batches
+		 */
+		int getBatches() {
+			return accumulators.values().stream().mapToInt(OpenApiAccumulator::getBatches).max().orElse(0);
+		}
+
+		/**
+		 * Returns the number of built controllers.
+		 *
+		 * @return the number of built controllers
+		 */
+		int getControllers() {
+			return controllers;
+		}
+
+		/**
+		 * Returns the number of components built differently by more than one batch.
+		 *
+		 * @return the number of conflicting components
+		 */
+		int getConflicts() {
+			return accumulators.values().stream().mapToInt(OpenApiAccumulator::getConflicts).sum();
+		}
+	}
+
 	/**
 	 * Hide constructor.
 	 */
@@ -171,6 +577,55 @@ public class OpenApiSpecSpringDocGenerator {
 	 * @throws IOException when an I/O error occurs
 	 */
 	public static void generate(final GeneratorProperties properties) throws IOException {
+		try (SpringDocGeneratorEngine engine = new SpringDocGeneratorEngine(properties.getSchemaCache(), properties.getSchemaLimits())) {
+			engine.generate(properties);
+		}
+	}
+
+	/**
+	 * Generates an OpenAPI specification file with the given reusable engine.
+	 *
+	 * @param properties the generator properties
+	 * @param engine the generator engine
+	 * @throws IOException when an I/O error occurs
+	 */
+	static void generate(final GeneratorProperties properties, final SpringDocGeneratorEngine engine) throws IOException {
+		generate(properties, engine, null, UnaryOperator.identity());
+	}
+
+	/**
+	 * Generates an OpenAPI specification file from the given controllers and controller advices instead of the classes
+	 * found by scanning the packages, every built model is handed to the given finisher before it is written.
+	 *
+	 * @param properties the generator properties
+	 * @param scannedClasses the controllers and controller advices
+	 * @param finisher the function applied to every built model before it is written
+	 * @throws IOException when an I/O error occurs
+	 */
+	public static void generate(final GeneratorProperties properties, final Set<Class<?>> scannedClasses, final UnaryOperator<OpenAPI> finisher)
+			throws IOException {
+		try (SpringDocGeneratorEngine engine = new SpringDocGeneratorEngine(properties.getSchemaCache(), properties.getSchemaLimits())) {
+			generate(properties, engine, scannedClasses, finisher);
+		}
+	}
+
+	/**
+	 * Generates an OpenAPI specification file with the given reusable engine.
+	 * <p>
+	 * The generation runs as a staged pipeline of discovery, instantiation, registration, build and write stages, but
+	 * not every stage streams its items: the discovery completes the scan and sorts the classes before it emits the
+	 * first one, and without batches the registration emits a single batch when its input ends so the build starts only
+	 * after all the controllers are registered. Without batches only the instantiation overlaps the registration, in
+	 * batch mode the build of a batch also overlaps the instantiation and the registration of the next batches.
+	 *
+	 * @param properties the generator properties
+	 * @param engine the generator engine
+	 * @param scannedClasses the controllers and controller advices, null to scan the packages
+	 * @param finisher the function applied to every built model before it is written
+	 * @throws IOException when an I/O error occurs
+	 */
+	private static void generate(final GeneratorProperties properties, final SpringDocGeneratorEngine engine, final Set<Class<?>> scannedClasses,
+			final UnaryOperator<OpenAPI> finisher) throws IOException {
 		System.setProperty(JsonBuilder.Property.INDENT_OUTPUT, "true");
 		LOGGER.info("Generator properties: {}", properties);
 
@@ -182,68 +637,378 @@ public class OpenApiSpecSpringDocGenerator {
 		Path projectClassesDir = JavaEnvironment.detectProjectOutputDirectory();
 		LOGGER.info("Using classes directory: {}", projectClassesDir.toAbsolutePath());
 
-		Set<Class<?>> requestHandlerClasses = Classes.Scan.findWithAnyAnnotation(packages, projectClassesDir, REQUEST_HANDLER_ANNOTATIONS,
-				LOGGER::info);
 		ClassLoader projectClassLoader = Thread.currentThread().getContextClassLoader();
 		CustomApplicationContext context = new CustomApplicationContext(projectClassLoader);
-		for (Class<?> requestHandlerClass : requestHandlerClasses) {
-			Object controller = InstanceCreator.getInstance().newInstance(requestHandlerClass);
-			String beanName = requestHandlerClass.getSimpleName();
-			context.addBean(controller);
+		SpringEngine springEngine = springEngine(properties);
+		LOGGER.info("Using Spring engine: {}", springEngine);
+		JavadocMode javadocMode = javadocMode(properties);
+		LOGGER.info("Using javadoc mode: {}", javadocMode);
+		Optional<LazyJavadocProvider> javadocProvider = javadocProvider(properties, javadocMode, context, projectClassesDir, projectClassLoader);
+		List<GeneratorProperties.Group> groups = groups(properties);
+		MessageSource messageSource = messageSource(properties, projectClassLoader);
+		OperationIdNormalizer operationIdNormalizer = new OperationIdNormalizer();
+		PathItemCustomizers pathItemCustomizers = pathItemCustomizers(properties, operationIdNormalizer, projectClassLoader);
+		// the schema resolution limits stub the types in the order in which they are first reached
+		boolean sequential = engine.getBoundedModelConverter().isPresent();
+		if (sequential) {
+			warnSequentialBuild(properties, groups);
+		}
+		boolean batchMode = properties.isBatchEnabled() && !sequential;
+		if (batchMode) {
+			resetPeakHeapUsage();
+		}
+
+		ControllerRegistrar registrar = new ControllerRegistrar(properties, springEngine, context, batchMode ? batchSize(properties) : 0);
+		OpenApiAssembler assembler = new OpenApiAssembler(properties, engine, springEngine, groups, javadocProvider, pathItemCustomizers,
+				batchMode, sequential);
+		GenerationPipeline<?> pipeline = GenerationPipeline.<Class<?>>from(PIPELINE_QUEUE_CAPACITY, "discover",
+				emitter -> discover(packages, projectClassesDir, scannedClasses, emitter))
+				.then("instantiate", (scannedClass, emitter) -> instantiate(scannedClass, groups, emitter))
+				.then("register", registrar)
+				.then("build", BATCH_QUEUE_CAPACITY, assembler)
+				.then("write", (groupOpenApi, _) -> writeOpenApi(properties, groupOpenApi.getKey().getOutputFile(), finisher.apply(groupOpenApi.getValue()),
+						engine.isOpenapi31(), messageSource));
+		try {
+			pipeline.run();
+		} finally {
+			pipeline.getStatistics().forEach(statistics -> LOGGER.info("Pipeline stage {}", statistics));
+		}
+		assembler.getFragmentCache().ifPresent(PathFragmentCache::evict);
+		pathItemCustomizers.getStatistics().forEach(statistics -> LOGGER.info("Path item customizer {}", statistics));
+		LOGGER.info("Normalized {} operation ids, ran {} path item customizers in {} passes", operationIdNormalizer.getNormalized(),
+				pathItemCustomizers.getStatistics().size(), pathItemCustomizers.getPasses());
+		if (batchMode) {
+			LOGGER.info("Built {} controllers in {} batches of at most {} controllers, {} conflicting components, peak heap: {} MB",
+					assembler.getControllers(), assembler.getBatches(), batchSize(properties), assembler.getConflicts(), megabytes(peakHeapUsage()));
+		}
+		Optional<BoundedModelConverter> boundedModelConverter = engine.getBoundedModelConverter();
+		if (boundedModelConverter.isPresent()) {
+			reportSchemaLimits(boundedModelConverter.get(), engine.getSchemaLimits().orElseThrow());
+		}
+		javadocProvider.ifPresentOrElse(provider -> logJavadocCost(javadocMode, provider), () -> LOGGER.info("Javadoc extraction is disabled"));
+
+		List<String> instantiatedBeans = context.getInstantiatedBeanNames();
+		LOGGER.info("Created {} of {} registered beans: {}", instantiatedBeans.size(), context.getBeanDefinitionCount(), instantiatedBeans);
+		LOGGER.info("Loaded classes: {}", ManagementFactory.getClassLoadingMXBean().getLoadedClassCount());
+	}
 
-			RequestMappingHandlerMapping handlerMapping = createHandlerMapping(controller, context, properties);
-			context.addBean(beanName + "HandlerMapping", handlerMapping);
+	private static void resetPeakHeapUsage() {
+		heapMemoryPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+	}
+
+	private static long peakHeapUsage() {
+		// the pools don't reach their peaks at the same time so the sum is an upper bound of the peak heap usage
+		return heapMemoryPools().stream()
+				.mapToLong(pool -> pool.getPeakUsage().getUsed())
+				.sum();
+	}
+
+	private static List<MemoryPoolMXBean> heapMemoryPools() {
+		return ManagementFactory.getMemoryPoolMXBeans().stream()
+				.filter(pool -> MemoryType.HEAP == pool.getType() && pool.isValid())
+				.toList();
+	}
+
+	private static long megabytes(final long bytes) {
+		return bytes / (1024 * 1024);
+	}
+
+	private static void discover(final Set<String> packages, final Path projectClassesDir, final Set<Class<?>> discoveredClasses,
+			final GenerationPipeline.Emitter<Class<?>> emitter) throws InterruptedException {
+		Set<Class<?>> scannedClasses = discoveredClasses;
+		if (null == scannedClasses) {
+			Set<Class<? extends Annotation>> scannedAnnotations = new HashSet<>(REQUEST_HANDLER_ANNOTATIONS);
+			scannedAnnotations.addAll(CONTROLLER_ADVICE_ANNOTATIONS);
+			scannedClasses = Classes.Scan.findWithAnyAnnotation(packages, projectClassesDir, scannedAnnotations, LOGGER::info);
 		}
+		// the discovery is a barrier: the scan must complete before the first class is emitted because the controller
+		// advices are emitted first so they are known before the first controllers are built and the controllers are
+		// emitted in class name order so the batches don't depend on the scan order
+		List<Class<?>> orderedClasses = scannedClasses.stream()
+				.sorted(Comparator.<Class<?>, Boolean>comparing(scannedClass -> !isControllerAdvice(scannedClass)).thenComparing(Class::getName))
+				.toList();
+		for (Class<?> scannedClass : orderedClasses) {
+			emitter.emit(scannedClass);
+		}
+	}
+
+	private static void instantiate(final Class<?> scannedClass, final List<GeneratorProperties.Group> groups,
+			final GenerationPipeline.Emitter<Object> emitter) throws InterruptedException {
+		if (!isControllerAdvice(scannedClass) && groups.stream().noneMatch(group -> isPackageInGroup(scannedClass.getPackageName(), group))) {
+			LOGGER.info("Skipping controller outside all groups: {}", scannedClass.getName());
+			return;
+		}
+		emitter.emit(InstanceCreator.getInstance().newInstance(scannedClass));
+	}
 
-		String outputFile = properties.getOutputFile();
+	private static boolean isControllerAdvice(final Class<?> cls) {
+		return AnnotatedElementUtils.hasAnnotation(cls, ControllerAdvice.class);
+	}
 
-		SpringDocOpenApiResource openApiResource = buildSpringDocOpenApiResource(outputFile, context);
-		OpenAPI openAPI = openApiResource.getOpenApi(null, Locale.ENGLISH);
+	private static void writeOpenApi(final GeneratorProperties properties, final String outputFile, final OpenAPI openAPI,
+			final boolean isOpenapi31, final MessageSource messageSource) throws IOException {
+		// the model is built once, the main definition and the variants are copies of it
+		writeOpenApi(properties, outputFile, isOpenapi31, variant(openAPI, properties, new GeneratorProperties.Variant(), messageSource));
+		for (GeneratorProperties.Variant variant : Lists.safe(properties.getVariants())) {
+			String variantOutputFile = GeneratorProperties.outputFileWithName(outputFile, variant.getName());
+			writeOpenApi(properties, variantOutputFile, isOpenapi31, variant(openAPI, properties, variant, messageSource));
+		}
+	}
 
-		List<GeneratorProperties.Server> configuredServers = Lists.safe(properties.getServers());
-		openAPI.setServers(configuredServers.stream()
+	private static OpenAPI variant(final OpenAPI openAPI, final GeneratorProperties properties, final GeneratorProperties.Variant variant,
+			final MessageSource messageSource) {
+		OpenAPI variantOpenAPI = OpenApiVariants.copy(openAPI);
+
+		List<GeneratorProperties.Server> configuredServers = null != variant.getServers()
+				? variant.getServers()
+				: Lists.safe(properties.getServers());
+		variantOpenAPI.setServers(configuredServers.stream()
 				.map(srv -> new Server().url(srv.getUrl()))
 				.toList());
-		if (properties.isOAuth2Enabled()) {
-			configureOAuth2(openAPI, properties.getOauth2());
+		GeneratorProperties.OAuth2 oauth2 = null != variant.getOauth2() ? variant.getOauth2() : properties.getOauth2();
+		if (null != oauth2 && oauth2.isEnabled()) {
+			configureOAuth2(variantOpenAPI, oauth2);
+		}
+		addExtensions(variantOpenAPI, properties.getExtensions());
+		addExtensions(variantOpenAPI, variant.getExtensions());
+		if (null != messageSource) {
+			String locale = Strings.isNotEmpty(variant.getLocale()) ? variant.getLocale() : properties.getLocale();
+			OpenApiVariants.localize(variantOpenAPI, messageSource, locale(locale));
+		}
+		return variantOpenAPI;
+	}
+
+	private static void writeOpenApi(final GeneratorProperties properties, final String outputFile, final boolean isOpenapi31,
+			final OpenAPI openAPI) throws IOException {
+		for (OpenApiWriter.Summary summary : OpenApiWriter.write(openAPI, outputFile, isOpenapi31, properties)) {
+			LOGGER.info("Generated OpenAPI spec at {}", summary);
 		}
-		addExtensions(openAPI, properties.getExtensions());
+	}
+
+	private static Locale locale(final String locale) {
+		return Strings.isEmpty(locale) ? Locale.forLanguageTag(GeneratorProperties.Default.LOCALE) : Locale.forLanguageTag(locale.replace('_', '-'));
+	}
+
+	private static MessageSource messageSource(final GeneratorProperties properties, final ClassLoader projectClassLoader) {
+		String messages = properties.getMessages();
+		if (Strings.isEmpty(messages)) {
+			return null;
+		}
+		ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+		messageSource.setBasenames(Arrays.stream(messages.split(","))
+				.map(String::trim)
+				.filter(Strings::isNotEmpty)
+				.toArray(String[]::new));
+		messageSource.setBundleClassLoader(projectClassLoader);
+		messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+		messageSource.setFallbackToSystemLocale(false);
+		LOGGER.info("Using messages: {}", messages);
+		return messageSource;
+	}
+
+	private static List<GeneratorProperties.Group> groups(final GeneratorProperties properties) {
+		if (properties.isGroupsEnabled()) {
+			return properties.getGroups();
+		}
+		GeneratorProperties.Group defaultGroup = new GeneratorProperties.Group();
+		defaultGroup.setName(properties.getOutputFile());
+		defaultGroup.setOutputFile(properties.getOutputFile());
+		return List.of(defaultGroup);
+	}
 
-		File out = new File(outputFile);
-		out.getParentFile().mkdirs();
+	private static boolean isPackageInGroup(final String packageName, final GeneratorProperties.Group group) {
+		List<String> packagesToScan = group.getPackagesToScan();
+		boolean included = Lists.isEmpty(packagesToScan) || packagesToScan.stream().anyMatch(pkg -> isInPackage(packageName, pkg));
+		return included && Lists.safe(group.getPackagesToExclude()).stream().noneMatch(pkg -> isInPackage(packageName, pkg));
+	}
+
+	private static boolean isInPackage(final String packageName, final String pkg) {
+		return packageName.equals(pkg) || packageName.startsWith(pkg + ".");
+	}
+
+	private static PathFragmentCache fragmentCache(final GeneratorProperties properties, final SpringDocGeneratorEngine engine,
+			final String springDocConfiguration, final Batch batch, final PathItemCustomizers pathItemCustomizers) {
+		GeneratorProperties.FragmentCache fragmentCache = properties.getFragmentCache();
+		FileCacheStore store = new FileCacheStore(Path.of(fragmentCache.getDirectory()), fragmentCache.getMaxEntries());
+		ObjectMapper objectMapper = engine.isOpenapi31() ? Json31.mapper() : Json.mapper();
+		String configuration = engine.getModelConvertersConfiguration()
+				+ "|" + springDocConfiguration
+				+ "|schemaForObjectClass=" + properties.getSchemaForObjectClass()
+				+ "|javadocMode=" + javadocMode(properties);
+		// the project classes registered as customizers change the operations of every controller
+		List<Class<?>> customizerClasses = new ArrayList<>(pathItemCustomizers.getCustomizerClasses());
+		CustomApplicationContext context = batch.context();
+		Stream.of(OperationCustomizer.class, OpenApiCustomizer.class)
+				.flatMap(type -> Stream.of(context.getBeanNamesForType(type)))
+				.map(context::getType)
+				.forEach(customizerClasses::add);
+		LOGGER.info("Using path fragment cache at {}", store.getDirectory().toAbsolutePath());
+		return new PathFragmentCache(store, objectMapper, configuration, batch.adviceClasses(), customizerClasses);
+	}
+
+	private static SpringEngine springEngine(final GeneratorProperties properties) {
+		String springEngine = properties.getSpringEngine();
+		return Strings.isEmpty(springEngine) ? SpringEngine.MVC : SpringEngine.fromString(springEngine);
+	}
+
+	private static JavadocMode javadocMode(final GeneratorProperties properties) {
+		String javadocMode = properties.getJavadocMode();
+		return Strings.isEmpty(javadocMode) ? JavadocMode.RUNTIME : JavadocMode.fromString(javadocMode);
+	}
 
-		boolean isOpenapi31 = openApiResource.getSpringDocConfigProperties().isOpenapi31();
-		ObjectMapper mapper = switch (outputFile) {
-			case String s when s.endsWith(".json") -> isOpenapi31 ? Json31.mapper() : Json.mapper();
-			case String s when (s.endsWith(".yaml") || s.endsWith(".yml")) -> isOpenapi31 ? Yaml31.mapper() : Yaml.mapper();
-			default -> throw new UnsupportedOperationException("Unsupported output type: " + outputFile);
+	private static Optional<LazyJavadocProvider> javadocProvider(final GeneratorProperties properties, final JavadocMode javadocMode,
+			final CustomApplicationContext context, final Path classesDir, final ClassLoader classLoader) {
+		Supplier<JavadocProvider> javadocProviderFactory = switch (javadocMode) {
+			case OFF -> null;
+			case RUNTIME -> SpringDocJavadocProvider::new;
+			case CACHED -> () -> new IndexedJavadocProvider(cachedJavadocIndex(classesDir, classLoader));
+			case PRECOMPUTED -> () -> new IndexedJavadocProvider(precomputedJavadocIndex(javadocIndexFile(properties, classesDir), classesDir, classLoader));
 		};
+		if (null == javadocProviderFactory) {
+			return Optional.empty();
+		}
+		// the javadoc provider is only created when first used
+		context.addBean("springDocJavadocProvider", JavadocProvider.class, javadocProviderFactory);
+		return Optional.of(new LazyJavadocProvider(context.getBeanProvider(JavadocProvider.class)));
+	}
+
+	private static Path javadocIndexFile(final GeneratorProperties properties, final Path classesDir) {
+		String javadocIndexFile = properties.getJavadocIndexFile();
+		return Strings.isEmpty(javadocIndexFile)
+				? classesDir.toAbsolutePath().resolveSibling(GeneratorProperties.Default.JAVADOC_INDEX_FILE_NAME)
+				: Path.of(javadocIndexFile);
+	}
+
+	private static JavadocIndex cachedJavadocIndex(final Path classesDir, final ClassLoader classLoader) {
+		long start = System.nanoTime();
+		try {
+			JavadocIndex javadocIndex = JavadocIndex.load(classesDir, classLoader);
+			LOGGER.info("Loaded javadoc index of {} classes in {} ms", javadocIndex.size(), millisSince(start));
+			return javadocIndex;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Error loading the javadoc index", e);
+		}
+	}
+
+	private static JavadocIndex precomputedJavadocIndex(final Path indexFile, final Path classesDir, final ClassLoader classLoader) {
+		long start = System.nanoTime();
+		try {
+			if (!JavadocIndex.isUpToDate(indexFile, classesDir)) {
+				JavadocIndex.load(classesDir, classLoader).write(indexFile);
+				LOGGER.info("Built javadoc index at {} in {} ms", indexFile.toAbsolutePath(), millisSince(start));
+				start = System.nanoTime();
+			}
+			JavadocIndex javadocIndex = JavadocIndex.map(indexFile);
+			LOGGER.info("Mapped javadoc index of {} classes ({} bytes) in {} ms", javadocIndex.size(), Files.size(indexFile), millisSince(start));
+			return javadocIndex;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Error reading the javadoc index " + indexFile, e);
+		}
+	}
+
+	private static void logJavadocCost(final JavadocMode javadocMode, final LazyJavadocProvider javadocProvider) {
+		Optional<IndexedJavadocProvider> indexedJavadocProvider = javadocProvider.getInstantiated()
+				.filter(IndexedJavadocProvider.class::isInstance)
+				.map(IndexedJavadocProvider.class::cast);
+		if (indexedJavadocProvider.isPresent()) {
+			LOGGER.info("Javadoc mode {}: {} lookups in {} ms, {} classes read from the index, {} classes looked up at runtime", javadocMode,
+					javadocProvider.getLookups(), javadocProvider.getLookupMillis(), indexedJavadocProvider.get().getIndexedClasses(),
+					indexedJavadocProvider.get().getRuntimeLookups());
+		} else {
+			LOGGER.info("Javadoc mode {}: {} lookups in {} ms", javadocMode, javadocProvider.getLookups(), javadocProvider.getLookupMillis());
+		}
+	}
+
+	private static long millisSince(final long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+	}
+
+	private static int parallelism(final GeneratorProperties properties) {
+		Integer parallelism = properties.getParallelism();
+		return null == parallelism ? GeneratorProperties.Default.PARALLELISM : parallelism;
+	}
+
+	private static void warnSequentialBuild(final GeneratorProperties properties, final List<GeneratorProperties.Group> groups) {
+		if (parallelism(properties) > 1 || properties.isFragmentCacheEnabled() || properties.isBatchEnabled() || groups.size() > 1) {
+			LOGGER.warn("The schema resolution limits depend on the order in which the types are reached, the paths and the groups are "
+					+ "built sequentially in a single batch without the fragment cache");
+		}
+	}
+
+	private static int batchSize(final GeneratorProperties properties) {
+		Integer batchSize = properties.getBatch().getSize();
+		return null == batchSize || batchSize < 1 ? GeneratorProperties.Default.BATCH_SIZE : batchSize;
+	}
+
+	private static void analyzeRoutes(final List<Endpoint> endpoints, final GeneratorProperties.RouteAnalysis routeAnalysis) throws IOException {
+		RouteAnalyzer routeAnalyzer = RouteAnalyzer.of(endpoints);
+		List<RouteConflict> conflicts = routeAnalyzer.analyze();
+		LOGGER.info("Analyzed {} routes, found {} conflicts", routeAnalyzer.getRouteCount(), conflicts.size());
+		conflicts.forEach(conflict -> LOGGER.warn("Route conflict: {}", conflict));
 
-		try (FileWriter writer = new FileWriter(out, StandardCharsets.UTF_8)) {
-			mapper.writerWithDefaultPrettyPrinter().writeValue(writer, openAPI);
+		String reportFile = routeAnalysis.getReportFile();
+		if (Strings.isNotEmpty(reportFile)) {
+			List<String> lines = new ArrayList<>(conflicts.size() + 2);
+			lines.add("Routes: " + routeAnalyzer.getRouteCount());
+			lines.add("Conflicts: " + conflicts.size());
+			conflicts.forEach(conflict -> lines.add(conflict.toString()));
+			Path reportFilePath = Path.of(reportFile);
+			Path reportDir = reportFilePath.toAbsolutePath().getParent();
+			if (null != reportDir) {
+				Files.createDirectories(reportDir);
+			}
+			Files.write(reportFilePath, lines, StandardCharsets.UTF_8);
+			LOGGER.info("Route analysis report written at {}", reportFilePath.toAbsolutePath());
+		}
+		if (routeAnalysis.isFailOnConflict() && !conflicts.isEmpty()) {
+			throw new IllegalStateException("Found " + conflicts.size() + " route conflicts: " + conflicts);
 		}
+	}
 
-		LOGGER.info("Generated OpenAPI spec at {}", out.getAbsolutePath());
+	private static void reportSchemaLimits(final BoundedModelConverter converter, final GeneratorProperties.SchemaLimits schemaLimits)
+			throws IOException {
+		List<BoundedModelConverter.Stub> stubs = converter.drainStubs();
+		Set<String> roots = stubs.stream().map(BoundedModelConverter.Stub::root).collect(Collectors.toCollection(TreeSet::new));
+		LOGGER.info("Schema resolution limits reached by {} root types, {} stubs", roots.size(), stubs.size());
+		roots.forEach(root -> LOGGER.warn("Schema resolution limits reached by: {}", root));
 
-		Path outputFilePath = Path.of(outputFile);
-		String generatedContent = Files.readString(outputFilePath);
-		LOGGER.info("Generated:\n{}", generatedContent);
+		String reportFile = schemaLimits.getReportFile();
+		if (Strings.isNotEmpty(reportFile)) {
+			List<String> lines = new ArrayList<>(stubs.size() + 4);
+			lines.add("Max depth: " + converter.getMaxDepth());
+			lines.add("Max types: " + converter.getMaxTypes());
+			lines.add("Roots: " + roots.size());
+			lines.add("Stubs: " + stubs.size());
+			stubs.forEach(stub -> lines.add(stub.toString()));
+			Path reportFilePath = Path.of(reportFile);
+			Path reportDir = reportFilePath.toAbsolutePath().getParent();
+			if (null != reportDir) {
+				Files.createDirectories(reportDir);
+			}
+			Files.write(reportFilePath, lines, StandardCharsets.UTF_8);
+			LOGGER.info("Schema limits report written at {}", reportFilePath.toAbsolutePath());
+		}
 	}
 
-	private static RequestMappingHandlerMapping createHandlerMapping(final Object controller, final ApplicationContext context,
-			final GeneratorProperties properties) {
+	private static RequestMappingHandlerMapping createHandlerMapping(final Object controller, final ApplicationContext context) {
 		RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
 		handlerMapping.setApplicationContext(context);
 		handlerMapping.afterPropertiesSet();
-		registerControllerMethods(handlerMapping, controller, properties.getSchemaForObjectClass());
+		registerControllerMethods(handlerMapping, controller);
 		return handlerMapping;
 	}
 
-	private static void registerControllerMethods(final RequestMappingHandlerMapping handlerMapping, final Object controller,
-			final String schemaForObjectClass) {
+	private static List<Endpoint> extractEndpoints(final String beanName, final Object controller, final CustomApplicationContext context) {
+		Class<?> controllerClass = controller.getClass();
+		if (!EndpointExtractor.isHandler(controllerClass)) {
+			return List.of();
+		}
+		return EndpointExtractor.extract(beanName, controllerClass, context.getCustomBeanFactory());
+	}
+
+	private static void registerControllerMethods(final RequestMappingHandlerMapping handlerMapping, final Object controller) {
 		for (Method method : Methods.Complete.getAllDeclaredInHierarchy(controller.getClass(), Classes.mutableSetOf(Object.class))) {
 			RequestMapping methodMapping = method.getAnnotation(RequestMapping.class);
-			SwaggerAnnotations.overrideAll(method, schemaForObjectClass);
 			if (methodMapping != null) {
 				RequestMappingInfo mappingInfo = RequestMappingInfo
 						.paths(methodMapping.value())
@@ -258,14 +1023,18 @@ public class OpenApiSpecSpringDocGenerator {
 		}
 	}
 
-	private static SpringDocOpenApiResource buildSpringDocOpenApiResource(final String outputFile, final CustomApplicationContext context) {
+	private static Map<GeneratorProperties.Group, SpringDocResource> buildSpringDocOpenApiResources(final GeneratorProperties properties,
+			final SpringDocGeneratorEngine engine, final CustomApplicationContext context, final SpringEngine springEngine, final List<Endpoint> endpoints,
+			final List<GeneratorProperties.Group> groups, final PartitionedPathsBuilder pathsBuilder,
+			final Optional<LazyJavadocProvider> lazyJavadocProvider, final PathItemCustomizers pathItemCustomizers) {
 		SpringDocConfigProperties springDocConfigProperties = new SpringDocConfigProperties();
+		if (properties.isGroupsEnabled()) {
+			groups.forEach(group -> springDocConfigProperties.addGroupConfig(groupConfig(group)));
+		}
 		String jsonSpringDocConfigProperties = JsonBuilder.toJson(springDocConfigProperties);
 		LOGGER.info("Spring Doc Config properties: {}", jsonSpringDocConfigProperties);
 
-		SpringDocUtils.getConfig().initExtraSchemas();
-		ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider(springDocConfigProperties);
-		registerModelConverters(springDocConfigProperties, objectMapperProvider);
+		ObjectMapperProvider objectMapperProvider = engine.getObjectMapperProvider();
 
 		DelegatingMessageSource messageSource = new DelegatingMessageSource();
 		PropertyResolverUtils propertyResolverUtils = new PropertyResolverUtils(
@@ -274,35 +1043,25 @@ public class OpenApiSpecSpringDocGenerator {
 				springDocConfigProperties);
 
 		SecurityService securityService = new SecurityService(propertyResolverUtils);
-		SpringDocJavadocProvider springDocJavadocProvider = new SpringDocJavadocProvider();
 
-		OpenAPIService openAPIService = new OpenAPIService(
-				Optional.empty(),
-				securityService,
-				springDocConfigProperties,
-				propertyResolverUtils,
-				Optional.empty(),
-				Optional.empty(),
-				Optional.of(springDocJavadocProvider));
-
-		openAPIService.setApplicationContext(context);
+		// optional services are only created when first used
+		context.addBean("pathItemCustomizers", OpenApiCustomizer.class, () -> pathItemCustomizers);
+		String schemaForObjectClass = properties.getSchemaForObjectClass();
+		if (Strings.isNotEmpty(schemaForObjectClass)) {
+			context.addBean("objectSchemaOperationCustomizer", OperationCustomizer.class,
+					() -> new ObjectSchemaOperationCustomizer(schemaForObjectClass));
+		}
+		Optional<JavadocProvider> javadocProvider = lazyJavadocProvider.map(JavadocProvider.class::cast);
 
-		SpringWebMvcProvider springWebMvcProvider = new SpringWebMvcProvider();
-		springWebMvcProvider.setApplicationContext(context);
-
-		SpringDocCustomizers springDocCustomizers = new SpringDocCustomizers(
-				Optional.of(Set.of(normalizeOperationIds())),
-				Optional.empty(),
-				Optional.empty(),
-				Optional.empty(),
-				Optional.empty(),
-				Optional.empty());
+		OpenApiCustomizer openApiCustomizer = registeredOpenApiCustomizers(context);
+		OperationCustomizer operationCustomizer = registeredOperationCustomizers(context);
+		SpringDocCustomizers springDocCustomizers = springDocCustomizers(openApiCustomizer, operationCustomizer, null);
 
 		GenericParameterService genericParameterService = new GenericParameterService(
 				propertyResolverUtils,
 				Optional.empty(),
 				objectMapperProvider,
-				Optional.of(springDocJavadocProvider));
+				javadocProvider);
 
 		RequestBodyService requestBodyService = new RequestBodyService(
 				genericParameterService,
@@ -321,56 +1080,140 @@ public class OpenApiSpecSpringDocGenerator {
 				securityService,
 				propertyResolverUtils);
 
-		GenericResponseService responseService = new GenericResponseService(
-				operationService,
-				springDocConfigProperties,
-				propertyResolverUtils);
-
 		SpringDocProviders springDocProviders = new SpringDocProviders(
 				Optional.empty(),
 				Optional.empty(),
 				Optional.empty(),
 				Optional.empty(),
 				Optional.empty(),
-				Optional.of(springWebMvcProvider),
+				springWebProvider(springEngine, context),
 				objectMapperProvider);
 
-		return new SpringDocOpenApiResource(
-				outputFile,
-				propertyResolverUtils,
-				openAPIService,
-				requestService,
-				responseService,
-				operationService,
-				springDocCustomizers,
-				springDocProviders);
-	}
-
-	private static void registerModelConverters(final SpringDocConfigProperties springDocConfigProperties,
-			final ObjectMapperProvider objectMapperProvider) {
-		ModelConverters modelConverters = ModelConverters.getInstance(springDocConfigProperties.isOpenapi31());
-
-		modelConverters.addConverter(new AdditionalModelsConverter(objectMapperProvider));
-		modelConverters.addConverter(new FileSupportConverter(objectMapperProvider));
-		modelConverters.addConverter(new ResponseSupportConverter(objectMapperProvider));
-		modelConverters.addConverter(new SchemaPropertyDeprecatingConverter());
-		modelConverters.addConverter(new PolymorphicModelConverter(objectMapperProvider));
-		modelConverters.addConverter(new PropertyCustomizingConverter(Optional.empty()));
-	}
-
-	private static OpenApiCustomizer normalizeOperationIds() {
-		return openApi -> openApi.getPaths().forEach((_, item) -> {
-			Map<PathItem.HttpMethod, Operation> operationsMap = item.readOperationsMap();
-			for (PathItem.HttpMethod method : operationsMap.keySet()) {
-				Operation operation = operationsMap.get(method);
-				String id = operation.getOperationId();
-				if (id != null && id.startsWith("_")) {
-					String normalizedId = id.substring(1);
-					LOGGER.info("Normalizing operationId '{}' to '{}'", id, normalizedId);
-					operation.setOperationId(normalizedId);
-				}
+		// the schemas are resolved by the same services for all groups, only the services holding the state of a single
+		// Open API build are created for each group
+		Map<GeneratorProperties.Group, SpringDocResource> openApiResources = new LinkedHashMap<>();
+		for (GeneratorProperties.Group group : groups) {
+			OpenAPIService openAPIService = new OpenAPIService(
+					Optional.empty(),
+					securityService,
+					springDocConfigProperties,
+					propertyResolverUtils,
+					Optional.empty(),
+					Optional.empty(),
+					javadocProvider);
+			openAPIService.setApplicationContext(context);
+
+			GenericResponseService responseService = new GenericResponseService(
+					operationService,
+					springDocConfigProperties,
+					propertyResolverUtils);
+			responseService.setApplicationContext(context);
+
+			List<String> tagsToMatch = group.getTagsToMatch();
+			SpringDocCustomizers groupCustomizers = Lists.isEmpty(tagsToMatch)
+					? springDocCustomizers
+					: springDocCustomizers(openApiCustomizer, operationCustomizer, new TagsMethodFilter(tagsToMatch));
+
+			SpringDocResource openApiResource = switch (springEngine) {
+				case MVC -> new SpringDocOpenApiResource(
+						group.getName(),
+						propertyResolverUtils,
+						openAPIService,
+						requestService,
+						responseService,
+						operationService,
+						groupCustomizers,
+						springDocProviders,
+						pathsBuilder);
+				case DIRECT -> new EndpointOpenApiResource(
+						group.getName(),
+						endpoints,
+						propertyResolverUtils,
+						openAPIService,
+						requestService,
+						responseService,
+						operationService,
+						groupCustomizers,
+						springDocProviders,
+						pathsBuilder);
+			};
+			openApiResources.put(group, openApiResource);
+		}
+		return openApiResources;
+	}
+
+	private static SpringDocCustomizers springDocCustomizers(final OpenApiCustomizer openApiCustomizer,
+			final OperationCustomizer operationCustomizer, final OpenApiMethodFilter methodFilter) {
+		return new SpringDocCustomizers(
+				Optional.of(Set.of(openApiCustomizer)),
+				Optional.of(Set.of(operationCustomizer)),
+				Optional.empty(),
+				Optional.ofNullable(methodFilter).map(Set::of),
+				Optional.empty(),
+				Optional.empty());
+	}
+
+	private static SpringDocConfigProperties.GroupConfig groupConfig(final GeneratorProperties.Group group) {
+		return new SpringDocConfigProperties.GroupConfig(
+				group.getName(),
+				group.getPathsToMatch(),
+				group.getPackagesToScan(),
+				group.getPackagesToExclude(),
+				group.getPathsToExclude(),
+				null,
+				null,
+				null,
+				group.getName());
+	}
+
+	private static Optional<SpringWebProvider> springWebProvider(final SpringEngine springEngine, final ApplicationContext context) {
+		if (SpringEngine.DIRECT == springEngine) {
+			// the endpoints are already extracted so no Spring MVC handler mappings are needed
+			return Optional.empty();
+		}
+		SpringWebMvcProvider springWebMvcProvider = new SpringWebMvcProvider();
+		springWebMvcProvider.setApplicationContext(context);
+		return Optional.of(springWebMvcProvider);
+	}
+
+	private static OpenApiCustomizer registeredOpenApiCustomizers(final CustomApplicationContext context) {
+		ObjectProvider<OpenApiCustomizer> openApiCustomizers = context.getBeanProvider(OpenApiCustomizer.class);
+		return openApi -> openApiCustomizers.orderedStream().forEach(openApiCustomizer -> openApiCustomizer.customise(openApi));
+	}
+
+	private static OperationCustomizer registeredOperationCustomizers(final CustomApplicationContext context) {
+		ObjectProvider<OperationCustomizer> operationCustomizers = context.getBeanProvider(OperationCustomizer.class);
+		return (operation, handlerMethod) -> {
+			Operation customizedOperation = operation;
+			for (OperationCustomizer operationCustomizer : operationCustomizers.orderedStream().toList()) {
+				customizedOperation = operationCustomizer.customize(customizedOperation, handlerMethod);
 			}
-		});
+			return customizedOperation;
+		};
+	}
+
+	private static PathItemCustomizers pathItemCustomizers(final GeneratorProperties properties, final OperationIdNormalizer operationIdNormalizer,
+			final ClassLoader projectClassLoader) {
+		List<PathItemCustomizer> customizers = new ArrayList<>();
+		customizers.add(operationIdNormalizer);
+		ServiceLoader.load(PathItemCustomizer.class, projectClassLoader).forEach(customizers::add);
+		for (String className : Lists.safe(properties.getCustomizers())) {
+			customizers.add(pathItemCustomizer(className.trim(), projectClassLoader));
+		}
+		LOGGER.info("Using path item customizers: {}", customizers.stream().map(PathItemCustomizer::getName).toList());
+		return new PathItemCustomizers(customizers, parallelism(properties));
+	}
+
+	private static PathItemCustomizer pathItemCustomizer(final String className, final ClassLoader projectClassLoader) {
+		try {
+			Class<?> customizerClass = Class.forName(className, true, projectClassLoader);
+			if (!PathItemCustomizer.class.isAssignableFrom(customizerClass)) {
+				throw new IllegalArgumentException("Class " + className + " is not a " + PathItemCustomizer.class.getSimpleName());
+			}
+			return (PathItemCustomizer) customizerClass.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalArgumentException("Cannot create the path item customizer " + className, e);
+		}
 	}
 
 	private static void configureOAuth2(final OpenAPI openAPI, final GeneratorProperties.OAuth2 oauth2) {
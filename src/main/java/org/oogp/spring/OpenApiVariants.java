@@ -0,0 +1,360 @@
+package org.oogp.spring;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import org.morphix.reflection.Constructors;
+import org.springframework.context.MessageSource;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.tags.Tag;
+
+/**
+ * Utility methods that build the variants of an Open API model without building the model again.
+ * <p>
+ * A variant is a shallow copy of the built model, only the parts changed by the variant are copied: the servers, the
+ * security requirements, the extensions and the security schemes. The localized variants are built copy on write, the
+ * texts of the info, tags, operations, parameters, request bodies and responses are resolved as message codes in the
+ * variant locale and only the objects holding a changed text are copied, all the other objects (including all the
+ * schemas) are shared with the built model.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class OpenApiVariants {
+
+	/**
+	 * Hide constructor.
+	 */
+	private OpenApiVariants() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * Returns a shallow copy of the given Open API model, the servers, security requirements, extensions and security
+	 * schemes containers are copied so that they can be changed without changing the given model.
+	 *
+	 * @param openAPI the Open API model
+	 * @return the copy
+	 */
+	public static OpenAPI copy(final OpenAPI openAPI) {
+		OpenAPI copy = shallowCopy(openAPI);
+		copy.setServers(copyOf(openAPI.getServers()));
+		copy.setSecurity(copyOf(openAPI.getSecurity()));
+		copy.setComponents(copy(openAPI.getComponents()));
+		copy.setExtensions(copyOf(openAPI.getExtensions()));
+		return copy;
+	}
+
+	/**
+	 * Resolves the texts of the given Open API model as message codes in the given locale, the objects holding changed
+	 * texts are replaced with copies so the objects shared with other variants are never changed.
+	 *
+	 * @param openAPI the Open API model, usually a {@link #copy(OpenAPI)} of the built model
+	 * @param messageSource the message source
+	 * @param locale the locale
+	 * @return the given Open API model
+	 */
+	public static OpenAPI localize(final OpenAPI openAPI, final MessageSource messageSource, final Locale locale) {
+		UnaryOperator<String> localizer = text -> null == text ? null : messageSource.getMessage(text, null, text, locale);
+		openAPI.setInfo(localize(openAPI.getInfo(), localizer));
+		if (null != openAPI.getTags()) {
+			openAPI.setTags(openAPI.getTags().stream().map(tag -> localize(tag, localizer)).toList());
+		}
+		if (null != openAPI.getPaths()) {
+			Paths paths = new Paths();
+			openAPI.getPaths().forEach((path, pathItem) -> paths.addPathItem(path, localize(pathItem, localizer)));
+			paths.setExtensions(openAPI.getPaths().getExtensions());
+			openAPI.setPaths(paths);
+		}
+		return openAPI;
+	}
+
+	/**
+	 * Returns a shallow copy of the given components with a copy of the security schemes.
+	 *
+	 * @param components the components
+	 * @return the copy
+	 */
+	private static Components copy(final Components components) {
+		if (null == components) {
+			return null;
+		}
+		Components copy = shallowCopy(components);
+		copy.setSecuritySchemes(copyOf(components.getSecuritySchemes()));
+		return copy;
+	}
+
+	/**
+	 * Returns the localized info, the given info is returned when no text changes.
+	 *
+	 * @param info the info
+	 * @param localizer the text localizer
+	 * @return the localized info
+	 */
+	private static Info localize(final Info info, final UnaryOperator<String> localizer) {
+		if (null == info) {
+			return null;
+		}
+		String title = localizer.apply(info.getTitle());
+		String summary = localizer.apply(info.getSummary());
+		String description = localizer.apply(info.getDescription());
+		if (Objects.equals(title, info.getTitle()) && Objects.equals(summary, info.getSummary())
+				&& Objects.equals(description, info.getDescription())) {
+			return info;
+		}
+		Info copy = shallowCopy(info);
+		copy.setTitle(title);
+		copy.setSummary(summary);
+		copy.setDescription(description);
+		return copy;
+	}
+
+	/**
+	 * Returns the localized tag, the given tag is returned when no text changes.
+	 *
+	 * @param tag the tag
+	 * @param localizer the text localizer
+	 * @return the localized tag
+	 */
+	private static Tag localize(final Tag tag, final UnaryOperator<String> localizer) {
+		String description = localizer.apply(tag.getDescription());
+		if (Objects.equals(description, tag.getDescription())) {
+			return tag;
+		}
+		Tag copy = shallowCopy(tag);
+		copy.setDescription(description);
+		return copy;
+	}
+
+	/**
+	 * Returns the localized path item, the given path item is returned when no text of the path item or of its
+	 * operations and parameters changes.
+	 *
+	 * @param pathItem the path item
+	 * @param localizer the text localizer
+	 * @return the localized path item
+	 */
+	private static PathItem localize(final PathItem pathItem, final UnaryOperator<String> localizer) {
+		String summary = localizer.apply(pathItem.getSummary());
+		String description = localizer.apply(pathItem.getDescription());
+		List<Parameter> parameters = localize(pathItem.getParameters(), localizer);
+		Map<PathItem.HttpMethod, Operation> operations = new LinkedHashMap<>();
+		boolean changed = !Objects.equals(summary, pathItem.getSummary())
+				|| !Objects.equals(description, pathItem.getDescription())
+				|| parameters != pathItem.getParameters();
+		for (Map.Entry<PathItem.HttpMethod, Operation> entry : pathItem.readOperationsMap().entrySet()) {
+			Operation operation = localize(entry.getValue(), localizer);
+			changed |= operation != entry.getValue();
+			operations.put(entry.getKey(), operation);
+		}
+		if (!changed) {
+			return pathItem;
+		}
+		PathItem copy = shallowCopy(pathItem);
+		copy.setSummary(summary);
+		copy.setDescription(description);
+		operations.forEach(copy::operation);
+		copy.setParameters(parameters);
+		return copy;
+	}
+
+	/**
+	 * Returns the localized operation, the given operation is returned when no text of the operation or of its
+	 * parameters, request body and responses changes.
+	 *
+	 * @param operation the operation
+	 * @param localizer the text localizer
+	 * @return the localized operation
+	 */
+	private static Operation localize(final Operation operation, final UnaryOperator<String> localizer) {
+		String summary = localizer.apply(operation.getSummary());
+		String description = localizer.apply(operation.getDescription());
+		List<Parameter> parameters = localize(operation.getParameters(), localizer);
+		RequestBody requestBody = localize(operation.getRequestBody(), localizer);
+		ApiResponses responses = localize(operation.getResponses(), localizer);
+		if (Objects.equals(summary, operation.getSummary()) && Objects.equals(description, operation.getDescription())
+				&& parameters == operation.getParameters() && requestBody == operation.getRequestBody()
+				&& responses == operation.getResponses()) {
+			return operation;
+		}
+		Operation copy = shallowCopy(operation);
+		copy.setSummary(summary);
+		copy.setDescription(description);
+		copy.setParameters(parameters);
+		copy.setRequestBody(requestBody);
+		copy.setResponses(responses);
+		return copy;
+	}
+
+	/**
+	 * Returns the localized parameters, the given list is returned when no parameter description changes.
+	 *
+	 * @param parameters the parameters
+	 * @param localizer the text localizer
+	 * @return the localized parameters
+	 */
+	private static List<Parameter> localize(final List<Parameter> parameters, final UnaryOperator<String> localizer) {
+		if (null == parameters) {
+			return null;
+		}
+		List<Parameter> localized = parameters.stream().map(parameter -> localize(parameter, localizer)).toList();
+		for (int i = 0; i < parameters.size(); ++i) {
+			if (localized.get(i) != parameters.get(i)) {
+				return new ArrayList<>(localized);
+			}
+		}
+		return parameters;
+	}
+
+	/**
+	 * Returns the localized parameter, the given parameter is returned when its description doesn't change.
+	 *
+	 * @param parameter the parameter
+	 * @param localizer the text localizer
+	 * @return the localized parameter
+	 */
+	private static Parameter localize(final Parameter parameter, final UnaryOperator<String> localizer) {
+		String description = localizer.apply(parameter.getDescription());
+		if (Objects.equals(description, parameter.getDescription())) {
+			return parameter;
+		}
+		Parameter copy = shallowCopy(parameter);
+		copy.setDescription(description);
+		return copy;
+	}
+
+	/**
+	 * Returns the localized request body, the given request body is returned when its description doesn't change.
+	 *
+	 * @param requestBody the request body
+	 * @param localizer the text localizer
+	 * @return the localized request body
+	 */
+	private static RequestBody localize(final RequestBody requestBody, final UnaryOperator<String> localizer) {
+		if (null == requestBody) {
+			return null;
+		}
+		String description = localizer.apply(requestBody.getDescription());
+		if (Objects.equals(description, requestBody.getDescription())) {
+			return requestBody;
+		}
+		RequestBody copy = shallowCopy(requestBody);
+		copy.setDescription(description);
+		return copy;
+	}
+
+	/**
+	 * Returns the localized responses, the given responses are returned when no response description changes.
+	 *
+	 * @param responses the responses
+	 * @param localizer the text localizer
+	 * @return the localized responses
+	 */
+	private static ApiResponses localize(final ApiResponses responses, final UnaryOperator<String> localizer) {
+		if (null == responses) {
+			return null;
+		}
+		ApiResponses copy = new ApiResponses();
+		boolean changed = false;
+		for (Map.Entry<String, ApiResponse> entry : responses.entrySet()) {
+			ApiResponse response = localize(entry.getValue(), localizer);
+			changed |= response != entry.getValue();
+			copy.addApiResponse(entry.getKey(), response);
+		}
+		if (!changed) {
+			return responses;
+		}
+		copy.setExtensions(responses.getExtensions());
+		return copy;
+	}
+
+	/**
+	 * Returns the localized response, the given response is returned when its description doesn't change.
+	 *
+	 * @param response the response
+	 * @param localizer the text localizer
+	 * @return the localized response
+	 */
+	private static ApiResponse localize(final ApiResponse response, final UnaryOperator<String> localizer) {
+		String description = localizer.apply(response.getDescription());
+		if (Objects.equals(description, response.getDescription())) {
+			return response;
+		}
+		ApiResponse copy = shallowCopy(response);
+		copy.setDescription(description);
+		return copy;
+	}
+
+	/**
+	 * Returns a shallow copy of the given model object, all the instance fields of its class and super classes are copied
+	 * so the copy keeps every property, including the ones added by newer swagger model versions. The model object must
+	 * have a no argument constructor, like all the swagger model classes. The map based models (for example
+	 * {@link ApiResponses}) must not be copied with this method since their entries are not fields.
+	 *
+	 * @param <T> the model type
+	 *
+	 * @param object the model object
+	 * @return the copy
+	 * @throws IllegalStateException when the object cannot be copied
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T shallowCopy(final T object) {
+		Class<?> type = object.getClass();
+		try {
+			T copy = (T) type.getDeclaredConstructor().newInstance();
+			for (Class<?> cls = type; Object.class != cls; cls = cls.getSuperclass()) {
+				for (Field field : cls.getDeclaredFields()) {
+					if (Modifier.isStatic(field.getModifiers())) {
+						continue;
+					}
+					field.setAccessible(true);
+					field.set(copy, field.get(object));
+				}
+			}
+			return copy;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new IllegalStateException("Could not copy " + type.getName(), e);
+		}
+	}
+
+	/**
+	 * Returns a copy of the given list or null if the list is null.
+	 *
+	 * @param <T> the element type
+	 *
+	 * @param list the list
+	 * @return the copy or null
+	 */
+	private static <T> List<T> copyOf(final List<T> list) {
+		return null == list ? null : new ArrayList<>(list);
+	}
+
+	/**
+	 * Returns a copy of the given map or null if the map is null.
+	 *
+	 * @param <K> the key type
+	 * @param <V> the value type
+	 *
+	 * @param map the map
+	 * @return the copy or null
+	 */
+	private static <K, V> Map<K, V> copyOf(final Map<K, V> map) {
+		return null == map ? null : new LinkedHashMap<>(map);
+	}
+}
@@ -0,0 +1,76 @@
+package org.oogp.spring;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+
+/**
+ * {@link PathItemCustomizer} that removes the leading underscore from the operation ids, it is always the first path item
+ * customizer.
+ * <p>
+ * The customizer only changes the operations of the path item it is given so it can be run in parallel. Every rename
+ * is logged at debug level and the renames are counted so that only their number needs to be logged at the end.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class OperationIdNormalizer implements PathItemCustomizer {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(OperationIdNormalizer.class);
+
+	/**
+	 * The prefix removed from the operation ids.
+	 */
+	private static final String PREFIX = "_";
+
+	/**
+	 * The number of normalized operation ids.
+	 */
+	private final LongAdder normalized = new LongAdder();
+
+	/**
+	 * Default constructor.
+	 */
+	public OperationIdNormalizer() {
+		// empty
+	}
+
+	/**
+	 * @see #customize(String, PathItem)
+	 */
+	@Override
+	public void customize(final String path, final PathItem pathItem) {
+		for (Operation operation : pathItem.readOperations()) {
+			String id = operation.getOperationId();
+			if (null != id && id.startsWith(PREFIX)) {
+				String normalizedId = id.substring(PREFIX.length());
+				LOGGER.debug("Normalizing operationId '{}' to '{}'", id, normalizedId);
+				operation.setOperationId(normalizedId);
+				normalized.increment();
+			}
+		}
+	}
+
+	/**
+	 * @see #isParallelSafe()
+	 */
+	@Override
+	public boolean isParallelSafe() {
+		return true;
+	}
+
+	/**
+	 * Returns the number of normalized operation ids.
+	 *
+	 * @return the number of normalized operation ids
+	 */
+	public long getNormalized() {
+		return normalized.sum();
+	}
+}
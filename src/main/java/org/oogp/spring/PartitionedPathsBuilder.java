@@ -0,0 +1,735 @@
+package org.oogp.spring;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springdoc.core.fn.RouterOperation;
+import org.springdoc.core.utils.SpringDocAnnotationsUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.links.Link;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.tags.Tag;
+
+/**
+ * Builds the Open API paths of all the recorded path operations on multiple threads.
+ * <p>
+ * The path operations are split in partitions so that all the operations of a controller and all the operations
+ * sharing the same path always end up in the same partition. Each partition builds a partial {@link OpenAPI} model on
+ * its own thread, processing its operations in the same order as the sequential build. The partial models are then
+ * merged back in the original model in the order in which the sequential build would have added every path and every
+ * component, so the generated specification is the same as the one built on a single thread. Components with the same
+ * name built differently by two partitions are reported as conflicts.
+ * <p>
+ * When a {@link PathFragmentCache} is given every group of controllers sharing paths gets its own partition, the
+ * fragment built by each partition is cached and the partitions whose controllers and referenced models didn't change
+ * are loaded from the cache instead of being built. The merge is the same, so the result is the same as a full build.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class PartitionedPathsBuilder {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedPathsBuilder.class);
+
+	/**
+	 * All the component maps that can be changed while building the paths.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static final List<ComponentMap<?>> COMPONENT_MAPS = List.of(
+			new ComponentMap<Schema>("schemas", Schema.class, c -> (Map) c.getSchemas(), (c, m) -> c.setSchemas((Map) m)),
+			new ComponentMap<>("responses", ApiResponse.class, Components::getResponses, Components::setResponses),
+			new ComponentMap<>("parameters", Parameter.class, Components::getParameters, Components::setParameters),
+			new ComponentMap<>("examples", Example.class, Components::getExamples, Components::setExamples),
+			new ComponentMap<>("requestBodies", RequestBody.class, Components::getRequestBodies, Components::setRequestBodies),
+			new ComponentMap<>("headers", Header.class, Components::getHeaders, Components::setHeaders),
+			new ComponentMap<>("securitySchemes", SecurityScheme.class, Components::getSecuritySchemes, Components::setSecuritySchemes),
+			new ComponentMap<>("links", Link.class, Components::getLinks, Components::setLinks),
+			new ComponentMap<>("callbacks", Callback.class, Components::getCallbacks, Components::setCallbacks),
+			new ComponentMap<>("pathItems", PathItem.class, Components::getPathItems, Components::setPathItems));
+
+	/**
+	 * The fragment field holding the paths.
+	 */
+	private static final String PATHS_FIELD = "paths";
+
+	/**
+	 * The fragment field holding the component maps.
+	 */
+	private static final String COMPONENTS_FIELD = "components";
+
+	/**
+	 * The fragment field holding the tags.
+	 */
+	private static final String TAGS_FIELD = "tags";
+
+	/**
+	 * The fragment entry field holding the element name.
+	 */
+	private static final String NAME_FIELD = "name";
+
+	/**
+	 * The fragment entry field holding the position of the operation which added the element in the partition.
+	 */
+	private static final String POSITION_FIELD = "position";
+
+	/**
+	 * The fragment entry field holding the element.
+	 */
+	private static final String VALUE_FIELD = "value";
+
+	/**
+	 * The maximum number of threads used to build the paths.
+	 */
+	private final int parallelism;
+
+	/**
+	 * The path fragment cache, null when the fragments are not cached.
+	 */
+	private final PathFragmentCache fragmentCache;
+
+	/**
+	 * Constructs a partitioned paths builder.
+	 *
+	 * @param parallelism the maximum number of threads used to build the paths
+	 */
+	public PartitionedPathsBuilder(final int parallelism) {
+		this(parallelism, null);
+	}
+
+	/**
+	 * Constructs a partitioned paths builder which caches the built fragments.
+	 *
+	 * @param parallelism the maximum number of threads used to build the paths
+	 * @param fragmentCache the path fragment cache, can be null
+	 */
+	public PartitionedPathsBuilder(final int parallelism, final PathFragmentCache fragmentCache) {
+		this.parallelism = parallelism;
+		this.fragmentCache = fragmentCache;
+	}
+
+	/**
+	 * Returns true if the paths are built in partitions, either on more than one thread or with cached fragments.
+	 *
+	 * @return true if the paths are built in partitions
+	 */
+	public boolean isPartitioned() {
+		return parallelism > 1 || null != fragmentCache;
+	}
+
+	/**
+	 * Builds the paths for all the given path operations and merges them in the given Open API model.
+	 *
+	 * @param pathOperations the path operations in the sequential build order
+	 * @param openAPI the Open API model
+	 * @param pathCalculator the path calculator
+	 */
+	public void build(final List<PathOperation> pathOperations, final OpenAPI openAPI, final PathCalculator pathCalculator) {
+		Instant start = Instant.now();
+		List<Partition> partitions = partition(pathOperations);
+		if (partitions.size() <= 1 && null == fragmentCache) {
+			pathOperations.forEach(pathOperation -> pathCalculator.calculatePath(pathOperation, openAPI));
+		} else {
+			buildPartitions(partitions, openAPI, pathCalculator);
+			merge(partitions, openAPI, null == fragmentCache ? Objects::equals : fragmentCache::isSameComponent);
+		}
+		LOGGER.info("Built {} path operations in {} partitions with parallelism {} in {} ms", pathOperations.size(), partitions.size(),
+				parallelism, Duration.between(start, Instant.now()).toMillis());
+	}
+
+	/**
+	 * Builds all the partitions on a thread pool.
+	 *
+	 * @param partitions the partitions to build
+	 * @param openAPI the Open API model
+	 * @param pathCalculator the path calculator
+	 */
+	private void buildPartitions(final List<Partition> partitions, final OpenAPI openAPI, final PathCalculator pathCalculator) {
+		try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, partitions.size()))) {
+			List<Future<?>> futures = new ArrayList<>(partitions.size());
+			for (Partition partition : partitions) {
+				futures.add(executor.submit(() -> partition.build(openAPI, pathCalculator, fragmentCache)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while building the Open API paths", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Error building the Open API paths", e.getCause());
+		}
+	}
+
+	/**
+	 * Splits the path operations in partitions. All the operations of a controller and all the operations with the
+	 * same path are kept in the same partition, the groups are then distributed over at most {@link #parallelism}
+	 * partitions by their number of operations. When the fragments are cached every group is a partition.
+	 *
+	 * @param pathOperations the path operations
+	 * @return the partitions
+	 */
+	private List<Partition> partition(final List<PathOperation> pathOperations) {
+		int size = pathOperations.size();
+		int[] parents = new int[size];
+		Map<Object, Integer> firstIndexes = new HashMap<>();
+		for (int i = 0; i < size; ++i) {
+			parents[i] = i;
+			PathOperation pathOperation = pathOperations.get(i);
+			union(parents, i, firstIndexes.putIfAbsent(pathOperation.handlerMethod().getBeanType(), i));
+			union(parents, i, firstIndexes.putIfAbsent(pathOperation.pathKey(), i));
+		}
+		Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < size; ++i) {
+			groups.computeIfAbsent(find(parents, i), _ -> new ArrayList<>()).add(i);
+		}
+		int partitionCount = Math.max(1, null == fragmentCache ? Math.min(parallelism, groups.size()) : groups.size());
+		List<Partition> partitions = new ArrayList<>(partitionCount);
+		for (int i = 0; i < partitionCount; ++i) {
+			partitions.add(new Partition());
+		}
+		for (List<Integer> group : groups.values()) {
+			Partition partition = partitions.stream()
+					.min(Comparator.comparingInt(p -> p.indexes.size()))
+					.orElseThrow();
+			partition.indexes.addAll(group);
+		}
+		for (Partition partition : partitions) {
+			partition.indexes.sort(Comparator.naturalOrder());
+			partition.indexes.forEach(index -> partition.pathOperations.add(pathOperations.get(index)));
+		}
+		return partitions;
+	}
+
+	/**
+	 * Joins the sets of the two given operation indexes.
+	 *
+	 * @param parents the parent of each operation index
+	 * @param index the operation index
+	 * @param otherIndex the other operation index, can be null
+	 */
+	private static void union(final int[] parents, final int index, final Integer otherIndex) {
+		if (null == otherIndex) {
+			return;
+		}
+		int root = find(parents, index);
+		int otherRoot = find(parents, otherIndex);
+		if (root != otherRoot) {
+			parents[Math.max(root, otherRoot)] = Math.min(root, otherRoot);
+		}
+	}
+
+	/**
+	 * Finds the set of the given operation index.
+	 *
+	 * @param parents the parent of each operation index
+	 * @param index the operation index
+	 * @return the index representing the set
+	 */
+	private static int find(final int[] parents, final int index) {
+		int root = index;
+		while (parents[root] != root) {
+			root = parents[root];
+		}
+		int current = index;
+		while (parents[current] != root) {
+			int next = parents[current];
+			parents[current] = root;
+			current = next;
+		}
+		return root;
+	}
+
+	/**
+	 * Merges all the partial models in the given Open API model in the sequential build order.
+	 *
+	 * @param partitions the built partitions
+	 * @param openAPI the Open API model
+	 * @param sameComponent the predicate checking if two components built by different partitions are the same
+	 */
+	private static void merge(final List<Partition> partitions, final OpenAPI openAPI, final BiPredicate<Object, Object> sameComponent) {
+		List<Added<PathItem>> addedPaths = new ArrayList<>();
+		for (Partition partition : partitions) {
+			addedPaths.addAll(Added.of(partition.pathIndexes, partition.openAPI.getPaths()));
+		}
+		addedPaths.sort(Added.ORDER);
+		Paths paths = openAPI.getPaths();
+		for (Added<PathItem> addedPath : addedPaths) {
+			if (paths.containsKey(addedPath.name())) {
+				throw new IllegalStateException("Path " + addedPath.name() + " was built by more than one partition");
+			}
+			paths.addPathItem(addedPath.name(), addedPath.value());
+		}
+		if (null == openAPI.getComponents()) {
+			openAPI.setComponents(new Components());
+		}
+		for (ComponentMap<?> componentMap : COMPONENT_MAPS) {
+			componentMap.merge(partitions, openAPI.getComponents(), sameComponent);
+		}
+		mergeTags(partitions, openAPI);
+	}
+
+	/**
+	 * Merges the tags of all the partial models. Spring Doc keeps the tags in a hash set while building the paths so
+	 * the merged tags are collected in the same way.
+	 *
+	 * @param partitions the built partitions
+	 * @param openAPI the Open API model
+	 */
+	private static void mergeTags(final List<Partition> partitions, final OpenAPI openAPI) {
+		List<Tag> baseTags = openAPI.getTags();
+		Set<Tag> tags = new HashSet<>();
+		boolean changed = false;
+		for (Partition partition : partitions) {
+			List<Tag> partialTags = partition.openAPI.getTags();
+			if (null != partialTags && !partialTags.equals(baseTags)) {
+				tags.addAll(partialTags);
+				changed = true;
+			}
+		}
+		if (changed) {
+			if (null != baseTags) {
+				tags.addAll(baseTags);
+			}
+			openAPI.setTags(new ArrayList<>(tags));
+		}
+	}
+
+	/**
+	 * A single path calculation recorded while the Spring Doc resource was walking the request handlers.
+	 *
+	 * @param handlerMethod the handler method
+	 * @param routerOperation the router operation with the path and the request conditions
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public record PathOperation(HandlerMethod handlerMethod, RouterOperation routerOperation) {
+
+		/**
+		 * Returns the key of the path this operation is added to, wildcard variables are added without the {@code *}.
+		 *
+		 * @return the path key
+		 */
+		private String pathKey() {
+			return routerOperation.getPath().replace("*", "");
+		}
+	}
+
+	/**
+	 * Calculates the path of a single path operation in the given Open API model.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	@FunctionalInterface
+	public interface PathCalculator {
+
+		/**
+		 * Calculates the path of the given path operation.
+		 *
+		 * @param pathOperation the path operation
+		 * @param openAPI the Open API model to add the path to
+		 */
+		void calculatePath(PathOperation pathOperation, OpenAPI openAPI);
+	}
+
+	/**
+	 * An element added to a partial model together with the index of the operation which added it.
+	 *
+	 * @param <T> the element type
+	 *
+	 * @param name the element name
+	 * @param value the element
+	 * @param index the index of the operation that added the element
+	 * @param position the position in the partial model
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record Added<T>(String name, T value, int index, int position) {
+
+		/**
+		 * The sequential build order.
+		 */
+		private static final Comparator<Added<?>> ORDER = Comparator.<Added<?>>comparingInt(Added::index)
+				.thenComparingInt(Added::position);
+
+		/**
+		 * Returns the added elements with their current values from the given map.
+		 *
+		 * @param <T> the element type
+		 *
+		 * @param indexes the index of the operation which added each element, in the order they were added
+		 * @param map the map holding the elements
+		 * @return the added elements
+		 */
+		private static <T> List<Added<T>> of(final Map<String, Integer> indexes, final Map<String, T> map) {
+			List<Added<T>> added = new ArrayList<>(indexes.size());
+			indexes.forEach((name, index) -> {
+				T value = map.get(name);
+				if (null != value) {
+					added.add(new Added<>(name, value, index, added.size()));
+				}
+			});
+			return added;
+		}
+	}
+
+	/**
+	 * A component map accessor.
+	 *
+	 * @param <T> the component type
+	 *
+	 * @param name the component map name
+	 * @param type the component type
+	 * @param getter the component map getter
+	 * @param setter the component map setter
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record ComponentMap<T>(String name, Class<T> type, Function<Components, Map<String, T>> getter,
+			BiConsumer<Components, Map<String, T>> setter) {
+
+		/**
+		 * Copies the component map from the given components.
+		 *
+		 * @param components the components
+		 * @param copy the components to copy the map to
+		 */
+		private void copy(final Components components, final Components copy) {
+			Map<String, T> map = getter.apply(components);
+			if (null != map) {
+				setter.accept(copy, new LinkedHashMap<>(map));
+			}
+		}
+
+		/**
+		 * Records the components added by the operation with the given index.
+		 *
+		 * @param partition the partition
+		 * @param index the operation index
+		 */
+		private void record(final Partition partition, final int index) {
+			Map<String, T> map = getter.apply(partition.openAPI.getComponents());
+			Map<String, Integer> indexes = partition.componentIndexes.computeIfAbsent(name, _ -> new LinkedHashMap<>());
+			Partition.record(map, indexes, index);
+		}
+
+		/**
+		 * Adds the components of this map added by the operations of the partition to the fragment.
+		 *
+		 * @param partition the built partition
+		 * @param components the fragment components
+		 * @param objectMapper the object mapper
+		 */
+		private void write(final Partition partition, final ObjectNode components, final ObjectMapper objectMapper) {
+			Map<String, T> map = getter.apply(partition.openAPI.getComponents());
+			Map<String, Integer> indexes = partition.componentIndexes.getOrDefault(name, Map.of());
+			ArrayNode entries = components.putArray(name);
+			indexes.forEach((componentName, index) -> {
+				T value = null != map ? map.get(componentName) : null;
+				if (index >= 0 && null != value) {
+					entries.add(Partition.entry(objectMapper, componentName, partition.indexes.indexOf(index), value));
+				}
+			});
+		}
+
+		/**
+		 * Adds the components of this map from the fragment to the partition.
+		 *
+		 * @param partition the partition
+		 * @param entries the fragment entries of this map
+		 * @param objectMapper the object mapper
+		 * @throws JsonProcessingException when a component cannot be read
+		 */
+		private void read(final Partition partition, final JsonNode entries, final ObjectMapper objectMapper) throws JsonProcessingException {
+			if (null == entries) {
+				return;
+			}
+			Components components = partition.openAPI.getComponents();
+			Map<String, T> map = getter.apply(components);
+			if (null == map) {
+				map = new LinkedHashMap<>();
+				setter.accept(components, map);
+			}
+			Map<String, Integer> indexes = partition.componentIndexes.computeIfAbsent(name, _ -> new LinkedHashMap<>());
+			for (JsonNode entry : entries) {
+				String componentName = entry.get(NAME_FIELD).asText();
+				map.put(componentName, objectMapper.treeToValue(entry.get(VALUE_FIELD), type));
+				indexes.put(componentName, partition.indexes.get(entry.get(POSITION_FIELD).asInt()));
+			}
+		}
+
+		/**
+		 * Merges the components of this map built by all the partitions in the given components.
+		 *
+		 * @param partitions the built partitions
+		 * @param components the components to merge into
+		 * @param sameComponent the predicate checking if two components built by different partitions are the same
+		 */
+		private void merge(final List<Partition> partitions, final Components components, final BiPredicate<Object, Object> sameComponent) {
+			Map<String, T> baseMap = getter.apply(components);
+			Map<String, T> merged = null != baseMap ? new LinkedHashMap<>(baseMap) : new LinkedHashMap<>();
+			List<Added<T>> added = new ArrayList<>();
+			for (Partition partition : partitions) {
+				Map<String, T> partialMap = getter.apply(partition.openAPI.getComponents());
+				if (null == partialMap) {
+					continue;
+				}
+				added.addAll(Added.of(partition.componentIndexes.getOrDefault(name, Map.of()), partialMap));
+			}
+			added.sort(Added.ORDER);
+			Map<String, T> builtBy = new HashMap<>();
+			for (Added<T> component : added) {
+				T previous = builtBy.putIfAbsent(component.name(), component.value());
+				if (null != previous && !sameComponent.test(previous, component.value())) {
+					throw new IllegalStateException("Conflicting component " + name + "/" + component.name() + " built by more than one partition");
+				}
+				merged.put(component.name(), component.value());
+			}
+			if (!merged.isEmpty() || null != baseMap) {
+				setter.accept(components, merged);
+			}
+		}
+	}
+
+	/**
+	 * A partition of path operations building its own partial Open API model.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static class Partition {
+
+		/**
+		 * The indexes of the path operations in the sequential build order.
+		 */
+		private final List<Integer> indexes = new ArrayList<>();
+
+		/**
+		 * The path operations of this partition.
+		 */
+		private final List<PathOperation> pathOperations = new ArrayList<>();
+
+		/**
+		 * The index of the operation which added each path, in the order the paths were added.
+		 */
+		private final Map<String, Integer> pathIndexes = new LinkedHashMap<>();
+
+		/**
+		 * The index of the operation which added each component, in the order the components were added, for each
+		 * component map.
+		 */
+		private final Map<String, Map<String, Integer>> componentIndexes = new HashMap<>();
+
+		/**
+		 * The partial Open API model.
+		 */
+		private OpenAPI openAPI;
+
+		/**
+		 * Builds the partial model of this partition starting from a copy of the given Open API model. When a fragment
+		 * cache is given the partial model is loaded from the cache if possible, otherwise the built fragment is cached.
+		 *
+		 * @param base the Open API model
+		 * @param pathCalculator the path calculator
+		 * @param fragmentCache the path fragment cache, can be null
+		 */
+		private void build(final OpenAPI base, final PathCalculator pathCalculator, final PathFragmentCache fragmentCache) {
+			String key = null;
+			if (null != fragmentCache) {
+				key = fragmentCache.key(pathOperations);
+				JsonNode fragment = fragmentCache.get(key);
+				if (null != fragment && read(base, fragment, fragmentCache.getObjectMapper())) {
+					return;
+				}
+			}
+			build(base, pathCalculator);
+			if (null != key) {
+				fragmentCache.put(key, write(fragmentCache.getObjectMapper()));
+			}
+		}
+
+		/**
+		 * Builds the partial model of this partition starting from a copy of the given Open API model.
+		 *
+		 * @param base the Open API model
+		 * @param pathCalculator the path calculator
+		 */
+		private void build(final OpenAPI base, final PathCalculator pathCalculator) {
+			start(base);
+			try {
+				for (int i = 0; i < pathOperations.size(); ++i) {
+					int index = indexes.get(i);
+					pathCalculator.calculatePath(pathOperations.get(i), openAPI);
+					record(openAPI.getPaths(), pathIndexes, index);
+					for (ComponentMap<?> componentMap : COMPONENT_MAPS) {
+						componentMap.record(this, index);
+					}
+				}
+			} finally {
+				// the model converter context is kept per thread by Spring Doc
+				SpringDocAnnotationsUtils.clearCache(null);
+			}
+		}
+
+		/**
+		 * Starts the partial model from a copy of the given Open API model.
+		 *
+		 * @param base the Open API model
+		 */
+		private void start(final OpenAPI base) {
+			openAPI = copyOf(base);
+			pathIndexes.clear();
+			componentIndexes.clear();
+			// the base components keep their position
+			for (ComponentMap<?> componentMap : COMPONENT_MAPS) {
+				componentMap.record(this, -1);
+			}
+		}
+
+		/**
+		 * Returns the fragment with the paths, components and tags added by the operations of this partition. The
+		 * elements are stored with the position of the operation which added them in this partition so the fragment
+		 * doesn't depend on the other partitions.
+		 *
+		 * @param objectMapper the object mapper
+		 * @return the fragment
+		 */
+		private JsonNode write(final ObjectMapper objectMapper) {
+			ObjectNode fragment = objectMapper.createObjectNode();
+			ArrayNode paths = fragment.putArray(PATHS_FIELD);
+			pathIndexes.forEach((name, index) -> paths.add(entry(objectMapper, name, indexes.indexOf(index), openAPI.getPaths().get(name))));
+			ObjectNode components = fragment.putObject(COMPONENTS_FIELD);
+			for (ComponentMap<?> componentMap : COMPONENT_MAPS) {
+				componentMap.write(this, components, objectMapper);
+			}
+			if (null != openAPI.getTags()) {
+				fragment.set(TAGS_FIELD, objectMapper.valueToTree(openAPI.getTags()));
+			}
+			return fragment;
+		}
+
+		/**
+		 * Loads the partial model of this partition from the given fragment.
+		 *
+		 * @param base the Open API model
+		 * @param fragment the fragment
+		 * @param objectMapper the object mapper
+		 * @return true if the fragment was loaded, false otherwise
+		 */
+		private boolean read(final OpenAPI base, final JsonNode fragment, final ObjectMapper objectMapper) {
+			start(base);
+			try {
+				for (JsonNode entry : fragment.get(PATHS_FIELD)) {
+					String name = entry.get(NAME_FIELD).asText();
+					openAPI.getPaths().addPathItem(name, objectMapper.treeToValue(entry.get(VALUE_FIELD), PathItem.class));
+					pathIndexes.put(name, indexes.get(entry.get(POSITION_FIELD).asInt()));
+				}
+				JsonNode components = fragment.get(COMPONENTS_FIELD);
+				for (ComponentMap<?> componentMap : COMPONENT_MAPS) {
+					componentMap.read(this, components.get(componentMap.name()), objectMapper);
+				}
+				JsonNode tags = fragment.get(TAGS_FIELD);
+				if (null != tags) {
+					openAPI.setTags(new ArrayList<>(List.of(objectMapper.treeToValue(tags, Tag[].class))));
+				}
+				return true;
+			} catch (JsonProcessingException | RuntimeException e) {
+				LOGGER.warn("Could not read path fragment, the paths will be built: {}", e.getMessage());
+				return false;
+			}
+		}
+
+		/**
+		 * Returns a fragment entry.
+		 *
+		 * @param objectMapper the object mapper
+		 * @param name the element name
+		 * @param position the position of the operation which added the element in the partition
+		 * @param value the element
+		 * @return the fragment entry
+		 */
+		private static ObjectNode entry(final ObjectMapper objectMapper, final String name, final int position, final Object value) {
+			ObjectNode entry = objectMapper.createObjectNode();
+			entry.put(NAME_FIELD, name);
+			entry.put(POSITION_FIELD, position);
+			entry.set(VALUE_FIELD, objectMapper.valueToTree(value));
+			return entry;
+		}
+
+		/**
+		 * Records the index of the operation which added the new names of the given map.
+		 *
+		 * @param map the map
+		 * @param indexes the index of the operation which added each name
+		 * @param index the index of the current operation
+		 */
+		private static void record(final Map<String, ?> map, final Map<String, Integer> indexes, final int index) {
+			if (null == map || map.size() == indexes.size()) {
+				return;
+			}
+			for (String name : map.keySet()) {
+				indexes.putIfAbsent(name, index);
+			}
+		}
+
+		/**
+		 * Returns a copy of the given Open API model with new paths and new component maps, the components themselves
+		 * are shared.
+		 *
+		 * @param base the Open API model
+		 * @return a copy of the Open API model
+		 */
+		private static OpenAPI copyOf(final OpenAPI base) {
+			OpenAPI copy = new OpenAPI(base.getSpecVersion());
+			copy.setOpenapi(base.getOpenapi());
+			copy.setPaths(new Paths());
+			Components components = new Components();
+			if (null != base.getComponents()) {
+				for (ComponentMap<?> componentMap : COMPONENT_MAPS) {
+					componentMap.copy(base.getComponents(), components);
+				}
+			}
+			copy.setComponents(components);
+			if (null != base.getTags()) {
+				copy.setTags(new ArrayList<>(base.getTags()));
+			}
+			return copy;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+package org.oogp.spring;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.oogp.spring.PartitionedPathsBuilder.PathOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springdoc.core.fn.RouterOperation;
+import org.springdoc.core.service.AbstractRequestService;
+import org.springdoc.core.service.GenericParameterService;
+import org.springdoc.core.service.GenericResponseService;
+import org.springdoc.core.service.OpenAPIService;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+/**
+ * Persistent cache for the Open API fragments built by groups of controllers, used by the {@link PartitionedPathsBuilder}
+ * to rebuild only the controllers that changed since the last generation.
+ * <p>
+ * The key of a fragment is made of the generator configuration, the path operations of the controller group and the
+ * {@link ClassFingerprinter fingerprint} of the controller classes together with all the model classes they reference,
+ * which also covers their javadoc resources. The generator configuration includes the converter chain, the library
+ * jars, the static Spring Doc configuration and the fingerprints of the controller advice classes and of the project
+ * customizer classes since they contribute to every operation.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class PathFragmentCache {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(PathFragmentCache.class);
+
+	/**
+	 * The fragment format version, it must be changed when the fragment format changes.
+	 */
+	private static final String FORMAT_VERSION = "1";
+
+	/**
+	 * Classes from the libraries that change the built fragments, their jars are part of the configuration.
+	 */
+	private static final List<Class<?>> LIBRARY_CLASSES = List.of(
+			RestController.class,
+			RouterOperation.class,
+			ObjectMapper.class,
+			OpenAPI.class,
+			PathFragmentCache.class);
+
+	/**
+	 * The classes holding the static Spring Doc configuration which changes the built operations.
+	 */
+	private static final List<Class<?>> SPRING_DOC_CONFIGURATION_CLASSES = List.of(
+			AbstractRequestService.class,
+			GenericParameterService.class,
+			GenericResponseService.class,
+			OpenAPIService.class);
+
+	/**
+	 * The cache store.
+	 */
+	private final FileCacheStore store;
+
+	/**
+	 * The object mapper used to serialize the fragments.
+	 */
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * The class fingerprinter.
+	 */
+	private final ClassFingerprinter classFingerprinter = new ClassFingerprinter();
+
+	/**
+	 * The generator configuration part of the cache keys.
+	 */
+	private final String configuration;
+
+	/**
+	 * Constructs a path fragment cache.
+	 *
+	 * @param store the cache store
+	 * @param objectMapper the object mapper used to serialize the fragments
+	 * @param configuration the generator configuration, any change in the configuration invalidates the cache
+	 * @param adviceClasses the controller advice classes
+	 * @param customizerClasses the classes of the operation and Open API customizers
+	 */
+	public PathFragmentCache(final FileCacheStore store, final ObjectMapper objectMapper, final String configuration,
+			final Collection<Class<?>> adviceClasses, final Collection<Class<?>> customizerClasses) {
+		this.store = store;
+		this.objectMapper = objectMapper;
+		Set<String> jars = new TreeSet<>();
+		LIBRARY_CLASSES.forEach(cls -> Optional.ofNullable(CachingModelConverter.jarPath(cls)).ifPresent(jar -> jars.add(jar.toString())));
+		this.configuration = String.join("|",
+				FORMAT_VERSION,
+				configuration,
+				String.join("|", jars),
+				CachingModelConverter.staticConfiguration(SPRING_DOC_CONFIGURATION_CLASSES),
+				classFingerprinter.fingerprint(adviceClasses),
+				classFingerprinter.fingerprint(customizerClasses));
+	}
+
+	/**
+	 * Returns the cache key for the given path operations of a controller group.
+	 *
+	 * @param pathOperations the path operations in the build order
+	 * @return the cache key
+	 */
+	public String key(final List<PathOperation> pathOperations) {
+		StringBuilder sb = new StringBuilder(configuration);
+		Set<Class<?>> beanTypes = new LinkedHashSet<>();
+		for (PathOperation pathOperation : pathOperations) {
+			RouterOperation routerOperation = pathOperation.routerOperation();
+			sb.append('\n').append(pathOperation.handlerMethod().getMethod().toGenericString())
+					.append(' ').append(routerOperation.getPath())
+					.append(' ').append(Arrays.toString(routerOperation.getMethods()))
+					.append(' ').append(Arrays.toString(routerOperation.getConsumes()))
+					.append(' ').append(Arrays.toString(routerOperation.getProduces()))
+					.append(' ').append(Arrays.toString(routerOperation.getHeaders()))
+					.append(' ').append(Arrays.toString(routerOperation.getParams()));
+			beanTypes.add(pathOperation.handlerMethod().getBeanType());
+		}
+		sb.append('\n').append(classFingerprinter.fingerprint(beanTypes));
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the cached fragment for the given key or null if the key is not cached.
+	 *
+	 * @param key the cache key
+	 * @return the cached fragment or null
+	 */
+	public JsonNode get(final String key) {
+		String cached = store.get(key);
+		if (null == cached) {
+			return null;
+		}
+		try {
+			return objectMapper.readTree(cached);
+		} catch (JsonProcessingException e) {
+			LOGGER.warn("Could not read path fragment: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Caches the fragment for the given key.
+	 *
+	 * @param key the cache key
+	 * @param fragment the fragment
+	 */
+	public void put(final String key, final JsonNode fragment) {
+		try {
+			store.put(key, objectMapper.writeValueAsString(fragment));
+		} catch (JsonProcessingException e) {
+			LOGGER.warn("Could not write path fragment: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Returns true if the two components are the same, components read from the cache are compared by their JSON.
+	 *
+	 * @param component the component
+	 * @param otherComponent the other component
+	 * @return true if the two components are the same
+	 */
+	public boolean isSameComponent(final Object component, final Object otherComponent) {
+		return Objects.equals(component, otherComponent)
+				|| Objects.equals(objectMapper.valueToTree(component), objectMapper.valueToTree(otherComponent));
+	}
+
+	/**
+	 * Removes the least recently used fragments and logs the cache hit rate.
+	 */
+	public void evict() {
+		int evicted = store.evict();
+		int hits = store.getHits();
+		int total = hits + store.getMisses();
+		LOGGER.info("Path fragment cache: {} of {} controller groups served from the cache ({}%), {} evicted fragments", hits, total,
+				0 == total ? 0 : hits * 100 / total, evicted);
+	}
+
+	/**
+	 * Returns the number of fragments served from the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public int getHits() {
+		return store.getHits();
+	}
+
+	/**
+	 * Returns the number of fragments that were not found in the cache.
+	 *
+	 * @return the number of cache misses
+	 */
+	public int getMisses() {
+		return store.getMisses();
+	}
+
+	/**
+	 * Returns the object mapper used to serialize the fragments.
+	 *
+	 * @return the object mapper
+	 */
+	public ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+}
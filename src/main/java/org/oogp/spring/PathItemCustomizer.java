@@ -0,0 +1,46 @@
+package org.oogp.spring;
+
+import io.swagger.v3.oas.models.PathItem;
+
+/**
+ * Customizes the path items of the generated Open API model.
+ * <p>
+ * The path item customizers are run after the paths are built, all of them in one traversal of the paths: every path
+ * item is visited once and handed to every customizer in order. The implementations are found with
+ * {@link java.util.ServiceLoader} in the project class path and in the class names configured in the generator
+ * properties, they must have a public no-argument constructor.
+ * <p>
+ * A customizer only changes the path item it is given, it must not add or remove paths. A customizer which doesn't
+ * share any state between path items can declare it by returning true from {@link #isParallelSafe()} and the path
+ * items are then handed to it on multiple threads.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public interface PathItemCustomizer {
+
+	/**
+	 * Customizes the given path item.
+	 *
+	 * @param path the path
+	 * @param pathItem the path item
+	 */
+	void customize(String path, PathItem pathItem);
+
+	/**
+	 * Returns true if the path items can be customized on multiple threads, the default is false.
+	 *
+	 * @return true if the customizer can be run in parallel
+	 */
+	default boolean isParallelSafe() {
+		return false;
+	}
+
+	/**
+	 * Returns the customizer name used in the logs, the default is the simple class name.
+	 *
+	 * @return the customizer name
+	 */
+	default String getName() {
+		return getClass().getSimpleName();
+	}
+}
@@ -0,0 +1,259 @@
+package org.oogp.spring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springdoc.core.customizers.OpenApiCustomizer;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+
+/**
+ * {@link OpenApiCustomizer} that runs the given {@link PathItemCustomizer}s in as few traversals of the paths as
+ * possible.
+ * <p>
+ * The consecutive customizers with the same {@link PathItemCustomizer#isParallelSafe()} flag are fused in a single pass
+ * which visits every path item once and hands it to each customizer of the pass in order, so when all customizers are
+ * parallel safe (or none is) the paths are traversed only once. The passes of parallel safe customizers split the path
+ * items in at most {@link #parallelism} contiguous partitions customized on their own threads, the other passes
+ * customize the path items in order on the calling thread. The order of the customizers is kept for every path item.
+ * <p>
+ * The time spent in every customizer is summed over all the traversals (and all the threads) so that the cost of each
+ * customizer can be reported at the end of the generation.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class PathItemCustomizers implements OpenApiCustomizer {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(PathItemCustomizers.class);
+
+	/**
+	 * The customizer passes, every pass holds consecutive customizers with the same parallel safe flag.
+	 */
+	private final List<List<TimedCustomizer>> passes = new ArrayList<>();
+
+	/**
+	 * All the customizers in order.
+	 */
+	private final List<TimedCustomizer> customizers;
+
+	/**
+	 * The maximum number of threads used by a parallel pass.
+	 */
+	private final int parallelism;
+
+	/**
+	 * The time statistics of a path item customizer.
+	 *
+	 * @param name the customizer name
+	 * @param parallelSafe the parallel safe flag
+	 * @param pathItems the number of customized path items
+	 * @param millis the time spent customizing the path items in milliseconds
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public record Statistics(String name, boolean parallelSafe, long pathItems, long millis) {
+
+		/**
+		 * @see #toString()
+		 */
+		@Override
+		public String toString() {
+			return name + (parallelSafe ? " (parallel)" : "") + ": " + pathItems + " path items in " + millis + " ms";
+		}
+	}
+
+	/**
+	 * A customizer with its time counters, the counters are updated from multiple threads in parallel passes.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static final class TimedCustomizer {
+
+		/**
+		 * The customizer.
+		 */
+		private final PathItemCustomizer customizer;
+
+		/**
+		 * The time spent customizing the path items in nanoseconds.
+		 */
+		private final LongAdder nanos = new LongAdder();
+
+		/**
+		 * The number of customized path items.
+		 */
+		private final LongAdder pathItems = new LongAdder();
+
+		/**
+		 * Constructs a timed customizer.
+		 *
+		 * @param customizer the customizer
+		 */
+		TimedCustomizer(final PathItemCustomizer customizer) {
+			this.customizer = customizer;
+		}
+
+		/**
+		 * Customizes the given path item and counts the spent time.
+		 *
+		 * @param path the path
+		 * @param pathItem the path item
+		 */
+		void customize(final String path, final PathItem pathItem) {
+			long start = System.nanoTime();
+			try {
+				customizer.customize(path, pathItem);
+			} finally {
+				nanos.add(System.nanoTime() - start);
+				pathItems.increment();
+			}
+		}
+
+		/**
+		 * Returns the customizer statistics.
+		 *
+		 * @return the customizer statistics
+		 */
+		Statistics statistics() {
+			return new Statistics(customizer.getName(), customizer.isParallelSafe(), pathItems.sum(),
+					TimeUnit.NANOSECONDS.toMillis(nanos.sum()));
+		}
+	}
+
+	/**
+	 * Constructs the fused customizer.
+	 *
+	 * @param customizers the path item customizers in the order in which they are run
+	 * @param parallelism the maximum number of threads used by a parallel pass
+	 */
+	public PathItemCustomizers(final List<? extends PathItemCustomizer> customizers, final int parallelism) {
+		this.customizers = customizers.stream().map(TimedCustomizer::new).toList();
+		this.parallelism = Math.max(parallelism, 1);
+		for (TimedCustomizer customizer : this.customizers) {
+			List<TimedCustomizer> pass = passes.isEmpty() ? null : passes.getLast();
+			if (null == pass || isParallel(pass) != customizer.customizer.isParallelSafe()) {
+				pass = new ArrayList<>();
+				passes.add(pass);
+			}
+			pass.add(customizer);
+		}
+	}
+
+	/**
+	 * @see #customise(OpenAPI)
+	 */
+	@Override
+	public void customise(final OpenAPI openApi) {
+		Paths paths = openApi.getPaths();
+		if (null == paths || paths.isEmpty() || customizers.isEmpty()) {
+			return;
+		}
+		List<Map.Entry<String, PathItem>> pathItems = List.copyOf(paths.entrySet());
+		for (List<TimedCustomizer> pass : passes) {
+			if (isParallel(pass) && parallelism > 1 && pathItems.size() > 1) {
+				customizeInParallel(pass, pathItems);
+			} else {
+				customize(pass, pathItems);
+			}
+		}
+		LOGGER.debug("Customized {} path items with {} customizers in {} passes", pathItems.size(), customizers.size(), passes.size());
+	}
+
+	/**
+	 * Returns the time statistics of every customizer in the order in which they are run.
+	 *
+	 * @return the customizer statistics
+	 */
+	public List<Statistics> getStatistics() {
+		return customizers.stream().map(TimedCustomizer::statistics).toList();
+	}
+
+	/**
+	 * Returns the classes of the customizers in the order in which they are run.
+	 *
+	 * @return the customizer classes
+	 */
+	public List<Class<?>> getCustomizerClasses() {
+		return customizers.stream().<Class<?>>map(customizer -> customizer.customizer.getClass()).toList();
+	}
+
+	/**
+	 * Returns the number of traversals of the paths needed to run all the customizers.
+	 *
+	 * @return the number of passes
+	 */
+	public int getPasses() {
+		return passes.size();
+	}
+
+	/**
+	 * Customizes the given path items with the customizers of a pass on the calling thread.
+	 *
+	 * @param pass the customizers of the pass
+	 * @param pathItems the path items
+	 */
+	private static void customize(final List<TimedCustomizer> pass, final List<Map.Entry<String, PathItem>> pathItems) {
+		for (Map.Entry<String, PathItem> entry : pathItems) {
+			for (TimedCustomizer customizer : pass) {
+				customizer.customize(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Customizes the given path items with the customizers of a pass, the path items are split in contiguous partitions
+	 * customized on their own threads.
+	 *
+	 * @param pass the customizers of the pass
+	 * @param pathItems the path items
+	 */
+	private void customizeInParallel(final List<TimedCustomizer> pass, final List<Map.Entry<String, PathItem>> pathItems) {
+		int partitionCount = Math.min(parallelism, pathItems.size());
+		int partitionSize = (pathItems.size() + partitionCount - 1) / partitionCount;
+		try (ExecutorService executor = Executors.newFixedThreadPool(partitionCount)) {
+			List<Future<?>> futures = new ArrayList<>(partitionCount);
+			for (int from = 0; from < pathItems.size(); from += partitionSize) {
+				List<Map.Entry<String, PathItem>> partition = pathItems.subList(from, Math.min(from + partitionSize, pathItems.size()));
+				futures.add(executor.submit(() -> customize(pass, partition)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while customizing the path items", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Error customizing the path items", e.getCause());
+		}
+	}
+
+	/**
+	 * Returns true if the customizers of the given pass are parallel safe.
+	 *
+	 * @param pass the customizers of the pass
+	 * @return true if the pass can be run in parallel
+	 */
+	private static boolean isParallel(final List<TimedCustomizer> pass) {
+		return pass.getFirst().customizer.isParallelSafe();
+	}
+}
@@ -0,0 +1,671 @@
+package org.oogp.spring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Finds conflicting routes across all the endpoints of an API.
+ * <p>
+ * Every path pattern of every endpoint is inserted in a path trie where literal segments get their own branch while all
+ * single segment variables and wildcards share one branch and catch-all segments ({@code **}, <code>{*path}</code>) end
+ * the path. Two routes can match the same request path only if, at every depth, their segments are the same literal or
+ * at least one of them is a variable, so the trie is walked with pairs of nodes: the same literal branches are paired
+ * with each other and every literal branch is paired with the variable branch of the same depth, like {@code /a/{x}}
+ * and {@code /{y}/b} which both match {@code /a/b}. Literal branches with different segments are never paired, which
+ * keeps the analysis close to linear in the number of routes even for very large APIs. The routes of each pair of nodes
+ * are then compared segment by segment, a catch-all route being compared with all the routes below its node.
+ * <p>
+ * Routes are compared only when their request conditions overlap: the HTTP methods intersect, the params and headers
+ * expressions don't contradict each other and the consumes and produces media types intersect, an empty condition
+ * matching any request. The specificity of the path patterns is compared with
+ * {@link PathPattern#SPECIFICITY_COMPARATOR}, the same comparator Spring uses at runtime, and two routes with the same
+ * path specificity are ambiguous only when Spring can't choose between them by the number of their request conditions.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class RouteAnalyzer {
+
+	/**
+	 * The path pattern parser.
+	 */
+	private static final PathPatternParser PATH_PATTERN_PARSER = PathPatternParser.defaultInstance;
+
+	/**
+	 * Matches a segment that is a single variable without a regular expression, which matches any segment.
+	 */
+	private static final Pattern PLAIN_VARIABLE = Pattern.compile("\\{[^:}*]+}");
+
+	/**
+	 * The path separator.
+	 */
+	private static final String PATH_SEPARATOR = "/";
+
+	/**
+	 * The single segment wildcard.
+	 */
+	private static final String WILDCARD = "*";
+
+	/**
+	 * The trie root.
+	 */
+	private final Node root = new Node();
+
+	/**
+	 * The number of analyzed routes.
+	 */
+	private int routeCount;
+
+	/**
+	 * Default constructor.
+	 */
+	public RouteAnalyzer() {
+		// empty
+	}
+
+	/**
+	 * Creates a route analyzer with all the routes of the given endpoints.
+	 *
+	 * @param endpoints the endpoints to analyze
+	 * @return a new route analyzer
+	 */
+	public static RouteAnalyzer of(final Collection<Endpoint> endpoints) {
+		RouteAnalyzer routeAnalyzer = new RouteAnalyzer();
+		endpoints.forEach(routeAnalyzer::add);
+		return routeAnalyzer;
+	}
+
+	/**
+	 * Adds the routes of the given endpoint, one route for each path pattern.
+	 *
+	 * @param endpoint the endpoint to add
+	 */
+	public void add(final Endpoint endpoint) {
+		for (String pattern : endpoint.patterns()) {
+			insert(new Route(endpoint, pattern));
+			++routeCount;
+		}
+	}
+
+	/**
+	 * Returns the number of added routes.
+	 *
+	 * @return the number of added routes
+	 */
+	public int getRouteCount() {
+		return routeCount;
+	}
+
+	/**
+	 * Finds all the route conflicts, sorted so that the result doesn't depend on the order in which the controllers were
+	 * found.
+	 *
+	 * @return the route conflicts
+	 */
+	public List<RouteConflict> analyze() {
+		List<RouteConflict> conflicts = new ArrayList<>();
+		Deque<NodePair> pairs = new ArrayDeque<>();
+		pairs.push(new NodePair(root, root));
+		while (!pairs.isEmpty()) {
+			NodePair pair = pairs.pop();
+			Node node = pair.node();
+			Node otherNode = pair.otherNode();
+			if (node == otherNode) {
+				compare(node.routes, conflicts);
+				compare(node.catchAllRoutes, conflicts);
+				compare(node.catchAllRoutes, node.routes, conflicts);
+				compare(node.catchAllRoutes, node.descendantRoutes(), conflicts);
+			} else {
+				compare(node.routes, otherNode.routes, conflicts);
+				compare(node.catchAllRoutes, otherNode.catchAllRoutes, conflicts);
+				compare(node.catchAllRoutes, otherNode.routes, conflicts);
+				compare(node.catchAllRoutes, otherNode.descendantRoutes(), conflicts);
+				compare(otherNode.catchAllRoutes, node.routes, conflicts);
+				compare(otherNode.catchAllRoutes, node.descendantRoutes(), conflicts);
+			}
+			push(pairs, node, otherNode);
+		}
+		conflicts.sort(Comparator.comparing(RouteConflict::toString));
+		return conflicts;
+	}
+
+	/**
+	 * Pushes the pairs of children of the given nodes which can match the same path segment. For the same node every
+	 * unordered pair of its children is pushed once.
+	 *
+	 * @param pairs the pairs to push to
+	 * @param node the node
+	 * @param otherNode the other node
+	 */
+	private static void push(final Deque<NodePair> pairs, final Node node, final Node otherNode) {
+		for (Map.Entry<String, Node> literal : node.literals.entrySet()) {
+			Node otherLiteral = otherNode.literals.get(literal.getKey());
+			if (null != otherLiteral) {
+				pairs.push(new NodePair(literal.getValue(), otherLiteral));
+			}
+			if (null != otherNode.wildcard) {
+				pairs.push(new NodePair(literal.getValue(), otherNode.wildcard));
+			}
+		}
+		if (null != node.wildcard) {
+			if (node != otherNode) {
+				otherNode.literals.values().forEach(otherLiteral -> pairs.push(new NodePair(node.wildcard, otherLiteral)));
+			}
+			if (null != otherNode.wildcard) {
+				pairs.push(new NodePair(node.wildcard, otherNode.wildcard));
+			}
+		}
+	}
+
+	/**
+	 * Inserts the route in the trie.
+	 *
+	 * @param route the route to insert
+	 */
+	private void insert(final Route route) {
+		Node node = root;
+		for (String segment : route.segments) {
+			if (isCatchAll(segment)) {
+				node.catchAllRoutes.add(route);
+				return;
+			}
+			node = isLiteral(segment)
+					? node.literals.computeIfAbsent(segment, _ -> new Node())
+					: node.wildcard();
+		}
+		node.routes.add(route);
+	}
+
+	/**
+	 * Compares all the given routes with each other.
+	 *
+	 * @param routes the routes
+	 * @param conflicts the conflicts to add to
+	 */
+	private static void compare(final List<Route> routes, final List<RouteConflict> conflicts) {
+		for (int i = 0; i < routes.size(); ++i) {
+			for (int j = i + 1; j < routes.size(); ++j) {
+				compare(routes.get(i), routes.get(j), conflicts);
+			}
+		}
+	}
+
+	/**
+	 * Compares every route of the first list with every route of the second list.
+	 *
+	 * @param routes the routes
+	 * @param otherRoutes the other routes
+	 * @param conflicts the conflicts to add to
+	 */
+	private static void compare(final List<Route> routes, final List<Route> otherRoutes, final List<RouteConflict> conflicts) {
+		for (Route route : routes) {
+			for (Route otherRoute : otherRoutes) {
+				compare(route, otherRoute, conflicts);
+			}
+		}
+	}
+
+	/**
+	 * Compares two routes. The routes are ordered first so that the reported conflict doesn't depend on the order in which
+	 * the controllers were found. The patterns of the same endpoint are never compared since Spring chooses between them
+	 * inside the endpoint mapping.
+	 *
+	 * @param firstRoute the first route
+	 * @param secondRoute the second route
+	 * @param conflicts the conflicts to add to
+	 */
+	private static void compare(final Route firstRoute, final Route secondRoute, final List<RouteConflict> conflicts) {
+		boolean ordered = firstRoute.toString().compareTo(secondRoute.toString()) <= 0;
+		Route route = ordered ? firstRoute : secondRoute;
+		Route otherRoute = ordered ? secondRoute : firstRoute;
+		if (route.endpoint == otherRoute.endpoint || !route.pathsOverlap(otherRoute) || !route.conditionsOverlap(otherRoute)) {
+			return;
+		}
+		if (route.pattern.equals(otherRoute.pattern) && route.hasSameConditions(otherRoute)) {
+			conflicts.add(new RouteConflict(RouteConflict.Type.DUPLICATE, otherRoute.toString(), route.toString()));
+			return;
+		}
+		int specificity = PathPattern.SPECIFICITY_COMPARATOR.compare(route.pathPattern, otherRoute.pathPattern);
+		if (0 == specificity) {
+			if (route.hasSameConditionsSpecificity(otherRoute)) {
+				conflicts.add(new RouteConflict(RouteConflict.Type.AMBIGUOUS, otherRoute.toString(), route.toString()));
+			}
+		} else if (specificity < 0 && route.covers(otherRoute)) {
+			conflicts.add(new RouteConflict(RouteConflict.Type.SHADOWED, otherRoute.toString(), route.toString()));
+		} else if (specificity > 0 && otherRoute.covers(route)) {
+			conflicts.add(new RouteConflict(RouteConflict.Type.SHADOWED, route.toString(), otherRoute.toString()));
+		}
+	}
+
+	/**
+	 * Returns true if the segment matches the rest of the path.
+	 *
+	 * @param segment the path segment
+	 * @return true if the segment matches the rest of the path
+	 */
+	private static boolean isCatchAll(final String segment) {
+		return "**".equals(segment) || segment.startsWith("{*");
+	}
+
+	/**
+	 * Returns true if the segment has no variables or wildcards.
+	 *
+	 * @param segment the path segment
+	 * @return true if the segment has no variables or wildcards
+	 */
+	private static boolean isLiteral(final String segment) {
+		return segment.indexOf('{') < 0 && segment.indexOf('*') < 0 && segment.indexOf('?') < 0;
+	}
+
+	/**
+	 * Returns true if the segment matches any single path segment.
+	 *
+	 * @param segment the path segment
+	 * @return true if the segment matches any single path segment
+	 */
+	private static boolean matchesAnySegment(final String segment) {
+		return WILDCARD.equals(segment) || PLAIN_VARIABLE.matcher(segment).matches();
+	}
+
+	/**
+	 * Returns true if the two path segments, which are not catch-all segments, can match the same path segment. Two
+	 * variable segments are considered to overlap since their regular expressions can't be compared.
+	 *
+	 * @param segment the path segment
+	 * @param otherSegment the other path segment
+	 * @return true if the segments can match the same path segment
+	 */
+	private static boolean segmentsOverlap(final String segment, final String otherSegment) {
+		boolean isLiteral = isLiteral(segment);
+		boolean isOtherLiteral = isLiteral(otherSegment);
+		if (isLiteral && isOtherLiteral) {
+			return segment.equals(otherSegment);
+		}
+		if (isLiteral || isOtherLiteral) {
+			String literal = isLiteral ? segment : otherSegment;
+			String variable = isLiteral ? otherSegment : segment;
+			return PATH_PATTERN_PARSER.parse(PATH_SEPARATOR + variable).matches(PathContainer.parsePath(PATH_SEPARATOR + literal));
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if the two request methods conditions can match the same request, an empty condition matches any
+	 * request method.
+	 *
+	 * @param methods the request methods
+	 * @param otherMethods the other request methods
+	 * @return true if the request methods intersect
+	 */
+	private static boolean methodsOverlap(final Set<RequestMethod> methods, final Set<RequestMethod> otherMethods) {
+		return methods.isEmpty() || otherMethods.isEmpty() || methods.stream().anyMatch(otherMethods::contains);
+	}
+
+	/**
+	 * Returns true if the two media types conditions can match the same request, an empty condition matches any media
+	 * type and the negated media types are ignored.
+	 *
+	 * @param mediaTypes the media types
+	 * @param otherMediaTypes the other media types
+	 * @return true if the media types intersect
+	 */
+	private static boolean mediaTypesOverlap(final String[] mediaTypes, final String[] otherMediaTypes) {
+		if (0 == mediaTypes.length || 0 == otherMediaTypes.length) {
+			return true;
+		}
+		for (String mediaType : mediaTypes) {
+			for (String otherMediaType : otherMediaTypes) {
+				if (MediaType.parseMediaType(mediaType).isCompatibleWith(MediaType.parseMediaType(otherMediaType))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true if the two sets of params or headers expressions can all match the same request, which is the case
+	 * unless an expression of one set contradicts an expression of the other set on the same name.
+	 *
+	 * @param expressions the expressions
+	 * @param otherExpressions the other expressions
+	 * @param ignoreCase true if the names are compared ignoring the case, as for the headers
+	 * @return true if the expressions don't contradict each other
+	 */
+	private static boolean expressionsOverlap(final Set<String> expressions, final Set<String> otherExpressions, final boolean ignoreCase) {
+		for (String expression : expressions) {
+			Expression parsed = Expression.parse(expression);
+			for (String otherExpression : otherExpressions) {
+				Expression otherParsed = Expression.parse(otherExpression);
+				boolean sameName = ignoreCase ? parsed.name().equalsIgnoreCase(otherParsed.name()) : parsed.name().equals(otherParsed.name());
+				if (sameName && parsed.contradicts(otherParsed)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A params or headers expression: {@code name}, {@code !name}, {@code name=value} or {@code name!=value}.
+	 *
+	 * @param name the name
+	 * @param value the value, null when the expression only checks the presence of the name
+	 * @param negated true if the expression is negated
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record Expression(String name, String value, boolean negated) {
+
+		/**
+		 * Parses the given expression.
+		 *
+		 * @param expression the expression
+		 * @return the parsed expression
+		 */
+		private static Expression parse(final String expression) {
+			int separator = expression.indexOf('=');
+			if (separator < 0) {
+				boolean negated = expression.startsWith("!");
+				return new Expression(negated ? expression.substring(1) : expression, null, negated);
+			}
+			boolean negated = separator > 0 && '!' == expression.charAt(separator - 1);
+			return new Expression(expression.substring(0, negated ? separator - 1 : separator).trim(), expression.substring(separator + 1).trim(),
+					negated);
+		}
+
+		/**
+		 * Returns true if no request can match both expressions, both expressions having the same name.
+		 *
+		 * @param other the other expression
+		 * @return true if the expressions contradict each other
+		 */
+		private boolean contradicts(final Expression other) {
+			if (null == value || null == other.value) {
+				return null == value && negated && !other.negated || null == other.value && other.negated && !negated;
+			}
+			return negated != other.negated ? value.equals(other.value) : !negated && !value.equals(other.value);
+		}
+	}
+
+	/**
+	 * A pair of trie nodes which can match the same path.
+	 *
+	 * @param node the node
+	 * @param otherNode the other node
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record NodePair(Node node, Node otherNode) {
+		// empty
+	}
+
+	/**
+	 * A trie node.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static class Node {
+
+		/**
+		 * The children for literal segments, sorted so that the report is stable.
+		 */
+		private final TreeMap<String, Node> literals = new TreeMap<>();
+
+		/**
+		 * The routes ending in this node.
+		 */
+		private final List<Route> routes = new ArrayList<>();
+
+		/**
+		 * The routes ending with a catch-all segment after this node.
+		 */
+		private final List<Route> catchAllRoutes = new ArrayList<>();
+
+		/**
+		 * The child for variable and wildcard segments.
+		 */
+		private Node wildcard;
+
+		/**
+		 * Returns the child for variable and wildcard segments, creating it if needed.
+		 *
+		 * @return the child for variable and wildcard segments
+		 */
+		private Node wildcard() {
+			if (null == wildcard) {
+				wildcard = new Node();
+			}
+			return wildcard;
+		}
+
+		/**
+		 * Returns all the routes ending below this node.
+		 *
+		 * @return the routes ending below this node
+		 */
+		private List<Route> descendantRoutes() {
+			List<Route> descendantRoutes = new ArrayList<>();
+			Deque<Node> nodes = new ArrayDeque<>(literals.values());
+			if (null != wildcard) {
+				nodes.push(wildcard);
+			}
+			while (!nodes.isEmpty()) {
+				Node node = nodes.pop();
+				descendantRoutes.addAll(node.routes);
+				descendantRoutes.addAll(node.catchAllRoutes);
+				nodes.addAll(node.literals.values());
+				if (null != node.wildcard) {
+					nodes.push(node.wildcard);
+				}
+			}
+			return descendantRoutes;
+		}
+	}
+
+	/**
+	 * A single route, one path pattern of an endpoint.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static class Route {
+
+		/**
+		 * The endpoint.
+		 */
+		private final Endpoint endpoint;
+
+		/**
+		 * The path pattern.
+		 */
+		private final String pattern;
+
+		/**
+		 * The parsed path pattern.
+		 */
+		private final PathPattern pathPattern;
+
+		/**
+		 * The path segments, a trailing slash is kept as an empty last segment.
+		 */
+		private final List<String> segments;
+
+		/**
+		 * Constructs a route.
+		 *
+		 * @param endpoint the endpoint
+		 * @param pattern the path pattern
+		 */
+		private Route(final Endpoint endpoint, final String pattern) {
+			this.endpoint = endpoint;
+			this.pattern = pattern;
+			this.pathPattern = PATH_PATTERN_PARSER.parse(pattern);
+			String[] split = pattern.split(PATH_SEPARATOR, -1);
+			this.segments = List.of(split).subList(pattern.startsWith(PATH_SEPARATOR) ? 1 : 0, split.length).stream()
+					.filter(segment -> !segment.isEmpty() || pattern.endsWith(PATH_SEPARATOR))
+					.toList();
+		}
+
+		/**
+		 * Returns true if both routes can match the same request path.
+		 *
+		 * @param other the other route
+		 * @return true if the paths overlap
+		 */
+		private boolean pathsOverlap(final Route other) {
+			int size = Math.min(segments.size(), other.segments.size());
+			for (int i = 0; i < size; ++i) {
+				String segment = segments.get(i);
+				String otherSegment = other.segments.get(i);
+				if (isCatchAll(segment) || isCatchAll(otherSegment)) {
+					return true;
+				}
+				if (!segmentsOverlap(segment, otherSegment)) {
+					return false;
+				}
+			}
+			if (segments.size() == other.segments.size()) {
+				return true;
+			}
+			List<String> longerSegments = segments.size() > size ? segments : other.segments;
+			return isCatchAll(longerSegments.get(size));
+		}
+
+		/**
+		 * Returns true if both routes can be selected for the same request when the paths match.
+		 *
+		 * @param other the other route
+		 * @return true if the request conditions overlap
+		 */
+		private boolean conditionsOverlap(final Route other) {
+			return methodsOverlap(endpoint.methods(), other.endpoint.methods())
+					&& expressionsOverlap(endpoint.params(), other.endpoint.params(), false)
+					&& expressionsOverlap(endpoint.headers(), other.endpoint.headers(), true)
+					&& mediaTypesOverlap(endpoint.consumableMediaTypes(), other.endpoint.consumableMediaTypes())
+					&& mediaTypesOverlap(endpoint.producibleMediaTypes(), other.endpoint.producibleMediaTypes());
+		}
+
+		/**
+		 * Returns true if both routes have the same request conditions.
+		 *
+		 * @param other the other route
+		 * @return true if the request conditions are the same
+		 */
+		private boolean hasSameConditions(final Route other) {
+			return endpoint.methods().equals(other.endpoint.methods())
+					&& endpoint.params().equals(other.endpoint.params())
+					&& endpoint.headers().equals(other.endpoint.headers())
+					&& new HashSet<>(endpoint.consumes()).equals(new HashSet<>(other.endpoint.consumes()))
+					&& new HashSet<>(endpoint.produces()).equals(new HashSet<>(other.endpoint.produces()));
+		}
+
+		/**
+		 * Returns true if Spring can't prefer one of the routes by their request conditions, which it compares by the number
+		 * of params and headers expressions and by the presence of the consumes, produces and methods conditions.
+		 *
+		 * @param other the other route
+		 * @return true if the request conditions have the same specificity
+		 */
+		private boolean hasSameConditionsSpecificity(final Route other) {
+			return endpoint.params().size() == other.endpoint.params().size()
+					&& endpoint.headers().size() == other.endpoint.headers().size()
+					&& endpoint.consumes().isEmpty() == other.endpoint.consumes().isEmpty()
+					&& endpoint.produces().isEmpty() == other.endpoint.produces().isEmpty()
+					&& endpoint.methods().isEmpty() == other.endpoint.methods().isEmpty();
+		}
+
+		/**
+		 * Returns true if this route matches every request the other route matches: every path of the other route and every
+		 * request accepted by the request conditions of the other route.
+		 *
+		 * @param other the other route
+		 * @return true if this route matches every request the other route matches
+		 */
+		private boolean covers(final Route other) {
+			return coversPath(other) && coversConditions(other);
+		}
+
+		/**
+		 * Returns true if this route matches every path the other route matches.
+		 *
+		 * @param other the other route
+		 * @return true if this route matches every path the other route matches
+		 */
+		private boolean coversPath(final Route other) {
+			for (int i = 0; i < segments.size(); ++i) {
+				String segment = segments.get(i);
+				if (isCatchAll(segment)) {
+					return true;
+				}
+				if (i >= other.segments.size()) {
+					return false;
+				}
+				String otherSegment = other.segments.get(i);
+				if (isCatchAll(otherSegment)) {
+					return false;
+				}
+				boolean coversSegment = segment.equals(otherSegment)
+						|| !isLiteral(segment) && (matchesAnySegment(segment) || isLiteral(otherSegment) && segmentsOverlap(segment, otherSegment));
+				if (!coversSegment) {
+					return false;
+				}
+			}
+			return segments.size() == other.segments.size();
+		}
+
+		/**
+		 * Returns true if the request conditions of this route accept every request accepted by the request conditions of
+		 * the other route.
+		 *
+		 * @param other the other route
+		 * @return true if the request conditions of this route accept every request the other route accepts
+		 */
+		private boolean coversConditions(final Route other) {
+			return covers(endpoint.methods(), other.endpoint.methods())
+					&& other.endpoint.params().containsAll(endpoint.params())
+					&& other.endpoint.headers().containsAll(endpoint.headers())
+					&& covers(new HashSet<>(endpoint.consumes()), new HashSet<>(other.endpoint.consumes()))
+					&& covers(new HashSet<>(endpoint.produces()), new HashSet<>(other.endpoint.produces()));
+		}
+
+		/**
+		 * Returns true if the given condition values accept every value the other condition values accept, an empty
+		 * condition accepting any value.
+		 *
+		 * @param <T> the condition value type
+		 *
+		 * @param values the condition values
+		 * @param otherValues the other condition values
+		 * @return true if the condition values accept every value the other condition values accept
+		 */
+		private static <T> boolean covers(final Set<T> values, final Set<T> otherValues) {
+			return values.isEmpty() || !otherValues.isEmpty() && values.containsAll(otherValues);
+		}
+
+		/**
+		 * @see #toString()
+		 */
+		@Override
+		public String toString() {
+			String methods = endpoint.methods().isEmpty()
+					? WILDCARD
+					: endpoint.methods().stream().map(Enum::name).collect(Collectors.joining(","));
+			return methods + " " + pattern + " (" + endpoint.handlerMethod() + ")";
+		}
+	}
+}
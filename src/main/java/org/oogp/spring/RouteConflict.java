@@ -0,0 +1,45 @@
+package org.oogp.spring;
+
+/**
+ * Describes a conflict between two routes found by the {@link RouteAnalyzer}.
+ *
+ * @param type the conflict type
+ * @param route the route that has the conflict
+ * @param otherRoute the route it conflicts with
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public record RouteConflict(Type type, String route, String otherRoute) {
+
+	/**
+	 * The conflict types.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public enum Type {
+
+		/**
+		 * The same pattern is mapped more than once with the same conditions.
+		 */
+		DUPLICATE,
+
+		/**
+		 * Different patterns that can match the same request with the same specificity, Spring cannot choose between
+		 * them at runtime.
+		 */
+		AMBIGUOUS,
+
+		/**
+		 * Every request matched by the route is also matched by a more specific route, so the route is never selected.
+		 */
+		SHADOWED
+	}
+
+	/**
+	 * @see #toString()
+	 */
+	@Override
+	public String toString() {
+		return type + " " + route + (type == Type.SHADOWED ? " is shadowed by " : " conflicts with ") + otherRoute;
+	}
+}
@@ -0,0 +1,311 @@
+package org.oogp.spring;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.oogp.GeneratorProperties;
+import org.oogp.ModelConvertersLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springdoc.core.converters.AdditionalModelsConverter;
+import org.springdoc.core.converters.FileSupportConverter;
+import org.springdoc.core.converters.PolymorphicModelConverter;
+import org.springdoc.core.converters.PropertyCustomizingConverter;
+import org.springdoc.core.converters.ResponseSupportConverter;
+import org.springdoc.core.converters.SchemaPropertyDeprecatingConverter;
+import org.springdoc.core.properties.SpringDocConfigProperties;
+import org.springdoc.core.providers.ObjectMapperProvider;
+import org.springdoc.core.utils.SpringDocUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+
+/**
+ * Reusable Spring Doc generator engine, it holds the Spring Doc wiring that doesn't depend on the scanned project so that
+ * it is built only once for any number of generations in the same JVM (tests, in process Maven runs, batch CLI runs).
+ * <p>
+ * Spring Doc always resolves schemas with the {@link ModelConverters} singleton, so the engine adds its own converter
+ * chain to the singleton when it is created and removes exactly those converters when it is closed. This way repeated
+ * generations don't stack duplicate converters and the singleton is left as it was found after the engine is closed.
+ * The Spring Doc extra schemas are initialized once per JVM.
+ * <p>
+ * Since the converter chain is added to a process wide singleton, two open engines, or an open engine and a swagger
+ * JAX-RS reader, would resolve schemas with each other's converters. The engine holds the {@link ModelConvertersLock}
+ * from its creation until it is closed, so the engines in the same JVM are serialized: creating an engine waits until
+ * the open engine is closed, and creating a second engine on the thread which holds the open engine fails since it
+ * would wait forever. The engine must always be closed, preferably with a try-with-resources statement.
+ * <p>
+ * When the schema cache is enabled a {@link CachingModelConverter} is added in front of the chain so that the schemas of
+ * the dependency types are read from the persistent cache, the least recently used cache entries are evicted when the
+ * engine is closed.
+ * <p>
+ * When the schema resolution limits are enabled a {@link BoundedModelConverter} is added in front of the chain so that
+ * huge model graphs are cut with stub components. The schema cache is not used together with the limits since a stubbed
+ * schema depends on the root type it was reached from.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class SpringDocGeneratorEngine implements AutoCloseable {
+
+	/**
+	 * The logger used by this class.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(SpringDocGeneratorEngine.class);
+
+	/**
+	 * Flag that shows if the Spring Doc extra schemas were initialized.
+	 */
+	private static final AtomicBoolean EXTRA_SCHEMAS_INITIALIZED = new AtomicBoolean(false);
+
+	/**
+	 * The Spring Doc configuration properties used to build the engine.
+	 */
+	private final SpringDocConfigProperties springDocConfigProperties;
+
+	/**
+	 * The object mapper provider.
+	 */
+	private final ObjectMapperProvider objectMapperProvider;
+
+	/**
+	 * The model converters singleton the converter chain was added to.
+	 */
+	private final ModelConverters modelConverters;
+
+	/**
+	 * The converter chain owned by this engine.
+	 */
+	private final List<ModelConverter> converters;
+
+	/**
+	 * The schema cache store, null when the schema cache is disabled.
+	 */
+	private final FileCacheStore schemaCacheStore;
+
+	/**
+	 * The caching model converter, null when the schema cache is disabled.
+	 */
+	private final CachingModelConverter cachingModelConverter;
+
+	/**
+	 * The configuration of all the converters resolving the schemas and of their object mappers.
+	 */
+	private final String modelConvertersConfiguration;
+
+	/**
+	 * The schema resolution limits configuration, null when the limits are disabled.
+	 */
+	private final GeneratorProperties.SchemaLimits schemaLimits;
+
+	/**
+	 * The bounded model converter, null when the schema resolution limits are disabled.
+	 */
+	private final BoundedModelConverter boundedModelConverter;
+
+	/**
+	 * The model converters lock held by this engine until it is closed.
+	 */
+	private final ModelConvertersLock.Lease modelConvertersLease;
+
+	/**
+	 * Flag that shows if the engine was closed.
+	 */
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+
+	/**
+	 * Constructs the engine without a schema cache.
+	 */
+	public SpringDocGeneratorEngine() {
+		this(null);
+	}
+
+	/**
+	 * Constructs the engine with the given schema cache configuration.
+	 *
+	 * @param schemaCache the schema cache configuration, the cache is disabled when null
+	 */
+	public SpringDocGeneratorEngine(final GeneratorProperties.SchemaCache schemaCache) {
+		this(schemaCache, null);
+	}
+
+	/**
+	 * Constructs the engine with the given schema cache and schema resolution limits configurations.
+	 *
+	 * @param schemaCache the schema cache configuration, the cache is disabled when null
+	 * @param schemaLimits the schema resolution limits configuration, the limits are disabled when null
+	 * @throws IllegalStateException when the current thread already holds an open engine
+	 */
+	public SpringDocGeneratorEngine(final GeneratorProperties.SchemaCache schemaCache, final GeneratorProperties.SchemaLimits schemaLimits) {
+		this.modelConvertersLease = ModelConvertersLock.acquire();
+		try {
+			if (EXTRA_SCHEMAS_INITIALIZED.compareAndSet(false, true)) {
+				SpringDocUtils.getConfig().initExtraSchemas();
+			}
+			this.springDocConfigProperties = new SpringDocConfigProperties();
+			this.objectMapperProvider = new ObjectMapperProvider(springDocConfigProperties);
+			this.modelConverters = ModelConverters.getInstance(springDocConfigProperties.isOpenapi31());
+			List<ModelConverter> chain = List.of(
+					new AdditionalModelsConverter(objectMapperProvider),
+					new FileSupportConverter(objectMapperProvider),
+					new ResponseSupportConverter(objectMapperProvider),
+					new SchemaPropertyDeprecatingConverter(),
+					new PolymorphicModelConverter(objectMapperProvider),
+					new PropertyCustomizingConverter(Optional.empty()));
+			// the singleton already holds the swagger model resolver and the converters loaded from the project
+			this.modelConvertersConfiguration = CachingModelConverter.configuration(isOpenapi31(),
+					Stream.concat(modelConverters.getConverters().stream(), chain.stream()).toList(),
+					List.of(isOpenapi31() ? Json31.mapper() : Json.mapper(), objectMapperProvider.jsonMapper()));
+			if (null != schemaLimits && schemaLimits.isEnabled()) {
+				this.schemaLimits = schemaLimits;
+				this.boundedModelConverter = new BoundedModelConverter(
+						Optional.ofNullable(schemaLimits.getMaxDepth()).orElse(GeneratorProperties.Default.SCHEMA_LIMITS_MAX_DEPTH),
+						Optional.ofNullable(schemaLimits.getMaxTypes()).orElse(GeneratorProperties.Default.SCHEMA_LIMITS_MAX_TYPES),
+						isOpenapi31());
+				this.schemaCacheStore = null;
+				this.cachingModelConverter = null;
+				this.converters = Stream.concat(chain.stream(), Stream.of(boundedModelConverter)).toList();
+				if (null != schemaCache && schemaCache.isEnabled()) {
+					LOGGER.warn("The schema cache is not used when the schema resolution limits are enabled");
+				}
+				LOGGER.info("Using schema resolution limits: {}", boundedModelConverter.configuration());
+			} else if (null != schemaCache && schemaCache.isEnabled()) {
+				this.schemaLimits = null;
+				this.boundedModelConverter = null;
+				this.schemaCacheStore = new FileCacheStore(Path.of(schemaCache.getDirectory()), schemaCache.getMaxEntries());
+				ObjectMapper objectMapper = isOpenapi31() ? Json31.mapper() : Json.mapper();
+				this.cachingModelConverter = new CachingModelConverter(schemaCacheStore, objectMapper, modelConvertersConfiguration);
+				this.converters = Stream.concat(chain.stream(), Stream.of(cachingModelConverter)).toList();
+				LOGGER.info("Using schema cache at {}", schemaCacheStore.getDirectory().toAbsolutePath());
+			} else {
+				this.schemaLimits = null;
+				this.boundedModelConverter = null;
+				this.schemaCacheStore = null;
+				this.cachingModelConverter = null;
+				this.converters = chain;
+			}
+			// the converters are added in front of the chain so the last added converter is the first one called
+			converters.forEach(modelConverters::addConverter);
+		} catch (RuntimeException | Error e) {
+			modelConvertersLease.close();
+			throw e;
+		}
+		LOGGER.info("Created Spring Doc generator engine with {} model converters", converters.size());
+	}
+
+	/**
+	 * Generates the Open API files configured in the given properties.
+	 *
+	 * @param properties the generator properties
+	 * @throws IOException when an I/O error occurs
+	 */
+	public void generate(final GeneratorProperties properties) throws IOException {
+		if (closed.get()) {
+			throw new IllegalStateException("The generator engine is closed");
+		}
+		OpenApiSpecSpringDocGenerator.generate(properties, this);
+	}
+
+	/**
+	 * Returns true if the engine Open API version is 3.1.
+	 *
+	 * @return true if the engine Open API version is 3.1
+	 */
+	public boolean isOpenapi31() {
+		return springDocConfigProperties.isOpenapi31();
+	}
+
+	/**
+	 * Returns the object mapper provider.
+	 *
+	 * @return the object mapper provider
+	 */
+	public ObjectMapperProvider getObjectMapperProvider() {
+		return objectMapperProvider;
+	}
+
+	/**
+	 * Returns the converter chain owned by this engine.
+	 *
+	 * @return the converter chain
+	 */
+	public List<ModelConverter> getConverters() {
+		return converters;
+	}
+
+	/**
+	 * Returns the configuration of all the converters resolving the schemas, including the ones loaded from the project,
+	 * and of their object mappers.
+	 *
+	 * @return the model converters configuration
+	 */
+	public String getModelConvertersConfiguration() {
+		return modelConvertersConfiguration;
+	}
+
+	/**
+	 * Returns the caching model converter.
+	 *
+	 * @return the caching model converter, empty when the schema cache is disabled
+	 */
+	public Optional<CachingModelConverter> getCachingModelConverter() {
+		return Optional.ofNullable(cachingModelConverter);
+	}
+
+	/**
+	 * Computes the digest of the static Spring Doc configuration and passes it to the caching model converter. It must be
+	 * called once per generation after the project controllers are instantiated since they can change the static
+	 * configuration, so that the digest is not computed on every schema lookup.
+	 *
+	 * @return the Spring Doc configuration digest
+	 */
+	public String settleSpringDocConfiguration() {
+		String springDocConfiguration = CachingModelConverter.springDocConfiguration();
+		if (null != cachingModelConverter) {
+			cachingModelConverter.setSpringDocConfiguration(springDocConfiguration);
+		}
+		return springDocConfiguration;
+	}
+
+	/**
+	 * Returns the schema resolution limits configuration.
+	 *
+	 * @return the schema resolution limits configuration, empty when the limits are disabled
+	 */
+	public Optional<GeneratorProperties.SchemaLimits> getSchemaLimits() {
+		return Optional.ofNullable(schemaLimits);
+	}
+
+	/**
+	 * Returns the bounded model converter.
+	 *
+	 * @return the bounded model converter, empty when the schema resolution limits are disabled
+	 */
+	public Optional<BoundedModelConverter> getBoundedModelConverter() {
+		return Optional.ofNullable(boundedModelConverter);
+	}
+
+	/**
+	 * @see #close()
+	 */
+	@Override
+	public void close() {
+		if (closed.compareAndSet(false, true)) {
+			converters.forEach(modelConverters::removeConverter);
+			modelConvertersLease.close();
+			if (null != schemaCacheStore) {
+				int evicted = schemaCacheStore.evict();
+				LOGGER.info("Schema cache: {} hits, {} invalidated entries, {} misses, {} evicted entries", cachingModelConverter.getHits(),
+						cachingModelConverter.getInvalidations(), schemaCacheStore.getMisses(), evicted);
+			}
+			LOGGER.info("Closed Spring Doc generator engine");
+		}
+	}
+}
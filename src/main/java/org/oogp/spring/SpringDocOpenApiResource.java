@@ -1,10 +1,15 @@
 package org.oogp.spring;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.oogp.spring.PartitionedPathsBuilder.PathOperation;
 import org.springdoc.core.customizers.SpringDocCustomizers;
+import org.springdoc.core.fn.RouterOperation;
 import org.springdoc.core.properties.SpringDocConfigProperties;
 import org.springdoc.core.providers.SpringDocProviders;
 import org.springdoc.core.service.AbstractRequestService;
@@ -13,6 +18,7 @@ import org.springdoc.core.service.OpenAPIService;
 import org.springdoc.core.service.OperationService;
 import org.springdoc.core.utils.PropertyResolverUtils;
 import org.springdoc.webmvc.api.OpenApiResource;
+import org.springframework.web.method.HandlerMethod;
 
 import io.swagger.v3.oas.models.OpenAPI;
 
@@ -21,7 +27,17 @@ import io.swagger.v3.oas.models.OpenAPI;
  *
  * @author Radu Sebastian LAZIN
  */
-public class SpringDocOpenApiResource extends OpenApiResource {
+public class SpringDocOpenApiResource extends OpenApiResource implements SpringDocResource {
+
+	/**
+	 * The builder used to build the paths on multiple threads.
+	 */
+	private final PartitionedPathsBuilder pathsBuilder;
+
+	/**
+	 * The recorded path operations, not null only while the paths are being recorded for the partitioned build.
+	 */
+	private List<PathOperation> pathOperations;
 
 	/**
 	 * Constructor.
@@ -34,6 +50,7 @@ public class SpringDocOpenApiResource extends OpenApiResource {
 	 * @param operationService the operation service
 	 * @param springDocCustomizers the SpringDoc customizers
 	 * @param springDocProviders the SpringDoc providers
+	 * @param pathsBuilder the builder used to build the paths in partitions
 	 */
 	public SpringDocOpenApiResource( // NOSONAR we need to pass all these dependencies
 			final String groupName,
@@ -43,7 +60,8 @@ public class SpringDocOpenApiResource extends OpenApiResource {
 			final GenericResponseService responseBuilder,
 			final OperationService operationService,
 			final SpringDocCustomizers springDocCustomizers,
-			final SpringDocProviders springDocProviders) {
+			final SpringDocProviders springDocProviders,
+			final PartitionedPathsBuilder pathsBuilder) {
 		super(groupName,
 				() -> openAPIService,
 				requestBuilder,
@@ -52,6 +70,7 @@ public class SpringDocOpenApiResource extends OpenApiResource {
 				propertyResolverUtils.getSpringDocConfigProperties(),
 				springDocProviders,
 				springDocCustomizers);
+		this.pathsBuilder = pathsBuilder;
 	}
 
 	@Override
@@ -59,17 +78,59 @@ public class SpringDocOpenApiResource extends OpenApiResource {
 		return null;
 	}
 
+	/**
+	 * @see #getOpenApi(String, Locale)
+	 */
 	@Override
 	public OpenAPI getOpenApi(final String serverBaseUrl, final Locale locale) {
 		return super.getOpenApi(serverBaseUrl, locale);
 	}
 
 	/**
-	 * Returns the SpringDoc configuration properties.
-	 *
-	 * @return the springDocConfigProperties
+	 * @see #getSpringDocConfigProperties()
 	 */
+	@Override
 	public SpringDocConfigProperties getSpringDocConfigProperties() {
 		return springDocConfigProperties;
 	}
+
+	/**
+	 * Builds the paths in partitions when the paths builder is partitioned, the path operations are first recorded
+	 * in the sequential order and then built by the paths builder.
+	 *
+	 * @see #getPaths(Map, Locale, OpenAPI)
+	 */
+	@Override
+	protected void getPaths(final Map<String, Object> restControllers, final Locale locale, final OpenAPI openAPI) {
+		if (!pathsBuilder.isPartitioned()) {
+			super.getPaths(restControllers, locale, openAPI);
+			return;
+		}
+		List<PathOperation> recordedPathOperations = new ArrayList<>();
+		pathOperations = recordedPathOperations;
+		try {
+			super.getPaths(restControllers, locale, openAPI);
+		} finally {
+			pathOperations = null;
+		}
+		pathsBuilder.build(recordedPathOperations, openAPI,
+				(pathOperation, partialOpenAPI) -> super.calculatePath(pathOperation.handlerMethod(), pathOperation.routerOperation(), locale,
+						partialOpenAPI));
+	}
+
+	/**
+	 * Records the path operation while the paths are being recorded for the partitioned build, otherwise calculates the
+	 * path.
+	 *
+	 * @see #calculatePath(HandlerMethod, RouterOperation, Locale, OpenAPI)
+	 */
+	@Override
+	protected void calculatePath(final HandlerMethod handlerMethod, final RouterOperation routerOperation, final Locale locale,
+			final OpenAPI openAPI) {
+		if (null != pathOperations) {
+			pathOperations.add(new PathOperation(handlerMethod, routerOperation));
+			return;
+		}
+		super.calculatePath(handlerMethod, routerOperation, locale, openAPI);
+	}
 }
@@ -0,0 +1,31 @@
+package org.oogp.spring;
+
+import java.util.Locale;
+
+import org.springdoc.core.properties.SpringDocConfigProperties;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+/**
+ * Common interface for the Spring Doc resources used by the generator to build the {@link OpenAPI} object.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public interface SpringDocResource {
+
+	/**
+	 * Builds the {@link OpenAPI} object.
+	 *
+	 * @param serverBaseUrl the server base URL
+	 * @param locale the locale
+	 * @return the Open API object
+	 */
+	OpenAPI getOpenApi(String serverBaseUrl, Locale locale);
+
+	/**
+	 * Returns the SpringDoc configuration properties.
+	 *
+	 * @return the springDocConfigProperties
+	 */
+	SpringDocConfigProperties getSpringDocConfigProperties();
+}
@@ -0,0 +1,61 @@
+package org.oogp.spring;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springdoc.core.filters.OpenApiMethodFilter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Method filter that includes only the handler methods having at least one of the configured tags. The tags are read
+ * from the {@link Tag} annotations of the method and of its class and from the {@link Operation#tags()} attribute,
+ * interfaces and super classes included.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class TagsMethodFilter implements OpenApiMethodFilter {
+
+	/**
+	 * The tags to match.
+	 */
+	private final Set<String> tagsToMatch;
+
+	/**
+	 * Constructs a tags method filter.
+	 *
+	 * @param tagsToMatch the tags to match
+	 */
+	public TagsMethodFilter(final List<String> tagsToMatch) {
+		this.tagsToMatch = Set.copyOf(tagsToMatch);
+	}
+
+	/**
+	 * @see #isMethodToInclude(Method)
+	 */
+	@Override
+	public boolean isMethodToInclude(final Method method) {
+		return getTags(method).stream().anyMatch(tagsToMatch::contains);
+	}
+
+	/**
+	 * Returns all the tag names declared for the given handler method.
+	 *
+	 * @param method the handler method
+	 * @return the tag names
+	 */
+	public static Set<String> getTags(final Method method) {
+		Set<String> tags = new LinkedHashSet<>();
+		AnnotatedElementUtils.findMergedRepeatableAnnotations(method, Tag.class).forEach(tag -> tags.add(tag.name()));
+		AnnotatedElementUtils.findMergedRepeatableAnnotations(method.getDeclaringClass(), Tag.class).forEach(tag -> tags.add(tag.name()));
+		Operation operation = AnnotatedElementUtils.findMergedAnnotation(method, Operation.class);
+		if (null != operation) {
+			tags.addAll(List.of(operation.tags()));
+		}
+		return tags;
+	}
+}
@@ -0,0 +1,180 @@
+package org.oogp;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link InputFingerprint}.
+ *
+ * @author raduking
+ */
+class InputFingerprintTest {
+
+	private static final Path BUILD_DIRECTORY = Path.of("target", "input-fingerprint");
+	private static final Path CLASSES_DIRECTORY = BUILD_DIRECTORY.resolve("classes");
+	private static final Path JAR_FILE = BUILD_DIRECTORY.resolve("dependency.jar");
+	private static final Path OUTPUT_FILE = BUILD_DIRECTORY.resolve("openapi.yaml");
+	private static final Path FIRST_CLASS_FILE = CLASSES_DIRECTORY.resolve("First.class");
+	private static final Path SECOND_CLASS_FILE = CLASSES_DIRECTORY.resolve("Second.class");
+	private static final List<Path> INPUTS = List.of(CLASSES_DIRECTORY, JAR_FILE);
+	private static final List<String> VALUES = List.of("1.0.5", "{\"outputFile\":\"openapi.yaml\"}");
+	private static final long MODIFIED_MILLIS = 60_000;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		if (Files.exists(BUILD_DIRECTORY)) {
+			try (Stream<Path> paths = Files.walk(BUILD_DIRECTORY)) {
+				for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+					Files.delete(path);
+				}
+			}
+		}
+		Files.createDirectories(CLASSES_DIRECTORY);
+		Files.writeString(FIRST_CLASS_FILE, "first");
+		Files.writeString(SECOND_CLASS_FILE, "second");
+		Files.writeString(JAR_FILE, "jar");
+		Files.writeString(OUTPUT_FILE, "openapi: 3.1.0");
+	}
+
+	private static InputFingerprint compute(final List<String> values) throws IOException {
+		InputFingerprint inputFingerprint = new InputFingerprint(OUTPUT_FILE);
+		inputFingerprint.compute(INPUTS, List.of(OUTPUT_FILE), values);
+		return inputFingerprint;
+	}
+
+	private static void save() throws IOException {
+		compute(VALUES).save();
+	}
+
+	@Test
+	void shouldBeUpToDateWhenNothingChanged() throws IOException {
+		save();
+
+		InputFingerprint inputFingerprint = compute(VALUES);
+
+		assertThat(inputFingerprint.isUpToDate(List.of(OUTPUT_FILE)), equalTo(true));
+		assertThat(inputFingerprint.getInputFiles(), equalTo(3));
+		assertThat(inputFingerprint.getHashedFiles(), equalTo(0));
+	}
+
+	@Test
+	void shouldHashAllTheFilesWithoutASavedState() throws IOException {
+		InputFingerprint inputFingerprint = compute(VALUES);
+
+		assertThat(inputFingerprint.isUpToDate(List.of(OUTPUT_FILE)), equalTo(false));
+		assertThat(inputFingerprint.getHashedFiles(), equalTo(3));
+	}
+
+	@Test
+	void shouldNotBeUpToDateWhenAClassFileChanges() throws IOException {
+		save();
+		Files.writeString(FIRST_CLASS_FILE, "changed");
+
+		InputFingerprint inputFingerprint = compute(VALUES);
+
+		assertThat(inputFingerprint.isUpToDate(List.of(OUTPUT_FILE)), equalTo(false));
+		assertThat(inputFingerprint.getHashedFiles(), equalTo(1));
+	}
+
+	@Test
+	void shouldNotBeUpToDateWhenAClassFileIsAdded() throws IOException {
+		save();
+		Files.writeString(CLASSES_DIRECTORY.resolve("Third.class"), "third");
+
+		InputFingerprint inputFingerprint = compute(VALUES);
+
+		assertThat(inputFingerprint.isUpToDate(List.of(OUTPUT_FILE)), equalTo(false));
+		assertThat(inputFingerprint.getInputFiles(), equalTo(4));
+	}
+
+	@Test
+	void shouldNotBeUpToDateWhenAJarChanges() throws IOException {
+		save();
+		Files.writeString(JAR_FILE, "changed jar");
+
+		InputFingerprint inputFingerprint = compute(VALUES);
+
+		assertThat(inputFingerprint.isUpToDate(List.of(OUTPUT_FILE)), equalTo(false));
+		assertThat(inputFingerprint.getHashedFiles(), equalTo(1));
+	}
+
+	@Test
+	void shouldBeUpToDateWhenOnlyTheModificationTimeChanges() throws IOException {
+		save();
+		Files.setLastModifiedTime(SECOND_CLASS_FILE, FileTime.fromMillis(Files.getLastModifiedTime(SECOND_CLASS_FILE).toMillis() + MODIFIED_MILLIS));
+
+		InputFingerprint inputFingerprint = compute(VALUES);
+
+		assertThat(inputFingerprint.isUpToDate(List.of(OUTPUT_FILE)), equalTo(true));
+		assertThat(inputFingerprint.getHashedFiles(), equalTo(1));
+	}
+
+	@Test
+	void shouldNotBeUpToDateWhenAValueChanges() throws IOException {
+		save();
+
+		InputFingerprint inputFingerprint = compute(List.of("1.0.5", "{\"outputFile\":\"other.yaml\"}"));
+
+		assertThat(inputFingerprint.isUpToDate(List.of(OUTPUT_FILE)), equalTo(false));
+		assertThat(inputFingerprint.getHashedFiles(), equalTo(0));
+	}
+
+	@Test
+	void shouldNotBeUpToDateWhenAnOutputFileIsMissing() throws IOException {
+		save();
+		Files.delete(OUTPUT_FILE);
+
+		InputFingerprint inputFingerprint = compute(VALUES);
+
+		assertThat(inputFingerprint.isUpToDate(List.of(OUTPUT_FILE)), equalTo(false));
+	}
+
+	@Test
+	void shouldNotBeUpToDateWhenTheStateFileIsMissing() throws IOException {
+		save();
+		Files.delete(InputFingerprint.stateFile(OUTPUT_FILE));
+
+		InputFingerprint inputFingerprint = compute(VALUES);
+
+		assertThat(inputFingerprint.isUpToDate(List.of(OUTPUT_FILE)), equalTo(false));
+		assertThat(inputFingerprint.getHashedFiles(), equalTo(3));
+	}
+
+	@Test
+	void shouldNotBeUpToDateAfterInvalidation() throws IOException {
+		save();
+		compute(VALUES).invalidate();
+
+		InputFingerprint inputFingerprint = compute(VALUES);
+
+		assertThat(Files.exists(InputFingerprint.stateFile(OUTPUT_FILE)), equalTo(false));
+		assertThat(inputFingerprint.isUpToDate(List.of(OUTPUT_FILE)), equalTo(false));
+	}
+
+	@Test
+	void shouldIgnoreTheExcludedFilesAndTheStateFile() throws IOException {
+		Path outputInInputs = CLASSES_DIRECTORY.resolve("openapi.yaml");
+		Files.writeString(outputInInputs, "openapi: 3.1.0");
+		InputFingerprint first = new InputFingerprint(outputInInputs);
+		first.compute(INPUTS, List.of(outputInInputs), VALUES);
+		first.save();
+		Files.writeString(outputInInputs, "openapi: 3.0.1");
+
+		InputFingerprint second = new InputFingerprint(outputInInputs);
+		second.compute(INPUTS, List.of(outputInInputs), VALUES);
+
+		assertThat(second.getInputFiles(), equalTo(3));
+		assertThat(second.isUpToDate(List.of(outputInInputs)), equalTo(true));
+	}
+}
@@ -0,0 +1,144 @@
+package org.oogp;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.tags.Tag;
+
+/**
+ * Test class for {@link OpenApiCanonicalizer}.
+ *
+ * @author raduking
+ */
+class OpenApiCanonicalizerTest {
+
+	private static final String ORDERS = "/orders";
+	private static final String ITEMS = "/items";
+	private static final String GET_ORDERS = "GET " + ORDERS;
+	private static final String GET_ITEMS = "GET " + ITEMS;
+	private static final String ORDER = "Order";
+	private static final String ITEM = "Item";
+	private static final String SCHEMAS = "schemas/";
+
+	@Test
+	void shouldChangeTheRootHashWhenATopLevelSectionChanges() {
+		OpenApiCanonicalizer.Hashes before = OpenApiCanonicalizer.hash(openAPI(), true);
+
+		List<OpenAPI> changed = List.of(
+				openAPI().info(new Info().title("Other").version("v1")),
+				openAPI().servers(List.of(new Server().url("https://example.com"))),
+				openAPI().security(List.of(new SecurityRequirement().addList("basic"))),
+				openAPI().tags(List.of(new Tag().name("orders"))));
+
+		for (OpenAPI openAPI : changed) {
+			OpenApiCanonicalizer.Hashes after = OpenApiCanonicalizer.hash(openAPI, true);
+
+			assertThat(after.root(), not(equalTo(before.root())));
+			assertThat(after.document(), not(equalTo(before.document())));
+			assertThat(after.paths(), equalTo(before.paths()));
+			assertThat(after.components(), equalTo(before.components()));
+		}
+	}
+
+	@Test
+	void shouldChangeTheRootHashWhenAnyComponentChanges() {
+		OpenApiCanonicalizer.Hashes before = OpenApiCanonicalizer.hash(openAPI(), true);
+		OpenAPI openAPI = openAPI();
+		openAPI.getComponents().addSecuritySchemes("basic", new SecurityScheme().type(SecurityScheme.Type.HTTP).scheme("basic"));
+
+		OpenApiCanonicalizer.Hashes after = OpenApiCanonicalizer.hash(openAPI, true);
+
+		assertThat(after.root(), not(equalTo(before.root())));
+		assertThat(after.components().containsKey("securitySchemes/basic"), equalTo(true));
+		assertThat(after.operations(), equalTo(before.operations()));
+	}
+
+	@Test
+	void shouldFoldTheReferencedComponentHashes() {
+		OpenApiCanonicalizer.Hashes before = OpenApiCanonicalizer.hash(openAPI(), true);
+		OpenAPI openAPI = openAPI();
+		openAPI.getComponents().getSchemas().get(ITEM).setMaxProperties(1);
+
+		OpenApiCanonicalizer.Hashes after = OpenApiCanonicalizer.hash(openAPI, true);
+
+		assertThat(after.components().get(SCHEMAS + ITEM), not(equalTo(before.components().get(SCHEMAS + ITEM))));
+		assertThat(after.components().get(SCHEMAS + ORDER), not(equalTo(before.components().get(SCHEMAS + ORDER))));
+		assertThat(after.operations().get(GET_ORDERS), not(equalTo(before.operations().get(GET_ORDERS))));
+		assertThat(after.paths().get(ORDERS), not(equalTo(before.paths().get(ORDERS))));
+		assertThat(after.operations().get(GET_ITEMS), equalTo(before.operations().get(GET_ITEMS)));
+		assertThat(after.paths().get(ITEMS), equalTo(before.paths().get(ITEMS)));
+	}
+
+	@Test
+	void shouldHashTheCyclicReferences() {
+		OpenAPI openAPI = openAPI();
+		openAPI.getComponents().getSchemas().get(ITEM).addProperty("order", new Schema<>().$ref(ORDER));
+
+		OpenApiCanonicalizer.Hashes hashes = OpenApiCanonicalizer.hash(openAPI, true);
+
+		assertThat(hashes.components().size(), equalTo(2));
+		assertThat(hashes.components().get(SCHEMAS + ITEM), not(equalTo(hashes.components().get(SCHEMAS + ORDER))));
+	}
+
+	@Test
+	void shouldSortTheDiscriminatorMappingsAndTheJsonSchemaMaps() {
+		Schema<?> schema = new ObjectSchema()
+				.discriminator(new Discriminator().propertyName("kind").mapping("second", "#/components/schemas/Second").mapping("first",
+						"#/components/schemas/First"))
+				._if(new ObjectSchema().addProperty("second", new StringSchema()).addProperty("first", new StringSchema()));
+		schema.setDependentSchemas(Map.of("second", new ObjectSchema(), "first", new ObjectSchema()));
+		schema.setExtensions(Map.of("$defs", Map.of("second", Map.of(), "first", Map.of())));
+		OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("Root", schema));
+
+		OpenApiCanonicalizer.canonicalize(openAPI);
+
+		assertThat(List.copyOf(schema.getDiscriminator().getMapping().keySet()), equalTo(List.of("first", "second")));
+		assertThat(List.copyOf(schema.getIf().getProperties().keySet()), equalTo(List.of("first", "second")));
+		assertThat(List.copyOf(schema.getDependentSchemas().keySet()), equalTo(List.of("first", "second")));
+		assertThat(List.copyOf(((Map<?, ?>) schema.getExtensions().get("$defs")).keySet()), equalTo(List.of("first", "second")));
+	}
+
+	private static OpenAPI openAPI() {
+		Schema<?> item = new ObjectSchema().addProperty("name", new StringSchema());
+		Schema<?> order = new ObjectSchema().addProperty("items", new Schema<>().$ref(ITEM));
+		return new OpenAPI()
+				.info(new Info().title("Hashes").version("v1"))
+				.paths(new Paths()
+						.addPathItem(ORDERS, new PathItem().get(operation("getOrders", ORDER)))
+						.addPathItem(ITEMS, new PathItem().get(new Operation().operationId("getItems"))))
+				.components(new Components()
+						.addSchemas(ITEM, item)
+						.addSchemas(ORDER, order));
+	}
+
+	private static Operation operation(final String operationId, final String schemaName) {
+		return new Operation()
+				.operationId(operationId)
+				.responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+						.description("OK")
+						.content(new Content().addMediaType("application/json", new MediaType().schema(new Schema<>().$ref(schemaName))))));
+	}
+}
@@ -0,0 +1,165 @@
+package org.oogp;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the up to date check of {@link OpenApiMojo}.
+ * <p>
+ * The generation runs in the same process and a marker is written in the output file after each run, the marker is
+ * still there when the generation was skipped and it is overwritten when the spec was generated again.
+ *
+ * @author raduking
+ */
+class OpenApiMojoTest {
+
+	private static final Path BUILD_DIRECTORY = Path.of("target", "openapi-mojo").toAbsolutePath();
+	private static final Path CLASSES_DIRECTORY = Path.of("target", "test-classes").toAbsolutePath();
+	private static final Path OUTPUT_FILE = BUILD_DIRECTORY.resolve("openapi.yaml");
+	private static final Path DEPENDENCY_JAR = BUILD_DIRECTORY.resolve("dependency.jar");
+	private static final String PACKAGES_TO_SCAN = "org.oogp.controller";
+	private static final String MARKER = "marker";
+	private static final String INVALID_SPRING_ENGINE = "invalid";
+	private static final String PLUGIN_VERSION = "test";
+	private static final int PARALLELISM = 2;
+
+	private ClassLoader contextClassLoader;
+	private MavenProject project;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		contextClassLoader = Thread.currentThread().getContextClassLoader();
+		if (Files.exists(BUILD_DIRECTORY)) {
+			try (Stream<Path> paths = Files.walk(BUILD_DIRECTORY)) {
+				for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+					Files.delete(path);
+				}
+			}
+		}
+		Files.createDirectories(BUILD_DIRECTORY);
+		writeJar("first");
+
+		Build build = new Build();
+		build.setDirectory(BUILD_DIRECTORY.toString());
+		build.setOutputDirectory(CLASSES_DIRECTORY.toString());
+		project = mock(MavenProject.class);
+		doReturn(build).when(project).getBuild();
+		doReturn(List.of(DEPENDENCY_JAR.toString())).when(project).getRuntimeClasspathElements();
+	}
+
+	@Test
+	void shouldSkipTheGenerationWhenNothingChanged() throws Exception {
+		generateAndMark();
+
+		execute(properties());
+
+		assertThat(Files.readString(OUTPUT_FILE), equalTo(MARKER));
+	}
+
+	@Test
+	void shouldGenerateAgainWhenAJarChanges() throws Exception {
+		generateAndMark();
+		writeJar("second");
+
+		execute(properties());
+
+		assertThat(Files.readString(OUTPUT_FILE), not(equalTo(MARKER)));
+	}
+
+	@Test
+	void shouldGenerateAgainWhenAPropertyChanges() throws Exception {
+		generateAndMark();
+		GeneratorProperties properties = properties();
+		properties.setParallelism(PARALLELISM);
+
+		execute(properties);
+
+		assertThat(Files.readString(OUTPUT_FILE), not(equalTo(MARKER)));
+	}
+
+	@Test
+	void shouldGenerateAgainWhenTheOutputFileIsMissing() throws Exception {
+		generateAndMark();
+		Files.delete(OUTPUT_FILE);
+
+		execute(properties());
+
+		assertThat(Files.isRegularFile(OUTPUT_FILE), equalTo(true));
+	}
+
+	@Test
+	void shouldGenerateAgainWhenTheStateFileIsMissing() throws Exception {
+		generateAndMark();
+		Files.delete(InputFingerprint.stateFile(OUTPUT_FILE));
+
+		execute(properties());
+
+		assertThat(Files.readString(OUTPUT_FILE), not(equalTo(MARKER)));
+		assertThat(Files.isRegularFile(InputFingerprint.stateFile(OUTPUT_FILE)), equalTo(true));
+	}
+
+	@Test
+	void shouldInvalidateTheStateWhenTheGenerationFails() throws Exception {
+		generateAndMark();
+		GeneratorProperties invalidProperties = properties();
+		invalidProperties.setSpringEngine(INVALID_SPRING_ENGINE);
+
+		assertThrows(MojoExecutionException.class, () -> execute(invalidProperties));
+
+		assertThat(Files.exists(InputFingerprint.stateFile(OUTPUT_FILE)), equalTo(false));
+
+		execute(properties());
+
+		assertThat(Files.readString(OUTPUT_FILE), not(equalTo(MARKER)));
+	}
+
+	private void generateAndMark() throws Exception {
+		execute(properties());
+		assertThat(Files.isRegularFile(InputFingerprint.stateFile(OUTPUT_FILE)), equalTo(true));
+		Files.writeString(OUTPUT_FILE, MARKER);
+	}
+
+	private void execute(final GeneratorProperties properties) throws MojoExecutionException {
+		try {
+			new OpenApiMojo(project, List.of(), properties, false, true, PLUGIN_VERSION).execute();
+		} finally {
+			Thread.currentThread().setContextClassLoader(contextClassLoader);
+		}
+	}
+
+	private static GeneratorProperties properties() {
+		GeneratorProperties properties = new GeneratorProperties();
+		properties.setPackagesToScan(PACKAGES_TO_SCAN);
+		properties.setOutputFile(OUTPUT_FILE.toString());
+		return properties;
+	}
+
+	private static void writeJar(final String content) throws IOException {
+		try (OutputStream outputStream = Files.newOutputStream(DEPENDENCY_JAR);
+				JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+			jarOutputStream.putNextEntry(new JarEntry("content.txt"));
+			jarOutputStream.write(content.getBytes());
+			jarOutputStream.closeEntry();
+		}
+	}
+}
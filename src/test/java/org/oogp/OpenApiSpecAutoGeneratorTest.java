@@ -0,0 +1,123 @@
+package org.oogp;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+
+/**
+ * Test class for the merge of the Spring and Jakarta models in {@link OpenApiSpecAutoGenerator}.
+ *
+ * @author raduking
+ */
+class OpenApiSpecAutoGeneratorTest {
+
+	private static final String ITEMS_PATH = "/items";
+	private static final String ORDERS_PATH = "/orders";
+	private static final String STOCK_PATH = "/stock";
+	private static final String LIST = "list";
+	private static final String ITEM_SCHEMA = "Item";
+	private static final String NAME_PROPERTY = "name";
+
+	@Test
+	void shouldRenameTheCollidingJakartaOperationIds() {
+		OpenAPI springOpenApi = new OpenAPI()
+				.paths(new Paths().addPathItem(ITEMS_PATH, new PathItem().get(operation(LIST))));
+		OpenAPI jakartaOpenApi = new OpenAPI()
+				.paths(new Paths()
+						.addPathItem(ORDERS_PATH, new PathItem().get(operation(LIST)))
+						.addPathItem(STOCK_PATH, new PathItem().get(operation(LIST)).post(operation("add"))));
+
+		OpenAPI merged = OpenApiSpecAutoGenerator.merge(springOpenApi, jakartaOpenApi);
+
+		assertThat(merged.getPaths().get(ITEMS_PATH).getGet().getOperationId(), equalTo(LIST));
+		assertThat(merged.getPaths().get(ORDERS_PATH).getGet().getOperationId(), equalTo(LIST + "_1"));
+		assertThat(merged.getPaths().get(STOCK_PATH).getGet().getOperationId(), equalTo(LIST + "_2"));
+		assertThat(merged.getPaths().get(STOCK_PATH).getPost().getOperationId(), equalTo("add"));
+	}
+
+	@Test
+	void shouldKeepTheSpringOperationsDeclaredWithTheSamePathAndMethod() {
+		Operation springGet = operation(LIST);
+		Operation jakartaPost = operation("add");
+		OpenAPI springOpenApi = new OpenAPI()
+				.paths(new Paths().addPathItem(ITEMS_PATH, new PathItem().get(springGet)));
+		OpenAPI jakartaOpenApi = new OpenAPI()
+				.paths(new Paths()
+						.addPathItem(ITEMS_PATH, new PathItem().get(operation("getItems")).post(jakartaPost))
+						.addPathItem(ORDERS_PATH, new PathItem().get(operation("getOrders"))));
+
+		OpenAPI merged = OpenApiSpecAutoGenerator.merge(springOpenApi, jakartaOpenApi);
+
+		assertThat(merged.getPaths().get(ITEMS_PATH).getGet(), sameInstance(springGet));
+		assertThat(merged.getPaths().get(ITEMS_PATH).getPost(), sameInstance(jakartaPost));
+		assertThat(merged.getPaths().get(ORDERS_PATH).getGet().getOperationId(), equalTo("getOrders"));
+	}
+
+	@Test
+	void shouldDropTheJakartaPathsWhenAllTheirOperationsCollide() {
+		OpenAPI springOpenApi = new OpenAPI()
+				.paths(new Paths().addPathItem(ITEMS_PATH, new PathItem().get(operation(LIST))));
+		OpenAPI jakartaOpenApi = new OpenAPI()
+				.paths(new Paths().addPathItem(ITEMS_PATH, new PathItem().get(operation("getItems"))));
+
+		OpenAPI merged = OpenApiSpecAutoGenerator.merge(springOpenApi, jakartaOpenApi);
+
+		assertThat(merged.getPaths().get(ITEMS_PATH).getGet().getOperationId(), equalTo(LIST));
+		assertThat(merged.getPaths().size(), equalTo(1));
+	}
+
+	@Test
+	void shouldConvertTheJakartaModelWhenTheSpringModelIsOpenApi31() {
+		OpenAPI springOpenApi = new OpenAPI(SpecVersion.V31)
+				.paths(new Paths().addPathItem(ITEMS_PATH, new PathItem().get(operation(LIST))));
+
+		OpenAPI merged = OpenApiSpecAutoGenerator.merge(springOpenApi, jakartaOpenApi());
+		Schema<?> name = nameProperty(merged);
+
+		assertThat(name.getTypes(), equalTo(Set.of("string", "null")));
+		assertThat(name.getNullable(), nullValue());
+		assertThat(merged.getPaths().get(ORDERS_PATH).getGet().getOperationId(), equalTo("getOrders"));
+	}
+
+	@Test
+	void shouldNotConvertTheJakartaModelWhenTheSpringModelIsOpenApi30() {
+		OpenAPI springOpenApi = new OpenAPI()
+				.paths(new Paths().addPathItem(ITEMS_PATH, new PathItem().get(operation(LIST))));
+
+		OpenAPI merged = OpenApiSpecAutoGenerator.merge(springOpenApi, jakartaOpenApi());
+		Schema<?> name = nameProperty(merged);
+
+		assertThat(name.getNullable(), equalTo(true));
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static Schema<?> nameProperty(final OpenAPI openAPI) {
+		Schema item = openAPI.getComponents().getSchemas().get(ITEM_SCHEMA);
+		return (Schema<?>) item.getProperties().get(NAME_PROPERTY);
+	}
+
+	private static OpenAPI jakartaOpenApi() {
+		return new OpenAPI()
+				.paths(new Paths().addPathItem(ORDERS_PATH, new PathItem().get(operation("getOrders"))))
+				.components(new Components().addSchemas(ITEM_SCHEMA, new ObjectSchema().addProperty(NAME_PROPERTY, new StringSchema().nullable(true))));
+	}
+
+	private static Operation operation(final String operationId) {
+		return new Operation().operationId(operationId);
+	}
+}
@@ -2,15 +2,51 @@ package org.oogp;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.oogp.customizer.PathExtensionCustomizer;
+import org.oogp.customizer.PathIndexCustomizer;
+import org.oogp.jakarta.OpenApiSpecJakartaGenerator;
 import org.oogp.spring.OpenApiSpecSpringDocGenerator;
+import org.oogp.spring.SpringDocGeneratorEngine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.core.util.Yaml31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 
 /**
  * Test class for {@link OpenApiSpecSpringDocGenerator}.
@@ -29,6 +65,70 @@ class OpenApiSpecSpringDocGeneratorTest {
 	private static final String OUTPUT_FILE_NAME_WITH_GENERATE = "open-api-with-generate.yaml";
 	private static final String OUTPUT_FILE_NAME_WITH_MAIN = "open-api-with-main.yaml";
 	private static final String OUTPUT_FILE_NAME_FOR_OBJECT = "object.yaml";
+	private static final String OUTPUT_FILE_NAME_FOR_ADVICE = "advice.yaml";
+	private static final String OUTPUT_FILE_NAME_FOR_CONFLICT = "conflict.yaml";
+	private static final String REPORT_FILE_NAME_FOR_CONFLICT = "conflict-routes.txt";
+	private static final String DIRECT_ENGINE_DIRECTORY = "direct/";
+	private static final String PARALLEL_DIRECTORY = "parallel/";
+	private static final String GROUPS_DIRECTORY = "groups/";
+	private static final String ENGINE_DIRECTORY = "engine/";
+	private static final int GENERATIONS = 3;
+	private static final long ENGINE_WAIT_MILLIS = 200;
+	private static final String SCHEMA_CACHE_DIRECTORY = "schema-cache/";
+	private static final String SCHEMA_CACHE_BUILD_DIRECTORY = "/target/schema-cache";
+	private static final int SCHEMA_CACHE_MAX_ENTRIES = 100;
+	private static final int FRAGMENT_CACHE_MAX_ENTRIES = 100;
+	private static final String FRAGMENT_CACHE_DIRECTORY = "fragment-cache/";
+	private static final String FRAGMENT_CACHE_BUILD_DIRECTORY = "/target/fragment-cache";
+	private static final String JAVADOC_DIRECTORY = "javadoc/";
+	private static final String JAVADOC_INDEX_FILE = "/target/javadoc/openapi-javadoc.idx";
+	private static final String OUTPUT_FILE_NAME_FOR_JAVADOC = "javadoc.yaml";
+	private static final String OUTPUT_FILE_NAME_FOR_JAVADOC_OFF = "javadoc-off.yaml";
+	private static final String SCHEMA_LIMITS_DIRECTORY = "schema-limits/";
+	private static final String OUTPUT_FILE_NAME_FOR_SCHEMA_LIMITS = "schema-limits.yaml";
+	private static final String REPORT_FILE_NAME_FOR_SCHEMA_LIMITS = "schema-limits.txt";
+	private static final int SCHEMA_LIMITS_MAX_DEPTH = 2;
+	private static final int SCHEMA_LIMITS_MAX_TYPES = 3;
+	private static final String SCHEMA_STUBS_DIRECTORY = "schema-stubs/";
+	private static final String OUTPUT_FILE_NAME_FOR_SCHEMA_STUBS = "schema-stubs.yaml";
+	private static final String SCHEMA_STUBS_FRAGMENT_CACHE_BUILD_DIRECTORY = "/target/schema-stubs-fragment-cache";
+	private static final String ALL_GROUP = "all";
+	private static final String COMPANY_GROUP = "company";
+	private static final String VARIANTS_DIRECTORY = "variants/";
+	private static final String OUTPUT_FILE_NAME_FOR_VARIANTS = "variant.yaml";
+	private static final String FRENCH_VARIANT = "fr";
+	private static final String INTERNAL_VARIANT = "internal";
+	private static final String BATCH_DIRECTORY = "batch/";
+	private static final String OUTPUT_FILE_NAME_FOR_BATCH = "batch.yaml";
+	private static final int BATCH_SIZE = 1;
+	private static final String CUSTOMIZERS_DIRECTORY = "customizers/";
+	private static final String OUTPUT_FILE_NAME_FOR_CUSTOMIZERS = "customizers.yaml";
+	private static final String JAKARTA_DIRECTORY = "jakarta/";
+	private static final String OUTPUT_FILE_NAME_FOR_APPLICATION = "jakarta-application.yaml";
+	private static final String OUTPUT_FILE_NAME_FOR_PATH_SCAN = "jakarta-path-scan.yaml";
+	private static final String APPLICATION_DISCOVERY = "application";
+	private static final String AUTO_DIRECTORY = "auto/";
+	private static final String OUTPUT_FILE_NAME_FOR_AUTO = "auto.yaml";
+	private static final String OUTPUT_FILE_NAME_FOR_AUTO_SEPARATE = "auto-separate.yaml";
+	private static final String OUTPUT_FILE_NAME_FOR_AUTO_SEPARATE_JAKARTA = "auto-separate-jakarta.yaml";
+	private static final String AUTO_PROJECT_TYPE = "auto";
+	private static final String SEPARATE_AUTO_OUTPUT = "separate";
+	private static final String WRITER_BUILD_FILE = "/target/openapi-writer/summary.yaml";
+	private static final String WRITE_IF_CHANGED_BUILD_FILE = "/target/openapi-writer/changed.yaml";
+	private static final String PERMISSIONS_BUILD_FILE = "/target/openapi-writer/permissions/permissions.yaml";
+	private static final String YAML_EMITTER_BUILD_DIRECTORY = "/target/yaml-emitter/";
+	private static final int BENCHMARK_PATHS = 2000;
+	private static final int BENCHMARK_RUNS = 5;
+	private static final String BENCHMARK_TAG = "benchmark";
+	private static final String OUTPUTS_DIRECTORY = "outputs/";
+	private static final String OUTPUT_FILE_NAME_FOR_OUTPUTS = "outputs.yaml";
+	private static final List<String> OUTPUT_FILE_NAMES_FOR_OUTPUTS = List.of("outputs.yaml", "outputs-3.0.yaml", "outputs-3.0.json", "outputs-3.1.json");
+	private static final String CANONICAL_DIRECTORY = "canonical/";
+	private static final String OUTPUT_FILE_NAME_FOR_CANONICAL = "canonical.yaml";
+	private static final String CONTENT_HASHES_BUILD_FILE = "/target/openapi-writer/hashes.yaml";
+	private static final String DATA_GROUP = "data";
+	private static final String INFO_GROUP = "info";
+	private static final int PARALLELISM = 4;
 
 	private static GeneratorProperties getGeneratorProperties(final String fileName) {
 		GeneratorProperties generatorProperties = new GeneratorProperties();
@@ -125,4 +225,994 @@ class OpenApiSpecSpringDocGeneratorTest {
 		assertThat(actualContent, equalTo(expectedContent));
 	}
 
+	@Test
+	void shouldBuildExpectedOpenApiFileWithDirectEngine() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + DIRECT_ENGINE_DIRECTORY + OUTPUT_FILE_NAME_WITH_GENERATE;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = getGeneratorProperties(fileName);
+		generatorProperties.setSpringEngine(SpringEngine.DIRECT.value());
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		boolean exists = Files.exists(path);
+
+		assertThat(exists, equalTo(true));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/" + OUTPUT_FILE_NAME_WITH_GENERATE;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldBuildExpectedOpenApiFileInParallel() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + PARALLEL_DIRECTORY + OUTPUT_FILE_NAME_WITH_GENERATE;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = getGeneratorProperties(fileName);
+		generatorProperties.setParallelism(PARALLELISM);
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		boolean exists = Files.exists(path);
+
+		assertThat(exists, equalTo(true));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/" + OUTPUT_FILE_NAME_WITH_GENERATE;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldBuildExpectedOpenApiFileWithDirectEngineInParallel() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + DIRECT_ENGINE_DIRECTORY + PARALLEL_DIRECTORY
+				+ OUTPUT_FILE_NAME_WITH_GENERATE;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = getGeneratorProperties(fileName);
+		generatorProperties.setSpringEngine(SpringEngine.DIRECT.value());
+		generatorProperties.setParallelism(PARALLELISM);
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		boolean exists = Files.exists(path);
+
+		assertThat(exists, equalTo(true));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/" + OUTPUT_FILE_NAME_WITH_GENERATE;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldBuildOpenApiFileForObjectTypeWithDirectEngine() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/isolated/" + DIRECT_ENGINE_DIRECTORY + OUTPUT_FILE_NAME_FOR_OBJECT;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.object.controller");
+		generatorProperties.setOutputFile(fileName);
+		generatorProperties.setSchemaForObjectClass("object");
+		generatorProperties.setSpringEngine(SpringEngine.DIRECT.value());
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		boolean exists = Files.exists(path);
+
+		assertThat(exists, equalTo(true));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_OBJECT;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldBuildOpenApiFileWithControllerAdviceResponses() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/isolated/" + OUTPUT_FILE_NAME_FOR_ADVICE;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.advice");
+		generatorProperties.setOutputFile(fileName);
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		boolean exists = Files.exists(path);
+
+		assertThat(exists, equalTo(true));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_ADVICE;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldFailOnRouteConflicts() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/isolated/" + OUTPUT_FILE_NAME_FOR_CONFLICT;
+		String reportFileName = currentDirectory + "/src/test/resources/isolated/" + REPORT_FILE_NAME_FOR_CONFLICT;
+		Path reportPath = Paths.get(reportFileName);
+		Files.deleteIfExists(reportPath);
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.conflict");
+		generatorProperties.setOutputFile(fileName);
+		GeneratorProperties.RouteAnalysis routeAnalysis = new GeneratorProperties.RouteAnalysis();
+		routeAnalysis.setEnabled(true);
+		routeAnalysis.setReportFile(reportFileName);
+		routeAnalysis.setFailOnConflict(true);
+		generatorProperties.setRouteAnalysis(routeAnalysis);
+
+		assertThrows(IllegalStateException.class, () -> OpenApiSpecSpringDocGenerator.generate(generatorProperties));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + REPORT_FILE_NAME_FOR_CONFLICT;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(reportPath);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldBuildExpectedOpenApiFilesForGroups() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + GROUPS_DIRECTORY + OUTPUT_FILE_NAME_WITH_GENERATE;
+		String dataFileName = fileName.replace(".yaml", "-" + DATA_GROUP + ".yaml");
+		String infoFileName = fileName.replace(".yaml", "-" + INFO_GROUP + ".yaml");
+		Files.deleteIfExists(Paths.get(dataFileName));
+		Files.deleteIfExists(Paths.get(infoFileName));
+
+		GeneratorProperties generatorProperties = getGeneratorProperties(fileName);
+		GeneratorProperties.Group dataGroup = new GeneratorProperties.Group();
+		dataGroup.setName(DATA_GROUP);
+		dataGroup.setOutputFile(dataFileName);
+		dataGroup.setTagsToMatch(List.of("Data"));
+		GeneratorProperties.Group infoGroup = new GeneratorProperties.Group();
+		infoGroup.setName(INFO_GROUP);
+		infoGroup.setOutputFile(infoFileName);
+		infoGroup.setPathsToMatch(List.of("/api/test/info/**"));
+		generatorProperties.setGroups(List.of(dataGroup, infoGroup));
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		for (String groupFileName : List.of(dataFileName, infoFileName)) {
+			Path path = Paths.get(groupFileName);
+			boolean exists = Files.exists(path);
+
+			assertThat(exists, equalTo(true));
+
+			String expectedFileName = groupFileName.replace("/actual/", "/expected/");
+			String expectedContent = Files.readString(Paths.get(expectedFileName));
+			String actualContent = Files.readString(path);
+
+			assertThat(actualContent, equalTo(expectedContent));
+		}
+	}
+
+	@Test
+	void shouldBuildExpectedOpenApiFileWithReusedEngine() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + ENGINE_DIRECTORY + OUTPUT_FILE_NAME_WITH_GENERATE;
+		Path path = Paths.get(fileName);
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/" + OUTPUT_FILE_NAME_WITH_GENERATE;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+
+		ModelConverters modelConverters;
+		int converterCount;
+		try (SpringDocGeneratorEngine engine = new SpringDocGeneratorEngine()) {
+			modelConverters = ModelConverters.getInstance(engine.isOpenapi31());
+			converterCount = modelConverters.getConverters().size() - engine.getConverters().size();
+			for (int i = 0; i < GENERATIONS; ++i) {
+				Files.deleteIfExists(path);
+
+				GeneratorProperties generatorProperties = getGeneratorProperties(fileName);
+				engine.generate(generatorProperties);
+
+				String actualContent = Files.readString(path);
+
+				assertThat(actualContent, equalTo(expectedContent));
+				assertThat(modelConverters.getConverters().size(), equalTo(converterCount + engine.getConverters().size()));
+			}
+		}
+
+		assertThat(modelConverters.getConverters().size(), equalTo(converterCount));
+	}
+
+	@Test
+	void shouldSerializeTheOpenEngines() throws Exception {
+		int engineConverterCount;
+		Future<Integer> otherEngineConverterCount;
+		try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+			try (SpringDocGeneratorEngine engine = new SpringDocGeneratorEngine()) {
+				engineConverterCount = engine.getConverters().size();
+
+				assertThat(ModelConvertersLock.isLocked(), equalTo(true));
+				assertThrows(IllegalStateException.class, SpringDocGeneratorEngine::new);
+
+				otherEngineConverterCount = executor.submit(() -> {
+					try (SpringDocGeneratorEngine otherEngine = new SpringDocGeneratorEngine()) {
+						return ModelConverters.getInstance(otherEngine.isOpenapi31()).getConverters().size();
+					}
+				});
+
+				assertThrows(TimeoutException.class, () -> otherEngineConverterCount.get(ENGINE_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+			}
+			int otherCount = otherEngineConverterCount.get();
+			int converterCount = ModelConverters.getInstance(false).getConverters().size();
+
+			assertThat(otherCount, equalTo(converterCount + engineConverterCount));
+		}
+		assertThat(ModelConvertersLock.isLocked(), equalTo(false));
+	}
+
+	@Test
+	void shouldBuildExpectedOpenApiFileWithSchemaCache() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + SCHEMA_CACHE_DIRECTORY + OUTPUT_FILE_NAME_WITH_GENERATE;
+		Path path = Paths.get(fileName);
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/" + OUTPUT_FILE_NAME_WITH_GENERATE;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+
+		Path cacheDirectory = Paths.get(currentDirectory + SCHEMA_CACHE_BUILD_DIRECTORY);
+		if (Files.exists(cacheDirectory)) {
+			try (Stream<Path> files = Files.list(cacheDirectory)) {
+				for (Path file : files.toList()) {
+					Files.delete(file);
+				}
+			}
+		}
+
+		// the first generation fills the cache and the second one reads the dependency schemas from it
+		for (int i = 0; i < 2; ++i) {
+			Files.deleteIfExists(path);
+
+			GeneratorProperties generatorProperties = getGeneratorProperties(fileName);
+			GeneratorProperties.SchemaCache schemaCache = new GeneratorProperties.SchemaCache();
+			schemaCache.setEnabled(true);
+			schemaCache.setDirectory(cacheDirectory.toString());
+			schemaCache.setMaxEntries(SCHEMA_CACHE_MAX_ENTRIES);
+			generatorProperties.setSchemaCache(schemaCache);
+			OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+			String actualContent = Files.readString(path);
+
+			assertThat(actualContent, equalTo(expectedContent));
+		}
+
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			assertThat(files.findAny().isPresent(), equalTo(true));
+		}
+	}
+
+	@Test
+	void shouldBuildExpectedOpenApiFileWithFragmentCache() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + FRAGMENT_CACHE_DIRECTORY + OUTPUT_FILE_NAME_WITH_GENERATE;
+		Path path = Paths.get(fileName);
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/" + OUTPUT_FILE_NAME_WITH_GENERATE;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+
+		Path cacheDirectory = Paths.get(currentDirectory + FRAGMENT_CACHE_BUILD_DIRECTORY);
+		if (Files.exists(cacheDirectory)) {
+			try (Stream<Path> files = Files.list(cacheDirectory)) {
+				for (Path file : files.toList()) {
+					Files.delete(file);
+				}
+			}
+		}
+
+		// the first generation builds and caches all the fragments and the second one merges them from the cache
+		for (int i = 0; i < 2; ++i) {
+			Files.deleteIfExists(path);
+
+			GeneratorProperties generatorProperties = getGeneratorProperties(fileName);
+			GeneratorProperties.FragmentCache fragmentCache = new GeneratorProperties.FragmentCache();
+			fragmentCache.setEnabled(true);
+			fragmentCache.setDirectory(cacheDirectory.toString());
+			fragmentCache.setMaxEntries(FRAGMENT_CACHE_MAX_ENTRIES);
+			generatorProperties.setFragmentCache(fragmentCache);
+			OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+			String actualContent = Files.readString(path);
+
+			assertThat(actualContent, equalTo(expectedContent));
+		}
+
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			assertThat(files.findAny().isPresent(), equalTo(true));
+		}
+	}
+
+	@Test
+	void shouldBuildSameOpenApiFileInAllJavadocModes() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_JAVADOC;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+
+		Path indexFile = Paths.get(currentDirectory + JAVADOC_INDEX_FILE);
+		Files.deleteIfExists(indexFile);
+
+		// the precomputed mode is run twice, the first generation builds the index file and the second one maps it
+		for (JavadocMode javadocMode : List.of(JavadocMode.RUNTIME, JavadocMode.CACHED, JavadocMode.PRECOMPUTED, JavadocMode.PRECOMPUTED)) {
+			String fileName = currentDirectory + "/src/test/resources/actual/" + JAVADOC_DIRECTORY + javadocMode + "-" + OUTPUT_FILE_NAME_FOR_JAVADOC;
+			Path path = Paths.get(fileName);
+			Files.deleteIfExists(path);
+
+			GeneratorProperties generatorProperties = new GeneratorProperties();
+			generatorProperties.setPackagesToScan("org.oogp.javadoc");
+			generatorProperties.setOutputFile(fileName);
+			generatorProperties.setJavadocMode(javadocMode.value());
+			generatorProperties.setJavadocIndexFile(indexFile.toString());
+			OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+			String actualContent = Files.readString(path);
+
+			assertThat(actualContent, equalTo(expectedContent));
+		}
+
+		assertThat(Files.exists(indexFile), equalTo(true));
+	}
+
+	@Test
+	void shouldBuildOpenApiFileWithoutJavadoc() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + JAVADOC_DIRECTORY + OUTPUT_FILE_NAME_FOR_JAVADOC_OFF;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.javadoc");
+		generatorProperties.setOutputFile(fileName);
+		generatorProperties.setJavadocMode(JavadocMode.OFF.value());
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_JAVADOC_OFF;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldBuildOpenApiFileWithSchemaStubsWhenLimitsAreReached() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + SCHEMA_LIMITS_DIRECTORY + OUTPUT_FILE_NAME_FOR_SCHEMA_LIMITS;
+		String reportFileName = currentDirectory + "/src/test/resources/actual/" + SCHEMA_LIMITS_DIRECTORY + REPORT_FILE_NAME_FOR_SCHEMA_LIMITS;
+		Path path = Paths.get(fileName);
+		Path reportPath = Paths.get(reportFileName);
+		Files.deleteIfExists(path);
+		Files.deleteIfExists(reportPath);
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.limits");
+		generatorProperties.setOutputFile(fileName);
+		GeneratorProperties.SchemaLimits schemaLimits = new GeneratorProperties.SchemaLimits();
+		schemaLimits.setEnabled(true);
+		schemaLimits.setMaxDepth(SCHEMA_LIMITS_MAX_DEPTH);
+		schemaLimits.setMaxTypes(SCHEMA_LIMITS_MAX_TYPES);
+		schemaLimits.setReportFile(reportFileName);
+		generatorProperties.setSchemaLimits(schemaLimits);
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		for (Path actualPath : List.of(path, reportPath)) {
+			String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + actualPath.getFileName();
+			String expectedContent = Files.readString(Paths.get(expectedFileName));
+			String actualContent = Files.readString(actualPath);
+
+			assertThat(actualContent, equalTo(expectedContent));
+		}
+	}
+
+	@Test
+	void shouldBuildTheSameSchemaStubsInParallelInGroupsAndInBatches() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + SCHEMA_STUBS_DIRECTORY + OUTPUT_FILE_NAME_FOR_SCHEMA_STUBS;
+		String allFileName = fileName.replace(".yaml", "-" + ALL_GROUP + ".yaml");
+		String companyFileName = fileName.replace(".yaml", "-" + COMPANY_GROUP + ".yaml");
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_SCHEMA_STUBS;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+
+		Map<String, Consumer<GeneratorProperties>> configurations = Map.of(
+				fileName, _ -> {
+					// sequential build
+				},
+				fileName.replace(".yaml", "-parallel.yaml"), properties -> properties.setParallelism(PARALLELISM),
+				allFileName, properties -> {
+					GeneratorProperties.Group allGroup = new GeneratorProperties.Group();
+					allGroup.setName(ALL_GROUP);
+					allGroup.setOutputFile(allFileName);
+					allGroup.setPathsToMatch(List.of("/api/test/stubs/**"));
+					GeneratorProperties.Group companyGroup = new GeneratorProperties.Group();
+					companyGroup.setName(COMPANY_GROUP);
+					companyGroup.setOutputFile(companyFileName);
+					companyGroup.setPathsToMatch(List.of("/api/test/stubs/company/**"));
+					properties.setGroups(List.of(allGroup, companyGroup));
+					properties.setParallelism(PARALLELISM);
+				},
+				fileName.replace(".yaml", "-batch.yaml"), properties -> {
+					GeneratorProperties.Batch batch = new GeneratorProperties.Batch();
+					batch.setEnabled(true);
+					batch.setSize(BATCH_SIZE);
+					properties.setBatch(batch);
+					GeneratorProperties.FragmentCache fragmentCache = new GeneratorProperties.FragmentCache();
+					fragmentCache.setEnabled(true);
+					fragmentCache.setDirectory(currentDirectory + SCHEMA_STUBS_FRAGMENT_CACHE_BUILD_DIRECTORY);
+					fragmentCache.setMaxEntries(FRAGMENT_CACHE_MAX_ENTRIES);
+					properties.setFragmentCache(fragmentCache);
+					properties.setParallelism(PARALLELISM);
+				});
+
+		for (Map.Entry<String, Consumer<GeneratorProperties>> configuration : configurations.entrySet()) {
+			Path path = Paths.get(configuration.getKey());
+			Files.deleteIfExists(path);
+
+			GeneratorProperties generatorProperties = new GeneratorProperties();
+			generatorProperties.setPackagesToScan("org.oogp.stubs");
+			generatorProperties.setOutputFile(configuration.getKey());
+			GeneratorProperties.SchemaLimits schemaLimits = new GeneratorProperties.SchemaLimits();
+			schemaLimits.setEnabled(true);
+			schemaLimits.setMaxDepth(SCHEMA_LIMITS_MAX_DEPTH);
+			schemaLimits.setMaxTypes(SCHEMA_LIMITS_MAX_TYPES);
+			schemaLimits.setReportFile(configuration.getKey().replace(".yaml", ".txt"));
+			generatorProperties.setSchemaLimits(schemaLimits);
+			configuration.getValue().accept(generatorProperties);
+			OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+			String actualContent = Files.readString(path);
+
+			assertThat(actualContent, equalTo(expectedContent));
+		}
+	}
+
+	@Test
+	void shouldBuildOpenApiFileVariantsFromOneModel() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + VARIANTS_DIRECTORY + OUTPUT_FILE_NAME_FOR_VARIANTS;
+		List<String> fileNames = List.of(fileName,
+				GeneratorProperties.outputFileWithName(fileName, FRENCH_VARIANT),
+				GeneratorProperties.outputFileWithName(fileName, INTERNAL_VARIANT));
+		for (String variantFileName : fileNames) {
+			Files.deleteIfExists(Paths.get(variantFileName));
+		}
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.variant");
+		generatorProperties.setOutputFile(fileName);
+		generatorProperties.setMessages("org.oogp.variant.messages");
+		generatorProperties.setExtensions(Map.of("x-audience", "public"));
+
+		GeneratorProperties.Variant frenchVariant = new GeneratorProperties.Variant();
+		frenchVariant.setName(FRENCH_VARIANT);
+		frenchVariant.setLocale("fr");
+		GeneratorProperties.Server frenchServer = new GeneratorProperties.Server();
+		frenchServer.setUrl("https://api.example.fr");
+		frenchVariant.setServers(List.of(frenchServer));
+		GeneratorProperties.OAuth2 oAuth2 = new GeneratorProperties.OAuth2();
+		oAuth2.setEnabled(true);
+		oAuth2.setAuthorizationUrl("https://login.example.fr/authorize");
+		frenchVariant.setOauth2(oAuth2);
+
+		GeneratorProperties.Variant internalVariant = new GeneratorProperties.Variant();
+		internalVariant.setName(INTERNAL_VARIANT);
+		internalVariant.setExtensions(Map.of("x-audience", "internal"));
+		generatorProperties.setVariants(List.of(frenchVariant, internalVariant));
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		for (String variantFileName : fileNames) {
+			Path path = Paths.get(variantFileName);
+			String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + path.getFileName();
+			String expectedContent = Files.readString(Paths.get(expectedFileName));
+			String actualContent = Files.readString(path);
+
+			assertThat(actualContent, equalTo(expectedContent));
+		}
+	}
+
+	@Test
+	void shouldBuildOpenApiFileInBatches() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + BATCH_DIRECTORY + OUTPUT_FILE_NAME_FOR_BATCH;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = getGeneratorProperties(fileName);
+		GeneratorProperties.Batch batch = new GeneratorProperties.Batch();
+		batch.setEnabled(true);
+		batch.setSize(BATCH_SIZE);
+		generatorProperties.setBatch(batch);
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		boolean exists = Files.exists(path);
+
+		assertThat(exists, equalTo(true));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_BATCH;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldRunConfiguredPathItemCustomizers() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + CUSTOMIZERS_DIRECTORY + OUTPUT_FILE_NAME_FOR_CUSTOMIZERS;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.customizer.controller");
+		generatorProperties.setOutputFile(fileName);
+		generatorProperties.setParallelism(PARALLELISM);
+		generatorProperties.setCustomizers(List.of(PathExtensionCustomizer.class.getName(), PathIndexCustomizer.class.getName()));
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		boolean exists = Files.exists(path);
+
+		assertThat(exists, equalTo(true));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_CUSTOMIZERS;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldReadJakartaResourcesDeclaredByTheApplication() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_APPLICATION;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+
+		for (int parallelism : List.of(1, PARALLELISM)) {
+			String fileName = currentDirectory + "/src/test/resources/actual/" + JAKARTA_DIRECTORY + parallelism + "/"
+					+ OUTPUT_FILE_NAME_FOR_APPLICATION;
+			Path path = Paths.get(fileName);
+			Files.deleteIfExists(path);
+
+			GeneratorProperties generatorProperties = new GeneratorProperties();
+			generatorProperties.setPackagesToScan("org.oogp.jaxrs.application");
+			generatorProperties.setOutputFile(fileName);
+			generatorProperties.setJakartaDiscovery(APPLICATION_DISCOVERY);
+			generatorProperties.setParallelism(parallelism);
+			OpenApiSpecJakartaGenerator.generate(generatorProperties);
+
+			boolean exists = Files.exists(path);
+
+			assertThat(exists, equalTo(true));
+
+			String actualContent = Files.readString(path);
+
+			assertThat(actualContent, equalTo(expectedContent));
+		}
+	}
+
+	@Test
+	void shouldScanJakartaPathResourcesWhenThereIsNoApplication() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + JAKARTA_DIRECTORY + OUTPUT_FILE_NAME_FOR_PATH_SCAN;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.jaxrs.path");
+		generatorProperties.setOutputFile(fileName);
+		generatorProperties.setJakartaDiscovery(APPLICATION_DISCOVERY);
+		generatorProperties.setParallelism(PARALLELISM);
+		OpenApiSpecJakartaGenerator.generate(generatorProperties);
+
+		boolean exists = Files.exists(path);
+
+		assertThat(exists, equalTo(true));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_PATH_SCAN;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldMergeSpringControllersAndJakartaResourcesOfAutoProjects() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + AUTO_DIRECTORY + OUTPUT_FILE_NAME_FOR_AUTO;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.mixed");
+		generatorProperties.setOutputFile(fileName);
+		generatorProperties.setProjectType(AUTO_PROJECT_TYPE);
+		OpenApiGenerator.generate(generatorProperties);
+
+		boolean exists = Files.exists(path);
+
+		assertThat(exists, equalTo(true));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_AUTO;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+	}
+
+	@Test
+	void shouldWriteSeparateDefinitionsForAutoProjects() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + AUTO_DIRECTORY + OUTPUT_FILE_NAME_FOR_AUTO_SEPARATE;
+		String jakartaFileName = currentDirectory + "/src/test/resources/actual/" + AUTO_DIRECTORY + OUTPUT_FILE_NAME_FOR_AUTO_SEPARATE_JAKARTA;
+		Files.deleteIfExists(Paths.get(fileName));
+		Files.deleteIfExists(Paths.get(jakartaFileName));
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.mixed");
+		generatorProperties.setOutputFile(fileName);
+		generatorProperties.setProjectType(AUTO_PROJECT_TYPE);
+		generatorProperties.setAutoOutput(SEPARATE_AUTO_OUTPUT);
+		OpenApiGenerator.generate(generatorProperties);
+
+		for (String outputFileName : List.of(OUTPUT_FILE_NAME_FOR_AUTO_SEPARATE, OUTPUT_FILE_NAME_FOR_AUTO_SEPARATE_JAKARTA)) {
+			Path path = Paths.get(currentDirectory + "/src/test/resources/actual/" + AUTO_DIRECTORY + outputFileName);
+			boolean exists = Files.exists(path);
+
+			assertThat(exists, equalTo(true));
+
+			String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + outputFileName;
+			String expectedContent = Files.readString(Paths.get(expectedFileName));
+			String actualContent = Files.readString(path);
+
+			assertThat(actualContent, equalTo(expectedContent));
+		}
+	}
+
+	@Test
+	void shouldSummarizeTheStreamedOpenApiDefinition() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		String fileName = currentDirectory + WRITER_BUILD_FILE;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		OpenAPI openAPI = new OpenAPI()
+				.info(new Info().title("Summary").version("v1"))
+				.paths(new io.swagger.v3.oas.models.Paths()
+						.addPathItem("/items", new PathItem().get(new Operation().operationId("getItems")))
+						.addPathItem("/items/{itemId}", new PathItem().get(new Operation().operationId("getItem"))));
+		OpenApiWriter.Summary summary = OpenApiWriter.write(openAPI, fileName, false, YamlWriter.JACKSON);
+
+		assertThat(summary.bytes(), equalTo(Files.size(path)));
+		assertThat(summary.paths(), equalTo(2));
+		assertThat(summary.sha256(), equalTo(Digests.sha256(path)));
+		assertThat(Files.readString(path), equalTo(Yaml.pretty(openAPI)));
+	}
+
+	@Test
+	void shouldReplaceTheOpenApiDefinitionOnlyWhenItChanged() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		String fileName = currentDirectory + WRITE_IF_CHANGED_BUILD_FILE;
+		Path path = Paths.get(fileName);
+		Path hashPath = OpenApiWriter.hashFile(path);
+		Files.deleteIfExists(path);
+		Files.deleteIfExists(hashPath);
+
+		OpenAPI openAPI = new OpenAPI()
+				.info(new Info().title("Changed").version("v1"))
+				.paths(new io.swagger.v3.oas.models.Paths()
+						.addPathItem("/items", new PathItem().get(new Operation().operationId("getItems"))));
+		OpenApiWriter.Summary created = OpenApiWriter.write(openAPI, fileName, false, YamlWriter.JACKSON);
+		FileTime createdTime = FileTime.fromMillis(0);
+		Files.setLastModifiedTime(path, createdTime);
+
+		assertThat(created.changed(), equalTo(true));
+		assertThat(Files.readString(hashPath), equalTo(created.sha256() + "  " + path.getFileName() + "\n"));
+
+		OpenApiWriter.Summary unchanged = OpenApiWriter.write(openAPI, fileName, false, YamlWriter.JACKSON);
+
+		assertThat(unchanged.changed(), equalTo(false));
+		assertThat(unchanged.sha256(), equalTo(created.sha256()));
+		assertThat(Files.getLastModifiedTime(path), equalTo(createdTime));
+
+		openAPI.getInfo().setVersion("v2");
+		OpenApiWriter.Summary changed = OpenApiWriter.write(openAPI, fileName, false, YamlWriter.JACKSON);
+
+		assertThat(changed.changed(), equalTo(true));
+		assertThat(changed.sha256(), equalTo(Digests.sha256(path)));
+		assertThat(Files.readString(hashPath), equalTo(changed.sha256() + "  " + path.getFileName() + "\n"));
+		assertThat(Files.readString(path), equalTo(Yaml.pretty(openAPI)));
+		try (Stream<Path> files = Files.list(path.getParent())) {
+			assertThat(files.noneMatch(file -> file.toString().endsWith(".tmp")), equalTo(true));
+		}
+	}
+
+	@Test
+	void shouldWriteTheOpenApiDefinitionWithTheDefaultPermissions() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		String fileName = currentDirectory + PERMISSIONS_BUILD_FILE;
+		Path path = Paths.get(fileName);
+		Path hashPath = OpenApiWriter.hashFile(path);
+		Files.createDirectories(path.getParent());
+		assumeTrue(Files.getFileStore(path.getParent()).supportsFileAttributeView(PosixFileAttributeView.class));
+		Files.deleteIfExists(path);
+		Files.deleteIfExists(hashPath);
+		Path referencePath = path.resolveSibling("reference.txt");
+		Files.deleteIfExists(referencePath);
+		Set<PosixFilePermission> defaultPermissions = Files.getPosixFilePermissions(Files.createFile(referencePath));
+
+		OpenAPI openAPI = new OpenAPI()
+				.info(new Info().title("Permissions").version("v1"))
+				.paths(new io.swagger.v3.oas.models.Paths()
+						.addPathItem("/items", new PathItem().get(new Operation().operationId("getItems"))));
+		OpenApiWriter.write(openAPI, fileName, false, YamlWriter.JACKSON);
+
+		assertThat(Files.getPosixFilePermissions(path), equalTo(defaultPermissions));
+		assertThat(Files.getPosixFilePermissions(hashPath), equalTo(defaultPermissions));
+
+		Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+		Files.setPosixFilePermissions(path, permissions);
+		openAPI.getInfo().setVersion("v2");
+		OpenApiWriter.Summary changed = OpenApiWriter.write(openAPI, fileName, false, YamlWriter.JACKSON);
+
+		assertThat(changed.changed(), equalTo(true));
+		assertThat(Files.getPosixFilePermissions(path), equalTo(permissions));
+	}
+
+	@Test
+	void shouldEmitYamlSemanticallyEqualToJackson() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		Path expectedDirectory = Paths.get(currentDirectory + "/src/test/resources/expected");
+		List<Path> expectedFiles;
+		try (Stream<Path> files = Files.walk(expectedDirectory)) {
+			expectedFiles = files.filter(file -> file.toString().endsWith(".yaml")).sorted().toList();
+		}
+		for (Path expectedFile : expectedFiles) {
+			String content = Files.readString(expectedFile);
+			boolean isOpenapi31 = content.startsWith("openapi: 3.1");
+			OpenAPI openAPI = (isOpenapi31 ? Yaml31.mapper() : Yaml.mapper()).readValue(content, OpenAPI.class);
+
+			assertYamlRoundTrip(currentDirectory, expectedFile.getFileName().toString(), openAPI, isOpenapi31);
+		}
+
+		OpenAPI openAPI = new OpenAPI()
+				.info(new Info().title("").version("1.0").description("line\nbreak\ttab \"quoted\" \\ back: slash # not a comment"))
+				.paths(new io.swagger.v3.oas.models.Paths()
+						.addPathItem("/items/{itemId}", new PathItem()
+								.summary(" leading and trailing ")
+								.description("unicode \u00e9\u4e2d\ud83d\ude00 \u0001 \u2028")
+								.get(new Operation()
+										.operationId("yes")
+										.tags(List.of("null", "~", "-dash", "*/*", "200", "1.5", "on", "a: b", "a #b", "key:", "<<", "@at", "%pct"))
+										.responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK"))))));
+
+		assertYamlRoundTrip(currentDirectory, "strings.yaml", openAPI, false);
+	}
+
+	@Test
+	@Tag(BENCHMARK_TAG)
+	void shouldReportTheYamlWriterTimes(final TestReporter testReporter) throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		io.swagger.v3.oas.models.Paths paths = new io.swagger.v3.oas.models.Paths();
+		for (int i = 0; i < BENCHMARK_PATHS; ++i) {
+			paths.addPathItem("/api/benchmark/item" + i + "/{itemId}", new PathItem()
+					.get(new Operation()
+							.operationId("getItem" + i)
+							.description("Returns the item " + i + ": the item with the given id")
+							.addParametersItem(new Parameter().name("itemId").in("path").required(true).schema(new StringSchema()))
+							.responses(new ApiResponses()
+									.addApiResponse("200", new ApiResponse().description("OK"))
+									.addApiResponse("404", new ApiResponse().description("Not found")))));
+		}
+		OpenAPI openAPI = new OpenAPI().info(new Info().title("Benchmark").version("v1")).paths(paths);
+
+		long jacksonNanos = Long.MAX_VALUE;
+		long directNanos = Long.MAX_VALUE;
+		for (int i = 0; i < BENCHMARK_RUNS; ++i) {
+			long start = System.nanoTime();
+			OpenApiWriter.write(openAPI, currentDirectory + YAML_EMITTER_BUILD_DIRECTORY + "benchmark-jackson.yaml", false, YamlWriter.JACKSON);
+			jacksonNanos = Math.min(jacksonNanos, System.nanoTime() - start);
+			start = System.nanoTime();
+			OpenApiWriter.Summary summary = OpenApiWriter.write(openAPI, currentDirectory + YAML_EMITTER_BUILD_DIRECTORY + "benchmark-direct.yaml",
+					false, YamlWriter.DIRECT);
+			directNanos = Math.min(directNanos, System.nanoTime() - start);
+
+			assertThat(summary.paths(), equalTo(BENCHMARK_PATHS));
+		}
+
+		testReporter.publishEntry(Map.of(
+				"jacksonMillis", String.valueOf(jacksonNanos / 1_000_000),
+				"directMillis", String.valueOf(directNanos / 1_000_000)));
+	}
+
+	@Test
+	void shouldWriteEveryOutputTargetFromOneModel() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String directory = currentDirectory + "/src/test/resources/actual/" + OUTPUTS_DIRECTORY;
+		for (String outputFileName : OUTPUT_FILE_NAMES_FOR_OUTPUTS) {
+			Files.deleteIfExists(Paths.get(directory + outputFileName));
+		}
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.output");
+		generatorProperties.setOutputFile(directory + OUTPUT_FILE_NAME_FOR_OUTPUTS);
+		generatorProperties.setOutputs(List.of(output("yaml", "3.0"), output("json", "3.0"), output("json", "3.1")));
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		for (String outputFileName : OUTPUT_FILE_NAMES_FOR_OUTPUTS) {
+			Path path = Paths.get(directory + outputFileName);
+			boolean exists = Files.exists(path);
+
+			assertThat(exists, equalTo(true));
+
+			String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + outputFileName;
+			String expectedContent = Files.readString(Paths.get(expectedFileName));
+			String actualContent = Files.readString(path);
+
+			assertThat(actualContent, equalTo(expectedContent));
+		}
+
+		JsonNode yaml31 = Yaml.mapper().readTree(Paths.get(directory + "outputs.yaml").toFile());
+		JsonNode json31 = Json.mapper().readTree(Paths.get(directory + "outputs-3.1.json").toFile());
+		JsonNode yaml30 = Yaml.mapper().readTree(Paths.get(directory + "outputs-3.0.yaml").toFile());
+		JsonNode json30 = Json.mapper().readTree(Paths.get(directory + "outputs-3.0.json").toFile());
+
+		assertThat(json31, equalTo(yaml31));
+		assertThat(json30, equalTo(yaml30));
+
+		OpenAPI openAPI30 = Yaml.mapper().readValue(Paths.get(directory + "outputs-3.0.yaml").toFile(), OpenAPI.class);
+		JsonNode converted31 = Yaml.mapper().readTree(Yaml31.mapper().writeValueAsString(OpenApiVersions.convert(openAPI30, OpenApiVersion.V30,
+				OpenApiVersion.V31)));
+
+		assertThat(converted31, equalTo(yaml31));
+	}
+
+	@Test
+	void shouldWriteCanonicalOpenApiFileWithContentHashes() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		System.setProperty("project.build.outputDirectory", currentDirectory + "/target/test-classes");
+
+		String fileName = currentDirectory + "/src/test/resources/actual/" + CANONICAL_DIRECTORY + OUTPUT_FILE_NAME_FOR_CANONICAL;
+		Path path = Paths.get(fileName);
+		Files.deleteIfExists(path);
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		generatorProperties.setPackagesToScan("org.oogp.variant");
+		generatorProperties.setOutputFile(fileName);
+		GeneratorProperties.Canonical canonical = new GeneratorProperties.Canonical();
+		canonical.setEnabled(true);
+		canonical.setHashes("extensions");
+		generatorProperties.setCanonical(canonical);
+		OpenApiSpecSpringDocGenerator.generate(generatorProperties);
+
+		boolean exists = Files.exists(path);
+
+		assertThat(exists, equalTo(true));
+
+		String expectedFileName = currentDirectory + "/src/test/resources/expected/isolated/" + OUTPUT_FILE_NAME_FOR_CANONICAL;
+		String expectedContent = Files.readString(Paths.get(expectedFileName));
+		String actualContent = Files.readString(path);
+
+		assertThat(actualContent, equalTo(expectedContent));
+
+		OpenAPI openAPI = Yaml31.mapper().readValue(actualContent, OpenAPI.class);
+		OpenApiCanonicalizer.Hashes hashes = OpenApiCanonicalizer.hash(openAPI, true);
+
+		assertThat(List.copyOf(openAPI.getPaths().keySet()), equalTo(openAPI.getPaths().keySet().stream().sorted().toList()));
+		openAPI.getPaths().forEach((pathName, pathItem) -> {
+			assertThat(pathItem.getExtensions().get(OpenApiCanonicalizer.HASH_EXTENSION), equalTo(hashes.paths().get(pathName)));
+			pathItem.readOperationsMap().forEach((method, operation) -> assertThat(operation.getExtensions().get(OpenApiCanonicalizer.HASH_EXTENSION),
+					equalTo(hashes.operations().get(method + " " + pathName))));
+		});
+	}
+
+	@Test
+	void shouldChangeOnlyTheContentHashesOfTheChangedParts() throws IOException {
+		String currentDirectory = Paths.get("").toAbsolutePath().toString();
+		String fileName = currentDirectory + CONTENT_HASHES_BUILD_FILE;
+		Path hashesPath = Paths.get(OpenApiWriter.contentHashesFile(fileName));
+		Files.deleteIfExists(hashesPath);
+
+		GeneratorProperties generatorProperties = new GeneratorProperties();
+		GeneratorProperties.Canonical canonical = new GeneratorProperties.Canonical();
+		canonical.setEnabled(true);
+		canonical.setHashes("sidecar");
+		generatorProperties.setCanonical(canonical);
+
+		OpenAPI openAPI = new OpenAPI()
+				.info(new Info().title("Hashes").version("v1"))
+				.paths(new io.swagger.v3.oas.models.Paths()
+						.addPathItem("/orders", new PathItem().get(new Operation().operationId("getOrders")))
+						.addPathItem("/items", new PathItem()
+								.get(new Operation().operationId("getItems"))
+								.post(new Operation().operationId("addItem"))));
+		OpenApiWriter.write(openAPI, fileName, false, generatorProperties);
+		JsonNode before = Json.mapper().readTree(hashesPath.toFile());
+
+		assertThat(List.copyOf(openAPI.getPaths().keySet()), equalTo(List.of("/items", "/orders")));
+
+		openAPI.getPaths().get("/items").getPost().setSummary("Adds an item");
+		OpenApiWriter.write(openAPI, fileName, false, generatorProperties);
+		JsonNode after = Json.mapper().readTree(hashesPath.toFile());
+
+		assertThat(after.get("operations").get("GET /items"), equalTo(before.get("operations").get("GET /items")));
+		assertThat(after.get("operations").get("GET /orders"), equalTo(before.get("operations").get("GET /orders")));
+		assertThat(after.get("paths").get("/orders"), equalTo(before.get("paths").get("/orders")));
+		assertThat(after.get("operations").get("POST /items").equals(before.get("operations").get("POST /items")), equalTo(false));
+		assertThat(after.get("paths").get("/items").equals(before.get("paths").get("/items")), equalTo(false));
+		assertThat(after.get("root").equals(before.get("root")), equalTo(false));
+	}
+
+	private static GeneratorProperties.Output output(final String format, final String version) {
+		GeneratorProperties.Output output = new GeneratorProperties.Output();
+		output.setFormat(format);
+		output.setVersion(version);
+		return output;
+	}
+
+	private static void assertYamlRoundTrip(final String currentDirectory, final String fileName, final OpenAPI openAPI,
+			final boolean isOpenapi31) throws IOException {
+		String jacksonFileName = currentDirectory + YAML_EMITTER_BUILD_DIRECTORY + "jackson-" + fileName;
+		String directFileName = currentDirectory + YAML_EMITTER_BUILD_DIRECTORY + "direct-" + fileName;
+		OpenApiWriter.write(openAPI, jacksonFileName, isOpenapi31, YamlWriter.JACKSON);
+		OpenApiWriter.write(openAPI, directFileName, isOpenapi31, YamlWriter.DIRECT);
+
+		JsonNode jacksonTree = Yaml.mapper().readTree(Paths.get(jacksonFileName).toFile());
+		JsonNode directTree = Yaml.mapper().readTree(Paths.get(directFileName).toFile());
+
+		assertThat(fileName, directTree, equalTo(jacksonTree));
+	}
 }
@@ -0,0 +1,140 @@
+package org.oogp;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+
+/**
+ * Test class for {@link OpenApiVersions}.
+ *
+ * @author raduking
+ */
+class OpenApiVersionsTest {
+
+	private static final String OPENAPI_31 = """
+			{
+			  "openapi": "3.1.0",
+			  "info": { "title": "Versions", "version": "1.0" },
+			  "webhooks": { "created": { "post": { "responses": { "200": { "description": "OK" } } } } },
+			  "paths": {
+			    "/items": {
+			      "get": {
+			        "parameters": [ {
+			          "name": "kind",
+			          "in": "query",
+			          "schema": { "type": "string", "const": "book" },
+			          "examples": { "book": { "value": "book" } }
+			        } ],
+			        "responses": { "200": { "description": "OK" } }
+			      }
+			    }
+			  },
+			  "components": {
+			    "schemas": {
+			      "Item": {
+			        "type": "object",
+			        "properties": {
+			          "id": { "type": [ "string", "integer" ] },
+			          "name": { "type": [ "string", "null" ], "examples": [ "first", "second" ] },
+			          "value": { "type": [ "string", "integer", "null" ], "anyOf": [ { "minLength": 1 }, { "minimum": 1 } ] },
+			          "data": { "type": "string", "contentEncoding": "base64" },
+			          "file": { "type": "string", "contentMediaType": "application/octet-stream" },
+			          "text": { "type": "string", "contentMediaType": "text/plain" },
+			          "const": { "type": "string", "const": "fixed" }
+			        },
+			        "if": { "required": [ "id" ] },
+			        "then": { "required": [ "name" ] },
+			        "dependentSchemas": { "file": { "required": [ "data" ] } }
+			      }
+			    }
+			  }
+			}
+			""";
+
+	@Test
+	void shouldConvertTheMultipleTypesToAnyOf() throws JsonProcessingException {
+		JsonNode properties = convert().at("/components/schemas/Item/properties");
+
+		assertThat(properties.get("id"), equalTo(json("""
+				{ "anyOf": [ { "type": "string" }, { "type": "integer" } ] }
+				""")));
+		assertThat(properties.get("name").get("type").asText(), equalTo("string"));
+		assertThat(properties.get("name").get("nullable").asBoolean(), equalTo(true));
+		assertThat(properties.get("value").get("allOf"), equalTo(json("""
+				[ { "anyOf": [ { "type": "string" }, { "type": "integer" } ] } ]
+				""")));
+		assertThat(properties.get("value").get("nullable").asBoolean(), equalTo(true));
+		assertThat(properties.get("value").has("type"), equalTo(false));
+	}
+
+	@Test
+	void shouldConvertTheConstantsAndTheSchemaExamples() throws JsonProcessingException {
+		JsonNode tree = convert();
+		JsonNode properties = tree.at("/components/schemas/Item/properties");
+		JsonNode parameter = tree.at("/paths/~1items/get/parameters/0");
+
+		assertThat(properties.get("const"), equalTo(json("""
+				{ "type": "string", "enum": [ "fixed" ] }
+				""")));
+		assertThat(properties.get("name").get("example").asText(), equalTo("first"));
+		assertThat(properties.get("name").has("examples"), equalTo(false));
+		assertThat(parameter.get("schema"), equalTo(json("""
+				{ "type": "string", "enum": [ "book" ] }
+				""")));
+		assertThat(parameter.get("examples"), equalTo(json("""
+				{ "book": { "value": "book" } }
+				""")));
+	}
+
+	@Test
+	void shouldConvertTheContentKeywordsToFormats() throws JsonProcessingException {
+		JsonNode properties = convert().at("/components/schemas/Item/properties");
+
+		assertThat(properties.get("data"), equalTo(json("""
+				{ "type": "string", "format": "byte" }
+				""")));
+		assertThat(properties.get("file"), equalTo(json("""
+				{ "type": "string", "format": "binary" }
+				""")));
+		assertThat(properties.get("text"), equalTo(json("""
+				{ "type": "string" }
+				""")));
+	}
+
+	@Test
+	void shouldRemoveTheConstructsWithoutEquivalent() throws JsonProcessingException {
+		JsonNode tree = convert();
+		JsonNode item = tree.at("/components/schemas/Item");
+
+		assertThat(tree.get("openapi").asText(), equalTo(OpenApiVersion.V30.openapi()));
+		assertThat(tree.has("webhooks"), equalTo(false));
+		assertThat(item.has("if"), equalTo(false));
+		assertThat(item.has("then"), equalTo(false));
+		assertThat(item.has("dependentSchemas"), equalTo(false));
+		assertThat(item.get("type").asText(), equalTo("object"));
+	}
+
+	@Test
+	void shouldReadTheConvertedDefinitionAsOpenApi30() throws JsonProcessingException {
+		OpenAPI openAPI = Json.mapper().treeToValue(convert(), OpenAPI.class);
+
+		assertThat(openAPI.getComponents().getSchemas().get("Item").getProperties().size(), equalTo(7));
+	}
+
+	private static JsonNode convert() throws JsonProcessingException {
+		OpenAPI openAPI = Json31.mapper().readValue(OPENAPI_31, OpenAPI.class);
+		return OpenApiVersions.convert(openAPI, OpenApiVersion.V31, OpenApiVersion.V30);
+	}
+
+	private static JsonNode json(final String content) throws JsonProcessingException {
+		return Json.mapper().readTree(content);
+	}
+}
@@ -0,0 +1,17 @@
+package org.oogp.advice.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/test/advice")
+public class AdviceController {
+
+	@GetMapping("/item/{itemId}")
+	public ResponseEntity<String> getItem(@PathVariable final String itemId) {
+		return ResponseEntity.ok(itemId);
+	}
+}
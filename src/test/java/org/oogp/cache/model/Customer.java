@@ -0,0 +1,5 @@
+package org.oogp.cache.model;
+
+public record Customer(String name, String email) {
+	// empty
+}
@@ -0,0 +1,5 @@
+package org.oogp.cache.model;
+
+public record Order(String id, Customer customer) {
+	// empty
+}
@@ -0,0 +1,27 @@
+package org.oogp.conflict.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/test/conflict")
+public class ConflictController {
+
+	@GetMapping("/item/{itemId}")
+	public ResponseEntity<String> getItem(@PathVariable final String itemId) {
+		return ResponseEntity.ok(itemId);
+	}
+
+	@GetMapping("/item/{itemName}")
+	public ResponseEntity<String> getItemByName(@PathVariable final String itemName) {
+		return ResponseEntity.ok(itemName);
+	}
+
+	@GetMapping("/item/latest")
+	public ResponseEntity<String> getLatestItem() {
+		return ResponseEntity.ok("latest");
+	}
+}
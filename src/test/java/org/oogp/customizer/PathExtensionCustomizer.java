@@ -0,0 +1,21 @@
+package org.oogp.customizer;
+
+import org.oogp.spring.PathItemCustomizer;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+
+public class PathExtensionCustomizer implements PathItemCustomizer {
+
+	@Override
+	public void customize(final String path, final PathItem pathItem) {
+		for (Operation operation : pathItem.readOperations()) {
+			operation.addExtension("x-path", path);
+		}
+	}
+
+	@Override
+	public boolean isParallelSafe() {
+		return true;
+	}
+}
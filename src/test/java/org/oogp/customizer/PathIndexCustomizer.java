@@ -0,0 +1,15 @@
+package org.oogp.customizer;
+
+import org.oogp.spring.PathItemCustomizer;
+
+import io.swagger.v3.oas.models.PathItem;
+
+public class PathIndexCustomizer implements PathItemCustomizer {
+
+	private int index;
+
+	@Override
+	public void customize(final String path, final PathItem pathItem) {
+		pathItem.addExtension("x-index", index++);
+	}
+}
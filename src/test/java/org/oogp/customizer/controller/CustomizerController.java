@@ -0,0 +1,40 @@
+package org.oogp.customizer.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/test/customizer")
+public class CustomizerController {
+
+	@GetMapping("/item")
+	public ResponseEntity<String> getItems() {
+		return ResponseEntity.ok("items");
+	}
+
+	@PostMapping("/item")
+	public ResponseEntity<String> addItem(@RequestBody final String item) {
+		return ResponseEntity.ok(item);
+	}
+
+	@GetMapping("/item/{itemId}")
+	public ResponseEntity<String> getItem(@PathVariable final String itemId) {
+		return ResponseEntity.ok(itemId);
+	}
+
+	@DeleteMapping("/item/{itemId}")
+	public ResponseEntity<Void> deleteItem(@PathVariable final String itemId) {
+		return ResponseEntity.noContent().build();
+	}
+
+	@GetMapping("/item/latest")
+	public ResponseEntity<String> getLatestItem() {
+		return ResponseEntity.ok("latest");
+	}
+}
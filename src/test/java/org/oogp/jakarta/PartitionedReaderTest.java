@@ -0,0 +1,59 @@
+package org.oogp.jakarta;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.oogp.jaxrs.partition.AlphaResource;
+import org.oogp.jaxrs.partition.BetaResource;
+import org.oogp.jaxrs.partition.DeltaResource;
+import org.oogp.jaxrs.partition.GammaResource;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+
+/**
+ * Test class for {@link PartitionedReader}.
+ *
+ * @author raduking
+ */
+class PartitionedReaderTest {
+
+	private static final int PARALLELISM = 4;
+	private static final String NO_APPLICATION_PATH = "";
+
+	@Test
+	void shouldReadTheSameModelInParallelAsSequentially() {
+		Map<Class<?>, String> resources = resources(List.of(DeltaResource.class, GammaResource.class, BetaResource.class, AlphaResource.class));
+
+		OpenAPI sequential = new PartitionedReader(1).read(resources);
+		OpenAPI parallel = new PartitionedReader(PARALLELISM).read(resources);
+
+		assertThat(Json.pretty(parallel), equalTo(Json.pretty(sequential)));
+		assertThat(sequential.getPaths().get("/shared").readOperationsMap().size(), equalTo(3));
+		assertThat(parallel.getPaths().get("/gamma").getGet().getOperationId(), equalTo(sequential.getPaths().get("/gamma").getGet().getOperationId()));
+	}
+
+	@Test
+	void shouldCountTheConflictsOfTheLastRead() {
+		Map<Class<?>, String> resources = resources(List.of(AlphaResource.class, BetaResource.class));
+		PartitionedReader reader = new PartitionedReader(PARALLELISM);
+
+		reader.read(resources);
+		int firstConflicts = reader.getConflicts();
+		reader.read(resources);
+
+		assertThat(firstConflicts, equalTo(1));
+		assertThat(reader.getConflicts(), equalTo(1));
+	}
+
+	private static Map<Class<?>, String> resources(final List<Class<?>> classes) {
+		Map<Class<?>, String> resources = new LinkedHashMap<>();
+		classes.forEach(cls -> resources.put(cls, NO_APPLICATION_PATH));
+		return resources;
+	}
+}
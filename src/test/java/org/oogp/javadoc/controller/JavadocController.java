@@ -0,0 +1,27 @@
+package org.oogp.javadoc.controller;
+
+import org.oogp.javadoc.model.JavadocItem;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller documented only with javadoc.
+ */
+@RestController
+@RequestMapping("/api/test/javadoc")
+public class JavadocController {
+
+	/**
+	 * Returns the item with the given identifier.
+	 *
+	 * @param itemId the item identifier
+	 * @return the found item
+	 */
+	@GetMapping("/item/{itemId}")
+	public ResponseEntity<JavadocItem> getItem(@PathVariable final String itemId) {
+		return ResponseEntity.ok(new JavadocItem(itemId, itemId));
+	}
+}
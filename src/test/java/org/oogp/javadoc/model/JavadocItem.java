@@ -0,0 +1,11 @@
+package org.oogp.javadoc.model;
+
+/**
+ * Item documented only with javadoc.
+ *
+ * @param id the item identifier
+ * @param name the item name
+ */
+public record JavadocItem(String id, String name) {
+	// empty
+}
@@ -0,0 +1,20 @@
+package org.oogp.jaxrs.application;
+
+import java.util.Set;
+
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.core.Application;
+
+@ApplicationPath("/inventory")
+public class InventoryApplication extends Application {
+
+	@Override
+	public Set<Class<?>> getClasses() {
+		return Set.of(ItemResource.class, StockResource.class);
+	}
+
+	@Override
+	public Set<Object> getSingletons() {
+		return Set.of(new WarehouseResource());
+	}
+}
@@ -0,0 +1,30 @@
+package org.oogp.jaxrs.application;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/items")
+@Produces(MediaType.TEXT_PLAIN)
+public class ItemResource {
+
+	@GET
+	public String list() {
+		return "items";
+	}
+
+	@GET
+	@Path("/{itemId}")
+	public String get(@PathParam("itemId") final String itemId) {
+		return itemId;
+	}
+
+	@DELETE
+	@Path("/{itemId}")
+	public void delete(@PathParam("itemId") final String itemId) {
+		// empty
+	}
+}
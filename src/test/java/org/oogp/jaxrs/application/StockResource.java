@@ -0,0 +1,23 @@
+package org.oogp.jaxrs.application;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/stock")
+@Produces(MediaType.TEXT_PLAIN)
+public class StockResource {
+
+	@GET
+	public String list() {
+		return "stock";
+	}
+
+	@GET
+	@Path("/{itemId}")
+	public String get(@PathParam("itemId") final String itemId) {
+		return itemId;
+	}
+}
@@ -0,0 +1,16 @@
+package org.oogp.jaxrs.application;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/unlisted")
+@Produces(MediaType.TEXT_PLAIN)
+public class UnlistedResource {
+
+	@GET
+	public String list() {
+		return "unlisted";
+	}
+}
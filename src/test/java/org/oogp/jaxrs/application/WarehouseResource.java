@@ -0,0 +1,22 @@
+package org.oogp.jaxrs.application;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/warehouses")
+@Produces(MediaType.TEXT_PLAIN)
+public class WarehouseResource {
+
+	@GET
+	public String list() {
+		return "warehouses";
+	}
+
+	@POST
+	public String add(final String warehouse) {
+		return warehouse;
+	}
+}
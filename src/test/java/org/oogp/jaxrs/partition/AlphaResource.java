@@ -0,0 +1,27 @@
+package org.oogp.jaxrs.partition;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/")
+@Produces(MediaType.APPLICATION_JSON)
+public class AlphaResource {
+
+	public record Item(String name) {
+		// empty
+	}
+
+	@GET
+	@Path("shared")
+	public String list() {
+		return "alpha";
+	}
+
+	@GET
+	@Path("alpha")
+	public Item get() {
+		return new Item("alpha");
+	}
+}
@@ -0,0 +1,28 @@
+package org.oogp.jaxrs.partition;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/")
+@Produces(MediaType.APPLICATION_JSON)
+public class BetaResource {
+
+	public record Item(long id) {
+		// empty
+	}
+
+	@POST
+	@Path("shared")
+	public String add(final String value) {
+		return value;
+	}
+
+	@GET
+	@Path("beta")
+	public Item get() {
+		return new Item(1);
+	}
+}
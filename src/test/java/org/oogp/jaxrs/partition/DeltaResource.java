@@ -0,0 +1,25 @@
+package org.oogp.jaxrs.partition;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/shared")
+@Produces(MediaType.TEXT_PLAIN)
+public class DeltaResource {
+
+	@DELETE
+	@Operation(operationId = "list")
+	public String clear() {
+		return "delta";
+	}
+
+	@GET
+	@Path("delta")
+	public String get() {
+		return "delta";
+	}
+}
@@ -0,0 +1,31 @@
+package org.oogp.jaxrs.partition;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/gamma")
+@Produces(MediaType.TEXT_PLAIN)
+public class GammaResource {
+
+	@GET
+	@Operation(operationId = "get")
+	public String fetch() {
+		return "gamma";
+	}
+
+	@GET
+	@Path("{id}")
+	public String get(@PathParam("id") final String id) {
+		return id;
+	}
+
+	@GET
+	@Path("all")
+	public String list() {
+		return "gamma";
+	}
+}
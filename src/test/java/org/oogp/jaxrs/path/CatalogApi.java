@@ -0,0 +1,19 @@
+package org.oogp.jaxrs.path;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/catalog")
+@Produces(MediaType.TEXT_PLAIN)
+public interface CatalogApi {
+
+	@GET
+	String list();
+
+	@GET
+	@Path("/{productId}")
+	String get(@PathParam("productId") String productId);
+}
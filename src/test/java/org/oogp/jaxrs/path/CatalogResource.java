@@ -0,0 +1,14 @@
+package org.oogp.jaxrs.path;
+
+public class CatalogResource implements CatalogApi {
+
+	@Override
+	public String list() {
+		return "catalog";
+	}
+
+	@Override
+	public String get(final String productId) {
+		return productId;
+	}
+}
@@ -0,0 +1,22 @@
+package org.oogp.jaxrs.path;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/orders")
+@Produces(MediaType.TEXT_PLAIN)
+public class OrderResource {
+
+	@GET
+	public String list() {
+		return "orders";
+	}
+
+	@POST
+	public String add(final String order) {
+		return order;
+	}
+}
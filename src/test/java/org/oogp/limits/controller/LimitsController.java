@@ -0,0 +1,24 @@
+package org.oogp.limits.controller;
+
+import org.oogp.limits.model.Company;
+import org.oogp.limits.model.Department;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/test/limits")
+public class LimitsController {
+
+	@GetMapping("/department/{departmentId}")
+	public ResponseEntity<Department> getDepartment(@PathVariable final String departmentId) {
+		return ResponseEntity.ok(new Department(departmentId, null, null));
+	}
+
+	@GetMapping("/company/{companyId}")
+	public ResponseEntity<Company> getCompany(@PathVariable final String companyId) {
+		return ResponseEntity.ok(new Company(companyId, null, null, null, null));
+	}
+}
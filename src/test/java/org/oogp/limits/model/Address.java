@@ -0,0 +1,5 @@
+package org.oogp.limits.model;
+
+public record Address(String street, City city) {
+	// empty
+}
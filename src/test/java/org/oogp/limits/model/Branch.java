@@ -0,0 +1,5 @@
+package org.oogp.limits.model;
+
+public record Branch(String name, Warehouse warehouse) {
+	// empty
+}
@@ -0,0 +1,5 @@
+package org.oogp.limits.model;
+
+public record City(String name, Country country) {
+	// empty
+}
@@ -0,0 +1,5 @@
+package org.oogp.limits.model;
+
+public record Company(String name, Address headquarters, Department department, Country country, Branch branch) {
+	// empty
+}
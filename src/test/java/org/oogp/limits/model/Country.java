@@ -0,0 +1,5 @@
+package org.oogp.limits.model;
+
+public record Country(String name, String code) {
+	// empty
+}
@@ -0,0 +1,7 @@
+package org.oogp.limits.model;
+
+import java.util.List;
+
+public record Department(String name, Employee manager, List<Employee> employees) {
+	// empty
+}
@@ -0,0 +1,5 @@
+package org.oogp.limits.model;
+
+public record Employee(String name, Department department, Address address) {
+	// empty
+}
@@ -0,0 +1,5 @@
+package org.oogp.limits.model;
+
+public record Warehouse(String name, Address address) {
+	// empty
+}
@@ -0,0 +1,22 @@
+package org.oogp.mixed.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/test/mixed/spring")
+public class MixedController {
+
+	@GetMapping("/item")
+	public ResponseEntity<String> getItems() {
+		return ResponseEntity.ok("items");
+	}
+
+	@GetMapping("/item/{itemId}")
+	public ResponseEntity<String> getItem(@PathVariable final String itemId) {
+		return ResponseEntity.ok(itemId);
+	}
+}
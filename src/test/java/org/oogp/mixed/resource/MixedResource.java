@@ -0,0 +1,24 @@
+package org.oogp.mixed.resource;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/api/test/mixed/jakarta")
+@Produces(MediaType.TEXT_PLAIN)
+public class MixedResource {
+
+	@GET
+	@Path("/order")
+	public String getOrders() {
+		return "orders";
+	}
+
+	@GET
+	@Path("/order/{orderId}")
+	public String getOrder(@PathParam("orderId") final String orderId) {
+		return orderId;
+	}
+}
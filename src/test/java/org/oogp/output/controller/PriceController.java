@@ -0,0 +1,18 @@
+package org.oogp.output.controller;
+
+import org.oogp.output.model.Price;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/test/output")
+public class PriceController {
+
+	@GetMapping("/price/{itemId}")
+	public ResponseEntity<Price> getPrice(@PathVariable final String itemId) {
+		return ResponseEntity.ok(new Price());
+	}
+}
@@ -0,0 +1,41 @@
+package org.oogp.output.model;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class Price {
+
+	@Schema(exclusiveMinimumValue = 1)
+	private BigDecimal amount;
+
+	@Schema(types = { "string", "null" })
+	private String currency;
+
+	@Schema(exclusiveMaximumValue = 100)
+	private Integer quantity;
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(final BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public String getCurrency() {
+		return currency;
+	}
+
+	public void setCurrency(final String currency) {
+		this.currency = currency;
+	}
+
+	public Integer getQuantity() {
+		return quantity;
+	}
+
+	public void setQuantity(final Integer quantity) {
+		this.quantity = quantity;
+	}
+}
@@ -0,0 +1,204 @@
+package org.oogp.spring;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Test class for {@link BeanObjectProvider} and {@link BeanSupplier}.
+ *
+ * @author raduking
+ */
+class BeanObjectProviderTest {
+
+	private static final String FIRST_GREETER = "firstGreeter";
+	private static final String SECOND_GREETER = "secondGreeter";
+	private static final String ORDERED_GREETER = "orderedGreeter";
+	private static final String ANNOTATED_GREETER = "annotatedGreeter";
+	private static final int THREADS = 16;
+
+	interface Greeter {
+		String greet();
+	}
+
+	record NamedGreeter(String name) implements Greeter {
+
+		@Override
+		public String greet() {
+			return "Hello " + name;
+		}
+	}
+
+	record OrderedGreeter(String name) implements Greeter, Ordered {
+
+		@Override
+		public String greet() {
+			return "Hello " + name;
+		}
+
+		@Override
+		public int getOrder() {
+			return Ordered.HIGHEST_PRECEDENCE;
+		}
+	}
+
+	@Order(1)
+	record AnnotatedGreeter(String name) implements Greeter {
+
+		@Override
+		public String greet() {
+			return "Hello " + name;
+		}
+	}
+
+	@Test
+	void shouldCreateTheLazyBeanOnlyOnFirstUse() {
+		AtomicInteger creations = new AtomicInteger();
+		BeanSupplier<Greeter> supplier = BeanSupplier.lazy(() -> {
+			creations.incrementAndGet();
+			return new NamedGreeter(FIRST_GREETER);
+		});
+
+		assertThat(supplier.isInstantiated(), equalTo(false));
+		assertThat(creations.get(), equalTo(0));
+
+		Greeter greeter = supplier.get();
+
+		assertThat(supplier.isInstantiated(), equalTo(true));
+		assertThat(supplier.get(), sameInstance(greeter));
+		assertThat(creations.get(), equalTo(1));
+	}
+
+	@Test
+	void shouldCreateTheLazyBeanOnceWhenRequestedConcurrently() throws Exception {
+		AtomicInteger creations = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		BeanSupplier<Greeter> supplier = BeanSupplier.lazy(() -> {
+			creations.incrementAndGet();
+			return new NamedGreeter(FIRST_GREETER);
+		});
+
+		List<Future<Greeter>> greeters = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+			for (int i = 0; i < THREADS; ++i) {
+				greeters.add(executor.submit(() -> {
+					start.await();
+					return supplier.get();
+				}));
+			}
+			start.countDown();
+		}
+
+		assertThat(creations.get(), equalTo(1));
+		for (Future<Greeter> greeter : greeters) {
+			assertThat(greeter.get(), sameInstance(supplier.get()));
+		}
+	}
+
+	@Test
+	void shouldSupplyTheExistingInstance() {
+		Greeter greeter = new NamedGreeter(FIRST_GREETER);
+		BeanSupplier<Greeter> supplier = BeanSupplier.of(greeter);
+
+		assertThat(supplier.isInstantiated(), equalTo(true));
+		assertThat(supplier.get(), sameInstance(greeter));
+	}
+
+	@Test
+	void shouldReturnNothingWhenNoBeanIsAvailable() {
+		CustomApplicationContext context = new CustomApplicationContext(getClass().getClassLoader());
+		ObjectProvider<Greeter> provider = context.getBeanProvider(Greeter.class);
+
+		assertThat(provider.getIfAvailable(), nullValue());
+		assertThat(provider.getIfUnique(), nullValue());
+		assertThat(provider.stream().count(), equalTo(0L));
+		assertThrows(NoSuchBeanDefinitionException.class, provider::getObject);
+	}
+
+	@Test
+	void shouldCreateOnlyTheRequestedBean() {
+		CustomApplicationContext context = new CustomApplicationContext(getClass().getClassLoader());
+		AtomicInteger creations = new AtomicInteger();
+		context.addBean(FIRST_GREETER, Greeter.class, () -> {
+			creations.incrementAndGet();
+			return new NamedGreeter(FIRST_GREETER);
+		});
+		context.addBean(SECOND_GREETER, Runnable.class, () -> {
+			throw new AssertionError("The bean must not be created");
+		});
+		ObjectProvider<Greeter> provider = context.getBeanProvider(Greeter.class);
+
+		assertThat(context.getInstantiatedBeanNames().contains(FIRST_GREETER), equalTo(false));
+
+		Greeter available = provider.getIfAvailable();
+		Greeter unique = provider.getIfUnique();
+		Greeter object = provider.getObject();
+
+		assertThat(available.greet(), equalTo("Hello " + FIRST_GREETER));
+		assertThat(unique, sameInstance(available));
+		assertThat(object, sameInstance(available));
+		assertThat(creations.get(), equalTo(1));
+		assertThat(context.getInstantiatedBeanNames().contains(FIRST_GREETER), equalTo(true));
+		assertThat(context.getInstantiatedBeanNames().contains(SECOND_GREETER), equalTo(false));
+	}
+
+	@Test
+	void shouldNotCreateAnyBeanWhenTheBeanIsNotUnique() {
+		CustomApplicationContext context = new CustomApplicationContext(getClass().getClassLoader());
+		context.addBean(SECOND_GREETER, Greeter.class, () -> new NamedGreeter(SECOND_GREETER));
+		context.addBean(FIRST_GREETER, NamedGreeter.class, () -> new NamedGreeter(FIRST_GREETER));
+		ObjectProvider<Greeter> provider = context.getBeanProvider(Greeter.class);
+
+		assertThat(provider.getIfUnique(), nullValue());
+		assertThrows(NoUniqueBeanDefinitionException.class, provider::getIfAvailable);
+		assertThrows(NoUniqueBeanDefinitionException.class, provider::getObject);
+		assertThat(context.getInstantiatedBeanNames().contains(FIRST_GREETER), equalTo(false));
+		assertThat(context.getInstantiatedBeanNames().contains(SECOND_GREETER), equalTo(false));
+	}
+
+	@Test
+	void shouldStreamTheBeansOrderedByName() {
+		CustomApplicationContext context = new CustomApplicationContext(getClass().getClassLoader());
+		context.addBean(SECOND_GREETER, Greeter.class, () -> new NamedGreeter(SECOND_GREETER));
+		context.addBean(FIRST_GREETER, NamedGreeter.class, () -> new NamedGreeter(FIRST_GREETER));
+		ObjectProvider<Greeter> provider = context.getBeanProvider(Greeter.class);
+
+		List<String> greetings = provider.orderedStream().map(Greeter::greet).toList();
+
+		assertThat(greetings, equalTo(List.of("Hello " + FIRST_GREETER, "Hello " + SECOND_GREETER)));
+		assertThat(context.getInstantiatedBeanNames().contains(FIRST_GREETER), equalTo(true));
+		assertThat(context.getInstantiatedBeanNames().contains(SECOND_GREETER), equalTo(true));
+	}
+
+	@Test
+	void shouldStreamTheBeansByOrderAndThenByName() {
+		CustomApplicationContext context = new CustomApplicationContext(getClass().getClassLoader());
+		context.addBean(SECOND_GREETER, Greeter.class, () -> new NamedGreeter(SECOND_GREETER));
+		context.addBean(ANNOTATED_GREETER, Greeter.class, () -> new AnnotatedGreeter(ANNOTATED_GREETER));
+		context.addBean(FIRST_GREETER, Greeter.class, () -> new NamedGreeter(FIRST_GREETER));
+		context.addBean(ORDERED_GREETER, Greeter.class, () -> new OrderedGreeter(ORDERED_GREETER));
+		ObjectProvider<Greeter> provider = context.getBeanProvider(Greeter.class);
+
+		List<String> greetings = provider.orderedStream().map(Greeter::greet).toList();
+
+		assertThat(greetings, equalTo(List.of("Hello " + ORDERED_GREETER, "Hello " + ANNOTATED_GREETER, "Hello " + FIRST_GREETER,
+				"Hello " + SECOND_GREETER)));
+	}
+}
@@ -0,0 +1,98 @@
+package org.oogp.spring;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Test class for {@link BoundedModelConverter}.
+ *
+ * @author raduking
+ */
+class BoundedModelConverterTest {
+
+	private static final int MAX_TYPES = 1;
+
+	record Wrapper<T>(T value) {
+		// empty
+	}
+
+	record First() {
+		// empty
+	}
+
+	record Second() {
+		// empty
+	}
+
+	@Schema(name = "Location")
+	record Place(String name) {
+		// empty
+	}
+
+	static class Billing {
+
+		record Item(String name) {
+			// empty
+		}
+	}
+
+	static class Shipping {
+
+		record Item(String name) {
+			// empty
+		}
+	}
+
+	record NamedRoot(Place place) {
+		// empty
+	}
+
+	record GenericRoot(Wrapper<First> first, Wrapper<Second> second) {
+		// empty
+	}
+
+	record CollidingRoot(Billing.Item billingItem, Shipping.Item shippingItem, Billing.Item otherBillingItem) {
+		// empty
+	}
+
+	@Test
+	void shouldNameTheStubAfterTheSchemaName() {
+		Map<String, io.swagger.v3.oas.models.media.Schema<?>> models = resolve(NamedRoot.class);
+
+		assertThat(models.keySet(), hasItems("NamedRoot", "LocationStub"));
+		assertThat(models.get("LocationStub").getExtensions().get(BoundedModelConverter.STUB_EXTENSION), equalTo(Place.class.getName()));
+	}
+
+	@Test
+	void shouldNameTheStubsOfGenericTypesAfterTheirTypeArguments() {
+		Map<String, io.swagger.v3.oas.models.media.Schema<?>> models = resolve(GenericRoot.class);
+
+		assertThat(models.keySet(), hasItems("GenericRoot", "WrapperFirstStub", "WrapperSecondStub"));
+	}
+
+	@Test
+	void shouldAddANumberToTheStubNamesOfDifferentTypesWithTheSameName() {
+		Map<String, io.swagger.v3.oas.models.media.Schema<?>> models = resolve(CollidingRoot.class);
+
+		assertThat(models.size(), equalTo(3));
+		assertThat(models.get("ItemStub").getExtensions().get(BoundedModelConverter.STUB_EXTENSION), equalTo(Billing.Item.class.getName()));
+		assertThat(models.get("ItemStub2").getExtensions().get(BoundedModelConverter.STUB_EXTENSION), equalTo(Shipping.Item.class.getName()));
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static Map<String, io.swagger.v3.oas.models.media.Schema<?>> resolve(final Class<?> root) {
+		ModelConverters modelConverters = new ModelConverters(false);
+		modelConverters.addConverter(new BoundedModelConverter(0, MAX_TYPES, false));
+		Map models = modelConverters.readAll(new AnnotatedType(root));
+		return models;
+	}
+}
@@ -0,0 +1,186 @@
+package org.oogp.spring;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.oogp.cache.model.Customer;
+import org.oogp.cache.model.Order;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.Schema;
+
+/**
+ * Test class for {@link CachingModelConverter}.
+ * <p>
+ * The test classes are not loaded from jars so they are never cached, the tests copy the model classes in jars and load
+ * them with a class loader which doesn't delegate the model classes to the test class loader.
+ *
+ * @author raduking
+ */
+class CachingModelConverterTest {
+
+	private static final Path BUILD_DIRECTORY = Path.of("target", "caching-model-converter");
+	private static final String MODEL_PACKAGE = Order.class.getPackageName() + ".";
+	private static final String CHANGED_ENTRY = "changed.txt";
+	private static final int MAX_ENTRIES = 100;
+
+	private Path ordersJar;
+	private Path customersJar;
+	private FileCacheStore store;
+
+	/**
+	 * Class loader which loads the model classes only from its jars.
+	 */
+	static class ModelClassLoader extends URLClassLoader {
+
+		ModelClassLoader(final URL[] urls, final ClassLoader parent) {
+			super(urls, parent);
+		}
+
+		@Override
+		protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+			if (!name.startsWith(MODEL_PACKAGE)) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> cls = findLoadedClass(name);
+				if (null == cls) {
+					cls = findClass(name);
+				}
+				if (resolve) {
+					resolveClass(cls);
+				}
+				return cls;
+			}
+		}
+	}
+
+	record Resolution(CachingModelConverter converter, String models) {
+		// empty
+	}
+
+	@BeforeEach
+	void setUp() throws IOException {
+		if (Files.exists(BUILD_DIRECTORY)) {
+			try (Stream<Path> paths = Files.walk(BUILD_DIRECTORY)) {
+				for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+					Files.delete(path);
+				}
+			}
+		}
+		Files.createDirectories(BUILD_DIRECTORY);
+		ordersJar = writeJar(BUILD_DIRECTORY.resolve("orders.jar"), Order.class, false);
+		customersJar = writeJar(BUILD_DIRECTORY.resolve("customers.jar"), Customer.class, false);
+		store = new FileCacheStore(BUILD_DIRECTORY.resolve("cache"), MAX_ENTRIES);
+	}
+
+	@Test
+	void shouldServeTheCachedSchemasOnTheSecondRun() throws Exception {
+		Resolution first = resolve();
+		Resolution second = resolve();
+
+		assertThat(first.converter().getHits(), equalTo(0));
+		assertThat(second.converter().getHits(), equalTo(1));
+		assertThat(second.converter().getInvalidations(), equalTo(0));
+		assertThat(second.models(), equalTo(first.models()));
+		assertThat(second.models().contains(Customer.class.getSimpleName()), equalTo(true));
+	}
+
+	@Test
+	void shouldResolveTheSchemasAgainWhenAReferencedJarChanges() throws Exception {
+		Resolution first = resolve();
+		writeJar(customersJar, Customer.class, true);
+		Resolution second = resolve();
+		Resolution third = resolve();
+
+		assertThat(second.converter().getHits(), equalTo(0));
+		assertThat(second.converter().getInvalidations(), equalTo(1));
+		assertThat(second.models(), equalTo(first.models()));
+		assertThat(third.converter().getHits(), equalTo(1));
+		assertThat(third.converter().getInvalidations(), equalTo(0));
+	}
+
+	@Test
+	void shouldChangeTheConfigurationWhenTheObjectMapperChanges() {
+		List<ModelConverter> converters = new ModelConverters(false).getConverters();
+
+		String configuration = CachingModelConverter.configuration(false, converters, List.of(Json.mapper()));
+		String otherConfiguration = CachingModelConverter.configuration(false, converters,
+				List.of(Json.mapper().copy().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)));
+
+		assertThat(CachingModelConverter.configuration(false, converters, List.of(Json.mapper())), equalTo(configuration));
+		assertThat(otherConfiguration, not(equalTo(configuration)));
+	}
+
+	@Test
+	void shouldNotCacheTheSchemasBeforeTheSpringDocConfigurationIsSettled() throws Exception {
+		Resolution first = resolve(false);
+		Resolution second = resolve(false);
+		Resolution third = resolve();
+
+		assertThat(second.converter().getHits(), equalTo(0));
+		assertThat(second.models(), equalTo(first.models()));
+		assertThat(third.converter().getHits(), equalTo(0));
+		assertThat(store.getMisses(), equalTo(1));
+	}
+
+	private Resolution resolve() throws Exception {
+		return resolve(true);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private Resolution resolve(final boolean settled) throws Exception {
+		URL[] urls = { ordersJar.toUri().toURL(), customersJar.toUri().toURL() };
+		try (URLClassLoader classLoader = new ModelClassLoader(urls, getClass().getClassLoader())) {
+			Class<?> orderClass = classLoader.loadClass(Order.class.getName());
+			ModelConverters modelConverters = new ModelConverters(false);
+			String configuration = CachingModelConverter.configuration(false, modelConverters.getConverters(), List.of(Json.mapper()));
+			CachingModelConverter converter = new CachingModelConverter(store, Json.mapper(), configuration);
+			if (settled) {
+				converter.setSpringDocConfiguration(CachingModelConverter.springDocConfiguration());
+			}
+			modelConverters.addConverter(converter);
+			Map<String, Schema> models = modelConverters.readAll(new AnnotatedType(orderClass));
+			return new Resolution(converter, Json.pretty(models));
+		}
+	}
+
+	private static Path writeJar(final Path jar, final Class<?> cls, final boolean changed) throws IOException {
+		String classFile = cls.getName().replace('.', '/') + ".class";
+		try (OutputStream outputStream = Files.newOutputStream(jar);
+				JarOutputStream jarOutputStream = new JarOutputStream(outputStream);
+				InputStream classInputStream = cls.getClassLoader().getResourceAsStream(classFile)) {
+			jarOutputStream.putNextEntry(new JarEntry(classFile));
+			classInputStream.transferTo(jarOutputStream);
+			jarOutputStream.closeEntry();
+			if (changed) {
+				jarOutputStream.putNextEntry(new JarEntry(CHANGED_ENTRY));
+				jarOutputStream.write(CHANGED_ENTRY.getBytes());
+				jarOutputStream.closeEntry();
+			}
+		}
+		return jar;
+	}
+}
@@ -0,0 +1,203 @@
+package org.oogp.spring;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.oogp.spring.GenerationPipeline.StageStatistics;
+
+/**
+ * Test class for {@link GenerationPipeline}.
+ *
+ * @author raduking
+ */
+class GenerationPipelineTest {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+	private static final int QUEUE_CAPACITY = 2;
+	private static final int ITEMS = 100;
+	private static final int FAILING_ITEM = 3;
+	private static final long WAIT_MILLIS = 10;
+
+	@Test
+	void shouldProcessAllTheItemsInOrderAndMeasureTheStages() throws IOException {
+		List<Integer> written = new CopyOnWriteArrayList<>();
+		GenerationPipeline<?> pipeline = GenerationPipeline.<Integer>from(QUEUE_CAPACITY, "source", emitter -> {
+			for (int i = 0; i < ITEMS; ++i) {
+				emitter.emit(i);
+			}
+		})
+				.then("double", (Integer item, GenerationPipeline.Emitter<Integer> emitter) -> emitter.emit(2 * item))
+				.then("write", 1, (Integer item, GenerationPipeline.Emitter<Void> _) -> written.add(item));
+
+		pipeline.run();
+		List<StageStatistics> statistics = pipeline.getStatistics();
+
+		assertThat(written, equalTo(IntStream.range(0, ITEMS).map(i -> 2 * i).boxed().toList()));
+		assertThat(statistics.stream().map(StageStatistics::name).toList(), equalTo(List.of("source", "double", "write")));
+		assertThat(statistics.stream().map(StageStatistics::items).toList(), equalTo(List.of((long) ITEMS, (long) ITEMS, (long) ITEMS)));
+		assertThat(statistics.stream().map(StageStatistics::queueCapacity).toList(), equalTo(List.of(0, QUEUE_CAPACITY, 1)));
+		assertThat(statistics.get(1).maxQueueDepth(), lessThanOrEqualTo(QUEUE_CAPACITY));
+		assertThat(statistics.get(2).maxQueueDepth(), equalTo(1));
+	}
+
+	@Test
+	void shouldEmitTheAggregatedItemsWhenTheInputEnds() throws IOException {
+		AtomicInteger total = new AtomicInteger();
+		GenerationPipeline<?> pipeline = GenerationPipeline.<Integer>from(QUEUE_CAPACITY, "source", emitter -> {
+			for (int i = 1; i <= ITEMS; ++i) {
+				emitter.emit(i);
+			}
+		})
+				.then("sum", new GenerationPipeline.Step<Integer, Integer>() {
+
+					private int sum;
+
+					@Override
+					public void process(final Integer item, final GenerationPipeline.Emitter<Integer> emitter) {
+						sum += item;
+					}
+
+					@Override
+					public void complete(final GenerationPipeline.Emitter<Integer> emitter) throws InterruptedException {
+						emitter.emit(sum);
+					}
+				})
+				.then("write", (Integer item, GenerationPipeline.Emitter<Void> _) -> total.set(item));
+
+		pipeline.run();
+
+		assertThat(total.get(), equalTo(ITEMS * (ITEMS + 1) / 2));
+		assertThat(pipeline.getStatistics().get(2).items(), equalTo(1L));
+	}
+
+	@Test
+	void shouldCancelAllTheStagesAndThrowTheFirstFailure() {
+		IllegalArgumentException failure = new IllegalArgumentException("failure");
+		AtomicBoolean sourceInterrupted = new AtomicBoolean();
+		AtomicBoolean writerInterrupted = new AtomicBoolean();
+		CountDownLatch writerBlocked = new CountDownLatch(1);
+		GenerationPipeline<?> pipeline = GenerationPipeline.<Integer>from(QUEUE_CAPACITY, "source", emitter -> {
+			try {
+				for (int i = 0;; ++i) {
+					emitter.emit(i);
+				}
+			} catch (InterruptedException e) {
+				sourceInterrupted.set(true);
+				throw e;
+			}
+		})
+				.then("fail", (Integer item, GenerationPipeline.Emitter<Integer> emitter) -> {
+					if (FAILING_ITEM == item) {
+						writerBlocked.await();
+						throw failure;
+					}
+					emitter.emit(item);
+				})
+				.then("write", (Integer _, GenerationPipeline.Emitter<Void> _) -> {
+					writerBlocked.countDown();
+					try {
+						Thread.sleep(TIMEOUT);
+					} catch (InterruptedException e) {
+						writerInterrupted.set(true);
+						throw e;
+					}
+				});
+
+		RuntimeException e = assertTimeoutPreemptively(TIMEOUT, () -> assertThrows(RuntimeException.class, pipeline::run));
+
+		assertThat(e, sameInstance(failure));
+		assertThat(sourceInterrupted.get(), equalTo(true));
+		assertThat(writerInterrupted.get(), equalTo(true));
+	}
+
+	@Test
+	void shouldInterruptTheStagesBlockedOnAFullQueue() {
+		AtomicInteger emitted = new AtomicInteger();
+		AtomicBoolean putInterrupted = new AtomicBoolean();
+		GenerationPipeline<?> pipeline = GenerationPipeline.<Integer>from(1, "source", emitter -> {
+			try {
+				for (int i = 0;; ++i) {
+					emitted.incrementAndGet();
+					emitter.emit(i);
+				}
+			} catch (InterruptedException e) {
+				putInterrupted.set(true);
+				throw e;
+			}
+		})
+				.then("fail", (Integer _, GenerationPipeline.Emitter<Void> _) -> {
+					// the first item was taken, the second fills the queue and the third put blocks
+					while (emitted.get() < 3) {
+						Thread.sleep(WAIT_MILLIS);
+					}
+					Thread.sleep(WAIT_MILLIS);
+					throw new IOException("failure");
+				});
+
+		IOException e = assertTimeoutPreemptively(TIMEOUT, () -> assertThrows(IOException.class, pipeline::run));
+
+		assertThat(e.getMessage(), equalTo("failure"));
+		assertThat(putInterrupted.get(), equalTo(true));
+		assertThat(emitted.get(), equalTo(3));
+		assertThat(pipeline.getStatistics().getFirst().items(), equalTo(2L));
+	}
+
+	@Test
+	void shouldWrapTheCheckedFailures() {
+		Exception failure = new Exception("failure");
+		GenerationPipeline<?> pipeline = GenerationPipeline.<Integer>from(QUEUE_CAPACITY, "source", _ -> {
+			throw failure;
+		});
+
+		IllegalStateException e = assertThrows(IllegalStateException.class, pipeline::run);
+
+		assertThat(e.getCause(), sameInstance(failure));
+	}
+
+	@Test
+	void shouldCancelTheStagesWhenTheRunningThreadIsInterrupted() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean sourceInterrupted = new AtomicBoolean();
+		AtomicReference<Throwable> thrown = new AtomicReference<>();
+		GenerationPipeline<?> pipeline = GenerationPipeline.<Integer>from(QUEUE_CAPACITY, "source", _ -> {
+			started.countDown();
+			try {
+				Thread.sleep(TIMEOUT);
+			} catch (InterruptedException e) {
+				sourceInterrupted.set(true);
+				throw e;
+			}
+		});
+		Thread thread = Thread.ofVirtual().start(() -> {
+			try {
+				pipeline.run();
+			} catch (Throwable e) {
+				thrown.set(e);
+			}
+		});
+		started.await();
+
+		thread.interrupt();
+		thread.join(TIMEOUT);
+
+		assertThat(thread.isAlive(), equalTo(false));
+		assertThat(thrown.get(), instanceOf(IllegalStateException.class));
+		assertThat(sourceInterrupted.get(), equalTo(true));
+	}
+}
@@ -0,0 +1,120 @@
+package org.oogp.spring;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+/**
+ * Test class for {@link OpenApiVariants}.
+ *
+ * @author raduking
+ */
+class OpenApiVariantsTest {
+
+	private static final Locale FRENCH = Locale.FRENCH;
+	private static final String PATH = "/items/{id}";
+	private static final String OPERATION_CODE = "items.get";
+	private static final String OPERATION_TEXT = "Lire un article";
+	private static final String PARAMETER_CODE = "items.id";
+	private static final String PARAMETER_TEXT = "L'identifiant";
+	private static final String EXTENSION = "x-extension";
+
+	@Test
+	void shouldKeepAllTheOtherPropertiesOfTheLocalizedObjects() {
+		OpenAPI openAPI = openAPI();
+		Operation operation = openAPI.getPaths().get(PATH).getGet();
+		Parameter parameter = operation.getParameters().getFirst();
+
+		OpenAPI localized = OpenApiVariants.localize(OpenApiVariants.copy(openAPI), messageSource(), FRENCH);
+		Operation localizedOperation = localized.getPaths().get(PATH).getGet();
+		Parameter localizedParameter = localizedOperation.getParameters().getFirst();
+
+		assertThat(localizedOperation, not(sameInstance(operation)));
+		assertThat(localizedOperation.getSummary(), equalTo(OPERATION_TEXT));
+		assertThat(localizedOperation.getOperationId(), equalTo(operation.getOperationId()));
+		assertThat(localizedOperation.getDeprecated(), equalTo(true));
+		assertThat(localizedOperation.getExtensions(), equalTo(operation.getExtensions()));
+		assertThat(localizedOperation.getResponses(), sameInstance(operation.getResponses()));
+		assertThat(localizedParameter.getDescription(), equalTo(PARAMETER_TEXT));
+		assertThat(localizedParameter.getName(), equalTo(parameter.getName()));
+		assertThat(localizedParameter.getStyle(), equalTo(parameter.getStyle()));
+		assertThat(localizedParameter.getExample(), equalTo(parameter.getExample()));
+		assertThat(localizedParameter.getSchema(), sameInstance(parameter.getSchema()));
+		assertThat(localized.getInfo(), sameInstance(openAPI.getInfo()));
+	}
+
+	@Test
+	void shouldNotChangeTheBuiltModel() {
+		OpenAPI openAPI = openAPI();
+
+		OpenApiVariants.localize(OpenApiVariants.copy(openAPI), messageSource(), FRENCH);
+		Operation operation = openAPI.getPaths().get(PATH).getGet();
+
+		assertThat(operation.getSummary(), equalTo(OPERATION_CODE));
+		assertThat(operation.getParameters().getFirst().getDescription(), equalTo(PARAMETER_CODE));
+	}
+
+	@Test
+	void shouldCopyAllTheFieldsOfAModelObject() {
+		Parameter parameter = new Parameter()
+				.name("id")
+				.in("path")
+				.description(PARAMETER_CODE)
+				.required(true)
+				.style(Parameter.StyleEnum.SIMPLE)
+				.example("42")
+				.schema(new StringSchema())
+				.extensions(Map.of(EXTENSION, true));
+
+		Parameter copy = OpenApiVariants.shallowCopy(parameter);
+
+		assertThat(copy, not(sameInstance(parameter)));
+		assertThat(copy, equalTo(parameter));
+	}
+
+	private static OpenAPI openAPI() {
+		Parameter parameter = new Parameter()
+				.name("id")
+				.in("path")
+				.description(PARAMETER_CODE)
+				.required(true)
+				.style(Parameter.StyleEnum.SIMPLE)
+				.example("42")
+				.schema(new StringSchema());
+		Operation operation = new Operation()
+				.operationId("getItem")
+				.summary(OPERATION_CODE)
+				.deprecated(true)
+				.parameters(List.of(parameter))
+				.responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")))
+				.extensions(Map.of(EXTENSION, true));
+		return new OpenAPI()
+				.info(new Info().title("Items").version("1.0"))
+				.paths(new Paths().addPathItem(PATH, new PathItem().get(operation)));
+	}
+
+	private static StaticMessageSource messageSource() {
+		StaticMessageSource messageSource = new StaticMessageSource();
+		messageSource.addMessage(OPERATION_CODE, FRENCH, OPERATION_TEXT);
+		messageSource.addMessage(PARAMETER_CODE, FRENCH, PARAMETER_TEXT);
+		return messageSource;
+	}
+}
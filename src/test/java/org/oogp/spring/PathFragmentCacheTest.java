@@ -0,0 +1,209 @@
+package org.oogp.spring;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.oogp.spring.PartitionedPathsBuilder.PathOperation;
+import org.springdoc.core.fn.RouterOperation;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+
+import io.swagger.v3.core.util.Json;
+
+/**
+ * Test class for {@link PathFragmentCache}.
+ * <p>
+ * The tests compile the controller, model and customizer classes in a build directory so they can be edited and loaded
+ * again like in a new generation after the project was recompiled.
+ *
+ * @author raduking
+ */
+class PathFragmentCacheTest {
+
+	private static final Path BUILD_DIRECTORY = Path.of("target", "path-fragment-cache");
+	private static final Path SOURCES_DIRECTORY = BUILD_DIRECTORY.resolve("sources");
+	private static final Path CLASSES_DIRECTORY = BUILD_DIRECTORY.resolve("classes");
+	private static final Path CACHE_DIRECTORY = BUILD_DIRECTORY.resolve("cache");
+	private static final int FRAGMENT_CACHE_MAX_ENTRIES = 100;
+	private static final String CONFIGURATION = "configuration";
+
+	private static final String CONTROLLER_CLASS = "org.oogp.fragment.controller.ItemController";
+	private static final String CONTROLLER_SOURCE = """
+			package org.oogp.fragment.controller;
+
+			import org.oogp.fragment.model.Item;
+
+			public class ItemController {
+
+				public Item getItem(String id) {
+					return null;
+				}
+			}
+			""";
+
+	private static final String MODEL_SOURCE = """
+			package org.oogp.fragment.model;
+
+			public record Item(%s) {
+			}
+			""";
+
+	private static final String CUSTOMIZER_CLASS = "org.oogp.fragment.customizer.ItemCustomizer";
+	private static final String CUSTOMIZER_SOURCE = """
+			package org.oogp.fragment.customizer;
+
+			public class ItemCustomizer {
+
+				public String summary() {
+					return "%s";
+				}
+			}
+			""";
+
+	private static final String MODEL_JAVADOC_RESOURCE = "org/oogp/fragment/model/Item__Javadoc.json";
+
+	private FileCacheStore store;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		if (Files.exists(BUILD_DIRECTORY)) {
+			try (Stream<Path> paths = Files.walk(BUILD_DIRECTORY)) {
+				for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+					Files.delete(path);
+				}
+			}
+		}
+		Files.createDirectories(CLASSES_DIRECTORY);
+		writeSource("org/oogp/fragment/controller/ItemController.java", CONTROLLER_SOURCE);
+		writeSource("org/oogp/fragment/model/Item.java", MODEL_SOURCE.formatted("String id"));
+		writeSource("org/oogp/fragment/customizer/ItemCustomizer.java", CUSTOMIZER_SOURCE.formatted("first"));
+		compile();
+		store = new FileCacheStore(CACHE_DIRECTORY, FRAGMENT_CACHE_MAX_ENTRIES);
+	}
+
+	@Test
+	void shouldServeTheFragmentOfAnUnchangedController() throws Exception {
+		String firstKey = cacheFragment();
+		PathFragmentCache cache = new PathFragmentCache(store, Json.mapper(), CONFIGURATION, List.of(), List.of());
+		String secondKey;
+		try (URLClassLoader classLoader = classLoader()) {
+			secondKey = cache.key(pathOperations(classLoader));
+		}
+
+		assertThat(secondKey, equalTo(firstKey));
+		assertThat(cache.get(secondKey), notNullValue());
+		assertThat(cache.getHits(), equalTo(1));
+		assertThat(cache.getMisses(), equalTo(1));
+	}
+
+	@Test
+	void shouldRebuildTheFragmentWhenAModelClassChanges() throws Exception {
+		String firstKey = cacheFragment();
+		writeSource("org/oogp/fragment/model/Item.java", MODEL_SOURCE.formatted("String id, String name"));
+		compile();
+		PathFragmentCache cache = new PathFragmentCache(store, Json.mapper(), CONFIGURATION, List.of(), List.of());
+		String secondKey;
+		try (URLClassLoader classLoader = classLoader()) {
+			secondKey = cache.key(pathOperations(classLoader));
+		}
+
+		assertThat(secondKey, not(equalTo(firstKey)));
+		assertThat(cache.get(secondKey), nullValue());
+		assertThat(cache.getHits(), equalTo(0));
+		assertThat(cache.getMisses(), equalTo(2));
+	}
+
+	@Test
+	void shouldRebuildTheFragmentWhenTheModelJavadocChanges() throws Exception {
+		Files.writeString(CLASSES_DIRECTORY.resolve(MODEL_JAVADOC_RESOURCE), "{\"doc\":\"The item.\"}");
+		String firstKey = cacheFragment();
+		Files.writeString(CLASSES_DIRECTORY.resolve(MODEL_JAVADOC_RESOURCE), "{\"doc\":\"The changed item.\"}");
+		PathFragmentCache cache = new PathFragmentCache(store, Json.mapper(), CONFIGURATION, List.of(), List.of());
+		String secondKey;
+		try (URLClassLoader classLoader = classLoader()) {
+			secondKey = cache.key(pathOperations(classLoader));
+		}
+
+		assertThat(secondKey, not(equalTo(firstKey)));
+		assertThat(cache.get(secondKey), nullValue());
+	}
+
+	@Test
+	void shouldRebuildAllTheFragmentsWhenACustomizerChanges() throws Exception {
+		String firstKey;
+		try (URLClassLoader classLoader = classLoader()) {
+			PathFragmentCache cache = new PathFragmentCache(store, Json.mapper(), CONFIGURATION, List.of(),
+					List.of(classLoader.loadClass(CUSTOMIZER_CLASS)));
+			firstKey = cache.key(pathOperations(classLoader));
+		}
+		writeSource("org/oogp/fragment/customizer/ItemCustomizer.java", CUSTOMIZER_SOURCE.formatted("second"));
+		compile();
+		String secondKey;
+		try (URLClassLoader classLoader = classLoader()) {
+			PathFragmentCache cache = new PathFragmentCache(store, Json.mapper(), CONFIGURATION, List.of(),
+					List.of(classLoader.loadClass(CUSTOMIZER_CLASS)));
+			secondKey = cache.key(pathOperations(classLoader));
+		}
+
+		assertThat(secondKey, not(equalTo(firstKey)));
+	}
+
+	private String cacheFragment() throws Exception {
+		PathFragmentCache cache = new PathFragmentCache(store, Json.mapper(), CONFIGURATION, List.of(), List.of());
+		try (URLClassLoader classLoader = classLoader()) {
+			String key = cache.key(pathOperations(classLoader));
+			assertThat(cache.get(key), nullValue());
+			cache.put(key, Json.mapper().createObjectNode());
+			return key;
+		}
+	}
+
+	private static List<PathOperation> pathOperations(final ClassLoader classLoader) throws ReflectiveOperationException {
+		Class<?> controllerClass = classLoader.loadClass(CONTROLLER_CLASS);
+		Object controller = controllerClass.getDeclaredConstructor().newInstance();
+		Method method = controllerClass.getMethod("getItem", String.class);
+		RouterOperation routerOperation = new RouterOperation("/items/{id}", new RequestMethod[] { RequestMethod.GET },
+				new String[0], new String[0], new String[0], new String[0]);
+		return List.of(new PathOperation(new HandlerMethod(controller, method), routerOperation));
+	}
+
+	private URLClassLoader classLoader() throws IOException {
+		return new URLClassLoader(new URL[] { CLASSES_DIRECTORY.toUri().toURL() }, getClass().getClassLoader());
+	}
+
+	private static void writeSource(final String file, final String source) throws IOException {
+		Path path = SOURCES_DIRECTORY.resolve(file);
+		Files.createDirectories(path.getParent());
+		Files.writeString(path, source);
+	}
+
+	private static void compile() throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		List<String> arguments;
+		try (Stream<Path> sources = Files.walk(SOURCES_DIRECTORY)) {
+			arguments = Stream.concat(
+					Stream.of("-proc:none", "-d", CLASSES_DIRECTORY.toString()),
+					sources.filter(path -> path.toString().endsWith(".java")).map(Path::toString))
+					.toList();
+		}
+		assertThat(compiler.run(null, null, null, arguments.toArray(String[]::new)), equalTo(0));
+	}
+}
@@ -0,0 +1,135 @@
+package org.oogp.spring;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Test class for {@link RouteAnalyzer}.
+ *
+ * @author raduking
+ */
+class RouteAnalyzerTest {
+
+	private static final String JSON = "application/json";
+	private static final String XML = "application/xml";
+
+	static class Handlers {
+
+		public void first() {
+			// empty
+		}
+
+		public void second() {
+			// empty
+		}
+	}
+
+	private static Endpoint endpoint(final String handler, final String pattern, final RequestMethod method, final Set<String> params,
+			final List<String> produces) throws NoSuchMethodException {
+		Method handlerMethod = Handlers.class.getMethod(handler);
+		return new Endpoint(new HandlerMethod(new Handlers(), handlerMethod), Set.of(pattern), Set.of(method), params, Set.of(), List.of(),
+				produces);
+	}
+
+	private static Endpoint endpoint(final String handler, final String pattern) throws NoSuchMethodException {
+		return endpoint(handler, pattern, RequestMethod.GET, Set.of(), List.of());
+	}
+
+	private static List<RouteConflict.Type> analyze(final Endpoint... endpoints) {
+		return RouteAnalyzer.of(Arrays.asList(endpoints)).analyze().stream()
+				.map(RouteConflict::type)
+				.toList();
+	}
+
+	@Test
+	void shouldFindDuplicateRoutes() throws Exception {
+		List<RouteConflict.Type> conflicts = analyze(endpoint("first", "/items/{id}"), endpoint("second", "/items/{id}"));
+
+		assertThat(conflicts, equalTo(List.of(RouteConflict.Type.DUPLICATE)));
+	}
+
+	@Test
+	void shouldFindAmbiguousRoutesInTheSameBranch() throws Exception {
+		List<RouteConflict.Type> conflicts = analyze(endpoint("first", "/items/{id}"), endpoint("second", "/items/{name}"));
+
+		assertThat(conflicts, equalTo(List.of(RouteConflict.Type.AMBIGUOUS)));
+	}
+
+	@Test
+	void shouldFindAmbiguousRoutesAcrossBranches() throws Exception {
+		List<RouteConflict> conflicts = RouteAnalyzer.of(List.of(endpoint("first", "/a/{x}"), endpoint("second", "/{y}/b"))).analyze();
+
+		assertThat(conflicts.size(), equalTo(1));
+		assertThat(conflicts.getFirst().type(), equalTo(RouteConflict.Type.AMBIGUOUS));
+		assertThat(conflicts.getFirst().toString(), equalTo("AMBIGUOUS GET /{y}/b (" + Handlers.class.getName() + "#second())"
+				+ " conflicts with GET /a/{x} (" + Handlers.class.getName() + "#first())"));
+	}
+
+	@Test
+	void shouldFindShadowedRoutesAcrossBranches() throws Exception {
+		List<RouteConflict> conflicts = RouteAnalyzer.of(List.of(endpoint("first", "/a/*"), endpoint("second", "/{x}/{y}"))).analyze();
+
+		assertThat(conflicts.size(), equalTo(1));
+		assertThat(conflicts.getFirst().type(), equalTo(RouteConflict.Type.SHADOWED));
+		assertThat(conflicts.getFirst().route().startsWith("GET /a/*"), equalTo(true));
+	}
+
+	@Test
+	void shouldFindAmbiguousRoutesWithIntersectingProduces() throws Exception {
+		List<RouteConflict.Type> conflicts = analyze(
+				endpoint("first", "/items/{id}", RequestMethod.GET, Set.of(), List.of(JSON)),
+				endpoint("second", "/items/{name}", RequestMethod.GET, Set.of(), List.of(JSON, XML)));
+
+		assertThat(conflicts, equalTo(List.of(RouteConflict.Type.AMBIGUOUS)));
+	}
+
+	@Test
+	void shouldNotFindConflictsWhenTheConditionsDontOverlap() throws Exception {
+		List<RouteConflict.Type> conflicts = analyze(
+				endpoint("first", "/items/{id}", RequestMethod.GET, Set.of(), List.of(JSON)),
+				endpoint("second", "/items/{name}", RequestMethod.GET, Set.of(), List.of(XML)));
+		List<RouteConflict.Type> methodConflicts = analyze(
+				endpoint("first", "/items/{id}", RequestMethod.GET, Set.of(), List.of()),
+				endpoint("second", "/items/{name}", RequestMethod.POST, Set.of(), List.of()));
+		List<RouteConflict.Type> paramConflicts = analyze(
+				endpoint("first", "/items/{id}", RequestMethod.GET, Set.of("version=1"), List.of()),
+				endpoint("second", "/items/{name}", RequestMethod.GET, Set.of("version=2"), List.of()));
+
+		assertThat(conflicts, equalTo(List.of()));
+		assertThat(methodConflicts, equalTo(List.of()));
+		assertThat(paramConflicts, equalTo(List.of()));
+	}
+
+	@Test
+	void shouldNotFindConflictsWhenSpringCanChooseARoute() throws Exception {
+		List<RouteConflict.Type> literalConflicts = analyze(endpoint("first", "/items/latest"), endpoint("second", "/items/{id}"));
+		List<RouteConflict.Type> regexConflicts = analyze(endpoint("first", "/{id:\\d+}/b"), endpoint("second", "/a/{x}"));
+		List<RouteConflict.Type> paramConflicts = analyze(
+				endpoint("first", "/a/{x}", RequestMethod.GET, Set.of("version"), List.of()),
+				endpoint("second", "/{y}/b"));
+
+		assertThat(literalConflicts, equalTo(List.of()));
+		assertThat(regexConflicts, equalTo(List.of()));
+		assertThat(paramConflicts, equalTo(List.of()));
+	}
+
+	@Test
+	void shouldCompareCatchAllRoutes() throws Exception {
+		List<RouteConflict.Type> conflicts = analyze(endpoint("first", "/files/**"), endpoint("second", "/files/{*path}"));
+		List<RouteConflict.Type> literalConflicts = analyze(endpoint("first", "/files/**"), endpoint("second", "/{folder}/{*path}"));
+		List<RouteConflict.Type> belowConflicts = analyze(endpoint("first", "/files/**"), endpoint("second", "/files/{name}/content"));
+
+		assertThat(conflicts.size(), equalTo(1));
+		assertThat(literalConflicts, equalTo(List.of()));
+		assertThat(belowConflicts, equalTo(List.of()));
+	}
+}
@@ -0,0 +1,18 @@
+package org.oogp.stubs.controller;
+
+import org.oogp.limits.model.Company;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/test/stubs/company")
+public class CompanyController {
+
+	@GetMapping("/{companyId}")
+	public ResponseEntity<Company> getCompany(@PathVariable final String companyId) {
+		return ResponseEntity.ok(new Company(companyId, null, null, null, null));
+	}
+}
@@ -0,0 +1,18 @@
+package org.oogp.stubs.controller;
+
+import org.oogp.limits.model.Department;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/test/stubs/department")
+public class DepartmentController {
+
+	@GetMapping("/{departmentId}")
+	public ResponseEntity<Department> getDepartment(@PathVariable final String departmentId) {
+		return ResponseEntity.ok(new Department(departmentId, null, null));
+	}
+}
@@ -0,0 +1,31 @@
+package org.oogp.variant.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/test/variant")
+@Tag(name = "items", description = "variant.tag.description")
+public class VariantController {
+
+	@Operation(summary = "variant.item.summary", description = "variant.item.description")
+	@ApiResponse(responseCode = "200", description = "variant.item.found")
+	@GetMapping("/item/{itemId}")
+	public ResponseEntity<String> getItem(@Parameter(description = "variant.item.id") @PathVariable final String itemId) {
+		return ResponseEntity.ok(itemId);
+	}
+
+	@Operation(summary = "Returns the latest item.")
+	@GetMapping("/item/latest")
+	public ResponseEntity<String> getLatestItem() {
+		return ResponseEntity.ok("latest");
+	}
+}